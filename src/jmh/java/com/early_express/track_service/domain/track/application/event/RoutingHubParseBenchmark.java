@@ -0,0 +1,74 @@
+package com.early_express.track_service.domain.track.application.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * routingHub 파싱 벤치마크
+ * - TrackingStartRequested 이벤트의 routingHub JSON(허브 목록 + 좌표/거리/시간)으로 구간 ID 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RoutingHubParseBenchmark {
+
+    @Param({"2", "5", "10"})
+    private int hubs;
+
+    private TrackEventHandler handler;
+    private String routingHub;
+
+    @Setup
+    public void setUp() {
+        handler = new TrackEventHandler(null, null, null, new ObjectMapper(), null);
+        routingHub = routingHubPayload(hubs);
+    }
+
+    @Benchmark
+    public List<String> parseHubSegmentIds() {
+        return handler.parseHubSegmentIds(routingHub, "hub-delivery-9a8b7c");
+    }
+
+    /**
+     * 주문 서비스가 보내는 routingHub 형태의 페이로드
+     */
+    static String routingHubPayload(int hubs) {
+        StringBuilder json = new StringBuilder("{\"routeId\":\"route-3e2d1c\",\"totalDistanceKm\":")
+                .append(hubs * 87.5)
+                .append(",\"totalDurationMinutes\":")
+                .append(hubs * 95)
+                .append(",\"hubs\":[");
+
+        for (int i = 0; i < hubs; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"sequence\":").append(i)
+                    .append(",\"hubId\":\"4c5d6e7f-1a2b-3c4d-5e6f-00000000000").append(i)
+                    .append("\",\"hubName\":\"허브-").append(i)
+                    .append("\",\"address\":\"서울특별시 송파구 중대로 ").append(100 + i)
+                    .append("\",\"latitude\":").append(37.4979 + i * 0.35)
+                    .append(",\"longitude\":").append(127.0276 + i * 0.21)
+                    .append(",\"distanceFromPrevKm\":").append(i == 0 ? 0 : 87.5)
+                    .append(",\"durationFromPrevMinutes\":").append(i == 0 ? 0 : 95)
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.early_express.track_service.domain.track.application.query.dto;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrackQueryDto 변환 벤치마크
+ * - 단건 조회(TrackResponse), 상세 조회(TrackDetailResponse, 이벤트 이력 포함)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TrackQueryDtoBenchmark {
+
+    private static final int SEGMENTS = 3;
+
+    private Track track;
+    private List<TrackEvent> events;
+
+    @Setup
+    public void setUp() {
+        track = Track.createWithHubDelivery(
+                "order-7f3c2d1e", "ORD-20241019-000123",
+                "hub-seoul", "hub-busan", "hub-delivery-9a8b7c",
+                List.of("segment-0", "segment-1", "segment-2"), "last-mile-5d4e3f",
+                LocalDateTime.now().plusDays(2), "SYSTEM");
+
+        // 배송 완료까지의 전형적인 이벤트 이력
+        events = new ArrayList<>();
+        events.add(TrackEvent.trackingStarted("track-001", "SYSTEM"));
+        for (int i = 0; i < SEGMENTS; i++) {
+            events.add(TrackEvent.hubSegmentDeparted("track-001", "hub-" + i, i, "HUB_DELIVERY_SERVICE"));
+            events.add(TrackEvent.hubSegmentArrived("track-001", "hub-" + (i + 1), i, "HUB_DELIVERY_SERVICE"));
+        }
+        events.add(TrackEvent.lastMilePickedUp("track-001", "hub-busan", "LAST_MILE_SERVICE"));
+        events.add(TrackEvent.lastMileDeparted("track-001", "LAST_MILE_SERVICE"));
+        events.add(TrackEvent.delivered("track-001", "LAST_MILE_SERVICE"));
+    }
+
+    @Benchmark
+    public TrackQueryDto.TrackResponse trackResponse() {
+        return TrackQueryDto.TrackResponse.from(track);
+    }
+
+    @Benchmark
+    public TrackQueryDto.TrackDetailResponse trackDetailResponse() {
+        return TrackQueryDto.TrackDetailResponse.of(track, events);
+    }
+}
@@ -0,0 +1,168 @@
+package com.early_express.track_service.domain.track.domain.model;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.DeliveryIds;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Track 상태 전이 벤치마크
+ * - 전이 테이블 + 가변 구간 진행 객체(Track) vs 메서드별 검증 + 불변 HubSegmentInfo 재생성(LegacyTransitions)
+ * - segmentCycle: 구간 출발/도착 반복 (성공 경로)
+ * - rejected: 허용되지 않는 전이 (예외 경로)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TrackTransitionBenchmark {
+
+    private static final int SEGMENTS = 3;
+
+    private Track track;
+    private LegacyTransitions legacy;
+    private int segmentIndex;
+
+    @Setup
+    public void setUp() {
+        HubSegmentInfo info = HubSegmentInfo.of(SEGMENTS);
+
+        track = Track.reconstitute(
+                TrackId.of("track-001"), "hub-delivery-001", "order-001", "ORD-001",
+                "hub-origin", "hub-destination",
+                DeliveryIds.of(List.of("seg-0", "seg-1", "seg-2"), "last-mile-001"),
+                info, true, TrackStatus.HUB_IN_PROGRESS, TrackPhase.WAITING_HUB_DEPARTURE,
+                null, null, null, LocalDateTime.now(), null,
+                LocalDateTime.now(), "system", null, null, null, null, false);
+
+        legacy = new LegacyTransitions(TrackStatus.HUB_IN_PROGRESS, TrackPhase.WAITING_HUB_DEPARTURE, info);
+    }
+
+    @Benchmark
+    public TrackPhase tableDrivenSegmentCycle() {
+        int index = nextSegment();
+        track.departHubSegment(index, "hub-a", "hub-b");
+        track.arriveHubSegment(index);
+        return track.getCurrentPhase();
+    }
+
+    @Benchmark
+    public TrackPhase legacySegmentCycle() {
+        int index = nextSegment();
+        legacy.departHubSegment(index, "hub-a", "hub-b");
+        legacy.arriveHubSegment(index);
+        return legacy.currentPhase;
+    }
+
+    @Benchmark
+    public Object tableDrivenRejected() {
+        try {
+            track.departLastMile();
+            return null;
+        } catch (TrackException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object legacyRejected() {
+        try {
+            legacy.departLastMile();
+            return null;
+        } catch (TrackException e) {
+            return e;
+        }
+    }
+
+    private int nextSegment() {
+        int index = segmentIndex;
+        segmentIndex = (index + 1) % SEGMENTS;
+        return index;
+    }
+
+    /**
+     * 전이 테이블 도입 이전 방식 (벤치마크 대상 메서드만 재현)
+     */
+    static final class LegacyTransitions {
+
+        TrackStatus status;
+        TrackPhase currentPhase;
+        HubSegmentInfo hubSegmentInfo;
+
+        LegacyTransitions(TrackStatus status, TrackPhase currentPhase, HubSegmentInfo hubSegmentInfo) {
+            this.status = status;
+            this.currentPhase = currentPhase;
+            this.hubSegmentInfo = hubSegmentInfo;
+        }
+
+        void departHubSegment(int segmentIndex, String fromHubId, String toHubId) {
+            validateNotTerminal();
+            validateSegmentIndex(segmentIndex);
+
+            this.status = TrackStatus.HUB_IN_PROGRESS;
+            this.currentPhase = TrackPhase.HUB_IN_TRANSIT;
+            this.hubSegmentInfo = this.hubSegmentInfo.depart(segmentIndex, fromHubId, toHubId);
+        }
+
+        void arriveHubSegment(int segmentIndex) {
+            validateNotTerminal();
+            validateSegmentIndex(segmentIndex);
+
+            this.hubSegmentInfo = this.hubSegmentInfo.arrive(segmentIndex);
+            this.currentPhase = this.hubSegmentInfo.isAllSegmentsCompleted()
+                    ? TrackPhase.HUB_DELIVERY_COMPLETED
+                    : TrackPhase.HUB_ARRIVED;
+        }
+
+        void departLastMile() {
+            validateNotTerminal();
+
+            if (this.status != TrackStatus.LAST_MILE_IN_PROGRESS) {
+                throw new TrackException(
+                        TrackErrorCode.INVALID_STATUS_TRANSITION,
+                        String.format("최종 배송 출발은 LAST_MILE_IN_PROGRESS 상태에서만 가능합니다. 현재 상태: %s",
+                                this.status.getDescription())
+                );
+            }
+            this.currentPhase = TrackPhase.LAST_MILE_IN_TRANSIT;
+        }
+
+        private void validateNotTerminal() {
+            if (this.status.isTerminal()) {
+                throw new TrackException(this.status == TrackStatus.COMPLETED
+                        ? TrackErrorCode.TRACK_ALREADY_COMPLETED
+                        : TrackErrorCode.TRACK_ALREADY_FAILED);
+            }
+        }
+
+        private void validateSegmentIndex(int segmentIndex) {
+            int totalSegments = this.hubSegmentInfo.getTotalSegments();
+            if (segmentIndex < 0 || segmentIndex >= totalSegments) {
+                throw new TrackException(
+                        TrackErrorCode.INVALID_SEGMENT_INDEX,
+                        String.format("유효하지 않은 구간 순서입니다. index: %d, total: %d",
+                                segmentIndex, totalSegments)
+                );
+            }
+        }
+    }
+}
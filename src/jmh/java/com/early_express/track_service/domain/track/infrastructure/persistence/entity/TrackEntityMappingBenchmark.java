@@ -0,0 +1,71 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.entity;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * TrackEntity ↔ Track 변환 벤치마크
+ * - 이벤트 1건 처리마다 toDomain(조회) + updateFromDomain(저장) 발생
+ * - 구간 배송 ID 목록의 JSON 직렬화/역직렬화 비용 포함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TrackEntityMappingBenchmark {
+
+    @Param({"1", "4", "10"})
+    private int segments;
+
+    private Track track;
+    private TrackEntity entity;
+
+    @Setup
+    public void setUp() {
+        List<String> segmentIds = IntStream.range(0, segments)
+                .mapToObj(i -> "0b1f6a2c-6a0e-4c1d-9f6b-segment-" + i)
+                .toList();
+
+        Track created = Track.createWithHubDelivery(
+                "order-7f3c2d1e", "ORD-20241019-000123",
+                "hub-seoul", "hub-busan", "hub-delivery-9a8b7c",
+                segmentIds, "last-mile-5d4e3f",
+                LocalDateTime.now().plusDays(2), "SYSTEM");
+
+        entity = TrackEntity.fromDomain(created);
+        track = entity.toDomain();
+    }
+
+    @Benchmark
+    public TrackEntity fromDomain() {
+        return TrackEntity.fromDomain(track);
+    }
+
+    @Benchmark
+    public Track toDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public TrackEntity updateFromDomain() {
+        entity.updateFromDomain(track);
+        return entity;
+    }
+}
@@ -0,0 +1,94 @@
+package com.early_express.track_service.global.infrastructure.event.converter;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentDepartedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.converter.StringJsonMessageConverter;
+import org.springframework.messaging.MessageHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신 이벤트 변환 벤치마크 (레코드 값 → 이벤트 객체)
+ * - stringJson: 기존 경로 (StringDeserializer + StringJsonMessageConverter)
+ * - bytesJson : byte[] 값을 바로 파싱
+ * - smile     : contentType 헤더로 Smile 선택
+ * - bytesJson/smile은 준비된 레코드 재사용, stringJson은 디코딩한 String으로 레코드 생성 (기존 컨슈머 동작)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventMessageConverterBenchmark {
+
+    private static final String TOPIC = "hub-segment-departed";
+
+    private StringDeserializer stringDeserializer;
+    private StringJsonMessageConverter stringJsonConverter;
+    private EventMessageConverter eventConverter;
+
+    private byte[] json;
+    private ConsumerRecord<String, byte[]> jsonRecord;
+    private ConsumerRecord<String, byte[]> smileRecord;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        stringDeserializer = new StringDeserializer();
+        stringJsonConverter = new StringJsonMessageConverter(objectMapper);
+        eventConverter = new EventMessageConverter(objectMapper);
+
+        HubSegmentDepartedEvent event = HubSegmentDepartedEvent.builder()
+                .eventId("0f8e7d6c-5b4a-3928-1706-f5e4d3c2b1a0")
+                .eventType("HUB_SEGMENT_DEPARTED")
+                .timestamp(LocalDateTime.of(2025, 11, 3, 9, 15, 30))
+                .version("1.0")
+                .publisher("hub-delivery-service")
+                .orderId("order-7c6b5a49")
+                .hubDeliveryId("hub-delivery-9a8b7c")
+                .segmentIndex(1)
+                .fromHubId("4c5d6e7f-1a2b-3c4d-5e6f-000000000001")
+                .toHubId("4c5d6e7f-1a2b-3c4d-5e6f-000000000002")
+                .departedAt(LocalDateTime.of(2025, 11, 3, 9, 15, 0))
+                .build();
+        json = objectMapper.writeValueAsBytes(event);
+        jsonRecord = new ConsumerRecord<>(TOPIC, 0, 0L, "order-7c6b5a49", json);
+        smileRecord = new ConsumerRecord<>(TOPIC, 0, 0L, "order-7c6b5a49",
+                eventConverter.getSmileMapper().writeValueAsBytes(event));
+        smileRecord.headers().add(new RecordHeader(MessageHeaders.CONTENT_TYPE,
+                EventMessageConverter.SMILE_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public Object stringJson() {
+        String value = stringDeserializer.deserialize(TOPIC, json);
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 0, 0L, "order-7c6b5a49", value);
+        return stringJsonConverter.toMessage(record, null, null, HubSegmentDepartedEvent.class).getPayload();
+    }
+
+    @Benchmark
+    public Object bytesJson() {
+        return eventConverter.toMessage(jsonRecord, null, null, HubSegmentDepartedEvent.class).getPayload();
+    }
+
+    @Benchmark
+    public Object smile() {
+        return eventConverter.toMessage(smileRecord, null, null, HubSegmentDepartedEvent.class).getPayload();
+    }
+}
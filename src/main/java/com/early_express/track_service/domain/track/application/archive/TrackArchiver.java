@@ -0,0 +1,125 @@
+package com.early_express.track_service.domain.track.application.archive;
+
+import com.early_express.track_service.domain.track.domain.model.vo.ArchivedTrack;
+import com.early_express.track_service.domain.track.domain.repository.TrackArchiveRepository;
+import com.early_express.track_service.domain.track.domain.repository.TrackArchiveStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 종료된 추적 콜드 보관
+ * - retention보다 오래전에 완료/실패한 추적 + 이벤트를 종료 일자별 압축 파일로 기록 후 운영 테이블에서 삭제
+ * - 순서: 파일 기록 → (한 트랜잭션) 색인 기록 + 운영 테이블 삭제
+ *   → DB 처리 실패 시 파일만 남고 색인이 없으므로 조회되지 않음, 다음 실행에서 다시 보관
+ * - 주문 ID 조회 시 운영 테이블에 없으면 색인 → 보관 파일 순으로 조회
+ * - 정기 실행은 인스턴스 간 잠금으로 한 곳에서만 (같은 추적을 중복 기록하지 않음)
+ */
+@Slf4j
+@Component
+public class TrackArchiver {
+
+    private final TrackArchiveRepository trackArchiveRepository;
+    private final TrackArchiveStorage trackArchiveStorage;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public TrackArchiver(
+            TrackArchiveRepository trackArchiveRepository,
+            TrackArchiveStorage trackArchiveStorage,
+            @Value("${track-event.archive.enabled:true}") boolean enabled,
+            @Value("${track-event.archive.retention:90d}") Duration retention,
+            @Value("${track-event.archive.batch-size:1000}") int batchSize,
+            @Value("${track-event.archive.max-batches:100}") int maxBatches) {
+        this.trackArchiveRepository = trackArchiveRepository;
+        this.trackArchiveStorage = trackArchiveStorage;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(cron = "${track-event.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        boolean ran = trackArchiveRepository.runExclusively(() -> archive(LocalDateTime.now().minus(retention)));
+        if (!ran) {
+            log.info("[Archive] 다른 인스턴스에서 보관 실행 중 - 건너뜀");
+        }
+    }
+
+    /**
+     * completedBefore 이전에 종료된 추적 보관 (배치 단위, 실행당 최대 maxBatches 배치)
+     *
+     * @return 보관한 추적 수
+     */
+    public synchronized int archive(LocalDateTime completedBefore) {
+        long startedAt = System.currentTimeMillis();
+        int archived = 0;
+        int files = 0;
+
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<ArchivedTrack> tracks = trackArchiveRepository.findArchivable(completedBefore, batchSize);
+                if (tracks.isEmpty()) {
+                    break;
+                }
+
+                Map<LocalDate, List<ArchivedTrack>> partitions = tracks.stream()
+                        .collect(Collectors.groupingBy(
+                                archivedTrack -> archivedTrack.track().getCompletedAt().toLocalDate(),
+                                TreeMap::new,
+                                Collectors.toList()));
+
+                for (Map.Entry<LocalDate, List<ArchivedTrack>> partition : partitions.entrySet()) {
+                    String location = trackArchiveStorage.write(partition.getKey(), partition.getValue());
+                    trackArchiveRepository.moveToArchive(partition.getValue(), location);
+                    archived += partition.getValue().size();
+                    files++;
+                }
+
+                if (tracks.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[Archive] 보관 중단 - 보관 {}건, error: {}", archived, e.getMessage(), e);
+            return archived;
+        }
+
+        if (archived > 0) {
+            log.info("[Archive] 보관 완료 - 기준: {} 이전 종료, {}건, 파일 {}개, {}ms",
+                    completedBefore, archived, files, System.currentTimeMillis() - startedAt);
+        }
+        return archived;
+    }
+
+    /**
+     * 보관된 주문 조회 (색인 → 보관 파일)
+     */
+    public Optional<ArchivedTrack> findByOrderId(String orderId) {
+        return trackArchiveRepository.findLocationByOrderId(orderId)
+                .flatMap(location -> trackArchiveStorage.read(location, orderId));
+    }
+
+    /**
+     * 보관된 주문 여부
+     */
+    public boolean isArchived(String orderId) {
+        return trackArchiveRepository.existsByOrderId(orderId);
+    }
+}
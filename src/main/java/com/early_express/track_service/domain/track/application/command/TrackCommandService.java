@@ -1,10 +1,18 @@
 package com.early_express.track_service.domain.track.application.command;
 
+import com.early_express.track_service.domain.track.application.archive.TrackArchiver;
 import com.early_express.track_service.domain.track.application.command.dto.TrackCommandDto.*;
+import com.early_express.track_service.domain.track.application.query.HubTrackCounters;
+import com.early_express.track_service.domain.track.application.route.DeliveryEtaEstimator;
+import com.early_express.track_service.domain.track.application.route.HubBacklog;
+import com.early_express.track_service.domain.track.application.route.RouteTransitStatistics;
+import com.early_express.track_service.domain.track.application.sla.DeliverySlaMonitor;
+import com.early_express.track_service.domain.track.application.sla.HubSegmentDelayDetector;
 import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
 import com.early_express.track_service.domain.track.domain.exception.TrackException;
 import com.early_express.track_service.domain.track.domain.model.Track;
 import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
 import com.early_express.track_service.domain.track.domain.repository.TrackEventRepository;
 import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +20,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 /**
  * Track Command Service
  * - 생성 및 상태 변경 담당
+ * - 상태 변경마다 SLA 마감 갱신 (DeliverySlaMonitor), 허브 구간 출발/도착 시 지연 마감 갱신 (HubSegmentDelayDetector)
+ * - 허브 구간 도착 시 구간 소요 시간 분포 반영 (RouteTransitStatistics)
+ * - 허브 구간 출발/도착, 최종 배송 픽업/출발 시 예측 배송 완료 시간 재계산 (DeliveryEtaEstimator)
+ * - 상태 변경마다 허브 상태별 추적 수 갱신 (HubTrackCounters)
  */
 @Slf4j
 @Service
@@ -24,6 +38,13 @@ public class TrackCommandService {
 
     private final TrackRepository trackRepository;
     private final TrackEventRepository trackEventRepository;
+    private final DeliverySlaMonitor deliverySlaMonitor;
+    private final HubSegmentDelayDetector hubSegmentDelayDetector;
+    private final RouteTransitStatistics routeTransitStatistics;
+    private final HubBacklog hubBacklog;
+    private final DeliveryEtaEstimator deliveryEtaEstimator;
+    private final HubTrackCounters hubTrackCounters;
+    private final TrackArchiver trackArchiver;
 
     // ===== 생성 =====
 
@@ -31,8 +52,9 @@ public class TrackCommandService {
      * Track 생성 (이벤트에서 호출)
      */
     public Track createTrack(CreateCommand command) {
-        // 중복 체크
-        if (trackRepository.existsByOrderId(command.getOrderId())) {
+        // 중복 체크 (보관된 주문 포함)
+        if (trackRepository.existsByOrderId(command.getOrderId())
+                || trackArchiver.isArchived(command.getOrderId())) {
             throw new TrackException(
                     TrackErrorCode.TRACK_ALREADY_EXISTS,
                     "이미 해당 주문의 추적 정보가 존재합니다: " + command.getOrderId()
@@ -66,6 +88,8 @@ public class TrackCommandService {
 
         // 저장
         Track savedTrack = trackRepository.save(track);
+        deliverySlaMonitor.onTrackChanged(savedTrack);
+        hubTrackCounters.onStatusChanged(savedTrack, null);
 
         // 이벤트 기록
         trackEventRepository.save(
@@ -85,14 +109,21 @@ public class TrackCommandService {
      */
     public Track departHubSegment(HubSegmentDepartCommand command) {
         Track track = findTrackById(command.getTrackId());
+        TrackStatus before = track.getStatus();
 
         track.departHubSegment(
                 command.getSegmentIndex(),
                 command.getFromHubId(),
-                command.getToHubId()
+                command.getToHubId(),
+                command.getDepartedAt()
         );
+        track.revisePredictedDeliveryTime(deliveryEtaEstimator.predict(track, LocalDateTime.now()));
 
         Track savedTrack = trackRepository.save(track);
+        deliverySlaMonitor.onTrackChanged(savedTrack);
+        hubTrackCounters.onStatusChanged(savedTrack, before);
+        hubSegmentDelayDetector.onHubSegmentDeparted(savedTrack);
+        hubBacklog.onHubSegmentDeparted(savedTrack);
 
         // 이벤트 기록
         trackEventRepository.save(
@@ -104,7 +135,7 @@ public class TrackCommandService {
                 )
         );
 
-        log.info("허브 구간 출발 - trackId: {}, segment: {}",
+        log.debug("허브 구간 출발 - trackId: {}, segment: {}",
                 savedTrack.getIdValue(), command.getSegmentIndex());
 
         return savedTrack;
@@ -115,10 +146,17 @@ public class TrackCommandService {
      */
     public Track arriveHubSegment(HubSegmentArriveCommand command) {
         Track track = findTrackById(command.getTrackId());
+        TrackStatus before = track.getStatus();
 
-        track.arriveHubSegment(command.getSegmentIndex());
+        track.arriveHubSegment(command.getSegmentIndex(), command.getArrivedAt());
+        track.revisePredictedDeliveryTime(deliveryEtaEstimator.predict(track, LocalDateTime.now()));
 
         Track savedTrack = trackRepository.save(track);
+        deliverySlaMonitor.onTrackChanged(savedTrack);
+        hubTrackCounters.onStatusChanged(savedTrack, before);
+        hubSegmentDelayDetector.onHubSegmentArrived(savedTrack);
+        routeTransitStatistics.onHubSegmentArrived(savedTrack);
+        hubBacklog.onHubSegmentArrived(savedTrack);
 
         // 이벤트 기록
         trackEventRepository.save(
@@ -130,7 +168,7 @@ public class TrackCommandService {
                 )
         );
 
-        log.info("허브 구간 도착 - trackId: {}, segment: {}",
+        log.debug("허브 구간 도착 - trackId: {}, segment: {}",
                 savedTrack.getIdValue(), command.getSegmentIndex());
 
         return savedTrack;
@@ -143,10 +181,15 @@ public class TrackCommandService {
      */
     public Track pickUpLastMile(LastMilePickUpCommand command) {
         Track track = findTrackById(command.getTrackId());
+        TrackStatus before = track.getStatus();
 
         track.pickUpLastMile();
+        track.revisePredictedDeliveryTime(deliveryEtaEstimator.predict(track, LocalDateTime.now()));
 
         Track savedTrack = trackRepository.save(track);
+        deliverySlaMonitor.onTrackChanged(savedTrack);
+        hubTrackCounters.onStatusChanged(savedTrack, before);
+        hubBacklog.onLastMilePickedUp(savedTrack);
 
         // 이벤트 기록
         trackEventRepository.save(
@@ -157,7 +200,7 @@ public class TrackCommandService {
                 )
         );
 
-        log.info("최종 배송 픽업 - trackId: {}", savedTrack.getIdValue());
+        log.debug("최종 배송 픽업 - trackId: {}", savedTrack.getIdValue());
 
         return savedTrack;
     }
@@ -167,17 +210,21 @@ public class TrackCommandService {
      */
     public Track departLastMile(LastMileDepartCommand command) {
         Track track = findTrackById(command.getTrackId());
+        TrackStatus before = track.getStatus();
 
         track.departLastMile();
+        track.revisePredictedDeliveryTime(deliveryEtaEstimator.predict(track, LocalDateTime.now()));
 
         Track savedTrack = trackRepository.save(track);
+        deliverySlaMonitor.onTrackChanged(savedTrack);
+        hubTrackCounters.onStatusChanged(savedTrack, before);
 
         // 이벤트 기록
         trackEventRepository.save(
                 TrackEvent.lastMileDeparted(savedTrack.getIdValue(), command.getUpdatedBy())
         );
 
-        log.info("최종 배송 출발 - trackId: {}", savedTrack.getIdValue());
+        log.debug("최종 배송 출발 - trackId: {}", savedTrack.getIdValue());
 
         return savedTrack;
     }
@@ -187,10 +234,13 @@ public class TrackCommandService {
      */
     public Track complete(CompleteCommand command) {
         Track track = findTrackById(command.getTrackId());
+        TrackStatus before = track.getStatus();
 
         track.complete();
 
         Track savedTrack = trackRepository.save(track);
+        deliverySlaMonitor.onTrackChanged(savedTrack);
+        hubTrackCounters.onStatusChanged(savedTrack, before);
 
         // 이벤트 기록
         trackEventRepository.save(
@@ -210,10 +260,13 @@ public class TrackCommandService {
      */
     public Track fail(FailCommand command) {
         Track track = findTrackById(command.getTrackId());
+        TrackStatus before = track.getStatus();
 
         track.fail();
 
         Track savedTrack = trackRepository.save(track);
+        deliverySlaMonitor.onTrackChanged(savedTrack);
+        hubTrackCounters.onStatusChanged(savedTrack, before);
 
         // 이벤트 기록
         trackEventRepository.save(
@@ -39,6 +39,7 @@ public class TrackCommandDto {
         private Integer segmentIndex;
         private String fromHubId;
         private String toHubId;
+        private LocalDateTime departedAt;  // 출발 시간 (발행 서비스 기준, 없으면 처리 시간)
         private String updatedBy;
     }
 
@@ -51,6 +52,7 @@ public class TrackCommandDto {
         private String trackId;
         private Integer segmentIndex;
         private String hubId;
+        private LocalDateTime arrivedAt;  // 도착 시간 (발행 서비스 기준, 없으면 처리 시간)
         private String updatedBy;
     }
 
@@ -0,0 +1,52 @@
+package com.early_express.track_service.domain.track.application.deadletter;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackDeadLetterReplayer;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackDeadLetterReplayer.ReplayResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * 처리 실패 이벤트(DLT) 재처리
+ * - 요청 건수 검증 후 DLT 재발행 위임
+ * - 한 번에 한 요청씩 실행 (같은 재처리 컨슈머 그룹을 동시에 쓰면 리밸런싱으로 중복 재발행 발생)
+ */
+@Service
+public class TrackDeadLetterService {
+
+    private final TrackDeadLetterReplayer trackDeadLetterReplayer;
+    private final int maxLimit;
+
+    public TrackDeadLetterService(
+            TrackDeadLetterReplayer trackDeadLetterReplayer,
+            @Value("${track-event.dead-letter.replay-max-limit:10000}") int maxLimit) {
+        this.trackDeadLetterReplayer = trackDeadLetterReplayer;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * DLT 재처리
+     *
+     * @param limit 최대 처리 건수 (1 ~ replay-max-limit)
+     */
+    public synchronized DeadLetterReplayResult replay(int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new TrackException(TrackErrorCode.INVALID_REPLAY_LIMIT,
+                    "재처리 건수는 1 ~ " + maxLimit + " 사이여야 합니다. limit: " + limit);
+        }
+
+        ReplayResult result = trackDeadLetterReplayer.replay(limit);
+        return new DeadLetterReplayResult(result.replayed(), result.skipped(), Map.copyOf(result.byTopic()));
+    }
+
+    /**
+     * 재처리 결과
+     *
+     * @param byTopic 원래 토픽별 재발행 건수
+     */
+    public record DeadLetterReplayResult(int replayed, int skipped, Map<String, Integer> byTopic) {
+    }
+}
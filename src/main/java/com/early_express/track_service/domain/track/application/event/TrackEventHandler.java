@@ -6,15 +6,14 @@ import com.early_express.track_service.domain.track.domain.exception.TrackErrorC
 import com.early_express.track_service.domain.track.domain.exception.TrackException;
 import com.early_express.track_service.domain.track.domain.model.Track;
 import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
-import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.HubDeliveryClient;
-import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.AssignDriverForSegmentResponse;
-import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.LastMileDeliveryClient;
-import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.AssignDriverResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.driver_assignment.DriverAssignmentGateway;
+import com.early_express.track_service.domain.track.infrastructure.client.driver_assignment.DriverAssignmentResult;
 import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentArrivedEvent;
 import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentDepartedEvent;
 import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileCompletedEvent;
 import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileDepartedEvent;
 import com.early_express.track_service.domain.track.infrastructure.messaging.order.event.TrackingStartRequestedEvent;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,9 +42,9 @@ public class TrackEventHandler {
 
     private final TrackCommandService trackCommandService;
     private final TrackRepository trackRepository;
-    private final HubDeliveryClient hubDeliveryClient;
-    private final LastMileDeliveryClient lastMileDeliveryClient;
+    private final DriverAssignmentGateway driverAssignmentGateway;
     private final ObjectMapper objectMapper;
+    private final TrackMetrics trackMetrics;
 
     // ==================== Order 이벤트 ====================
 
@@ -56,16 +55,18 @@ public class TrackEventHandler {
      * 2. 첫 번째 구간 드라이버 배정 요청
      */
     public void handleTrackingStartRequested(TrackingStartRequestedEvent event) {
-        log.info("TrackingStartRequested 처리 시작 - orderId: {}", event.getOrderId());
+        trackMetrics.handle(() -> {
+            log.debug("TrackingStartRequested 처리 시작 - orderId: {}", event.getOrderId());
 
-        // 1. Track 생성 (별도 트랜잭션)
-        Track track = createTrack(event);
+            // 1. Track 생성 (별도 트랜잭션)
+            Track track = createTrack(event);
 
-        log.info("Track 생성 완료 - trackId: {}, orderId: {}",
-                track.getIdValue(), track.getOrderId());
+            log.debug("Track 생성 완료 - trackId: {}, orderId: {}",
+                    track.getIdValue(), track.getOrderId());
 
-        // 2. 배송 추적 시작 (Track이 DB에 커밋된 후)
-        startTracking(track);
+            // 2. 배송 추적 시작 (Track이 DB에 커밋된 후)
+            startTracking(track);
+        });
     }
 
     @Transactional
@@ -100,20 +101,25 @@ public class TrackEventHandler {
      */
     @Transactional
     public void handleHubSegmentDeparted(HubSegmentDepartedEvent event) {
-        log.info("HubSegmentDeparted 처리 - orderId: {}, segment: {}",
-                event.getOrderId(), event.getSegmentIndex());
-
-        Track track = findTrackByOrderId(event.getOrderId());
-
-        HubSegmentDepartCommand command = HubSegmentDepartCommand.builder()
-                .trackId(track.getIdValue())
-                .segmentIndex(event.getSegmentIndex())
-                .fromHubId(event.getFromHubId())
-                .toHubId(event.getToHubId())
-                .updatedBy("HUB_DELIVERY_SERVICE")
-                .build();
-
-        trackCommandService.departHubSegment(command);
+        trackMetrics.handle(() -> {
+            log.debug("HubSegmentDeparted 처리 - orderId: {}, segment: {}",
+                    event.getOrderId(), event.getSegmentIndex());
+
+            Track track = findTrackByOrderId(event.getOrderId());
+            requireInOrder(track.isAwaitingPreviousHubSegment(event.getSegmentIndex()),
+                    "이전 허브 구간 도착 전 출발 이벤트", event.getOrderId());
+
+            HubSegmentDepartCommand command = HubSegmentDepartCommand.builder()
+                    .trackId(track.getIdValue())
+                    .segmentIndex(event.getSegmentIndex())
+                    .fromHubId(event.getFromHubId())
+                    .toHubId(event.getToHubId())
+                    .departedAt(event.getDepartedAt())
+                    .updatedBy("HUB_DELIVERY_SERVICE")
+                    .build();
+
+            trackCommandService.departHubSegment(command);
+        });
     }
 
     /**
@@ -124,23 +130,28 @@ public class TrackEventHandler {
      */
     @Transactional
     public void handleHubSegmentArrived(HubSegmentArrivedEvent event) {
-        log.info("HubSegmentArrived 처리 - orderId: {}, segment: {}",
-                event.getOrderId(), event.getSegmentIndex());
-
-        Track track = findTrackByOrderId(event.getOrderId());
-
-        // 1. 구간 도착 상태 업데이트
-        HubSegmentArriveCommand command = HubSegmentArriveCommand.builder()
-                .trackId(track.getIdValue())
-                .segmentIndex(event.getSegmentIndex())
-                .hubId(event.getHubId())
-                .updatedBy("HUB_DELIVERY_SERVICE")
-                .build();
-
-        Track updatedTrack = trackCommandService.arriveHubSegment(command);
-
-        // 2. 다음 단계 결정 및 트리거
-        handleHubSegmentCompleted(updatedTrack, event.getSegmentIndex());
+        trackMetrics.handle(() -> {
+            log.debug("HubSegmentArrived 처리 - orderId: {}, segment: {}",
+                    event.getOrderId(), event.getSegmentIndex());
+
+            Track track = findTrackByOrderId(event.getOrderId());
+            requireInOrder(track.isAwaitingHubSegmentDeparture(event.getSegmentIndex()),
+                    "허브 구간 출발 전 도착 이벤트", event.getOrderId());
+
+            // 1. 구간 도착 상태 업데이트
+            HubSegmentArriveCommand command = HubSegmentArriveCommand.builder()
+                    .trackId(track.getIdValue())
+                    .segmentIndex(event.getSegmentIndex())
+                    .hubId(event.getHubId())
+                    .arrivedAt(event.getArrivedAt())
+                    .updatedBy("HUB_DELIVERY_SERVICE")
+                    .build();
+
+            Track updatedTrack = trackCommandService.arriveHubSegment(command);
+
+            // 2. 다음 단계 결정 및 트리거
+            handleHubSegmentCompleted(updatedTrack, event.getSegmentIndex());
+        });
     }
 
     // ==================== Last Mile 이벤트 ====================
@@ -152,24 +163,28 @@ public class TrackEventHandler {
      */
     @Transactional
     public void handleLastMileDeparted(LastMileDepartedEvent event) {
-        log.info("LastMileDeparted 처리 - orderId: {}", event.getOrderId());
-
-        Track track = findTrackByOrderId(event.getOrderId());
-
-        // 픽업
-        LastMilePickUpCommand pickUpCommand = LastMilePickUpCommand.builder()
-                .trackId(track.getIdValue())
-                .hubId(event.getHubId())
-                .updatedBy("LAST_MILE_SERVICE")
-                .build();
-        trackCommandService.pickUpLastMile(pickUpCommand);
-
-        // 출발
-        LastMileDepartCommand departCommand = LastMileDepartCommand.builder()
-                .trackId(track.getIdValue())
-                .updatedBy("LAST_MILE_SERVICE")
-                .build();
-        trackCommandService.departLastMile(departCommand);
+        trackMetrics.handle(() -> {
+            log.debug("LastMileDeparted 처리 - orderId: {}", event.getOrderId());
+
+            Track track = findTrackByOrderId(event.getOrderId());
+            requireInOrder(track.isAwaitingHubSegmentsCompletion(),
+                    "허브 구간 완료 전 최종 배송 출발 이벤트", event.getOrderId());
+
+            // 픽업
+            LastMilePickUpCommand pickUpCommand = LastMilePickUpCommand.builder()
+                    .trackId(track.getIdValue())
+                    .hubId(event.getHubId())
+                    .updatedBy("LAST_MILE_SERVICE")
+                    .build();
+            trackCommandService.pickUpLastMile(pickUpCommand);
+
+            // 출발
+            LastMileDepartCommand departCommand = LastMileDepartCommand.builder()
+                    .trackId(track.getIdValue())
+                    .updatedBy("LAST_MILE_SERVICE")
+                    .build();
+            trackCommandService.departLastMile(departCommand);
+        });
     }
 
     /**
@@ -179,21 +194,25 @@ public class TrackEventHandler {
      */
     @Transactional
     public void handleLastMileCompleted(LastMileCompletedEvent event) {
-        log.info("LastMileCompleted 처리 - orderId: {}", event.getOrderId());
+        trackMetrics.handle(() -> {
+            log.debug("LastMileCompleted 처리 - orderId: {}", event.getOrderId());
 
-        Track track = findTrackByOrderId(event.getOrderId());
+            Track track = findTrackByOrderId(event.getOrderId());
+            requireInOrder(track.isAwaitingLastMileDeparture(),
+                    "최종 배송 출발 전 완료 이벤트", event.getOrderId());
 
-        CompleteCommand command = CompleteCommand.builder()
-                .trackId(track.getIdValue())
-                .updatedBy("LAST_MILE_SERVICE")
-                .build();
+            CompleteCommand command = CompleteCommand.builder()
+                    .trackId(track.getIdValue())
+                    .updatedBy("LAST_MILE_SERVICE")
+                    .build();
 
-        trackCommandService.complete(command);
+            trackCommandService.complete(command);
 
-        log.info("배송 완료 - trackId: {}, orderId: {}",
-                track.getIdValue(), track.getOrderId());
+            log.debug("배송 완료 - trackId: {}, orderId: {}",
+                    track.getIdValue(), track.getOrderId());
 
-        // TODO: Order Service에 배송 완료 이벤트 발행 (선택)
+            // TODO: Order Service에 배송 완료 이벤트 발행 (선택)
+        });
     }
 
     // ==================== 오케스트레이션 로직 ====================
@@ -206,7 +225,7 @@ public class TrackEventHandler {
      * - 동일 허브: 바로 최종 배송 드라이버 배정
      */
     private void startTracking(Track track) {
-        log.info("배송 추적 시작 - trackId: {}, requiresHubDelivery: {}",
+        log.debug("배송 추적 시작 - trackId: {}, requiresHubDelivery: {}",
                 track.getIdValue(), track.isRequiresHubDelivery());
 
         if (track.isRequiresHubDelivery()) {
@@ -252,10 +271,10 @@ public class TrackEventHandler {
         boolean isLastHubSegmentCompleted = (completedCount >= totalHubSegments - 1);
 
         if (isLastHubSegmentCompleted) {
-            log.info("마지막 허브 구간 완료, 최종 배송 시작 - trackId: {}", track.getIdValue());
+            log.debug("마지막 허브 구간 완료, 최종 배송 시작 - trackId: {}", track.getIdValue());
             requestLastMileDriverAssignment(track);
         } else {
-            log.info("다음 허브 구간 시작 - trackId: {}, nextSegment: {}",
+            log.debug("다음 허브 구간 시작 - trackId: {}, nextSegment: {}",
                     track.getIdValue(), completedCount);
             requestHubSegmentDriverAssignment(track, completedCount);
         }
@@ -275,27 +294,21 @@ public class TrackEventHandler {
             );
         }
 
-        log.info("허브 구간 드라이버 배정 요청 - trackId: {}, hubDeliveryId: {}, segment: {}",
+        log.debug("허브 구간 드라이버 배정 요청 - trackId: {}, hubDeliveryId: {}, segment: {}",
                 track.getIdValue(), hubDeliveryId, segmentIndex);
 
-        try {
-            AssignDriverForSegmentResponse response =
-                    hubDeliveryClient.assignDriverForSegment(hubDeliveryId, segmentIndex);
-
-            if (response.isSuccess()) {
-                log.info("허브 구간 드라이버 배정 성공 - hubDeliveryId: {}, segment: {}, driverId: {}",
-                        hubDeliveryId, segmentIndex, response.getDriverId());
-                // 성공 시 HubDelivery에서 SegmentDeparted 이벤트 발행 → 다시 여기서 수신
-            } else {
-                log.warn("허브 구간 드라이버 배정 실패 - hubDeliveryId: {}, segment: {}, reason: {}",
-                        hubDeliveryId, segmentIndex, response.getMessage());
-                // TODO: 재시도 로직 또는 대기 큐에 추가
-            }
-        } catch (Exception e) {
-            log.error("허브 구간 드라이버 배정 중 오류 - hubDeliveryId: {}, segment: {}, error: {}",
-                    hubDeliveryId, segmentIndex, e.getMessage(), e);
-            // TODO: 재시도 로직 또는 실패 처리
+        DriverAssignmentResult result = driverAssignmentGateway.assignHubSegmentDriver(
+                track.getIdValue(), hubDeliveryId, segmentIndex);
+
+        if (result.isAssigned()) {
+            log.debug("허브 구간 드라이버 배정 성공 - hubDeliveryId: {}, segment: {}, driverId: {}",
+                    hubDeliveryId, segmentIndex, result.getDriverId());
+            // 성공 시 HubDelivery에서 SegmentDeparted 이벤트 발행 → 다시 여기서 수신
+        } else if (result.getStatus() == DriverAssignmentResult.Status.REJECTED) {
+            log.warn("허브 구간 드라이버 배정 실패 - hubDeliveryId: {}, segment: {}, reason: {}",
+                    hubDeliveryId, segmentIndex, result.getMessage());
         }
+        // DEFERRED: 지연 큐에서 재처리 / FAILED: 게이트웨이에서 기록
     }
 
     /**
@@ -312,27 +325,21 @@ public class TrackEventHandler {
             );
         }
 
-        log.info("최종 배송 드라이버 배정 요청 - trackId: {}, lastMileDeliveryId: {}",
+        log.debug("최종 배송 드라이버 배정 요청 - trackId: {}, lastMileDeliveryId: {}",
                 track.getIdValue(), lastMileDeliveryId);
 
-        try {
-            AssignDriverResponse response =
-                    lastMileDeliveryClient.assignDriver(lastMileDeliveryId);
-
-            if (response.isSuccess()) {
-                log.info("최종 배송 드라이버 배정 성공 - lastMileDeliveryId: {}, driverId: {}",
-                        lastMileDeliveryId, response.getDriverId());
-                // 성공 시 LastMile에서 Departed 이벤트 발행 → 다시 여기서 수신
-            } else {
-                log.warn("최종 배송 드라이버 배정 실패 - lastMileDeliveryId: {}, reason: {}",
-                        lastMileDeliveryId, response.getMessage());
-                // TODO: 재시도 로직 또는 대기 큐에 추가
-            }
-        } catch (Exception e) {
-            log.error("최종 배송 드라이버 배정 중 오류 - lastMileDeliveryId: {}, error: {}",
-                    lastMileDeliveryId, e.getMessage(), e);
-            // TODO: 재시도 로직 또는 실패 처리
+        DriverAssignmentResult result = driverAssignmentGateway.assignLastMileDriver(
+                track.getIdValue(), lastMileDeliveryId);
+
+        if (result.isAssigned()) {
+            log.debug("최종 배송 드라이버 배정 성공 - lastMileDeliveryId: {}, driverId: {}",
+                    lastMileDeliveryId, result.getDriverId());
+            // 성공 시 LastMile에서 Departed 이벤트 발행 → 다시 여기서 수신
+        } else if (result.getStatus() == DriverAssignmentResult.Status.REJECTED) {
+            log.warn("최종 배송 드라이버 배정 실패 - lastMileDeliveryId: {}, reason: {}",
+                    lastMileDeliveryId, result.getMessage());
         }
+        // DEFERRED: 지연 큐에서 재처리 / FAILED: 게이트웨이에서 기록
     }
 
     // ==================== Helper ====================
@@ -345,7 +352,24 @@ public class TrackEventHandler {
                 ));
     }
 
-    private List<String> parseHubSegmentIds(String routingHubJson, String hubDeliveryId) {
+    /**
+     * 선행 이벤트 미반영 시 EVENT_OUT_OF_ORDER (수신 측 재정렬 버퍼가 재시도 토픽으로 미뤄 재적용)
+     */
+    private void requireInOrder(boolean awaitingPredecessor, String reason, String orderId) {
+        if (awaitingPredecessor) {
+            throw new TrackException(
+                    TrackErrorCode.EVENT_OUT_OF_ORDER,
+                    reason + " - orderId: " + orderId
+            );
+        }
+    }
+
+    /**
+     * routingHub JSON에서 허브 구간 배송 ID 목록 생성
+     * - 허브 N개 → 구간 N-1개
+     * - 벤치마크(src/jmh)에서 직접 호출하기 위해 package-private
+     */
+    List<String> parseHubSegmentIds(String routingHubJson, String hubDeliveryId) {
         List<String> ids = new ArrayList<>();
 
         if (routingHubJson == null || routingHubJson.isBlank()) {
@@ -0,0 +1,69 @@
+package com.early_express.track_service.domain.track.application.export;
+
+import com.early_express.track_service.domain.track.domain.model.vo.TrackExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 기록기 (RFC 4180, UTF-8)
+ * - 행마다 바로 기록 → 메모리 일정
+ */
+class CsvTrackExportWriter implements TrackExportWriter {
+
+    private static final String HEADER = String.join(",",
+            "trackId", "orderId", "orderNumber", "originHubId", "destinationHubId", "status", "currentPhase",
+            "requiresHubDelivery", "totalHubSegments", "completedHubSegments", "estimatedDeliveryTime",
+            "predictedDeliveryTime", "actualDeliveryTime", "startedAt", "completedAt", "createdAt",
+            "eventId", "eventType", "eventOccurredAt", "eventHubId", "eventSegmentIndex", "eventDescription",
+            "eventSource");
+
+    private final Writer writer;
+
+    CsvTrackExportWriter(OutputStream out) throws IOException {
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TrackExportRow row) throws IOException {
+        Object[] values = {
+                row.trackId(), row.orderId(), row.orderNumber(), row.originHubId(), row.destinationHubId(),
+                row.status(), row.currentPhase(), row.requiresHubDelivery(), row.totalHubSegments(),
+                row.completedHubSegments(), row.estimatedDeliveryTime(), row.predictedDeliveryTime(),
+                row.actualDeliveryTime(), row.startedAt(), row.completedAt(), row.createdAt(),
+                row.eventId(), row.eventType(), row.eventOccurredAt(), row.eventHubId(), row.eventSegmentIndex(),
+                row.eventDescription(), row.eventSource()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,94 @@
+package com.early_express.track_service.domain.track.application.export;
+
+import com.early_express.track_service.domain.track.domain.model.vo.TrackExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * NDJSON 기록기
+ * - 같은 추적의 연속된 행을 모아 한 줄로 기록 (이벤트는 events 배열)
+ * - 현재 추적 한 건만 열어 둔 채 바로 기록 → 메모리 일정
+ */
+class NdjsonTrackExportWriter implements TrackExportWriter {
+
+    private final JsonGenerator generator;
+    private String currentTrackId;
+
+    NdjsonTrackExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(TrackExportRow row) throws IOException {
+        if (!row.trackId().equals(currentTrackId)) {
+            closeTrack();
+            openTrack(row);
+        }
+        if (row.hasEvent()) {
+            generator.writeStartObject();
+            generator.writeStringField("eventId", row.eventId());
+            generator.writeStringField("eventType", row.eventType().name());
+            writeTime("occurredAt", row.eventOccurredAt());
+            generator.writeStringField("hubId", row.eventHubId());
+            if (row.eventSegmentIndex() != null) {
+                generator.writeNumberField("segmentIndex", row.eventSegmentIndex());
+            } else {
+                generator.writeNullField("segmentIndex");
+            }
+            generator.writeStringField("description", row.eventDescription());
+            generator.writeStringField("source", row.eventSource());
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        closeTrack();
+        generator.flush();
+    }
+
+    private void openTrack(TrackExportRow row) throws IOException {
+        currentTrackId = row.trackId();
+        generator.writeStartObject();
+        generator.writeStringField("trackId", row.trackId());
+        generator.writeStringField("orderId", row.orderId());
+        generator.writeStringField("orderNumber", row.orderNumber());
+        generator.writeStringField("originHubId", row.originHubId());
+        generator.writeStringField("destinationHubId", row.destinationHubId());
+        generator.writeStringField("status", row.status().name());
+        generator.writeStringField("currentPhase", row.currentPhase().name());
+        generator.writeBooleanField("requiresHubDelivery", Boolean.TRUE.equals(row.requiresHubDelivery()));
+        generator.writeNumberField("totalHubSegments", row.totalHubSegments());
+        generator.writeNumberField("completedHubSegments", row.completedHubSegments());
+        writeTime("estimatedDeliveryTime", row.estimatedDeliveryTime());
+        writeTime("predictedDeliveryTime", row.predictedDeliveryTime());
+        writeTime("actualDeliveryTime", row.actualDeliveryTime());
+        writeTime("startedAt", row.startedAt());
+        writeTime("completedAt", row.completedAt());
+        writeTime("createdAt", row.createdAt());
+        generator.writeArrayFieldStart("events");
+    }
+
+    private void closeTrack() throws IOException {
+        if (currentTrackId == null) {
+            return;
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        currentTrackId = null;
+    }
+
+    private void writeTime(String field, LocalDateTime time) throws IOException {
+        if (time != null) {
+            generator.writeStringField(field, time.toString());
+        } else {
+            generator.writeNullField(field);
+        }
+    }
+}
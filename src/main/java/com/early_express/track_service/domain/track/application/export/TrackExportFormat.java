@@ -0,0 +1,25 @@
+package com.early_express.track_service.domain.track.application.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 추적 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrackExportFormat {
+
+    /**
+     * 추적 1건당 JSON 한 줄 (이벤트는 events 배열)
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * 이벤트 1건당 한 행 (추적 컬럼 반복, 이벤트 없는 추적은 이벤트 컬럼이 빈 1행)
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,93 @@
+package com.early_express.track_service.domain.track.application.export;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 추적 + 이벤트 스트리밍 내보내기 (분석용)
+ * - DB 커서에서 읽은 행을 바로 응답 스트림에 기록 (페이징/전체 적재 없음)
+ * - 클라이언트 연결이 끊기면 쓰기 실패로 조회도 중단
+ */
+@Slf4j
+@Service
+public class TrackExportService {
+
+    private final TrackExportRepository trackExportRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+
+    public TrackExportService(
+            TrackExportRepository trackExportRepository,
+            ObjectMapper objectMapper,
+            @Value("${track-event.export.buffer-size:65536}") int bufferSize) {
+        this.trackExportRepository = trackExportRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 조건 검증 (응답 헤더 기록 전에 호출)
+     */
+    public void validate(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new TrackException(TrackErrorCode.INVALID_EXPORT_PERIOD,
+                    "내보내기 시작 시간은 종료 시간보다 앞서야 합니다: " + createdFrom + " ~ " + createdTo);
+        }
+    }
+
+    /**
+     * 내보내기 (out은 닫지 않음)
+     *
+     * @return 기록한 DB 행 수 (추적 × 이벤트)
+     */
+    public long export(TrackExportFormat format, boolean gzip, TrackStatus status,
+                       LocalDateTime createdFrom, LocalDateTime createdTo, OutputStream out) throws IOException {
+        validate(createdFrom, createdTo);
+        long startedAt = System.currentTimeMillis();
+
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, bufferSize) : null;
+        OutputStream target = new BufferedOutputStream(compressed != null ? compressed : out, bufferSize);
+        TrackExportWriter writer = switch (format) {
+            case NDJSON -> new NdjsonTrackExportWriter(objectMapper, target);
+            case CSV -> new CsvTrackExportWriter(target);
+        };
+
+        long rows;
+        try {
+            rows = trackExportRepository.streamTracksWithEvents(status, createdFrom, createdTo, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("[Export] 내보내기 중단 (응답 쓰기 실패) - format: {}, error: {}", format, e.getMessage());
+            throw e.getCause();
+        }
+
+        writer.finish();
+        target.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        out.flush();
+
+        log.info("[Export] 내보내기 완료 - format: {}, gzip: {}, status: {}, 기간: {} ~ {}, {}행, {}ms",
+                format, gzip, status, createdFrom, createdTo, rows, System.currentTimeMillis() - startedAt);
+        return rows;
+    }
+}
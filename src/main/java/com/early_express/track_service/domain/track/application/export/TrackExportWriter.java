@@ -0,0 +1,19 @@
+package com.early_express.track_service.domain.track.application.export;
+
+import com.early_express.track_service.domain.track.domain.model.vo.TrackExportRow;
+
+import java.io.IOException;
+
+/**
+ * 추적 내보내기 행 기록기 (형식별 구현)
+ * - 행은 추적 ID, 이벤트 발생 시간 순으로 전달됨
+ */
+interface TrackExportWriter {
+
+    void write(TrackExportRow row) throws IOException;
+
+    /**
+     * 남은 내용 기록 + 버퍼 비움 (스트림은 닫지 않음)
+     */
+    void finish() throws IOException;
+}
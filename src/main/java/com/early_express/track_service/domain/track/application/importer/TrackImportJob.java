@@ -0,0 +1,93 @@
+package com.early_express.track_service.domain.track.application.importer;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추적 가져오기 작업 진행 상황 (가져오기 스레드가 갱신, 조회는 어느 스레드에서나)
+ */
+public class TrackImportJob {
+
+    private static final int MAX_ERRORS = 100;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureReason;
+
+    void onRead() {
+        read.incrementAndGet();
+    }
+
+    void onRejected(long lineNo, String reason) {
+        rejected.incrementAndGet();
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(lineNo + "행: " + reason);
+        }
+    }
+
+    void onBatch(int size, int inserted) {
+        imported.addAndGet(inserted);
+        duplicates.addAndGet(size - inserted);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failureReason = reason;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    long imported() {
+        return imported.get();
+    }
+
+    public Progress progress() {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(Duration.between(startedAt, end).toMillis(), 1);
+        return new Progress(id, status, read.get(), imported.get(), duplicates.get(), rejected.get(),
+                read.get() * 1000 / millis, startedAt, finishedAt, failureReason, List.copyOf(errors));
+    }
+
+    /**
+     * 진행 상황 스냅샷
+     *
+     * @param duplicates    이미 존재하거나 파일 안에서 중복된 주문 수
+     * @param rejected      검증 실패 행 수 (errors에 최대 100건)
+     * @param rowsPerSecond 초당 읽은 행 수
+     */
+    public record Progress(
+            String jobId,
+            Status status,
+            long read,
+            long imported,
+            long duplicates,
+            long rejected,
+            long rowsPerSecond,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String failureReason,
+            List<String> errors) {
+    }
+}
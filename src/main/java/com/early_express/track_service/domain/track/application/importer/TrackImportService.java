@@ -0,0 +1,268 @@
+package com.early_express.track_service.domain.track.application.importer;
+
+import com.early_express.track_service.domain.track.application.query.HubTrackCounters;
+import com.early_express.track_service.domain.track.application.sla.DeliverySlaMonitor;
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.repository.TrackImportRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 과거 주문 추적 대량 가져오기 (CSV)
+ * - 요청 본문을 임시 파일로 받은 뒤 별도 스레드에서 batch-size 행씩 검증 → COPY 적재
+ * - 검증은 Track 팩토리 규칙 그대로, 주문 ID 중복 제외는 DB에서 배치 단위로 처리
+ * - 한 번에 한 작업씩 실행, 진행 상황은 작업 ID로 조회 (최근 20개 유지)
+ *
+ * CSV 헤더 (순서 무관):
+ * orderId, orderNumber, originHubId, destinationHubId, hubDeliveryId,
+ * hubSegmentDeliveryIds('|' 구분, 비어 있으면 최종 배송만), lastMileDeliveryId, estimatedDeliveryTime(ISO)
+ */
+@Slf4j
+@Service
+public class TrackImportService {
+
+    private static final String CREATED_BY = "track-import";
+    private static final int MAX_JOBS = 20;
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("orderId", "orderNumber", "originHubId", "lastMileDeliveryId");
+
+    private final TrackImportRepository trackImportRepository;
+    private final DeliverySlaMonitor deliverySlaMonitor;
+    private final HubTrackCounters hubTrackCounters;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "track-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, TrackImportJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TrackImportJob> eldest) {
+                    return size() > MAX_JOBS;
+                }
+            });
+
+    public TrackImportService(
+            TrackImportRepository trackImportRepository,
+            DeliverySlaMonitor deliverySlaMonitor,
+            HubTrackCounters hubTrackCounters,
+            @Value("${track-event.import.batch-size:50000}") int batchSize) {
+        this.trackImportRepository = trackImportRepository;
+        this.deliverySlaMonitor = deliverySlaMonitor;
+        this.hubTrackCounters = hubTrackCounters;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 가져오기 시작 (본문을 임시 파일로 저장한 뒤 반환)
+     */
+    public TrackImportJob.Progress start(InputStream body) throws IOException {
+        Path file = Files.createTempFile("track-import-", ".csv");
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        TrackImportJob job = new TrackImportJob();
+        jobs.put(job.getId(), job);
+        log.info("[Import] 가져오기 접수 - jobId: {}, {}바이트", job.getId(), Files.size(file));
+
+        executor.execute(() -> {
+            try {
+                run(job, file);
+            } finally {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("[Import] 임시 파일 삭제 실패 - path: {}", file);
+                }
+            }
+        });
+        return job.progress();
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public TrackImportJob.Progress getProgress(String jobId) {
+        TrackImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new TrackException(TrackErrorCode.IMPORT_JOB_NOT_FOUND, "가져오기 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job.progress();
+    }
+
+    void run(TrackImportJob job, Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            importRows(job, reader);
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            log.error("[Import] 가져오기 실패 - jobId: {}, error: {}", job.getId(), e.getMessage(), e);
+        }
+
+        // 가져온 추적을 SLA 감시/허브 카운터에 반영
+        if (job.imported() > 0) {
+            deliverySlaMonitor.rebuild();
+            hubTrackCounters.reconcile();
+        }
+
+        TrackImportJob.Progress progress = job.progress();
+        log.info("[Import] 가져오기 종료 - jobId: {}, status: {}, 읽음 {}, 저장 {}, 중복 {}, 거부 {}, {}행/초",
+                progress.jobId(), progress.status(), progress.read(), progress.imported(),
+                progress.duplicates(), progress.rejected(), progress.rowsPerSecond());
+    }
+
+    private void importRows(TrackImportJob job, BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseLine(header.startsWith("﻿") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i) != null) {
+                columns.put(names.get(i).trim(), i);
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("필수 컬럼이 없습니다: " + missing);
+        }
+
+        List<Track> batch = new ArrayList<>(batchSize);
+        long lineNo = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            job.onRead();
+            try {
+                batch.add(toTrack(parseLine(line), columns));
+            } catch (TrackException | IllegalArgumentException | DateTimeParseException e) {
+                job.onRejected(lineNo, e.getMessage());
+            }
+            if (batch.size() >= batchSize) {
+                flush(job, batch);
+            }
+        }
+        flush(job, batch);
+    }
+
+    private void flush(TrackImportJob job, List<Track> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int inserted = trackImportRepository.importBatch(batch);
+        job.onBatch(batch.size(), inserted);
+        batch.clear();
+
+        TrackImportJob.Progress progress = job.progress();
+        log.info("[Import] 진행 - jobId: {}, 읽음 {}, 저장 {}, 중복 {}, 거부 {}, {}행/초",
+                progress.jobId(), progress.read(), progress.imported(), progress.duplicates(),
+                progress.rejected(), progress.rowsPerSecond());
+    }
+
+    /**
+     * 한 행 → Track (TrackCommandService.createTrack과 같은 팩토리)
+     */
+    private static Track toTrack(List<String> values, Map<String, Integer> columns) {
+        String estimated = value(values, columns, "estimatedDeliveryTime");
+        LocalDateTime estimatedDeliveryTime = estimated != null ? LocalDateTime.parse(estimated) : null;
+        String segments = value(values, columns, "hubSegmentDeliveryIds");
+
+        if (segments == null) {
+            return Track.createWithLastMileOnly(
+                    value(values, columns, "orderId"),
+                    value(values, columns, "orderNumber"),
+                    value(values, columns, "originHubId"),
+                    value(values, columns, "lastMileDeliveryId"),
+                    estimatedDeliveryTime,
+                    CREATED_BY);
+        }
+        return Track.createWithHubDelivery(
+                value(values, columns, "orderId"),
+                value(values, columns, "orderNumber"),
+                value(values, columns, "originHubId"),
+                value(values, columns, "destinationHubId"),
+                value(values, columns, "hubDeliveryId"),
+                Arrays.stream(segments.split("\\|")).map(String::trim).filter(id -> !id.isEmpty()).toList(),
+                value(values, columns, "lastMileDeliveryId"),
+                estimatedDeliveryTime,
+                CREATED_BY);
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    /**
+     * CSV 한 줄 분리 (RFC 4180 따옴표 처리, 빈 값은 null, 줄바꿈이 들어간 필드는 지원하지 않음)
+     */
+    static List<String> parseLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.isEmpty() ? null : field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        values.add(field.isEmpty() ? null : field.toString());
+        return values;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
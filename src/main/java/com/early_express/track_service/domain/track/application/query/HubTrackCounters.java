@@ -0,0 +1,118 @@
+package com.early_express.track_service.domain.track.application.query;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.global.common.utils.ReconciledCounters;
+import com.early_express.track_service.global.common.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 허브(출발 또는 도착) + 상태별 추적 수 (메모리)
+ * - 허브별 상태 수를 ReconciledCounters로 관리 (슬롯 = 상태 ordinal)
+ * - 주기적으로 DB 집계로 보정, 그 사이에는 이 인스턴스의 상태 변경을 커밋 후 누적
+ */
+@Slf4j
+@Component
+public class HubTrackCounters {
+
+    private static final TrackStatus[] STATUSES = TrackStatus.values();
+
+    private final TrackRepository trackRepository;
+
+    private final ReconciledCounters<String> counters = new ReconciledCounters<>(STATUSES.length);
+    private volatile LocalDateTime reconciledAt;
+
+    public HubTrackCounters(TrackRepository trackRepository) {
+        this.trackRepository = trackRepository;
+    }
+
+    /**
+     * 추적 상태 변경 반영 (커밋 후, 상태가 같으면 무시)
+     *
+     * @param before 변경 전 상태 (신규 생성이면 null)
+     */
+    public void onStatusChanged(Track track, TrackStatus before) {
+        TrackStatus after = track.getStatus();
+        if (before == after) {
+            return;
+        }
+        String originHubId = track.getOriginHubId();
+        String destinationHubId = Objects.equals(originHubId, track.getDestinationHubId())
+                ? null
+                : track.getDestinationHubId();
+        TransactionUtils.afterCommit(() -> {
+            apply(originHubId, before, after);
+            apply(destinationHubId, before, after);
+        });
+    }
+
+    /**
+     * 허브 상태별 추적 수
+     */
+    public Snapshot snapshot(String hubId) {
+        Map<TrackStatus, Long> counts = new EnumMap<>(TrackStatus.class);
+        for (TrackStatus status : STATUSES) {
+            counts.put(status, counters.get(hubId, status.ordinal()));
+        }
+        return new Snapshot(counts, reconciledAt);
+    }
+
+    /**
+     * DB 집계로 기준값 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${track-event.hub-counters.reconcile-interval:30s}",
+            initialDelayString = "${track-event.hub-counters.reconcile-interval:30s}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int hubs = counters.reconcile(() -> {
+                Map<String, long[]> counted = new HashMap<>();
+                for (HubStatusCount count : trackRepository.countByHubAndStatus()) {
+                    counted.computeIfAbsent(count.hubId(), hubId -> new long[STATUSES.length])
+                            [count.status().ordinal()] += count.count();
+                }
+                return counted;
+            });
+            reconciledAt = LocalDateTime.now();
+            log.debug("[HubCounters] 보정 완료 - 허브 {}개, {}ms", hubs, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[HubCounters] 보정 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void apply(String hubId, TrackStatus before, TrackStatus after) {
+        if (before != null) {
+            counters.add(hubId, before.ordinal(), -1);
+        }
+        counters.add(hubId, after.ordinal(), 1);
+    }
+
+    /**
+     * 허브 상태별 추적 수 스냅샷
+     *
+     * @param reconciledAt 마지막 DB 보정 시간 (보정 전이면 null)
+     */
+    public record Snapshot(Map<TrackStatus, Long> counts, LocalDateTime reconciledAt) {
+
+        public long count(TrackStatus status) {
+            return counts.getOrDefault(status, 0L);
+        }
+
+        public long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
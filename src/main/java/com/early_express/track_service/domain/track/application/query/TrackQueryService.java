@@ -1,5 +1,6 @@
 package com.early_express.track_service.domain.track.application.query;
 
+import com.early_express.track_service.domain.track.application.archive.TrackArchiver;
 import com.early_express.track_service.domain.track.application.query.dto.TrackQueryDto.*;
 import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
 import com.early_express.track_service.domain.track.domain.exception.TrackException;
@@ -14,9 +15,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Track Query Service
@@ -30,22 +33,28 @@ public class TrackQueryService {
 
     private final TrackRepository trackRepository;
     private final TrackEventRepository trackEventRepository;
+    private final HubTrackCounters hubTrackCounters;
+    private final TrackArchiver trackArchiver;
 
     // ===== 사용자용 조회 =====
 
     /**
      * 주문 ID로 추적 조회 (사용자용)
+     * - 운영 테이블에 없으면 보관 파일에서 조회
      */
     public TrackDetailResponse findByOrderId(String orderId) {
-        Track track = trackRepository.findByOrderId(orderId)
+        Optional<Track> track = trackRepository.findByOrderId(orderId);
+        if (track.isPresent()) {
+            List<TrackEvent> events = trackEventRepository.findByTrackId(track.get().getIdValue());
+            return TrackDetailResponse.of(track.get(), events);
+        }
+
+        return trackArchiver.findByOrderId(orderId)
+                .map(archived -> TrackDetailResponse.of(archived.track(), archived.events()))
                 .orElseThrow(() -> new TrackException(
                         TrackErrorCode.TRACK_NOT_FOUND,
                         "해당 주문의 추적 정보를 찾을 수 없습니다: " + orderId
                 ));
-
-        List<TrackEvent> events = trackEventRepository.findByTrackId(track.getIdValue());
-
-        return TrackDetailResponse.of(track, events);
     }
 
     // ===== 허브 관리자용 조회 =====
@@ -58,6 +67,14 @@ public class TrackQueryService {
                 .map(TrackResponse::from);
     }
 
+    /**
+     * 허브 상태별 추적 수 요약 (메모리 카운터, DB/트랜잭션 사용 안 함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HubTrackSummaryResponse getHubSummary(String hubId) {
+        return HubTrackSummaryResponse.of(hubId, hubTrackCounters.snapshot(hubId));
+    }
+
     // ===== 마스터용 조회 =====
 
     /**
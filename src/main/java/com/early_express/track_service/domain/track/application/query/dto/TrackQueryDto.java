@@ -1,5 +1,6 @@
 package com.early_express.track_service.domain.track.application.query.dto;
 
+import com.early_express.track_service.domain.track.application.query.HubTrackCounters;
 import com.early_express.track_service.domain.track.domain.model.Track;
 import com.early_express.track_service.domain.track.domain.model.TrackEvent;
 import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
@@ -10,6 +11,7 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Track Query DTO
@@ -34,6 +36,7 @@ public class TrackQueryDto {
         private Integer completedHubSegments;
         private Integer currentSegmentIndex;
         private LocalDateTime estimatedDeliveryTime;
+        private LocalDateTime predictedDeliveryTime;
         private LocalDateTime actualDeliveryTime;
         private LocalDateTime startedAt;
         private LocalDateTime completedAt;
@@ -53,6 +56,7 @@ public class TrackQueryDto {
                     .completedHubSegments(track.getCompletedHubSegments())
                     .currentSegmentIndex(track.getCurrentSegmentIndex())
                     .estimatedDeliveryTime(track.getEstimatedDeliveryTime())
+                    .predictedDeliveryTime(track.getPredictedDeliveryTime())
                     .actualDeliveryTime(track.getActualDeliveryTime())
                     .startedAt(track.getStartedAt())
                     .completedAt(track.getCompletedAt())
@@ -104,4 +108,25 @@ public class TrackQueryDto {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 허브 상태별 추적 수 요약 응답
+     */
+    @Getter
+    @Builder
+    public static class HubTrackSummaryResponse {
+        private String hubId;
+        private Map<TrackStatus, Long> counts;
+        private long total;
+        private LocalDateTime reconciledAt;
+
+        public static HubTrackSummaryResponse of(String hubId, HubTrackCounters.Snapshot snapshot) {
+            return HubTrackSummaryResponse.builder()
+                    .hubId(hubId)
+                    .counts(snapshot.counts())
+                    .total(snapshot.total())
+                    .reconciledAt(snapshot.reconciledAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.early_express.track_service.domain.track.application.route;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 진행 상황 기반 배송 완료 시간 예측
+ * - 이동 중 구간: 구간 소요 시간 분포의 조건부 중앙값 (이미 지난 시간 반영)
+ * - 허브 체류: 기본 체류 시간 + 출발 대기 물량 × 물량당 처리 시간 (상한 max-hub-dwell)
+ * - 남은 구간: 다음 허브를 모르므로 전체 구간 통합 분포의 중앙값
+ * - 최종 배송: 픽업 → 출발(last-mile-pickup), 출발 → 완료(last-mile)
+ * - 표본이 min-samples 미만인 분포는 default-segment 사용
+ * - 메모리 조회만 수행 (DB/네트워크 없음) → 이벤트 처리 중 바로 계산
+ */
+@Component
+public class DeliveryEtaEstimator {
+
+    private final RouteTransitStatistics routeTransitStatistics;
+    private final HubBacklog hubBacklog;
+    private final long minSamples;
+    private final Duration defaultSegment;
+    private final Duration hubDwell;
+    private final Duration hubDwellPerParcel;
+    private final Duration maxHubDwell;
+    private final Duration lastMilePickup;
+    private final Duration lastMile;
+
+    public DeliveryEtaEstimator(
+            RouteTransitStatistics routeTransitStatistics,
+            HubBacklog hubBacklog,
+            @Value("${track-event.eta.min-samples:5}") long minSamples,
+            @Value("${track-event.eta.default-segment:4h}") Duration defaultSegment,
+            @Value("${track-event.eta.hub-dwell:1h}") Duration hubDwell,
+            @Value("${track-event.eta.hub-dwell-per-parcel:30s}") Duration hubDwellPerParcel,
+            @Value("${track-event.eta.max-hub-dwell:24h}") Duration maxHubDwell,
+            @Value("${track-event.eta.last-mile-pickup:30m}") Duration lastMilePickup,
+            @Value("${track-event.eta.last-mile:3h}") Duration lastMile) {
+        this.routeTransitStatistics = routeTransitStatistics;
+        this.hubBacklog = hubBacklog;
+        this.minSamples = minSamples;
+        this.defaultSegment = defaultSegment;
+        this.hubDwell = hubDwell;
+        this.hubDwellPerParcel = hubDwellPerParcel;
+        this.maxHubDwell = maxHubDwell;
+        this.lastMilePickup = lastMilePickup;
+        this.lastMile = lastMile;
+    }
+
+    /**
+     * 예측 배송 완료 시간 (종료/알 수 없는 단계면 null)
+     */
+    public LocalDateTime predict(Track track, LocalDateTime now) {
+        Duration remaining = remaining(track, now);
+        return remaining == null ? null : now.plus(remaining);
+    }
+
+    Duration remaining(Track track, LocalDateTime now) {
+        HubSegmentInfo segment = track.getHubSegmentInfo();
+        int segmentsLeft = Math.max(segment.getTotalSegments() - segment.getCompletedSegments(), 0);
+
+        Duration remaining = Duration.ZERO;
+        String waitingHubId;
+        switch (track.getCurrentPhase()) {
+            case HUB_IN_TRANSIT -> {
+                Duration elapsed = segment.getCurrentDepartedAt() == null
+                        ? Duration.ZERO
+                        : Duration.between(segment.getCurrentDepartedAt(), now);
+                remaining = currentSegment(segment.getCurrentFromHubId(), segment.getCurrentToHubId(), elapsed);
+                waitingHubId = segment.getCurrentToHubId();
+                segmentsLeft = Math.max(segmentsLeft - 1, 0);
+            }
+            case WAITING_HUB_DEPARTURE -> waitingHubId = segment.getCompletedSegments() == 0
+                    ? track.getOriginHubId()
+                    : segment.getCurrentToHubId();
+            case HUB_ARRIVED, HUB_DELIVERY_COMPLETED, WAITING_LAST_MILE -> waitingHubId =
+                    segment.getCurrentToHubId() != null ? segment.getCurrentToHubId() : track.getDestinationHubId();
+            case LAST_MILE_PICKED_UP -> {
+                return lastMilePickup.plus(lastMile);
+            }
+            case LAST_MILE_IN_TRANSIT -> {
+                return lastMile;
+            }
+            default -> {
+                return null;
+            }
+        }
+
+        // 현재(또는 도착 예정) 허브 체류 → 남은 구간 (구간마다 도착 허브 체류 포함) → 최종 배송
+        Duration nextSegment = typicalSegment();
+        return remaining
+                .plus(dwell(waitingHubId))
+                .plus(nextSegment.plus(hubDwell).multipliedBy(segmentsLeft))
+                .plus(lastMilePickup)
+                .plus(lastMile);
+    }
+
+    private Duration currentSegment(String fromHubId, String toHubId, Duration elapsed) {
+        Optional<TransitDistribution> distribution = routeTransitStatistics.distribution(fromHubId, toHubId)
+                .filter(this::trusted)
+                .or(() -> routeTransitStatistics.overallDistribution().filter(this::trusted));
+        if (distribution.isPresent()) {
+            return distribution.get().remaining(elapsed);
+        }
+        Duration remaining = defaultSegment.minus(elapsed);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private Duration typicalSegment() {
+        return routeTransitStatistics.overallDistribution()
+                .filter(this::trusted)
+                .map(TransitDistribution::median)
+                .orElse(defaultSegment);
+    }
+
+    private Duration dwell(String hubId) {
+        Duration dwell = hubDwell.plus(hubDwellPerParcel.multipliedBy(hubBacklog.waiting(hubId)));
+        return dwell.compareTo(maxHubDwell) > 0 ? maxHubDwell : dwell;
+    }
+
+    private boolean trusted(TransitDistribution distribution) {
+        return distribution.samples() >= minSamples;
+    }
+}
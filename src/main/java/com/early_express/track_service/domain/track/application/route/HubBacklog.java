@@ -0,0 +1,89 @@
+package com.early_express.track_service.domain.track.application.route;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.HubWaitingCount;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.global.common.utils.ReconciledCounters;
+import com.early_express.track_service.global.common.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 허브별 출발 대기 물량 (ETA 체류 시간 계산용)
+ * - 허브별 대기 수를 ReconciledCounters로 관리 (HubTrackCounters와 같은 방식)
+ * - 기동 시/주기적으로 DB 집계(허브 도착 후 출발 전 추적 수)로 보정
+ * - 그 사이에는 이 인스턴스의 도착(+1)/다음 구간 출발·최종 배송 픽업(-1)을 커밋 후 누적
+ */
+@Slf4j
+@Component
+public class HubBacklog {
+
+    private final TrackRepository trackRepository;
+
+    private final ReconciledCounters<String> counters = new ReconciledCounters<>(1);
+
+    public HubBacklog(TrackRepository trackRepository) {
+        this.trackRepository = trackRepository;
+    }
+
+    public void onHubSegmentArrived(Track track) {
+        String hubId = track.getHubSegmentInfo().getCurrentToHubId();
+        TransactionUtils.afterCommit(() -> apply(hubId, 1));
+    }
+
+    public void onHubSegmentDeparted(Track track) {
+        HubSegmentInfo segment = track.getHubSegmentInfo();
+        // 첫 구간은 출발 허브에 도착 처리된 적 없음
+        if (segment.getCurrentSegmentIndex() > 0) {
+            String hubId = segment.getCurrentFromHubId();
+            TransactionUtils.afterCommit(() -> apply(hubId, -1));
+        }
+    }
+
+    public void onLastMilePickedUp(Track track) {
+        HubSegmentInfo segment = track.getHubSegmentInfo();
+        if (segment.hasHubDelivery()) {
+            String hubId = segment.getCurrentToHubId();
+            TransactionUtils.afterCommit(() -> apply(hubId, -1));
+        }
+    }
+
+    /**
+     * 허브 출발 대기 물량
+     */
+    public int waiting(String hubId) {
+        return (int) Math.min(counters.get(hubId, 0), Integer.MAX_VALUE);
+    }
+
+    /**
+     * DB 집계로 기준값 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${track-event.hub-counters.reconcile-interval:30s}",
+            initialDelayString = "${track-event.hub-counters.reconcile-interval:30s}")
+    public void reconcile() {
+        try {
+            int hubs = counters.reconcile(() -> {
+                Map<String, long[]> counted = new HashMap<>();
+                for (HubWaitingCount count : trackRepository.countWaitingByHub()) {
+                    counted.computeIfAbsent(count.hubId(), hubId -> new long[1])[0] += count.count();
+                }
+                return counted;
+            });
+            log.debug("[HubBacklog] 보정 완료 - 허브 {}개", hubs);
+        } catch (Exception e) {
+            log.error("[HubBacklog] 보정 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void apply(String hubId, int delta) {
+        counters.add(hubId, 0, delta);
+    }
+}
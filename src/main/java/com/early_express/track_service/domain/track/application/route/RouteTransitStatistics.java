@@ -0,0 +1,432 @@
+package com.early_express.track_service.domain.track.application.route;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.RouteTransitSnapshot;
+import com.early_express.track_service.domain.track.domain.repository.RouteTransitStatsRepository;
+import com.early_express.track_service.global.common.utils.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.IntCountsHistogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.zip.DataFormatException;
+
+/**
+ * 허브 구간(출발 허브 → 도착 허브)별 소요 시간 분포 집계
+ * - 구간 도착마다 HdrHistogram(초 단위, 유효 숫자 2자리)에 반영 → 백분위 조회
+ * - 허브 ID를 int로 치환해 (from << 32 | to) long 키로 구간 관리
+ * - 구간별로 고정 윈도우(epoch 기준 window 단위) 현재/이전 두 개만 유지 → 최근 운행 상황 반영
+ * - 구간 수 max-routes 초과 시 가장 오래 갱신되지 않은 구간 제거 → 메모리 상한
+ * - 마지막 저장 이후 증분만 (구간, 윈도우)별로 주기적으로 누적 저장 → 여러 인스턴스가 같은 행에 더해도 중복 집계 없음
+ * - 기동 시 저장된 윈도우 중 현재/이전 윈도우만 같은 윈도우로 복원 (복원분은 다시 저장하지 않음)
+ * - ETA 계산용 백분위 표(TransitDistribution)는 구간 변경 후 첫 조회 때만 다시 계산
+ */
+@Slf4j
+@Component
+public class RouteTransitStatistics {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final long MAX_SECONDS = Duration.ofDays(30).toSeconds();
+
+    private final RouteTransitStatsRepository routeTransitStatsRepository;
+    private final long windowMillis;
+    private final int maxRoutes;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    private final LongSupplier clock;
+
+    private final Map<String, Integer> hubIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger nextHubIndex = new AtomicInteger();
+    private final Map<Long, Route> routes = new ConcurrentHashMap<>();
+    private final Route overall;
+
+    @Autowired
+    public RouteTransitStatistics(
+            RouteTransitStatsRepository routeTransitStatsRepository,
+            MeterRegistry meterRegistry,
+            @Value("${track-event.route-stats.window:7d}") Duration window,
+            @Value("${track-event.route-stats.max-routes:1000}") int maxRoutes) {
+        this(routeTransitStatsRepository, meterRegistry, window, maxRoutes, System::currentTimeMillis);
+    }
+
+    RouteTransitStatistics(RouteTransitStatsRepository routeTransitStatsRepository, MeterRegistry meterRegistry,
+                           Duration window, int maxRoutes, LongSupplier clock) {
+        this.routeTransitStatsRepository = routeTransitStatsRepository;
+        this.windowMillis = window.toMillis();
+        this.maxRoutes = maxRoutes;
+        this.clock = clock;
+        long now = clock.getAsLong();
+        this.overall = new Route("*", "*", windowStart(now), now, false);
+
+        Gauge.builder("track.route-stats.routes", routes, Map::size)
+                .description("소요 시간 분포를 집계 중인 허브 구간 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 허브 구간 도착 반영 (커밋 후)
+     */
+    public void onHubSegmentArrived(Track track) {
+        TransactionUtils.afterCommit(() -> {
+            HubSegmentInfo segment = track.getHubSegmentInfo();
+            if (segment.getCurrentDepartedAt() != null && segment.getCurrentArrivedAt() != null) {
+                record(segment.getCurrentFromHubId(), segment.getCurrentToHubId(),
+                        Duration.between(segment.getCurrentDepartedAt(), segment.getCurrentArrivedAt()));
+            }
+        });
+    }
+
+    /**
+     * 구간 소요 시간 반영 (음수/0은 무시, 30일 초과는 30일로 기록)
+     */
+    public void record(String fromHubId, String toHubId, Duration transit) {
+        if (fromHubId == null || toHubId == null || transit.isNegative() || transit.isZero()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long key = key(fromHubId, toHubId);
+        Route route = routes.get(key);
+        if (route == null) {
+            route = routes.computeIfAbsent(key, k -> new Route(fromHubId, toHubId, windowStart(now), now, true));
+            evictIfFull();
+        }
+        long seconds = Math.min(Math.max(transit.toSeconds(), 1), MAX_SECONDS);
+        route.record(seconds, now, windowMillis);
+        overall.record(seconds, now, windowMillis);
+    }
+
+    /**
+     * 구간 소요 시간 백분위 표 (표본 없으면 empty)
+     */
+    public Optional<TransitDistribution> distribution(String fromHubId, String toHubId) {
+        if (fromHubId == null || toHubId == null) {
+            return Optional.empty();
+        }
+        Integer from = hubIndex.get(fromHubId);
+        Integer to = hubIndex.get(toHubId);
+        Route route = from == null || to == null ? null : routes.get(key(from, to));
+        return route == null ? Optional.empty() : route.distribution(clock.getAsLong(), windowMillis);
+    }
+
+    /**
+     * 전체 구간 통합 백분위 표 (구간을 모를 때 사용)
+     */
+    public Optional<TransitDistribution> overallDistribution() {
+        return overall.distribution(clock.getAsLong(), windowMillis);
+    }
+
+    /**
+     * 구간 소요 시간 요약 (표본 없으면 empty)
+     */
+    public Optional<Summary> summary(String fromHubId, String toHubId) {
+        if (fromHubId == null || toHubId == null) {
+            return Optional.empty();
+        }
+        Integer from = hubIndex.get(fromHubId);
+        Integer to = hubIndex.get(toHubId);
+        if (from == null || to == null) {
+            return Optional.empty();
+        }
+        Route route = routes.get(key(from, to));
+        return route == null ? Optional.empty() : summarize(route);
+    }
+
+    /**
+     * 구간 소요 시간 요약 목록 (허브 조건은 선택, 표본 수 내림차순)
+     */
+    public List<Summary> summaries(String fromHubId, String toHubId) {
+        List<Summary> result = new ArrayList<>();
+        for (Route route : routes.values()) {
+            if ((fromHubId == null || fromHubId.equals(route.fromHubId))
+                    && (toHubId == null || toHubId.equals(route.toHubId))) {
+                summarize(route).ifPresent(result::add);
+            }
+        }
+        result.sort(Comparator.comparingLong(Summary::samples).reversed());
+        return result;
+    }
+
+    /**
+     * 기동 시 저장된 현재/이전 윈도우 분포 복원 (분포로 기준을 잡는 지연 감지 재구성보다 먼저)
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long now = clock.getAsLong();
+        long currentWindow = windowStart(now);
+        int loaded = 0;
+        for (RouteTransitSnapshot snapshot : routeTransitStatsRepository.findAll()) {
+            long window = toMillis(snapshot.windowStartedAt());
+            if (window != currentWindow && window != currentWindow - windowMillis) {
+                continue;
+            }
+            try {
+                IntCountsHistogram histogram = IntCountsHistogram.decodeFromCompressedByteBuffer(
+                        ByteBuffer.wrap(snapshot.histogram()), 0);
+                long updatedAt = toMillis(snapshot.updatedAt());
+                long key = key(snapshot.fromHubId(), snapshot.toHubId());
+                routes.computeIfAbsent(key, k -> new Route(snapshot.fromHubId(), snapshot.toHubId(),
+                                currentWindow, updatedAt, true))
+                        .restore(histogram, window, updatedAt, now, windowMillis);
+                overall.restore(histogram, window, updatedAt, now, windowMillis);
+                loaded++;
+            } catch (DataFormatException | RuntimeException e) {
+                log.warn("[RouteStats] 저장된 분포 복원 실패 - {} → {}, error: {}",
+                        snapshot.fromHubId(), snapshot.toHubId(), e.getMessage());
+            }
+        }
+        evictIfFull();
+        log.info("[RouteStats] 저장된 구간 윈도우 분포 {}건 복원", loaded);
+    }
+
+    /**
+     * 마지막 저장 이후 증분을 (구간, 윈도우)별로 누적 저장 + 이전 윈도우보다 오래된 윈도우 삭제
+     * - 저장 실패 시 증분을 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${track-event.route-stats.persist-interval:5m}",
+            initialDelayString = "${track-event.route-stats.persist-interval:5m}")
+    public void persist() {
+        List<RouteTransitSnapshot> snapshots = new ArrayList<>();
+        Map<Route, Map<Long, IntCountsHistogram>> taken = new HashMap<>();
+        for (Route route : routes.values()) {
+            Map<Long, IntCountsHistogram> unsaved = route.takeUnsaved();
+            if (unsaved.isEmpty()) {
+                continue;
+            }
+            taken.put(route, unsaved);
+            unsaved.forEach((window, histogram) -> snapshots.add(new RouteTransitSnapshot(
+                    route.fromHubId, route.toHubId, toLocalDateTime(window), encode(histogram),
+                    histogram.getTotalCount(), toLocalDateTime(route.updatedAt))));
+        }
+        if (!snapshots.isEmpty()) {
+            try {
+                routeTransitStatsRepository.accumulate(snapshots);
+                log.debug("[RouteStats] 구간 윈도우 분포 {}건 누적", snapshots.size());
+            } catch (Exception e) {
+                taken.forEach(Route::putBack);
+                log.error("[RouteStats] 구간 분포 저장 실패 - {}건, error: {}", snapshots.size(), e.getMessage(), e);
+            }
+        }
+        try {
+            routeTransitStatsRepository.deleteWindowsBefore(
+                    toLocalDateTime(windowStart(clock.getAsLong()) - windowMillis));
+        } catch (Exception e) {
+            log.warn("[RouteStats] 지난 윈도우 삭제 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        persist();
+    }
+
+    int size() {
+        return routes.size();
+    }
+
+    private Optional<Summary> summarize(Route route) {
+        Histogram histogram = route.merged(clock.getAsLong(), windowMillis);
+        if (histogram.getTotalCount() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Summary(
+                route.fromHubId,
+                route.toHubId,
+                histogram.getTotalCount(),
+                Duration.ofSeconds((long) histogram.getMean()),
+                Duration.ofSeconds(histogram.getValueAtPercentile(50)),
+                Duration.ofSeconds(histogram.getValueAtPercentile(90)),
+                Duration.ofSeconds(histogram.getValueAtPercentile(95)),
+                Duration.ofSeconds(histogram.getValueAtPercentile(99)),
+                Duration.ofSeconds(histogram.getMaxValue()),
+                toLocalDateTime(route.updatedAt)));
+    }
+
+    /**
+     * 구간 수 상한 초과 시 가장 오래 갱신되지 않은 구간 제거 (신규 구간 생성 시에만 확인)
+     */
+    private void evictIfFull() {
+        while (routes.size() > maxRoutes) {
+            routes.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().updatedAt))
+                    .ifPresent(eldest -> {
+                        routes.remove(eldest.getKey(), eldest.getValue());
+                        log.debug("[RouteStats] 구간 수 상한 초과 - 제거: {} → {}",
+                                eldest.getValue().fromHubId, eldest.getValue().toHubId);
+                    });
+        }
+    }
+
+    private long windowStart(long epochMillis) {
+        return epochMillis - Math.floorMod(epochMillis, windowMillis);
+    }
+
+    private long key(String fromHubId, String toHubId) {
+        return key(intern(fromHubId), intern(toHubId));
+    }
+
+    private static long key(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    private int intern(String hubId) {
+        return hubIndex.computeIfAbsent(hubId, id -> nextHubIndex.getAndIncrement());
+    }
+
+    private static byte[] encode(AbstractHistogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+    }
+
+    /**
+     * 구간 소요 시간 요약
+     *
+     * @param samples   윈도우 내 표본 수
+     * @param updatedAt 마지막 반영 시간
+     */
+    public record Summary(String fromHubId, String toHubId, long samples, Duration mean,
+                          Duration p50, Duration p90, Duration p95, Duration p99, Duration max,
+                          LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 구간별 현재/이전 고정 윈도우 히스토그램 + 윈도우별 미저장 증분
+     */
+    private static final class Route {
+
+        private final String fromHubId;
+        private final String toHubId;
+        private final boolean persistent;
+        private IntCountsHistogram current = new IntCountsHistogram(SIGNIFICANT_DIGITS);
+        private IntCountsHistogram previous = new IntCountsHistogram(SIGNIFICANT_DIGITS);
+        private long windowStartedAt;
+        private volatile long updatedAt;
+        private Map<Long, IntCountsHistogram> unsaved = new HashMap<>();
+        private TransitDistribution distribution;
+
+        private Route(String fromHubId, String toHubId, long windowStartedAt, long updatedAt, boolean persistent) {
+            this.fromHubId = fromHubId;
+            this.toHubId = toHubId;
+            this.windowStartedAt = windowStartedAt;
+            this.updatedAt = updatedAt;
+            this.persistent = persistent;
+        }
+
+        synchronized void record(long seconds, long now, long windowMillis) {
+            rotate(now, windowMillis);
+            current.recordValue(seconds);
+            if (persistent) {
+                unsaved.computeIfAbsent(windowStartedAt, window -> new IntCountsHistogram(SIGNIFICANT_DIGITS))
+                        .recordValue(seconds);
+            }
+            updatedAt = now;
+            distribution = null;
+        }
+
+        /**
+         * 저장된 윈도우 분포를 같은 윈도우에 복원 (현재/이전 윈도우가 아니면 무시)
+         */
+        synchronized void restore(IntCountsHistogram restored, long window, long restoredAt, long now,
+                                  long windowMillis) {
+            rotate(now, windowMillis);
+            if (window == windowStartedAt) {
+                current.add(restored);
+            } else if (window == windowStartedAt - windowMillis) {
+                previous.add(restored);
+            } else {
+                return;
+            }
+            updatedAt = Math.max(updatedAt, restoredAt);
+            distribution = null;
+        }
+
+        synchronized Optional<TransitDistribution> distribution(long now, long windowMillis) {
+            rotate(now, windowMillis);
+            if (distribution == null) {
+                distribution = TransitDistribution.of(merged());
+            }
+            return distribution.samples() == 0 ? Optional.empty() : Optional.of(distribution);
+        }
+
+        synchronized Histogram merged(long now, long windowMillis) {
+            rotate(now, windowMillis);
+            return merged();
+        }
+
+        private Histogram merged() {
+            Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+            merged.add(previous);
+            merged.add(current);
+            return merged;
+        }
+
+        /**
+         * 마지막 저장 이후 윈도우별 증분 반환 + 비움
+         */
+        synchronized Map<Long, IntCountsHistogram> takeUnsaved() {
+            if (unsaved.isEmpty()) {
+                return Map.of();
+            }
+            Map<Long, IntCountsHistogram> taken = unsaved;
+            unsaved = new HashMap<>();
+            return taken;
+        }
+
+        /**
+         * 저장 실패한 증분 되돌림
+         */
+        synchronized void putBack(Map<Long, IntCountsHistogram> failed) {
+            failed.forEach((window, histogram) -> unsaved.merge(window, histogram, (pending, returned) -> {
+                pending.add(returned);
+                return pending;
+            }));
+        }
+
+        private void rotate(long now, long windowMillis) {
+            long started = now - Math.floorMod(now, windowMillis);
+            if (started <= windowStartedAt) {
+                return;
+            }
+            // 바로 다음 윈도우가 아니면 이전 윈도우도 비움
+            previous = started - windowStartedAt == windowMillis ? current : new IntCountsHistogram(SIGNIFICANT_DIGITS);
+            current = new IntCountsHistogram(SIGNIFICANT_DIGITS);
+            windowStartedAt = started;
+            distribution = null;
+        }
+    }
+}
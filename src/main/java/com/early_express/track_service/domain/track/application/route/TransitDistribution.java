@@ -0,0 +1,106 @@
+package com.early_express.track_service.domain.track.application.route;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.time.Duration;
+
+/**
+ * 구간 소요 시간 분포 (0~100 백분위 표, 초 단위)
+ * - 히스토그램 한 번 순회로 생성, 이후 조회는 할당/잠금 없이 배열 탐색만 수행
+ */
+public final class TransitDistribution {
+
+    private static final int STEPS = 100;
+
+    private final long samples;
+    private final long[] percentiles;
+
+    private TransitDistribution(long samples, long[] percentiles) {
+        this.samples = samples;
+        this.percentiles = percentiles;
+    }
+
+    static TransitDistribution of(AbstractHistogram histogram) {
+        long total = histogram.getTotalCount();
+        long[] percentiles = new long[STEPS + 1];
+        if (total == 0) {
+            return new TransitDistribution(0, percentiles);
+        }
+
+        int next = 0;
+        long cumulative = 0;
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            cumulative += value.getCountAtValueIteratedTo();
+            long seconds = histogram.highestEquivalentValue(value.getValueIteratedTo());
+            while (next <= STEPS && cumulative >= Math.max(1, Math.ceil(total * (next / (double) STEPS)))) {
+                percentiles[next++] = seconds;
+            }
+        }
+        while (next <= STEPS) {
+            percentiles[next++] = histogram.getMaxValue();
+        }
+        percentiles[0] = histogram.getMinValue();
+        return new TransitDistribution(total, percentiles);
+    }
+
+    public long samples() {
+        return samples;
+    }
+
+    public Duration median() {
+        return quantile(0.5);
+    }
+
+    /**
+     * q 분위 소요 시간 (0 ≤ q ≤ 1, 백분위 사이는 선형 보간)
+     */
+    public Duration quantile(double q) {
+        double position = Math.min(Math.max(q, 0), 1) * STEPS;
+        int index = (int) position;
+        if (index >= STEPS) {
+            return Duration.ofSeconds(percentiles[STEPS]);
+        }
+        double fraction = position - index;
+        return Duration.ofSeconds(Math.round(
+                percentiles[index] + fraction * (percentiles[index + 1] - percentiles[index])));
+    }
+
+    /**
+     * 이미 elapsed만큼 지난 구간의 남은 소요 시간 (조건부 중앙값)
+     * - P(T ≤ elapsed) = p 이면 T의 (p + (1 - p) / 2) 분위 - elapsed
+     * - 분포 최댓값을 넘겼으면 0
+     */
+    public Duration remaining(Duration elapsed) {
+        long seconds = Math.max(elapsed.toSeconds(), 0);
+        double p = cdf(seconds);
+        Duration remaining = quantile(p + (1 - p) / 2).minusSeconds(seconds);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * seconds 이하 비율 (백분위 표 기준 선형 보간)
+     */
+    double cdf(long seconds) {
+        if (seconds < percentiles[0]) {
+            return 0;
+        }
+        if (seconds >= percentiles[STEPS]) {
+            return 1;
+        }
+        // seconds 이하인 마지막 백분위
+        int low = 0;
+        int high = STEPS;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (percentiles[mid] <= seconds) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        long span = percentiles[low + 1] - percentiles[low];
+        double fraction = span > 0 ? (seconds - percentiles[low]) / (double) span : 0;
+        return (low + fraction) / STEPS;
+    }
+}
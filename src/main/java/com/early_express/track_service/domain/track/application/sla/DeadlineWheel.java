@@ -0,0 +1,184 @@
+package com.early_express.track_service.domain.track.application.sla;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 계층형 타이밍 휠 (마감 시각 관리)
+ * - 레벨당 64칸, 6레벨 → 1틱(기본 1초) 단위로 수천 년까지 표현
+ * - 등록/갱신/취소 O(1), 틱 진행 시 해당 칸만 확인 (전체 스캔 없음)
+ * - 상위 레벨 칸은 하위 레벨이 한 바퀴 돌 때 아래로 내려옴 (cascade)
+ * - 항목은 ID(UUID) + 마감 시각 + 링크만 보관 → 항목당 약 100바이트
+ * - 스레드 안전 (모든 연산 synchronized, 만료 콜백은 락 밖에서 처리하도록 목록으로 반환)
+ */
+public final class DeadlineWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Entry[] slots = new Entry[SLOTS * LEVELS];
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    /**
+     * 마지막으로 처리한 틱
+     */
+    private long currentTick;
+
+    public DeadlineWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * 마감 시각 등록 (이미 있으면 갱신)
+     * - 이미 지난 마감은 다음 틱에 만료
+     */
+    public synchronized void schedule(UUID id, long deadlineMillis) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            entry = new Entry(id);
+            entries.put(id, entry);
+        } else {
+            unlink(entry);
+        }
+        entry.deadlineMillis = deadlineMillis;
+        place(entry, 1);
+    }
+
+    /**
+     * 마감 취소
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean cancel(UUID id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 현재 시각까지 틱 진행, 만료된 항목 반환 (휠에서는 제거됨)
+     */
+    public synchronized List<Expired> advance(long nowMillis) {
+        List<Expired> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            int index = (int) (currentTick & SLOT_MASK);
+            Entry entry = slots[index];
+            slots[index] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.prev = entry.next = null;
+                entry.slot = -1;
+                entries.remove(entry.id);
+                expired.add(new Expired(entry.id, entry.deadlineMillis));
+                entry = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 하위 레벨이 0번 칸으로 돌아오면 상위 레벨의 현재 칸을 다시 배치
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            long lowerBits = currentTick & ((1L << (SLOT_BITS * level)) - 1);
+            if (lowerBits != 0) {
+                return;
+            }
+            int index = level * SLOTS + (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Entry entry = slots[index];
+            slots[index] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.prev = entry.next = null;
+                place(entry, 0);
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * @param minDelta 등록 시 1 (현재 틱은 이미 처리됨), cascade 시 0 (현재 틱 칸을 곧 처리)
+     */
+    private void place(Entry entry, long minDelta) {
+        // 올림 → 마감 이전에 만료되지 않음
+        long expiryTick = Math.ceilDiv(entry.deadlineMillis, tickMillis);
+        long delta = Math.min(Math.max(expiryTick - currentTick, minDelta), MAX_DELTA);
+        expiryTick = currentTick + delta;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = level * SLOTS + (int) ((expiryTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        entry.slot = index;
+        entry.prev = null;
+        entry.next = slots[index];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        slots[index] = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.slot < 0) {
+            return;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            slots[entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = entry.next = null;
+        entry.slot = -1;
+    }
+
+    /**
+     * 만료 항목
+     *
+     * @param id             등록 ID
+     * @param deadlineMillis 등록된 마감 시각 (epoch millis)
+     */
+    public record Expired(UUID id, long deadlineMillis) {
+    }
+
+    private static final class Entry {
+
+        private final UUID id;
+        private long deadlineMillis;
+        private int slot = -1;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(UUID id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.early_express.track_service.domain.track.application.sla;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackDeadline;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.event.DeliverySlaBreachedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.producer.SlaEventProducer;
+import com.early_express.track_service.global.common.utils.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 배송 SLA 위반 감지
+ * - 종료되지 않은 추적의 예상 완료 시간을 메모리 타이밍 휠(DeadlineWheel)로 관리
+ * - 기동 시 DB에서 한 번 재구성, 이후 TrackCommandService 상태 변경마다 등록/취소 (커밋 후 반영)
+ * - 마감 도달 시 DB에서 다시 확인 후 위반 이벤트 발행 (다른 인스턴스 처리/ETA 변경 반영, 주기적 전체 조회 없음)
+ * - 재구성 시 이미 지난 마감은 grace 이내만 다시 감지 (재시작마다 과거 위반 재발행 방지)
+ */
+@Slf4j
+@Component
+public class DeliverySlaMonitor {
+
+    private final TrackRepository trackRepository;
+    private final SlaEventProducer slaEventProducer;
+    private final String publisher;
+    private final int rebuildBatchSize;
+    private final Duration rebuildGrace;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private final DeadlineWheel wheel;
+    private final Counter breaches;
+
+    public DeliverySlaMonitor(
+            TrackRepository trackRepository,
+            SlaEventProducer slaEventProducer,
+            MeterRegistry meterRegistry,
+            @Value("${spring.application.name}") String publisher,
+            @Value("${track-event.sla.tick:1s}") Duration tick,
+            @Value("${track-event.sla.rebuild-batch-size:5000}") int rebuildBatchSize,
+            @Value("${track-event.sla.rebuild-grace:10m}") Duration rebuildGrace) {
+        this.trackRepository = trackRepository;
+        this.slaEventProducer = slaEventProducer;
+        this.publisher = publisher;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.rebuildGrace = rebuildGrace;
+        this.wheel = new DeadlineWheel(tick.toMillis(), System.currentTimeMillis());
+
+        Gauge.builder("track.sla.deadlines", wheel, DeadlineWheel::size)
+                .description("SLA 감시 중인 추적 수")
+                .register(meterRegistry);
+        this.breaches = Counter.builder("track.sla.breach")
+                .description("예상 배송 완료 시간 초과 감지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 추적 상태 변경 반영 (트랜잭션 안이면 커밋 후)
+     * - 종료 전 + 예상 완료 시간 있음 → 등록/갱신, 그 외 → 취소
+     */
+    public void onTrackChanged(Track track) {
+        TransactionUtils.afterCommit(() -> apply(track));
+    }
+
+    private void apply(Track track) {
+        UUID id = toUuid(track.getIdValue());
+        if (id == null) {
+            return;
+        }
+        if (track.getStatus().isTerminal() || track.getEstimatedDeliveryTime() == null) {
+            wheel.cancel(id);
+        } else {
+            wheel.schedule(id, toMillis(track.getEstimatedDeliveryTime()));
+        }
+    }
+
+    /**
+     * 기동 시 종료되지 않은 추적의 마감 재구성 (키셋 페이징)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long skipBefore = startedAt - rebuildGrace.toMillis();
+        long loaded = 0;
+        String afterId = null;
+
+        List<TrackDeadline> page;
+        do {
+            page = trackRepository.findOpenDeadlines(afterId, rebuildBatchSize);
+            for (TrackDeadline deadline : page) {
+                long deadlineMillis = toMillis(deadline.estimatedDeliveryTime());
+                UUID id = toUuid(deadline.trackId());
+                if (id != null && deadlineMillis >= skipBefore) {
+                    wheel.schedule(id, deadlineMillis);
+                    loaded++;
+                }
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).trackId();
+            }
+        } while (page.size() == rebuildBatchSize);
+
+        log.info("[SLA] 마감 재구성 완료 - {}건, {}ms", loaded, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 타이밍 휠 진행 → 만료 항목 확인
+     */
+    @Scheduled(fixedDelayString = "${track-event.sla.tick:1s}")
+    public void tick() {
+        for (DeadlineWheel.Expired expired : wheel.advance(System.currentTimeMillis())) {
+            try {
+                check(expired.id());
+            } catch (Exception e) {
+                log.error("[SLA] 위반 확인 실패 - trackId: {}, error: {}", expired.id(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void check(UUID id) {
+        Optional<Track> found = trackRepository.findById(TrackId.of(id.toString()));
+        if (found.isEmpty()) {
+            return;
+        }
+        Track track = found.get();
+        if (track.getStatus().isTerminal() || track.getEstimatedDeliveryTime() == null) {
+            return;
+        }
+
+        // 다른 인스턴스에서 ETA가 늦춰진 경우 → 다시 등록
+        long deadlineMillis = toMillis(track.getEstimatedDeliveryTime());
+        if (deadlineMillis > System.currentTimeMillis()) {
+            wheel.schedule(id, deadlineMillis);
+            return;
+        }
+
+        breaches.increment();
+        log.warn("[SLA] 예상 배송 완료 시간 초과 - trackId: {}, orderId: {}, status: {}, eta: {}",
+                track.getIdValue(), track.getOrderId(), track.getStatus(), track.getEstimatedDeliveryTime());
+        slaEventProducer.publishDeliveryBreached(DeliverySlaBreachedEvent.of(track, publisher, LocalDateTime.now()));
+    }
+
+    int size() {
+        return wheel.size();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    private static UUID toUuid(String trackId) {
+        try {
+            return UUID.fromString(trackId);
+        } catch (IllegalArgumentException e) {
+            log.debug("[SLA] UUID 형식이 아닌 trackId - 감시 제외: {}", trackId);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.early_express.track_service.domain.track.application.sla;
+
+import com.early_express.track_service.domain.track.application.route.RouteTransitStatistics;
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentTransit;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.repository.TrackEventRepository;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.event.HubSegmentDelayedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.producer.SlaEventProducer;
+import com.early_express.track_service.global.common.utils.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 허브 구간 지연 감지
+ * - 구간 출발 시 (출발 시간 + 지연 기준)을 마감으로 타이밍 휠에 등록, 도착 시 취소 → p_track 스캔 없음
+ * - 지연 기준: 구간(출발 허브 → 도착 허브)별 소요 시간 분포(RouteTransitStatistics)의 percentile 백분위
+ *   (표본 부족 시 default-limit, 최소 min-limit)
+ * - 마감 도달 시 DB에서 다시 확인 → HUB_SEGMENT_DELAYED 이력 기록 + Kafka 발행 (구간당 한 번)
+ * - 기동 시 이동 중 구간으로 마감 재구성
+ */
+@Slf4j
+@Component
+public class HubSegmentDelayDetector {
+
+    private static final String SYSTEM = "SYSTEM";
+
+    private final TrackRepository trackRepository;
+    private final TrackEventRepository trackEventRepository;
+    private final RouteTransitStatistics routeTransitStatistics;
+    private final SlaEventProducer slaEventProducer;
+    private final String publisher;
+    private final Duration defaultLimit;
+    private final Duration minLimit;
+    private final double percentile;
+    private final long minSamples;
+    private final int rebuildBatchSize;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private final DeadlineWheel wheel;
+    private final Counter delays;
+
+    public HubSegmentDelayDetector(
+            TrackRepository trackRepository,
+            TrackEventRepository trackEventRepository,
+            RouteTransitStatistics routeTransitStatistics,
+            SlaEventProducer slaEventProducer,
+            MeterRegistry meterRegistry,
+            @Value("${spring.application.name}") String publisher,
+            @Value("${track-event.hub-delay.tick:1s}") Duration tick,
+            @Value("${track-event.hub-delay.default-limit:12h}") Duration defaultLimit,
+            @Value("${track-event.hub-delay.min-limit:30m}") Duration minLimit,
+            @Value("${track-event.hub-delay.percentile:99}") double percentile,
+            @Value("${track-event.hub-delay.min-samples:10}") long minSamples,
+            @Value("${track-event.hub-delay.rebuild-batch-size:5000}") int rebuildBatchSize) {
+        this.trackRepository = trackRepository;
+        this.trackEventRepository = trackEventRepository;
+        this.routeTransitStatistics = routeTransitStatistics;
+        this.slaEventProducer = slaEventProducer;
+        this.publisher = publisher;
+        this.defaultLimit = defaultLimit;
+        this.minLimit = minLimit;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.wheel = new DeadlineWheel(tick.toMillis(), System.currentTimeMillis());
+
+        Gauge.builder("track.hub-segment.in-transit", wheel, DeadlineWheel::size)
+                .description("지연 감시 중인 허브 구간 수")
+                .register(meterRegistry);
+        this.delays = Counter.builder("track.hub-segment.delayed")
+                .description("허브 구간 지연 감지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 허브 구간 출발 반영 (커밋 후) → 지연 마감 등록
+     */
+    public void onHubSegmentDeparted(Track track) {
+        TransactionUtils.afterCommit(() -> {
+            HubSegmentInfo segment = track.getHubSegmentInfo();
+            UUID id = toUuid(track.getIdValue());
+            if (id == null || segment.getCurrentDepartedAt() == null) {
+                return;
+            }
+            wheel.schedule(id, deadlineMillis(segment.getCurrentFromHubId(), segment.getCurrentToHubId(),
+                    segment.getCurrentDepartedAt()));
+        });
+    }
+
+    /**
+     * 허브 구간 도착 반영 (커밋 후) → 마감 취소 (소요 시간은 RouteTransitStatistics가 집계)
+     */
+    public void onHubSegmentArrived(Track track) {
+        TransactionUtils.afterCommit(() -> {
+            UUID id = toUuid(track.getIdValue());
+            if (id != null) {
+                wheel.cancel(id);
+            }
+        });
+    }
+
+    /**
+     * 기동 시 이동 중 구간 마감 재구성 (구간 분포 복원 이후 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long loaded = 0;
+        String afterId = null;
+        List<HubSegmentTransit> page;
+        do {
+            page = trackRepository.findInTransitSegments(afterId, rebuildBatchSize);
+            for (HubSegmentTransit transit : page) {
+                UUID id = toUuid(transit.trackId());
+                if (id != null) {
+                    wheel.schedule(id, deadlineMillis(transit.fromHubId(), transit.toHubId(), transit.departedAt()));
+                    loaded++;
+                }
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).trackId();
+            }
+        } while (page.size() == rebuildBatchSize);
+
+        log.info("[HubDelay] 재구성 완료 - 이동 중 {}건, {}ms", loaded, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 타이밍 휠 진행 → 만료 구간 확인
+     */
+    @Scheduled(fixedDelayString = "${track-event.hub-delay.tick:1s}")
+    public void tick() {
+        for (DeadlineWheel.Expired expired : wheel.advance(System.currentTimeMillis())) {
+            try {
+                check(expired.id());
+            } catch (Exception e) {
+                log.error("[HubDelay] 지연 확인 실패 - trackId: {}, error: {}", expired.id(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 구간 지연 기준 시간
+     */
+    Duration limit(String fromHubId, String toHubId) {
+        Duration learned = routeTransitStatistics.distribution(fromHubId, toHubId)
+                .filter(distribution -> distribution.samples() >= minSamples)
+                .map(distribution -> distribution.quantile(percentile / 100))
+                .orElse(defaultLimit);
+        return learned.compareTo(minLimit) < 0 ? minLimit : learned;
+    }
+
+    private void check(UUID id) {
+        Optional<Track> found = trackRepository.findById(TrackId.of(id.toString()));
+        if (found.isEmpty() || !found.get().isHubInProgress()) {
+            return;
+        }
+        Track track = found.get();
+        HubSegmentInfo segment = track.getHubSegmentInfo();
+        if (segment.getCurrentDepartedAt() == null || segment.getCurrentArrivedAt() != null) {
+            return;
+        }
+
+        // 분포 변화로 기준이 늘어났으면 다시 등록
+        long deadlineMillis = deadlineMillis(segment.getCurrentFromHubId(), segment.getCurrentToHubId(),
+                segment.getCurrentDepartedAt());
+        if (deadlineMillis > System.currentTimeMillis()) {
+            wheel.schedule(id, deadlineMillis);
+            return;
+        }
+
+        // 재시작/다른 인스턴스에서 이미 기록한 구간
+        Integer segmentIndex = segment.getCurrentSegmentIndex();
+        if (trackEventRepository.existsByTrackIdAndEventTypeAndSegmentIndex(
+                track.getIdValue(), TrackEventType.HUB_SEGMENT_DELAYED, segmentIndex)) {
+            return;
+        }
+
+        Duration limit = limit(segment.getCurrentFromHubId(), segment.getCurrentToHubId());
+        Duration elapsed = Duration.between(segment.getCurrentDepartedAt(), LocalDateTime.now());
+
+        trackEventRepository.save(TrackEvent.hubSegmentDelayed(track.getIdValue(), segment.getCurrentFromHubId(),
+                segmentIndex, elapsed.toMinutes(), limit.toMinutes(), SYSTEM));
+        slaEventProducer.publishHubSegmentDelayed(
+                HubSegmentDelayedEvent.of(track, elapsed, limit, publisher, LocalDateTime.now()));
+        delays.increment();
+
+        log.warn("[HubDelay] 허브 구간 지연 - trackId: {}, segment: {}, {} → {}, 경과: {}분, 기준: {}분",
+                track.getIdValue(), segmentIndex, segment.getCurrentFromHubId(), segment.getCurrentToHubId(),
+                elapsed.toMinutes(), limit.toMinutes());
+    }
+
+    int size() {
+        return wheel.size();
+    }
+
+    private long deadlineMillis(String fromHubId, String toHubId, LocalDateTime departedAt) {
+        return departedAt.plus(limit(fromHubId, toHubId)).atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    private static UUID toUuid(String trackId) {
+        try {
+            return UUID.fromString(trackId);
+        } catch (IllegalArgumentException e) {
+            log.debug("[HubDelay] UUID 형식이 아닌 trackId - 감시 제외: {}", trackId);
+            return null;
+        }
+    }
+}
@@ -14,6 +14,7 @@ public enum TrackErrorCode implements ErrorCode {
     // === 조회 관련 (404) ===
     TRACK_NOT_FOUND("TRACK_001", "추적 정보를 찾을 수 없습니다.", 404),
     TRACK_EVENT_NOT_FOUND("TRACK_002", "추적 이벤트를 찾을 수 없습니다.", 404),
+    IMPORT_JOB_NOT_FOUND("TRACK_003", "가져오기 작업을 찾을 수 없습니다.", 404),
 
     // === 상태 관련 (400) ===
     INVALID_TRACK_STATUS("TRACK_100", "유효하지 않은 추적 상태입니다.", 400),
@@ -32,11 +33,17 @@ public enum TrackErrorCode implements ErrorCode {
     LAST_MILE_ALREADY_STARTED("TRACK_120", "최종 배송이 이미 시작되었습니다.", 400),
     LAST_MILE_NOT_READY("TRACK_121", "최종 배송을 시작할 수 없는 상태입니다.", 400),
 
+    // === 이벤트 순서 관련 (409) ===
+    EVENT_OUT_OF_ORDER("TRACK_130", "선행 이벤트가 아직 반영되지 않았습니다.", 409),
+
     // === 데이터 검증 관련 (400) ===
     INVALID_ORDER_ID("TRACK_200", "유효하지 않은 주문 ID입니다.", 400),
     INVALID_HUB_ID("TRACK_201", "유효하지 않은 허브 ID입니다.", 400),
     INVALID_DELIVERY_ID("TRACK_202", "유효하지 않은 배송 ID입니다.", 400),
     INVALID_ROUTING_HUB_DATA("TRACK_203", "유효하지 않은 라우팅 허브 데이터입니다.", 400),
+    INVALID_EXPORT_PERIOD("TRACK_204", "유효하지 않은 내보내기 기간입니다.", 400),
+    INVALID_REPLAY_LIMIT("TRACK_205", "유효하지 않은 재처리 건수입니다.", 400),
+    INVALID_SORT_PROPERTY("TRACK_206", "유효하지 않은 정렬 기준입니다.", 400),
 
     // === 중복 관련 (409) ===
     TRACK_ALREADY_EXISTS("TRACK_300", "이미 해당 주문의 추적 정보가 존재합니다.", 409),
@@ -0,0 +1,84 @@
+package com.early_express.track_service.domain.track.domain.model;
+
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 구간 진행 상태 (Track 내부 가변 객체)
+ * - 구간 출발/도착마다 새 HubSegmentInfo를 만들지 않고 필드만 갱신
+ * - 외부에는 HubSegmentInfo 스냅샷으로만 노출
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class HubSegmentProgress {
+
+    private int totalSegments;
+    private int currentSegmentIndex;
+    private int completedSegments;
+    private String currentFromHubId;
+    private String currentToHubId;
+    private LocalDateTime currentDepartedAt;
+    private LocalDateTime currentArrivedAt;
+
+    static HubSegmentProgress from(HubSegmentInfo info) {
+        HubSegmentProgress progress = new HubSegmentProgress();
+        if (info == null) {
+            return progress;
+        }
+
+        progress.totalSegments = info.getTotalSegments();
+        progress.currentSegmentIndex = info.getCurrentSegmentIndex();
+        progress.completedSegments = info.getCompletedSegments();
+        progress.currentFromHubId = info.getCurrentFromHubId();
+        progress.currentToHubId = info.getCurrentToHubId();
+        progress.currentDepartedAt = info.getCurrentDepartedAt();
+        progress.currentArrivedAt = info.getCurrentArrivedAt();
+        return progress;
+    }
+
+    /**
+     * 구간 출발 처리
+     */
+    void depart(int segmentIndex, String fromHubId, String toHubId, LocalDateTime departedAt) {
+        this.currentSegmentIndex = segmentIndex;
+        this.currentFromHubId = fromHubId;
+        this.currentToHubId = toHubId;
+        this.currentDepartedAt = departedAt;
+        this.currentArrivedAt = null;
+    }
+
+    /**
+     * 구간 도착 처리
+     */
+    void arrive(int segmentIndex, LocalDateTime arrivedAt) {
+        this.currentSegmentIndex = segmentIndex;
+        this.completedSegments++;
+        this.currentArrivedAt = arrivedAt;
+    }
+
+    /**
+     * 모든 허브 구간 완료 여부
+     */
+    boolean isAllSegmentsCompleted() {
+        return this.totalSegments > 0 && this.completedSegments >= this.totalSegments;
+    }
+
+    /**
+     * 값 객체 스냅샷 생성
+     */
+    HubSegmentInfo toInfo() {
+        return HubSegmentInfo.builder()
+                .totalSegments(this.totalSegments)
+                .currentSegmentIndex(this.currentSegmentIndex)
+                .completedSegments(this.completedSegments)
+                .currentFromHubId(this.currentFromHubId)
+                .currentToHubId(this.currentToHubId)
+                .currentDepartedAt(this.currentDepartedAt)
+                .currentArrivedAt(this.currentArrivedAt)
+                .build();
+    }
+}
@@ -23,6 +23,11 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Track {
 
+    /**
+     * 구간 순서가 없는 전이에 사용
+     */
+    private static final int NO_SEGMENT = -1;
+
     // ===== 식별자 =====
 
     /**
@@ -73,8 +78,16 @@ public class Track {
 
     /**
      * 허브 구간 진행 정보
+     * - 내부적으로 가변 객체로 관리하고 getHubSegmentInfo()로 스냅샷 노출
+     */
+    @Getter(AccessLevel.NONE)
+    private HubSegmentProgress hubSegmentProgress;
+
+    /**
+     * 허브 구간 정보 스냅샷 캐시 (구간 진행 시 무효화)
      */
-    private HubSegmentInfo hubSegmentInfo;
+    @Getter(AccessLevel.NONE)
+    private HubSegmentInfo hubSegmentSnapshot;
 
     /**
      * 허브 배송 필요 여부
@@ -100,6 +113,11 @@ public class Track {
      */
     private LocalDateTime estimatedDeliveryTime;
 
+    /**
+     * 예측 배송 완료 시간 (진행 상황마다 재계산, 약속 시간인 estimatedDeliveryTime은 유지)
+     */
+    private LocalDateTime predictedDeliveryTime;
+
     /**
      * 실제 배송 완료 시간
      */
@@ -131,7 +149,7 @@ public class Track {
                   DeliveryIds deliveryIds, HubSegmentInfo hubSegmentInfo,
                   Boolean requiresHubDelivery, TrackStatus status,
                   TrackPhase currentPhase, LocalDateTime estimatedDeliveryTime,
-                  LocalDateTime actualDeliveryTime, LocalDateTime startedAt,
+                  LocalDateTime predictedDeliveryTime, LocalDateTime actualDeliveryTime, LocalDateTime startedAt,
                   LocalDateTime completedAt, LocalDateTime createdAt,
                   String createdBy, LocalDateTime updatedAt, String updatedBy,
                   LocalDateTime deletedAt, String deletedBy, boolean isDeleted) {
@@ -142,11 +160,13 @@ public class Track {
         this.originHubId = originHubId;
         this.destinationHubId = destinationHubId;
         this.deliveryIds = deliveryIds;
-        this.hubSegmentInfo = hubSegmentInfo;
+        this.hubSegmentProgress = HubSegmentProgress.from(hubSegmentInfo);
+        this.hubSegmentSnapshot = hubSegmentInfo;
         this.requiresHubDelivery = requiresHubDelivery;
         this.status = status;
         this.currentPhase = currentPhase;
         this.estimatedDeliveryTime = estimatedDeliveryTime;
+        this.predictedDeliveryTime = predictedDeliveryTime;
         this.actualDeliveryTime = actualDeliveryTime;
         this.startedAt = startedAt;
         this.completedAt = completedAt;
@@ -274,6 +294,7 @@ public class Track {
             TrackStatus status,
             TrackPhase currentPhase,
             LocalDateTime estimatedDeliveryTime,
+            LocalDateTime predictedDeliveryTime,
             LocalDateTime actualDeliveryTime,
             LocalDateTime startedAt,
             LocalDateTime completedAt,
@@ -298,6 +319,7 @@ public class Track {
                 .status(status)
                 .currentPhase(currentPhase)
                 .estimatedDeliveryTime(estimatedDeliveryTime)
+                .predictedDeliveryTime(predictedDeliveryTime)
                 .actualDeliveryTime(actualDeliveryTime)
                 .startedAt(startedAt)
                 .completedAt(completedAt)
@@ -317,25 +339,11 @@ public class Track {
      * 허브 배송 시작
      */
     public void startHubDelivery() {
-        validateNotTerminal();
-
-        if (!this.requiresHubDelivery) {
-            throw new TrackException(TrackErrorCode.HUB_DELIVERY_NOT_REQUIRED);
-        }
-
-        if (!this.status.canStartHubDelivery()) {
-            throw new TrackException(
-                    TrackErrorCode.INVALID_STATUS_TRANSITION,
-                    String.format("허브 배송 시작은 CREATED 상태에서만 가능합니다. 현재 상태: %s",
-                            this.status.getDescription())
-            );
-        }
+        transition(TrackTransition.START_HUB_DELIVERY, NO_SEGMENT);
 
-        this.status = TrackStatus.HUB_IN_PROGRESS;
-        this.currentPhase = TrackPhase.WAITING_HUB_DEPARTURE;
         this.startedAt = LocalDateTime.now();
 
-        log.info("허브 배송 시작 - trackId: {}, orderId: {}",
+        log.debug("허브 배송 시작 - trackId: {}, orderId: {}",
                 this.getIdValue(), this.orderId);
     }
 
@@ -347,22 +355,29 @@ public class Track {
      * @param toHubId      도착 허브 ID
      */
     public void departHubSegment(int segmentIndex, String fromHubId, String toHubId) {
-        validateNotTerminal();
-        validateHubDeliveryRequired();
-        validateSegmentIndex(segmentIndex);
+        departHubSegment(segmentIndex, fromHubId, toHubId, null);
+    }
 
-        this.status = TrackStatus.HUB_IN_PROGRESS;
-        this.currentPhase = TrackPhase.HUB_IN_TRANSIT;
-        this.hubSegmentInfo = this.hubSegmentInfo.depart(segmentIndex, fromHubId, toHubId);
+    /**
+     * 허브 구간 출발 (출발 시간 지정)
+     *
+     * @param departedAt 실제 출발 시간 (null이면 현재 시간)
+     */
+    public void departHubSegment(int segmentIndex, String fromHubId, String toHubId, LocalDateTime departedAt) {
+        transition(TrackTransition.DEPART_HUB_SEGMENT, segmentIndex);
+
+        this.hubSegmentProgress.depart(segmentIndex, fromHubId, toHubId,
+                departedAt != null ? departedAt : LocalDateTime.now());
+        this.hubSegmentSnapshot = null;
 
         if (this.startedAt == null) {
             this.startedAt = LocalDateTime.now();
         }
 
-        log.info("허브 구간 출발 - trackId: {}, segment: {}/{}, from: {} → to: {}, deliveryId: {}",
+        log.debug("허브 구간 출발 - trackId: {}, segment: {}/{}, from: {} → to: {}, deliveryId: {}",
                 this.getIdValue(),
                 segmentIndex + 1,
-                this.hubSegmentInfo.getTotalSegments(),
+                this.hubSegmentProgress.getTotalSegments(),
                 fromHubId,
                 toHubId,
                 this.deliveryIds.getHubSegmentDeliveryId(segmentIndex));
@@ -374,24 +389,31 @@ public class Track {
      * @param segmentIndex 구간 순서 (0부터 시작)
      */
     public void arriveHubSegment(int segmentIndex) {
-        validateNotTerminal();
-        validateHubDeliveryRequired();
-        validateSegmentIndex(segmentIndex);
+        arriveHubSegment(segmentIndex, null);
+    }
+
+    /**
+     * 허브 구간 도착 (도착 시간 지정)
+     *
+     * @param arrivedAt 실제 도착 시간 (null이면 현재 시간)
+     */
+    public void arriveHubSegment(int segmentIndex, LocalDateTime arrivedAt) {
+        transition(TrackTransition.ARRIVE_HUB_SEGMENT, segmentIndex);
 
-        this.hubSegmentInfo = this.hubSegmentInfo.arrive(segmentIndex);
-        this.currentPhase = TrackPhase.HUB_ARRIVED;
+        this.hubSegmentProgress.arrive(segmentIndex, arrivedAt != null ? arrivedAt : LocalDateTime.now());
+        this.hubSegmentSnapshot = null;
 
         // 모든 허브 구간 완료 시
-        if (this.hubSegmentInfo.isAllSegmentsCompleted()) {
+        if (this.hubSegmentProgress.isAllSegmentsCompleted()) {
             this.currentPhase = TrackPhase.HUB_DELIVERY_COMPLETED;
-            log.info("모든 허브 구간 완료 - trackId: {}, totalSegments: {}",
-                    this.getIdValue(), this.hubSegmentInfo.getTotalSegments());
+            log.debug("모든 허브 구간 완료 - trackId: {}, totalSegments: {}",
+                    this.getIdValue(), this.hubSegmentProgress.getTotalSegments());
         } else {
-            log.info("허브 구간 도착 - trackId: {}, segment: {}/{}, completed: {}",
+            log.debug("허브 구간 도착 - trackId: {}, segment: {}/{}, completed: {}",
                     this.getIdValue(),
                     segmentIndex + 1,
-                    this.hubSegmentInfo.getTotalSegments(),
-                    this.hubSegmentInfo.getCompletedSegments());
+                    this.hubSegmentProgress.getTotalSegments(),
+                    this.hubSegmentProgress.getCompletedSegments());
         }
     }
 
@@ -401,17 +423,13 @@ public class Track {
      * 최종 배송 픽업
      */
     public void pickUpLastMile() {
-        validateNotTerminal();
-        validateCanStartLastMile();
-
-        this.status = TrackStatus.LAST_MILE_IN_PROGRESS;
-        this.currentPhase = TrackPhase.LAST_MILE_PICKED_UP;
+        transition(TrackTransition.PICK_UP_LAST_MILE, NO_SEGMENT);
 
         if (this.startedAt == null) {
             this.startedAt = LocalDateTime.now();
         }
 
-        log.info("최종 배송 픽업 - trackId: {}, lastMileDeliveryId: {}",
+        log.debug("최종 배송 픽업 - trackId: {}, lastMileDeliveryId: {}",
                 this.getIdValue(), this.deliveryIds.getLastMileDeliveryId());
     }
 
@@ -419,33 +437,21 @@ public class Track {
      * 최종 배송 출발
      */
     public void departLastMile() {
-        validateNotTerminal();
+        transition(TrackTransition.DEPART_LAST_MILE, NO_SEGMENT);
 
-        if (this.status != TrackStatus.LAST_MILE_IN_PROGRESS) {
-            throw new TrackException(
-                    TrackErrorCode.INVALID_STATUS_TRANSITION,
-                    String.format("최종 배송 출발은 LAST_MILE_IN_PROGRESS 상태에서만 가능합니다. 현재 상태: %s",
-                            this.status.getDescription())
-            );
-        }
-
-        this.currentPhase = TrackPhase.LAST_MILE_IN_TRANSIT;
-
-        log.info("최종 배송 출발 - trackId: {}", this.getIdValue());
+        log.debug("최종 배송 출발 - trackId: {}", this.getIdValue());
     }
 
     /**
      * 배송 완료
      */
     public void complete() {
-        validateNotTerminal();
+        transition(TrackTransition.COMPLETE, NO_SEGMENT);
 
-        this.status = TrackStatus.COMPLETED;
-        this.currentPhase = TrackPhase.DELIVERED;
         this.completedAt = LocalDateTime.now();
         this.actualDeliveryTime = LocalDateTime.now();
 
-        log.info("배송 완료 - trackId: {}, orderId: {}, 소요시간: {}분",
+        log.debug("배송 완료 - trackId: {}, orderId: {}, 소요시간: {}분",
                 this.getIdValue(),
                 this.orderId,
                 calculateDurationMinutes());
@@ -455,14 +461,23 @@ public class Track {
      * 배송 실패
      */
     public void fail() {
-        this.status = TrackStatus.FAILED;
-        this.currentPhase = TrackPhase.FAILED;
+        transition(TrackTransition.FAIL, NO_SEGMENT);
+
         this.completedAt = LocalDateTime.now();
 
         log.info("배송 실패 - trackId: {}, orderId: {}",
                 this.getIdValue(), this.orderId);
     }
 
+    // ===== 예측 배송 완료 시간 =====
+
+    /**
+     * 예측 배송 완료 시간 갱신 (진행 상황 기반 재계산 결과)
+     */
+    public void revisePredictedDeliveryTime(LocalDateTime predictedDeliveryTime) {
+        this.predictedDeliveryTime = predictedDeliveryTime;
+    }
+
     // ===== Soft Delete =====
 
     /**
@@ -490,18 +505,42 @@ public class Track {
         log.info("Track 복구 - trackId: {}", this.getIdValue());
     }
 
-    // ===== 검증 메서드 =====
+    // ===== 상태 전이 =====
+
+    /**
+     * 상태 전이 적용
+     * - 전이 테이블(TrackStateMachine) 조회 후 선행 조건 검증, 목표 상태/단계 반영
+     * - 검증 순서: 종료 상태 → 허브 배송 필요 → 구간 순서 → 허브 구간 완료 → 상태 전이 가능 여부
+     *
+     * @param transition   전이 종류
+     * @param segmentIndex 구간 순서 (구간 전이가 아니면 NO_SEGMENT)
+     */
+    private void transition(TrackTransition transition, int segmentIndex) {
+        TrackStateMachine.Outcome outcome =
+                TrackStateMachine.outcome(this.status, this.currentPhase, transition);
 
-    private void validateNotTerminal() {
-        if (this.status.isTerminal()) {
-            if (this.status == TrackStatus.COMPLETED) {
-                throw new TrackException(TrackErrorCode.TRACK_ALREADY_COMPLETED);
-            } else {
-                throw new TrackException(TrackErrorCode.TRACK_ALREADY_FAILED);
-            }
+        if (outcome.isRejectedBeforeGuards()) {
+            throw outcome.toException();
         }
+        if (transition.isHubDeliveryRequired()) {
+            validateHubDeliveryRequired();
+        }
+        if (transition.isSegmentIndexRequired()) {
+            validateSegmentIndex(segmentIndex);
+        }
+        if (transition.isHubSegmentsCompletedRequired()) {
+            validateCanStartLastMile();
+        }
+        if (outcome.isRejected()) {
+            throw outcome.toException();
+        }
+
+        this.status = outcome.getTargetStatus();
+        this.currentPhase = outcome.getTargetPhase();
     }
 
+    // ===== 검증 메서드 =====
+
     private void validateHubDeliveryRequired() {
         if (!this.requiresHubDelivery) {
             throw new TrackException(TrackErrorCode.HUB_DELIVERY_NOT_REQUIRED);
@@ -509,7 +548,7 @@ public class Track {
     }
 
     private void validateSegmentIndex(int segmentIndex) {
-        int totalSegments = this.hubSegmentInfo.getTotalSegments();
+        int totalSegments = this.hubSegmentProgress.getTotalSegments();
 
         if (segmentIndex < 0 || segmentIndex >= totalSegments) {
             throw new TrackException(
@@ -522,12 +561,12 @@ public class Track {
 
     private void validateCanStartLastMile() {
         // 허브 배송이 필요한 경우, 모든 허브 구간이 완료되어야 함
-        if (this.requiresHubDelivery && !this.hubSegmentInfo.isAllSegmentsCompleted()) {
+        if (this.requiresHubDelivery && !this.hubSegmentProgress.isAllSegmentsCompleted()) {
             throw new TrackException(
                     TrackErrorCode.LAST_MILE_NOT_READY,
                     String.format("허브 구간이 모두 완료되어야 최종 배송을 시작할 수 있습니다. completed: %d, total: %d",
-                            this.hubSegmentInfo.getCompletedSegments(),
-                            this.hubSegmentInfo.getTotalSegments())
+                            this.hubSegmentProgress.getCompletedSegments(),
+                            this.hubSegmentProgress.getTotalSegments())
             );
         }
     }
@@ -552,6 +591,17 @@ public class Track {
 
     // ===== 조회 메서드 =====
 
+    /**
+     * 허브 구간 진행 정보 (값 객체 스냅샷)
+     * - 구간이 진행되지 않는 동안은 같은 인스턴스를 재사용
+     */
+    public HubSegmentInfo getHubSegmentInfo() {
+        if (this.hubSegmentSnapshot == null) {
+            this.hubSegmentSnapshot = this.hubSegmentProgress.toInfo();
+        }
+        return this.hubSegmentSnapshot;
+    }
+
     /**
      * Track ID 문자열 반환
      */
@@ -601,6 +651,51 @@ public class Track {
         return this.status == TrackStatus.LAST_MILE_IN_PROGRESS;
     }
 
+    // ===== 이벤트 순서 판단 =====
+    // 선행 이벤트가 아직 반영되지 않아 지금 적용하면 순서가 뒤바뀌는 경우 true
+    // 종료 상태이거나 이미 지난 구간(중복 이벤트)은 false → 기존 검증/거절 흐름을 그대로 탐
+
+    /**
+     * 허브 구간 출발 전 이전 구간 도착 대기 여부
+     *
+     * @param segmentIndex 출발 구간 순서
+     */
+    public boolean isAwaitingPreviousHubSegment(int segmentIndex) {
+        return !this.status.isTerminal()
+                && segmentIndex > this.hubSegmentProgress.getCompletedSegments();
+    }
+
+    /**
+     * 허브 구간 도착 전 해당 구간 출발 대기 여부
+     *
+     * @param segmentIndex 도착 구간 순서
+     */
+    public boolean isAwaitingHubSegmentDeparture(int segmentIndex) {
+        if (this.status.isTerminal() || segmentIndex < this.hubSegmentProgress.getCompletedSegments()) {
+            return false;
+        }
+        boolean departed = this.currentPhase == TrackPhase.HUB_IN_TRANSIT
+                && this.hubSegmentProgress.getCurrentSegmentIndex() == segmentIndex;
+        return !departed;
+    }
+
+    /**
+     * 최종 배송 출발 전 허브 구간 완료 대기 여부
+     */
+    public boolean isAwaitingHubSegmentsCompletion() {
+        return !this.status.isTerminal()
+                && isRequiresHubDelivery()
+                && !this.hubSegmentProgress.isAllSegmentsCompleted();
+    }
+
+    /**
+     * 배송 완료 전 최종 배송 출발 대기 여부
+     */
+    public boolean isAwaitingLastMileDeparture() {
+        return !this.status.isTerminal()
+                && this.currentPhase != TrackPhase.LAST_MILE_IN_TRANSIT;
+    }
+
     /**
      * 특정 구간의 배송 ID 조회
      *
@@ -619,7 +714,7 @@ public class Track {
             return null;
         }
         return this.deliveryIds.getHubSegmentDeliveryId(
-                this.hubSegmentInfo.getCurrentSegmentIndex()
+                this.hubSegmentProgress.getCurrentSegmentIndex()
         );
     }
 
@@ -634,21 +729,21 @@ public class Track {
      * 전체 허브 구간 수
      */
     public int getTotalHubSegments() {
-        return this.hubSegmentInfo.getTotalSegments();
+        return this.hubSegmentProgress.getTotalSegments();
     }
 
     /**
      * 완료된 허브 구간 수
      */
     public int getCompletedHubSegments() {
-        return this.hubSegmentInfo.getCompletedSegments();
+        return this.hubSegmentProgress.getCompletedSegments();
     }
 
     /**
      * 현재 구간 순서 (0부터 시작)
      */
     public int getCurrentSegmentIndex() {
-        return this.hubSegmentInfo.getCurrentSegmentIndex();
+        return this.hubSegmentProgress.getCurrentSegmentIndex();
     }
 
     /**
@@ -116,6 +116,31 @@ public class TrackEvent {
                 .build();
     }
 
+    /**
+     * 허브 구간 지연 이벤트 생성
+     *
+     * @param hubId          출발 허브 ID
+     * @param elapsedMinutes 출발 후 경과 시간(분)
+     * @param limitMinutes   지연 판단 기준 시간(분)
+     */
+    public static TrackEvent hubSegmentDelayed(String trackId, String hubId, Integer segmentIndex,
+                                               long elapsedMinutes, long limitMinutes, String createdBy) {
+        return TrackEvent.builder()
+                .id(null)
+                .trackId(trackId)
+                .eventType(TrackEventType.HUB_SEGMENT_DELAYED)
+                .occurredAt(LocalDateTime.now())
+                .hubId(hubId)
+                .segmentIndex(segmentIndex)
+                .description(String.format("허브 구간 %d 지연 (출발 후 %d분, 기준 %d분)",
+                        segmentIndex + 1, elapsedMinutes, limitMinutes))
+                .source("TRACK_SERVICE")
+                .createdAt(LocalDateTime.now())
+                .createdBy(createdBy)
+                .isDeleted(false)
+                .build();
+    }
+
     /**
      * 최종 배송 픽업 이벤트 생성
      */
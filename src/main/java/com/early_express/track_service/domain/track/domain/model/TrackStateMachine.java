@@ -0,0 +1,129 @@
+package com.early_express.track_service.domain.track.domain.model;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackTransition;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Track 상태 전이 테이블
+ * - TrackStatus × TrackPhase × TrackTransition 조합별 결과를 클래스 로딩 시 한 번만 계산
+ * - 전이 시 테이블 조회만 수행하므로 성공 경로에서 객체를 생성하지 않음
+ * - 거절 메시지도 미리 만들어 두고 예외 발생 시에만 사용
+ */
+final class TrackStateMachine {
+
+    private static final Map<TrackStatus, Map<TrackPhase, Map<TrackTransition, Outcome>>> TABLE = build();
+
+    private TrackStateMachine() {
+    }
+
+    /**
+     * 전이 결과 조회
+     */
+    static Outcome outcome(TrackStatus status, TrackPhase phase, TrackTransition transition) {
+        return TABLE.get(status).get(phase).get(transition);
+    }
+
+    // ===== 테이블 구성 =====
+
+    private static Map<TrackStatus, Map<TrackPhase, Map<TrackTransition, Outcome>>> build() {
+        Map<TrackStatus, Map<TrackPhase, Map<TrackTransition, Outcome>>> table = new EnumMap<>(TrackStatus.class);
+
+        for (TrackStatus status : TrackStatus.values()) {
+            Map<TrackPhase, Map<TrackTransition, Outcome>> byPhase = new EnumMap<>(TrackPhase.class);
+
+            for (TrackPhase phase : TrackPhase.values()) {
+                Map<TrackTransition, Outcome> byTransition = new EnumMap<>(TrackTransition.class);
+
+                for (TrackTransition transition : TrackTransition.values()) {
+                    byTransition.put(transition, resolve(status, phase, transition));
+                }
+                byPhase.put(phase, byTransition);
+            }
+            table.put(status, byPhase);
+        }
+        return table;
+    }
+
+    /**
+     * 전이 규칙
+     * - 현재 단계(phase)는 전이 가능 여부에 영향을 주지 않으며, 규칙이 추가될 때를 위해 축으로만 유지
+     */
+    private static Outcome resolve(TrackStatus status, TrackPhase phase, TrackTransition transition) {
+        // 실패 처리는 어떤 상태에서도 가능
+        if (transition == TrackTransition.FAIL) {
+            return Outcome.allow(TrackStatus.FAILED, TrackPhase.FAILED);
+        }
+
+        // 종료 상태에서는 다른 검증보다 먼저 거절
+        if (status == TrackStatus.COMPLETED) {
+            return Outcome.rejectBeforeGuards(TrackErrorCode.TRACK_ALREADY_COMPLETED);
+        }
+        if (status == TrackStatus.FAILED) {
+            return Outcome.rejectBeforeGuards(TrackErrorCode.TRACK_ALREADY_FAILED);
+        }
+
+        return switch (transition) {
+            case START_HUB_DELIVERY -> status.canStartHubDelivery()
+                    ? Outcome.allow(TrackStatus.HUB_IN_PROGRESS, TrackPhase.WAITING_HUB_DEPARTURE)
+                    : Outcome.reject(TrackErrorCode.INVALID_STATUS_TRANSITION,
+                    "허브 배송 시작은 CREATED 상태에서만 가능합니다. 현재 상태: " + status.getDescription());
+            case DEPART_HUB_SEGMENT -> Outcome.allow(TrackStatus.HUB_IN_PROGRESS, TrackPhase.HUB_IN_TRANSIT);
+            // 모든 구간 완료 시 HUB_DELIVERY_COMPLETED로 보정 (Track에서 처리)
+            case ARRIVE_HUB_SEGMENT -> Outcome.allow(status, TrackPhase.HUB_ARRIVED);
+            case PICK_UP_LAST_MILE -> Outcome.allow(TrackStatus.LAST_MILE_IN_PROGRESS, TrackPhase.LAST_MILE_PICKED_UP);
+            case DEPART_LAST_MILE -> status == TrackStatus.LAST_MILE_IN_PROGRESS
+                    ? Outcome.allow(status, TrackPhase.LAST_MILE_IN_TRANSIT)
+                    : Outcome.reject(TrackErrorCode.INVALID_STATUS_TRANSITION,
+                    "최종 배송 출발은 LAST_MILE_IN_PROGRESS 상태에서만 가능합니다. 현재 상태: " + status.getDescription());
+            case COMPLETE -> Outcome.allow(TrackStatus.COMPLETED, TrackPhase.DELIVERED);
+            case FAIL -> throw new IllegalStateException("unreachable");
+        };
+    }
+
+    /**
+     * 전이 결과
+     * - 허용: 목표 상태/단계
+     * - 거절: 에러 코드/메시지, 선행 조건 검증 전/후 거절 여부
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Outcome {
+
+        private final TrackStatus targetStatus;
+        private final TrackPhase targetPhase;
+        private final TrackErrorCode errorCode;
+        private final String message;
+        private final boolean rejectedBeforeGuards;
+
+        static Outcome allow(TrackStatus targetStatus, TrackPhase targetPhase) {
+            return new Outcome(targetStatus, targetPhase, null, null, false);
+        }
+
+        static Outcome reject(TrackErrorCode errorCode, String message) {
+            return new Outcome(null, null, errorCode, message, false);
+        }
+
+        static Outcome rejectBeforeGuards(TrackErrorCode errorCode) {
+            return new Outcome(null, null, errorCode, null, true);
+        }
+
+        boolean isRejected() {
+            return errorCode != null;
+        }
+
+        TrackException toException() {
+            return message != null
+                    ? new TrackException(errorCode, message)
+                    : new TrackException(errorCode);
+        }
+    }
+}
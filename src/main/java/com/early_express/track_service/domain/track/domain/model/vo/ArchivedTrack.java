@@ -0,0 +1,16 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+
+import java.util.List;
+
+/**
+ * 보관(콜드 아카이브) 대상 추적 + 이벤트 (이벤트는 발생 시간순)
+ */
+public record ArchivedTrack(Track track, List<TrackEvent> events) {
+
+    public String orderId() {
+        return track.getOrderId();
+    }
+}
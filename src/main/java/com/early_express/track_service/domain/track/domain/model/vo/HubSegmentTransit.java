@@ -0,0 +1,19 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 구간 이동 기록 (지연 감지용 최소 정보)
+ * - 이동 중 구간: arrivedAt = null
+ * - 완료된 구간: 소요 시간 학습에 사용
+ *
+ * @param trackId      추적 ID
+ * @param segmentIndex 구간 순서 (0부터 시작)
+ * @param fromHubId    출발 허브 ID
+ * @param toHubId      도착 허브 ID
+ * @param departedAt   출발 시간
+ * @param arrivedAt    도착 시간
+ */
+public record HubSegmentTransit(String trackId, Integer segmentIndex, String fromHubId, String toHubId,
+                                LocalDateTime departedAt, LocalDateTime arrivedAt) {
+}
@@ -0,0 +1,11 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+/**
+ * 허브 + 상태별 추적 수 (허브 카운터 보정용 집계)
+ *
+ * @param hubId  출발 또는 도착 허브 ID
+ * @param status 추적 상태
+ * @param count  추적 수
+ */
+public record HubStatusCount(String hubId, TrackStatus status, long count) {
+}
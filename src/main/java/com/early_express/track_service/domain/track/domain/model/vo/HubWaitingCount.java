@@ -0,0 +1,10 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+/**
+ * 허브별 출발 대기 추적 수 (허브 대기 물량 보정용 집계)
+ *
+ * @param hubId 마지막으로 도착한 허브 ID
+ * @param count 추적 수
+ */
+public record HubWaitingCount(String hubId, long count) {
+}
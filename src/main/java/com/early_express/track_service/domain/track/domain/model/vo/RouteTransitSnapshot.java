@@ -0,0 +1,17 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 구간(출발 허브 → 도착 허브) 고정 윈도우 소요 시간 분포 스냅샷 (저장용)
+ *
+ * @param fromHubId       출발 허브 ID
+ * @param toHubId         도착 허브 ID
+ * @param windowStartedAt 윈도우 시작 시간
+ * @param histogram       압축 인코딩된 소요 시간 히스토그램 (초 단위)
+ * @param samples         표본 수
+ * @param updatedAt       마지막 반영 시간
+ */
+public record RouteTransitSnapshot(String fromHubId, String toHubId, LocalDateTime windowStartedAt,
+                                   byte[] histogram, long samples, LocalDateTime updatedAt) {
+}
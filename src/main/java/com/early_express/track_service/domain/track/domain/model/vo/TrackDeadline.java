@@ -0,0 +1,12 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중 추적의 예상 완료 시간 (SLA 감시용 최소 정보)
+ *
+ * @param trackId               추적 ID
+ * @param estimatedDeliveryTime 예상 배송 완료 시간
+ */
+public record TrackDeadline(String trackId, LocalDateTime estimatedDeliveryTime) {
+}
@@ -0,0 +1,37 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추적 + 이벤트 내보내기 행 (추적 1건당 이벤트 수만큼, 이벤트가 없으면 이벤트 필드 null인 1행)
+ * - 추적 ID, 이벤트 발생 시간 순으로 전달
+ */
+public record TrackExportRow(
+        String trackId,
+        String orderId,
+        String orderNumber,
+        String originHubId,
+        String destinationHubId,
+        TrackStatus status,
+        TrackPhase currentPhase,
+        Boolean requiresHubDelivery,
+        Integer totalHubSegments,
+        Integer completedHubSegments,
+        LocalDateTime estimatedDeliveryTime,
+        LocalDateTime predictedDeliveryTime,
+        LocalDateTime actualDeliveryTime,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        LocalDateTime createdAt,
+        String eventId,
+        TrackEventType eventType,
+        LocalDateTime eventOccurredAt,
+        String eventHubId,
+        Integer eventSegmentIndex,
+        String eventDescription,
+        String eventSource) {
+
+    public boolean hasEvent() {
+        return eventId != null;
+    }
+}
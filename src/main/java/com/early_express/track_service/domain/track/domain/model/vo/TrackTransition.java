@@ -0,0 +1,39 @@
+package com.early_express.track_service.domain.track.domain.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Track 상태 전이 종류
+ * - 상태 전이 테이블(TrackStateMachine)의 이벤트 축
+ * - 상태와 무관한 선행 조건(허브 배송 필요, 구간 순서, 허브 구간 완료)을 함께 정의
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrackTransition {
+
+    START_HUB_DELIVERY("허브 배송 시작", true, false, false),
+    DEPART_HUB_SEGMENT("허브 구간 출발", true, true, false),
+    ARRIVE_HUB_SEGMENT("허브 구간 도착", true, true, false),
+    PICK_UP_LAST_MILE("최종 배송 픽업", false, false, true),
+    DEPART_LAST_MILE("최종 배송 출발", false, false, false),
+    COMPLETE("배송 완료", false, false, false),
+    FAIL("배송 실패", false, false, false);
+
+    private final String description;
+
+    /**
+     * 허브 배송이 필요한 Track에서만 가능
+     */
+    private final boolean hubDeliveryRequired;
+
+    /**
+     * 구간 순서(segmentIndex) 검증 필요
+     */
+    private final boolean segmentIndexRequired;
+
+    /**
+     * 허브 배송이 필요한 경우 모든 허브 구간 완료 필요
+     */
+    private final boolean hubSegmentsCompletedRequired;
+}
@@ -0,0 +1,29 @@
+package com.early_express.track_service.domain.track.domain.repository;
+
+import com.early_express.track_service.domain.track.domain.model.vo.RouteTransitSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 허브 구간 소요 시간 통계 Repository Interface
+ */
+public interface RouteTransitStatsRepository {
+
+    /**
+     * 구간/윈도우별 증분 누적 (같은 구간/윈도우가 있으면 분포를 더함)
+     */
+    void accumulate(List<RouteTransitSnapshot> deltas);
+
+    /**
+     * 전체 구간/윈도우 스냅샷 조회
+     */
+    List<RouteTransitSnapshot> findAll();
+
+    /**
+     * 지정 시간 이전에 시작한 윈도우 삭제
+     *
+     * @return 삭제 건수
+     */
+    int deleteWindowsBefore(LocalDateTime windowStartedAt);
+}
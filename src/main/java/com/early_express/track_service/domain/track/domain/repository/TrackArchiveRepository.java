@@ -0,0 +1,42 @@
+package com.early_express.track_service.domain.track.domain.repository;
+
+import com.early_express.track_service.domain.track.domain.model.vo.ArchivedTrack;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 추적 보관 Domain Repository Interface (운영 테이블 ↔ 보관 색인)
+ */
+public interface TrackArchiveRepository {
+
+    /**
+     * completedBefore 이전에 종료(완료/실패)된 추적 + 이벤트 조회 (종료 시간순 limit건)
+     */
+    List<ArchivedTrack> findArchivable(LocalDateTime completedBefore, int limit);
+
+    /**
+     * 보관 완료 처리 (한 트랜잭션)
+     * - 주문 ID → 보관 위치 색인 기록
+     * - 운영 테이블(p_track, p_track_event)에서 물리 삭제
+     */
+    void moveToArchive(List<ArchivedTrack> tracks, String location);
+
+    /**
+     * 주문 ID로 보관 위치 조회
+     */
+    Optional<String> findLocationByOrderId(String orderId);
+
+    /**
+     * 보관된 주문 여부 (중복 생성 방지)
+     */
+    boolean existsByOrderId(String orderId);
+
+    /**
+     * 보관 작업 단독 실행 (여러 인스턴스 중 한 곳에서만)
+     *
+     * @return 실행 여부 (다른 인스턴스가 실행 중이면 false)
+     */
+    boolean runExclusively(Runnable task);
+}
@@ -0,0 +1,26 @@
+package com.early_express.track_service.domain.track.domain.repository;
+
+import com.early_express.track_service.domain.track.domain.model.vo.ArchivedTrack;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 추적 보관 저장소 (압축 파일, 종료 일자별 파티션)
+ */
+public interface TrackArchiveStorage {
+
+    /**
+     * 보관 파일 기록 (완전히 기록된 뒤에만 조회 가능)
+     *
+     * @param partition 종료 일자
+     * @return 보관 위치 (조회 시 사용)
+     */
+    String write(LocalDate partition, List<ArchivedTrack> tracks);
+
+    /**
+     * 보관 파일에서 주문 조회
+     */
+    Optional<ArchivedTrack> read(String location, String orderId);
+}
@@ -1,6 +1,7 @@
 package com.early_express.track_service.domain.track.domain.repository;
 
 import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
 
 import java.util.List;
 
@@ -18,4 +19,9 @@ public interface TrackEventRepository {
      * Track ID로 이벤트 목록 조회 (시간순)
      */
     List<TrackEvent> findByTrackId(String trackId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 구간 이벤트 존재 여부 (중복 기록 방지)
+     */
+    boolean existsByTrackIdAndEventTypeAndSegmentIndex(String trackId, TrackEventType eventType, Integer segmentIndex);
+}
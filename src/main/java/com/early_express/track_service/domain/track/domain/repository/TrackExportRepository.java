@@ -0,0 +1,24 @@
+package com.early_express.track_service.domain.track.domain.repository;
+
+import com.early_express.track_service.domain.track.domain.model.vo.TrackExportRow;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 추적 내보내기 Repository Interface
+ * - 결과를 메모리에 모으지 않고 한 행씩 전달 (DB 커서)
+ */
+public interface TrackExportRepository {
+
+    /**
+     * 추적 + 이벤트 행 스트리밍 (조건은 모두 선택)
+     *
+     * @param createdFrom 생성 시간 하한 (포함)
+     * @param createdTo   생성 시간 상한 (미포함)
+     * @return 전달한 행 수
+     */
+    long streamTracksWithEvents(TrackStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                Consumer<TrackExportRow> consumer);
+}
@@ -0,0 +1,19 @@
+package com.early_express.track_service.domain.track.domain.repository;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+
+import java.util.List;
+
+/**
+ * 추적 대량 가져오기 Domain Repository Interface
+ */
+public interface TrackImportRepository {
+
+    /**
+     * 신규 추적 + 추적 시작 이벤트 일괄 저장 (한 트랜잭션)
+     * - 이미 존재(운영/이력/보관)하거나 배치 안에서 중복된 주문 ID는 건너뜀 (첫 행 우선)
+     *
+     * @return 저장한 추적 수
+     */
+    int importBatch(List<Track> tracks);
+}
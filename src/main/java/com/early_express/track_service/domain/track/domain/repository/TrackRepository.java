@@ -1,11 +1,16 @@
 package com.early_express.track_service.domain.track.domain.repository;
 
 import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentTransit;
+import com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount;
+import com.early_express.track_service.domain.track.domain.model.vo.HubWaitingCount;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackDeadline;
 import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
 import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -56,4 +61,33 @@ public interface TrackRepository {
      * 중복 체크
      */
     boolean existsByOrderId(String orderId);
-}
\ No newline at end of file
+
+    // ===== SLA 감시용 =====
+
+    /**
+     * 종료되지 않은 추적의 예상 완료 시간 조회
+     * - ID 순 키셋 페이징 (afterId 다음부터 limit건, 처음은 null)
+     */
+    List<TrackDeadline> findOpenDeadlines(String afterId, int limit);
+
+    /**
+     * 허브 구간 이동 중(출발 후 미도착)인 추적 조회
+     * - ID 순 키셋 페이징 (afterId 다음부터 limit건, 처음은 null)
+     */
+    List<HubSegmentTransit> findInTransitSegments(String afterId, int limit);
+
+    // ===== 허브 카운터 보정용 =====
+
+    /**
+     * 허브(출발 또는 도착) + 상태별 추적 수
+     * - 출발/도착 허브가 같은 추적은 한 번만 집계
+     * - 같은 허브/상태가 여러 건으로 나뉠 수 있음 (합산해서 사용)
+     */
+    List<HubStatusCount> countByHubAndStatus();
+
+    /**
+     * 허브별 출발 대기 추적 수
+     * - 허브 구간 도착 후 다음 구간 출발/최종 배송 픽업 전인 진행 중 추적 (마지막 도착 허브 기준)
+     */
+    List<HubWaitingCount> countWaitingByHub();
+}
@@ -0,0 +1,120 @@
+package com.early_express.track_service.domain.track.infrastructure.archive;
+
+import com.early_express.track_service.domain.track.domain.model.vo.ArchivedTrack;
+import com.early_express.track_service.domain.track.domain.repository.TrackArchiveStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 로컬 파일 시스템 보관 저장소 (gzip NDJSON)
+ * - 경로: {base-dir}/completed_date=yyyy-MM-dd/tracks-{기록 시간}-{임의값}.ndjson.gz
+ * - 임시 파일에 기록 후 원자적 이동 → 일부만 기록된 파일은 노출되지 않음
+ * - 오브젝트 스토리지는 base-dir에 마운트해서 사용
+ */
+@Slf4j
+@Component
+public class LocalTrackArchiveStorage implements TrackArchiveStorage {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Path baseDir;
+
+    public LocalTrackArchiveStorage(
+            ObjectMapper objectMapper,
+            @Value("${track-event.archive.base-dir:./archive/tracks}") String baseDir) {
+        this.objectMapper = objectMapper;
+        this.baseDir = Path.of(baseDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String write(LocalDate partition, List<ArchivedTrack> tracks) {
+        String location = "completed_date=" + partition + "/tracks-" + LocalDateTime.now().format(FILE_TIME)
+                + "-" + UUID.randomUUID().toString().substring(0, 8) + ".ndjson.gz";
+        Path target = resolve(location);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(target.getParent());
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                for (ArchivedTrack track : tracks) {
+                    writer.write(objectMapper.writeValueAsString(TrackArchiveRecord.from(track)));
+                    writer.write('\n');
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("보관 파일 기록 실패: " + location, e);
+        }
+
+        log.debug("[Archive] 파일 기록 - location: {}, {}건", location, tracks.size());
+        return location;
+    }
+
+    @Override
+    public Optional<ArchivedTrack> read(String location, String orderId) {
+        // 전체 역직렬화 전에 문자열로 먼저 거름
+        String needle = "\"orderId\":\"" + orderId + "\"";
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(resolve(location)), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.contains(needle)) {
+                    continue;
+                }
+                TrackArchiveRecord record = objectMapper.readValue(line, TrackArchiveRecord.class);
+                if (orderId.equals(record.orderId())) {
+                    return Optional.of(record.toDomain());
+                }
+            }
+            return Optional.empty();
+        } catch (NoSuchFileException e) {
+            // 색인은 있는데 파일이 없음 (수동 삭제, 마운트 누락 등) → 조회 결과 없음으로 처리
+            log.warn("[Archive] 보관 파일 없음 - location: {}, orderId: {}", location, orderId);
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관 파일 읽기 실패: " + location, e);
+        }
+    }
+
+    private Path resolve(String location) {
+        Path path = baseDir.resolve(location).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("보관 경로를 벗어난 위치입니다: " + location);
+        }
+        return path;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[Archive] 임시 파일 삭제 실패 - path: {}", path);
+        }
+    }
+}
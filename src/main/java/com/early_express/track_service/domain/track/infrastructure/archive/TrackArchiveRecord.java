@@ -0,0 +1,135 @@
+package com.early_express.track_service.domain.track.infrastructure.archive;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.ArchivedTrack;
+import com.early_express.track_service.domain.track.domain.model.vo.DeliveryIds;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 파일 한 줄 (추적 1건 + 이벤트, p_track/p_track_event 컬럼 전체)
+ * - 보관 파일만으로 Track/TrackEvent 복원 가능
+ */
+record TrackArchiveRecord(
+        String id,
+        String hubDeliveryId,
+        String orderId,
+        String orderNumber,
+        String originHubId,
+        String destinationHubId,
+        List<String> hubSegmentDeliveryIds,
+        String lastMileDeliveryId,
+        Integer totalHubSegments,
+        Integer currentSegmentIndex,
+        Integer completedHubSegments,
+        String currentFromHubId,
+        String currentToHubId,
+        LocalDateTime currentDepartedAt,
+        LocalDateTime currentArrivedAt,
+        Boolean requiresHubDelivery,
+        TrackStatus status,
+        TrackPhase currentPhase,
+        LocalDateTime estimatedDeliveryTime,
+        LocalDateTime predictedDeliveryTime,
+        LocalDateTime actualDeliveryTime,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        String updatedBy,
+        List<EventRecord> events) {
+
+    static TrackArchiveRecord from(ArchivedTrack archived) {
+        Track track = archived.track();
+        HubSegmentInfo segment = track.getHubSegmentInfo();
+        return new TrackArchiveRecord(
+                track.getIdValue(),
+                track.getHubDeliveryId(),
+                track.getOrderId(),
+                track.getOrderNumber(),
+                track.getOriginHubId(),
+                track.getDestinationHubId(),
+                track.getDeliveryIds().getHubSegmentDeliveryIds(),
+                track.getDeliveryIds().getLastMileDeliveryId(),
+                segment.getTotalSegments(),
+                segment.getCurrentSegmentIndex(),
+                segment.getCompletedSegments(),
+                segment.getCurrentFromHubId(),
+                segment.getCurrentToHubId(),
+                segment.getCurrentDepartedAt(),
+                segment.getCurrentArrivedAt(),
+                track.getRequiresHubDelivery(),
+                track.getStatus(),
+                track.getCurrentPhase(),
+                track.getEstimatedDeliveryTime(),
+                track.getPredictedDeliveryTime(),
+                track.getActualDeliveryTime(),
+                track.getStartedAt(),
+                track.getCompletedAt(),
+                track.getCreatedAt(),
+                track.getCreatedBy(),
+                track.getUpdatedAt(),
+                track.getUpdatedBy(),
+                archived.events().stream().map(EventRecord::from).toList());
+    }
+
+    ArchivedTrack toDomain() {
+        DeliveryIds deliveryIds = hubSegmentDeliveryIds == null || hubSegmentDeliveryIds.isEmpty()
+                ? DeliveryIds.ofLastMileOnly(lastMileDeliveryId)
+                : DeliveryIds.of(hubSegmentDeliveryIds, lastMileDeliveryId);
+
+        HubSegmentInfo hubSegmentInfo = HubSegmentInfo.builder()
+                .totalSegments(totalHubSegments)
+                .currentSegmentIndex(currentSegmentIndex)
+                .completedSegments(completedHubSegments)
+                .currentFromHubId(currentFromHubId)
+                .currentToHubId(currentToHubId)
+                .currentDepartedAt(currentDepartedAt)
+                .currentArrivedAt(currentArrivedAt)
+                .build();
+
+        Track track = Track.reconstitute(
+                TrackId.of(id), hubDeliveryId, orderId, orderNumber, originHubId, destinationHubId,
+                deliveryIds, hubSegmentInfo, requiresHubDelivery, status, currentPhase,
+                estimatedDeliveryTime, predictedDeliveryTime, actualDeliveryTime, startedAt, completedAt,
+                createdAt, createdBy, updatedAt, updatedBy, null, null, false);
+
+        List<TrackEvent> trackEvents = events == null
+                ? List.of()
+                : events.stream().map(event -> event.toDomain(id)).toList();
+        return new ArchivedTrack(track, trackEvents);
+    }
+
+    record EventRecord(
+            String id,
+            TrackEventType eventType,
+            LocalDateTime occurredAt,
+            String hubId,
+            Integer segmentIndex,
+            String description,
+            String source,
+            LocalDateTime createdAt,
+            String createdBy,
+            LocalDateTime updatedAt,
+            String updatedBy) {
+
+        static EventRecord from(TrackEvent event) {
+            return new EventRecord(event.getId(), event.getEventType(), event.getOccurredAt(), event.getHubId(),
+                    event.getSegmentIndex(), event.getDescription(), event.getSource(), event.getCreatedAt(),
+                    event.getCreatedBy(), event.getUpdatedAt(), event.getUpdatedBy());
+        }
+
+        TrackEvent toDomain(String trackId) {
+            return TrackEvent.reconstitute(id, trackId, eventType, occurredAt, hubId, segmentIndex, description,
+                    source, createdAt, createdBy, updatedAt, updatedBy, null, null, false);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 지연 드라이버 배정 큐
+ * - 서킷 오픈 / 벌크헤드 포화 시 컨슈머 스레드를 블로킹하지 않고 요청을 보관
+ * - 대상 서비스별로 분리하여 한쪽 장애가 다른 쪽 재처리를 막지 않도록 함
+ * - 용량 초과 시 요청을 버리고 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class DeferredDriverAssignmentQueue {
+
+    private final Map<DriverAssignmentType, LinkedBlockingQueue<DriverAssignmentRequest>> queues =
+            new EnumMap<>(DriverAssignmentType.class);
+    private final Map<DriverAssignmentType, Counter> droppedCounters =
+            new EnumMap<>(DriverAssignmentType.class);
+
+    public DeferredDriverAssignmentQueue(
+            MeterRegistry meterRegistry,
+            @Value("${driver-assignment.deferred.capacity:10000}") int capacity) {
+
+        for (DriverAssignmentType type : DriverAssignmentType.values()) {
+            LinkedBlockingQueue<DriverAssignmentRequest> queue = new LinkedBlockingQueue<>(capacity);
+            queues.put(type, queue);
+
+            Gauge.builder("track.driver-assignment.deferred.size", queue, LinkedBlockingQueue::size)
+                    .description("지연 큐에 대기 중인 드라이버 배정 요청 수")
+                    .tag("client", type.getServiceName())
+                    .register(meterRegistry);
+
+            droppedCounters.put(type, Counter.builder("track.driver-assignment.deferred.dropped")
+                    .description("지연 큐 용량 초과로 버려진 드라이버 배정 요청 수")
+                    .tag("client", type.getServiceName())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 지연 요청 적재
+     *
+     * @return 적재 성공 여부 (용량 초과 시 false)
+     */
+    public boolean offer(DriverAssignmentRequest request) {
+        boolean accepted = queues.get(request.getType()).offer(request);
+
+        if (!accepted) {
+            droppedCounters.get(request.getType()).increment();
+            log.error("지연 드라이버 배정 큐 용량 초과 - 요청 폐기: {}", request);
+        }
+        return accepted;
+    }
+
+    /**
+     * 재처리 대상 요청 인출
+     *
+     * @param type     대상 서비스
+     * @param maxItems 최대 인출 수
+     */
+    public List<DriverAssignmentRequest> drain(DriverAssignmentType type, int maxItems) {
+        List<DriverAssignmentRequest> drained = new ArrayList<>(Math.min(maxItems, size(type)));
+        queues.get(type).drainTo(drained, maxItems);
+        return drained;
+    }
+
+    public int size(DriverAssignmentType type) {
+        return queues.get(type).size();
+    }
+}
@@ -0,0 +1,210 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.HubDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.AssignDriverForSegmentResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.BatchAssignDriverForSegmentRequest;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.BatchAssignDriverForSegmentResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.LastMileDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.AssignDriverResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.BatchAssignDriverRequest;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.BatchAssignDriverResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 드라이버 일괄 배정 클라이언트
+ * - 장애 복구 후 밀린 배정 요청을 대상 서비스별로 묶어 청크 단위 일괄 호출
+ * - 청크는 고정 크기 스레드 풀에서 병렬 처리 (동시 호출 수 = parallelism)
+ * - 응답의 항목별 결과를 요청(Track)에 다시 매핑
+ * - 청크 호출은 단건 호출과 같은 서킷 브레이커를 공유 (벌크헤드는 parallelism으로 대체)
+ */
+@Slf4j
+@Component
+public class DriverAssignmentBatchClient implements DisposableBean {
+
+    private final HubDeliveryClient hubDeliveryClient;
+    private final LastMileDeliveryClient lastMileDeliveryClient;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    private final Map<DriverAssignmentType, CircuitBreaker> circuitBreakers =
+            new EnumMap<>(DriverAssignmentType.class);
+
+    public DriverAssignmentBatchClient(
+            HubDeliveryClient hubDeliveryClient,
+            LastMileDeliveryClient lastMileDeliveryClient,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${driver-assignment.batch.chunk-size:50}") int chunkSize,
+            @Value("${driver-assignment.batch.parallelism:4}") int parallelism) {
+        this.hubDeliveryClient = hubDeliveryClient;
+        this.lastMileDeliveryClient = lastMileDeliveryClient;
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("driver-assignment-batch-", 0).daemon().factory());
+
+        for (DriverAssignmentType type : DriverAssignmentType.values()) {
+            circuitBreakers.put(type, circuitBreakerRegistry.circuitBreaker(type.getServiceName()));
+        }
+    }
+
+    /**
+     * 일괄 배정
+     *
+     * @param requests 배정 요청 목록 (서비스 구분 없이 혼합 가능)
+     * @return 요청별 배정 결과 (입력 순서 유지)
+     */
+    public Map<DriverAssignmentRequest, DriverAssignmentResult> assignAll(List<DriverAssignmentRequest> requests) {
+        Map<DriverAssignmentType, List<DriverAssignmentRequest>> grouped = new EnumMap<>(DriverAssignmentType.class);
+        for (DriverAssignmentRequest request : requests) {
+            grouped.computeIfAbsent(request.getType(), type -> new ArrayList<>()).add(request);
+        }
+
+        List<CompletableFuture<Map<DriverAssignmentRequest, DriverAssignmentResult>>> futures = new ArrayList<>();
+        grouped.forEach((type, group) -> {
+            for (int from = 0; from < group.size(); from += chunkSize) {
+                List<DriverAssignmentRequest> chunk = group.subList(from, Math.min(from + chunkSize, group.size()));
+                futures.add(CompletableFuture.supplyAsync(() -> assignChunk(type, chunk), executor));
+            }
+        });
+
+        Map<DriverAssignmentRequest, DriverAssignmentResult> merged = new HashMap<>();
+        futures.forEach(future -> merged.putAll(future.join()));
+
+        Map<DriverAssignmentRequest, DriverAssignmentResult> results = new LinkedHashMap<>();
+        for (DriverAssignmentRequest request : requests) {
+            results.put(request, merged.get(request));
+        }
+
+        log.info("드라이버 일괄 배정 완료 - requests: {}, chunks: {}", requests.size(), futures.size());
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // ===== 내부 처리 =====
+
+    private Map<DriverAssignmentRequest, DriverAssignmentResult> assignChunk(
+            DriverAssignmentType type, List<DriverAssignmentRequest> chunk) {
+        try {
+            return circuitBreakers.get(type).executeSupplier(() -> type == DriverAssignmentType.HUB_SEGMENT
+                    ? assignHubSegments(chunk)
+                    : assignLastMiles(chunk));
+        } catch (CallNotPermittedException e) {
+            return uniform(chunk, DriverAssignmentResult.deferred("서킷 오픈"));
+        } catch (TrackException e) {
+            log.error("{} 드라이버 일괄 배정 실패 - size: {}, error: {}",
+                    type.getDescription(), chunk.size(), e.getMessage());
+            return uniform(chunk, DriverAssignmentFailurePredicate.isExternalFailure(e)
+                    ? DriverAssignmentResult.deferred(e.getMessage())
+                    : DriverAssignmentResult.failed(e.getMessage()));
+        } catch (Exception e) {
+            log.error("{} 드라이버 일괄 배정 중 오류 - size: {}, error: {}",
+                    type.getDescription(), chunk.size(), e.getMessage(), e);
+            return uniform(chunk, DriverAssignmentResult.deferred(e.getMessage()));
+        }
+    }
+
+    private Map<DriverAssignmentRequest, DriverAssignmentResult> assignHubSegments(
+            List<DriverAssignmentRequest> chunk) {
+        // 같은 구간이 중복으로 쌓여 있어도 한 번만 요청
+        Map<String, BatchAssignDriverForSegmentRequest.Item> items = new LinkedHashMap<>();
+        for (DriverAssignmentRequest request : chunk) {
+            items.putIfAbsent(segmentKey(request.getDeliveryId(), request.getSegmentIndex()),
+                    BatchAssignDriverForSegmentRequest.Item.builder()
+                            .hubDeliveryId(request.getDeliveryId())
+                            .segmentIndex(request.getSegmentIndex())
+                            .build());
+        }
+
+        BatchAssignDriverForSegmentResponse response = hubDeliveryClient.assignDriversForSegments(
+                BatchAssignDriverForSegmentRequest.builder()
+                        .items(new ArrayList<>(items.values()))
+                        .build());
+
+        Map<String, DriverAssignmentResult> byKey = new HashMap<>();
+        if (response != null && response.getResults() != null) {
+            for (AssignDriverForSegmentResponse result : response.getResults()) {
+                byKey.put(segmentKey(result.getHubDeliveryId(), result.getSegmentIndex()),
+                        toResult(result.isSuccess(), result.getDriverId(), result.getMessage()));
+            }
+        }
+
+        return mapBack(chunk, byKey, request -> segmentKey(request.getDeliveryId(), request.getSegmentIndex()));
+    }
+
+    private Map<DriverAssignmentRequest, DriverAssignmentResult> assignLastMiles(
+            List<DriverAssignmentRequest> chunk) {
+        List<String> deliveryIds = chunk.stream()
+                .map(DriverAssignmentRequest::getDeliveryId)
+                .distinct()
+                .toList();
+
+        BatchAssignDriverResponse response = lastMileDeliveryClient.assignDrivers(
+                BatchAssignDriverRequest.builder()
+                        .lastMileDeliveryIds(deliveryIds)
+                        .build());
+
+        Map<String, DriverAssignmentResult> byKey = new HashMap<>();
+        if (response != null && response.getResults() != null) {
+            for (AssignDriverResponse result : response.getResults()) {
+                byKey.put(result.getLastMileDeliveryId(),
+                        toResult(result.isSuccess(), result.getDriverId(), result.getMessage()));
+            }
+        }
+
+        return mapBack(chunk, byKey, DriverAssignmentRequest::getDeliveryId);
+    }
+
+    /**
+     * 항목별 결과를 요청에 매핑
+     * - 응답에 누락된 항목은 재시도 대상으로 지연 처리
+     */
+    private Map<DriverAssignmentRequest, DriverAssignmentResult> mapBack(
+            List<DriverAssignmentRequest> chunk,
+            Map<String, DriverAssignmentResult> byKey,
+            Function<DriverAssignmentRequest, String> keyOf) {
+        Map<DriverAssignmentRequest, DriverAssignmentResult> results = new HashMap<>();
+        for (DriverAssignmentRequest request : chunk) {
+            DriverAssignmentResult result = byKey.get(keyOf.apply(request));
+            results.put(request, result != null ? result : DriverAssignmentResult.deferred("일괄 배정 응답 누락"));
+        }
+        return results;
+    }
+
+    private Map<DriverAssignmentRequest, DriverAssignmentResult> uniform(
+            List<DriverAssignmentRequest> chunk, DriverAssignmentResult result) {
+        Map<DriverAssignmentRequest, DriverAssignmentResult> results = new HashMap<>();
+        chunk.forEach(request -> results.put(request, result));
+        return results;
+    }
+
+    private DriverAssignmentResult toResult(boolean success, String driverId, String message) {
+        return success
+                ? DriverAssignmentResult.assigned(driverId)
+                : DriverAssignmentResult.rejected(message);
+    }
+
+    private String segmentKey(String hubDeliveryId, Integer segmentIndex) {
+        return hubDeliveryId + ":" + segmentIndex;
+    }
+}
@@ -0,0 +1,146 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 드라이버 배정 요청 병합 (Single-Flight)
+ * - 동일 (deliveryId, segmentIndex) 배정 호출이 동시에 들어오면 하나만 실행하고 결과를 공유
+ * - 배정 성공 결과는 짧은 TTL 동안 기억하여 재전송/중복 이벤트로 인한 반복 호출을 억제
+ * - 실패/지연 결과는 기억하지 않음 (다음 호출에서 다시 시도)
+ */
+@Slf4j
+@Component
+public class DriverAssignmentCoalescer {
+
+    private final ConcurrentHashMap<Key, CompletableFuture<DriverAssignmentResult>> inFlight =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, Memo> assigned = new ConcurrentHashMap<>();
+
+    private final long memoTtlNanos;
+    private final MeterRegistry meterRegistry;
+
+    public DriverAssignmentCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${driver-assignment.coalescing.memo-ttl:30s}") Duration memoTtl) {
+        this.meterRegistry = meterRegistry;
+        this.memoTtlNanos = memoTtl.toNanos();
+    }
+
+    /**
+     * 병합 실행
+     * - 기억된 성공 결과가 있으면 즉시 반환
+     * - 진행 중인 동일 호출이 있으면 그 결과를 기다려 공유
+     * - 없으면 직접 호출을 실행하고 대기 중인 호출자에게 결과 전달
+     *
+     * @param request 배정 요청
+     * @param call    실제 배정 호출
+     */
+    public DriverAssignmentResult execute(DriverAssignmentRequest request,
+                                          Supplier<DriverAssignmentResult> call) {
+        Key key = Key.of(request);
+
+        Memo memo = assigned.get(key);
+        if (memo != null) {
+            if (!memo.isExpired(System.nanoTime())) {
+                record(request, "memo");
+                log.debug("드라이버 배정 중복 호출 생략 (기배정) - {}, driverId: {}",
+                        request, memo.result().getDriverId());
+                return memo.result();
+            }
+            assigned.remove(key, memo);
+        }
+
+        CompletableFuture<DriverAssignmentResult> mine = new CompletableFuture<>();
+        CompletableFuture<DriverAssignmentResult> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            record(request, "in-flight");
+            log.debug("드라이버 배정 진행 중인 호출에 합류 - {}", request);
+            return join(existing);
+        }
+
+        try {
+            DriverAssignmentResult result = call.get();
+            if (result.isAssigned()) {
+                // 진행 중 항목 제거 전에 기록하여 그 사이 들어온 호출도 중복 실행되지 않도록 함
+                assigned.put(key, new Memo(result, System.nanoTime() + memoTtlNanos));
+            }
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 다른 경로(일괄 배정)에서 얻은 성공 결과 기록
+     */
+    public void remember(DriverAssignmentRequest request, DriverAssignmentResult result) {
+        if (result.isAssigned()) {
+            assigned.put(Key.of(request), new Memo(result, System.nanoTime() + memoTtlNanos));
+        }
+    }
+
+    /**
+     * 만료된 성공 결과 정리
+     */
+    @Scheduled(fixedDelayString = "${driver-assignment.coalescing.memo-ttl:30s}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        assigned.values().removeIf(memo -> memo.isExpired(now));
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private DriverAssignmentResult join(CompletableFuture<DriverAssignmentResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void record(DriverAssignmentRequest request, String source) {
+        Counter.builder("track.driver-assignment.coalesced")
+                .description("병합되어 외부 호출 없이 처리된 드라이버 배정 요청 수")
+                .tag("client", request.getType().getServiceName())
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 병합 키: 최종 배송은 segmentIndex 없음
+     */
+    private record Key(DriverAssignmentType type, String deliveryId, Integer segmentIndex) {
+
+        static Key of(DriverAssignmentRequest request) {
+            return new Key(request.getType(), request.getDeliveryId(), request.getSegmentIndex());
+        }
+    }
+
+    private record Memo(DriverAssignmentResult result, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+
+import java.util.function.Predicate;
+
+/**
+ * 서킷 브레이커 실패 판정
+ * - 외부 서비스 장애(5xx, 타임아웃, 연결 실패)만 실패로 기록
+ * - 잘못된 요청(400), 대상 없음(404) 등 비즈니스 오류는 서킷에 반영하지 않음
+ * - resilience4j.circuitbreaker.configs.*.record-failure-predicate 로 등록
+ */
+public class DriverAssignmentFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof TrackException trackException) {
+            return isExternalFailure(trackException);
+        }
+        return true;
+    }
+
+    static boolean isExternalFailure(TrackException exception) {
+        return exception.getErrorCode() == TrackErrorCode.EXTERNAL_SERVICE_ERROR
+                || exception.getErrorCode() == TrackErrorCode.EXTERNAL_SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,215 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.HubDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.AssignDriverForSegmentResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.LastMileDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.AssignDriverResponse;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 드라이버 배정 게이트웨이
+ * - HubDeliveryClient, LastMileDeliveryClient 호출을 서비스별 서킷 브레이커 + 세마포어 벌크헤드로 보호
+ * - 서킷 오픈 / 벌크헤드 포화 / 일시 장애 시 지연 큐에 적재하고 즉시 반환 (컨슈머 스레드 비블로킹)
+ * - 지연 큐는 서킷이 닫히거나 반개방 상태일 때 주기적으로 일괄 재처리 (DriverAssignmentBatchClient)
+ * - 동일 배정 요청은 DriverAssignmentCoalescer로 병합하여 한 번만 호출
+ */
+@Slf4j
+@Component
+public class DriverAssignmentGateway {
+
+    private final HubDeliveryClient hubDeliveryClient;
+    private final LastMileDeliveryClient lastMileDeliveryClient;
+    private final DeferredDriverAssignmentQueue deferredQueue;
+    private final DriverAssignmentCoalescer coalescer;
+    private final DriverAssignmentBatchClient batchClient;
+    private final TrackMetrics trackMetrics;
+    private final int maxAttempts;
+    private final int drainBatchSize;
+
+    private final Map<DriverAssignmentType, CircuitBreaker> circuitBreakers =
+            new EnumMap<>(DriverAssignmentType.class);
+    private final Map<DriverAssignmentType, Bulkhead> bulkheads =
+            new EnumMap<>(DriverAssignmentType.class);
+
+    public DriverAssignmentGateway(
+            HubDeliveryClient hubDeliveryClient,
+            LastMileDeliveryClient lastMileDeliveryClient,
+            DeferredDriverAssignmentQueue deferredQueue,
+            DriverAssignmentCoalescer coalescer,
+            DriverAssignmentBatchClient batchClient,
+            TrackMetrics trackMetrics,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${driver-assignment.deferred.max-attempts:20}") int maxAttempts,
+            @Value("${driver-assignment.deferred.drain-batch-size:500}") int drainBatchSize) {
+        this.hubDeliveryClient = hubDeliveryClient;
+        this.lastMileDeliveryClient = lastMileDeliveryClient;
+        this.deferredQueue = deferredQueue;
+        this.coalescer = coalescer;
+        this.batchClient = batchClient;
+        this.trackMetrics = trackMetrics;
+        this.maxAttempts = maxAttempts;
+        this.drainBatchSize = drainBatchSize;
+
+        for (DriverAssignmentType type : DriverAssignmentType.values()) {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(type.getServiceName());
+            registerTransitionMetrics(circuitBreaker, meterRegistry);
+
+            circuitBreakers.put(type, circuitBreaker);
+            bulkheads.put(type, bulkheadRegistry.bulkhead(type.getServiceName()));
+        }
+    }
+
+    /**
+     * 허브 구간 드라이버 배정
+     */
+    public DriverAssignmentResult assignHubSegmentDriver(String trackId, String hubDeliveryId, int segmentIndex) {
+        return execute(DriverAssignmentRequest.hubSegment(trackId, hubDeliveryId, segmentIndex));
+    }
+
+    /**
+     * 최종 배송 드라이버 배정
+     */
+    public DriverAssignmentResult assignLastMileDriver(String trackId, String lastMileDeliveryId) {
+        return execute(DriverAssignmentRequest.lastMile(trackId, lastMileDeliveryId));
+    }
+
+    /**
+     * 지연 큐 재처리
+     * - 서킷이 OPEN 상태인 서비스는 건너뜀 (HALF_OPEN에서는 허용된 호출만 통과)
+     */
+    @Scheduled(fixedDelayString = "${driver-assignment.deferred.drain-interval-ms:5000}")
+    public void drainDeferred() {
+        for (DriverAssignmentType type : DriverAssignmentType.values()) {
+            if (deferredQueue.size(type) == 0 || !isCallPermitted(type)) {
+                continue;
+            }
+
+            List<DriverAssignmentRequest> requests = deferredQueue.drain(type, drainBatchSize).stream()
+                    .map(DriverAssignmentRequest::nextAttempt)
+                    .toList();
+            log.info("지연 드라이버 배정 재처리 - client: {}, count: {}", type.getServiceName(), requests.size());
+
+            batchClient.assignAll(requests).forEach(this::handleDrained);
+        }
+    }
+
+    // ===== 내부 처리 =====
+
+    private DriverAssignmentResult execute(DriverAssignmentRequest request) {
+        return trackMetrics.driverAssignment(request.getType(),
+                () -> coalescer.execute(request, () -> executeGuarded(request)));
+    }
+
+    private DriverAssignmentResult executeGuarded(DriverAssignmentRequest request) {
+        DriverAssignmentType type = request.getType();
+        Supplier<DriverAssignmentResult> decorated = Bulkhead.decorateSupplier(
+                bulkheads.get(type),
+                CircuitBreaker.decorateSupplier(circuitBreakers.get(type), () -> invoke(request))
+        );
+
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException e) {
+            return defer(request, "서킷 오픈");
+        } catch (BulkheadFullException e) {
+            return defer(request, "동시 호출 한도 초과");
+        } catch (TrackException e) {
+            if (DriverAssignmentFailurePredicate.isExternalFailure(e)) {
+                return defer(request, e.getMessage());
+            }
+            log.error("{} 드라이버 배정 실패 (재시도 불가) - {}, error: {}",
+                    type.getDescription(), request, e.getMessage());
+            return DriverAssignmentResult.failed(e.getMessage());
+        } catch (Exception e) {
+            log.error("{} 드라이버 배정 중 오류 - {}, error: {}",
+                    type.getDescription(), request, e.getMessage(), e);
+            return defer(request, e.getMessage());
+        }
+    }
+
+    private DriverAssignmentResult invoke(DriverAssignmentRequest request) {
+        if (request.getType() == DriverAssignmentType.HUB_SEGMENT) {
+            AssignDriverForSegmentResponse response = hubDeliveryClient.assignDriverForSegment(
+                    request.getDeliveryId(), request.getSegmentIndex());
+            return response.isSuccess()
+                    ? DriverAssignmentResult.assigned(response.getDriverId())
+                    : DriverAssignmentResult.rejected(response.getMessage());
+        }
+
+        AssignDriverResponse response = lastMileDeliveryClient.assignDriver(request.getDeliveryId());
+        return response.isSuccess()
+                ? DriverAssignmentResult.assigned(response.getDriverId())
+                : DriverAssignmentResult.rejected(response.getMessage());
+    }
+
+    private void handleDrained(DriverAssignmentRequest request, DriverAssignmentResult result) {
+        switch (result.getStatus()) {
+            case ASSIGNED -> {
+                coalescer.remember(request, result);
+                log.info("지연 드라이버 배정 완료 - {}, driverId: {}", request, result.getDriverId());
+            }
+            case REJECTED -> log.warn("지연 드라이버 배정 거절 - {}, message: {}", request, result.getMessage());
+            case DEFERRED -> defer(request, result.getMessage());
+            case FAILED -> log.error("지연 드라이버 배정 실패 (재시도 불가) - {}, error: {}",
+                    request, result.getMessage());
+        }
+    }
+
+    private DriverAssignmentResult defer(DriverAssignmentRequest request, String reason) {
+        if (request.getAttempts() >= maxAttempts) {
+            log.error("지연 드라이버 배정 재시도 한도 초과 - {}, attempts: {}, reason: {}",
+                    request, request.getAttempts(), reason);
+            return DriverAssignmentResult.failed(reason);
+        }
+
+        if (!deferredQueue.offer(request)) {
+            return DriverAssignmentResult.failed("지연 큐 용량 초과");
+        }
+
+        log.warn("드라이버 배정 지연 처리 - {}, attempts: {}, reason: {}",
+                request, request.getAttempts(), reason);
+        return DriverAssignmentResult.deferred(reason);
+    }
+
+    private boolean isCallPermitted(DriverAssignmentType type) {
+        CircuitBreaker.State state = circuitBreakers.get(type).getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    private void registerTransitionMetrics(CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+
+            Counter.builder("track.driver-assignment.circuit.transitions")
+                    .description("드라이버 배정 서킷 브레이커 상태 전이 횟수")
+                    .tag("client", event.getCircuitBreakerName())
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+
+            log.warn("드라이버 배정 서킷 상태 전이 - client: {}, {} → {}",
+                    event.getCircuitBreakerName(), transition.getFromState(), transition.getToState());
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드라이버 배정 요청
+ * - 즉시 호출과 지연 큐 재처리에서 공통으로 사용
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE, toBuilder = true)
+public class DriverAssignmentRequest {
+
+    private final DriverAssignmentType type;
+    private final String trackId;
+
+    /**
+     * 허브 구간: hubDeliveryId / 최종 배송: lastMileDeliveryId
+     */
+    private final String deliveryId;
+
+    /**
+     * 허브 구간 인덱스 (최종 배송은 null)
+     */
+    private final Integer segmentIndex;
+
+    private final int attempts;
+    private final LocalDateTime requestedAt;
+
+    /**
+     * 허브 구간 드라이버 배정 요청 생성
+     */
+    public static DriverAssignmentRequest hubSegment(String trackId, String hubDeliveryId, int segmentIndex) {
+        return DriverAssignmentRequest.builder()
+                .type(DriverAssignmentType.HUB_SEGMENT)
+                .trackId(trackId)
+                .deliveryId(hubDeliveryId)
+                .segmentIndex(segmentIndex)
+                .attempts(0)
+                .requestedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 최종 배송 드라이버 배정 요청 생성
+     */
+    public static DriverAssignmentRequest lastMile(String trackId, String lastMileDeliveryId) {
+        return DriverAssignmentRequest.builder()
+                .type(DriverAssignmentType.LAST_MILE)
+                .trackId(trackId)
+                .deliveryId(lastMileDeliveryId)
+                .segmentIndex(null)
+                .attempts(0)
+                .requestedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 재시도 횟수 증가
+     */
+    public DriverAssignmentRequest nextAttempt() {
+        return this.toBuilder()
+                .attempts(this.attempts + 1)
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return type == DriverAssignmentType.HUB_SEGMENT
+                ? String.format("%s[trackId=%s, deliveryId=%s, segment=%d]", type, trackId, deliveryId, segmentIndex)
+                : String.format("%s[trackId=%s, deliveryId=%s]", type, trackId, deliveryId);
+    }
+}
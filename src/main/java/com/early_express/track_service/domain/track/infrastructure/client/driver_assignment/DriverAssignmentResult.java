@@ -0,0 +1,60 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 드라이버 배정 결과
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DriverAssignmentResult {
+
+    public enum Status {
+        /**
+         * 배정 성공
+         */
+        ASSIGNED,
+        /**
+         * 외부 서비스가 배정을 거절 (success=false)
+         */
+        REJECTED,
+        /**
+         * 서킷 오픈 / 벌크헤드 포화 / 일시 장애로 지연 큐에 적재
+         */
+        DEFERRED,
+        /**
+         * 재시도 불가능한 실패 (잘못된 요청, 대상 없음)
+         */
+        FAILED
+    }
+
+    private final Status status;
+    private final String driverId;
+    private final String message;
+
+    public static DriverAssignmentResult assigned(String driverId) {
+        return new DriverAssignmentResult(Status.ASSIGNED, driverId, null);
+    }
+
+    public static DriverAssignmentResult rejected(String message) {
+        return new DriverAssignmentResult(Status.REJECTED, null, message);
+    }
+
+    public static DriverAssignmentResult deferred(String message) {
+        return new DriverAssignmentResult(Status.DEFERRED, null, message);
+    }
+
+    public static DriverAssignmentResult failed(String message) {
+        return new DriverAssignmentResult(Status.FAILED, null, message);
+    }
+
+    public boolean isAssigned() {
+        return status == Status.ASSIGNED;
+    }
+
+    public boolean isDeferred() {
+        return status == Status.DEFERRED;
+    }
+}
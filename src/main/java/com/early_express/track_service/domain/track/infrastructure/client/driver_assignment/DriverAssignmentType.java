@@ -0,0 +1,19 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 드라이버 배정 대상 구분
+ * - 호출 대상 서비스명은 Feign 클라이언트 name, Resilience4j 인스턴스명과 동일
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DriverAssignmentType {
+
+    HUB_SEGMENT("hub-delivery-service", "허브 구간"),
+    LAST_MILE("delivery-service", "최종 배송");
+
+    private final String serviceName;
+    private final String description;
+}
@@ -1,9 +1,12 @@
 package com.early_express.track_service.domain.track.infrastructure.client.hub_delivery;
 
 import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.AssignDriverForSegmentResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.BatchAssignDriverForSegmentRequest;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.BatchAssignDriverForSegmentResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 /**
  * HubDelivery Service Feign Client
@@ -30,4 +33,17 @@ public interface HubDeliveryClient {
             @PathVariable("hubDeliveryId") String hubDeliveryId,
             @PathVariable("segmentIndex") Integer segmentIndex
     );
+
+    /**
+     * 구간 드라이버 일괄 배정 요청
+     * - 장애 복구 후 지연 큐 재처리 시 호출
+     * - 항목별 결과를 반환하며 일부 실패해도 나머지는 처리
+     *
+     * @param request 배정 대상 (hubDeliveryId, segmentIndex) 목록
+     * @return 항목별 배정 결과
+     */
+    @PostMapping("/v1/hub-delivery/internal/deliveries/segments/assign-driver/batch")
+    BatchAssignDriverForSegmentResponse assignDriversForSegments(
+            @RequestBody BatchAssignDriverForSegmentRequest request
+    );
 }
\ No newline at end of file
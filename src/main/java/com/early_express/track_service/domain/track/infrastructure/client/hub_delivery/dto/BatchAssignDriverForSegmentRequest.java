@@ -0,0 +1,30 @@
+package com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 구간 드라이버 일괄 배정 요청 DTO
+ * Track Service → HubDelivery Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAssignDriverForSegmentRequest {
+
+    private List<Item> items;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String hubDeliveryId;
+        private Integer segmentIndex;
+    }
+}
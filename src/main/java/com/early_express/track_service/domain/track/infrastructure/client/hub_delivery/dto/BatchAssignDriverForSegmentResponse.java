@@ -0,0 +1,22 @@
+package com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 구간 드라이버 일괄 배정 응답 DTO
+ * HubDelivery Service → Track Service
+ * - 요청 항목별 결과 (hubDeliveryId + segmentIndex로 식별)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAssignDriverForSegmentResponse {
+
+    private List<AssignDriverForSegmentResponse> results;
+}
@@ -1,9 +1,12 @@
 package com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery;
 
 import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.AssignDriverResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.BatchAssignDriverRequest;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto.BatchAssignDriverResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 /**
  * LastMile Delivery Service Feign Client
@@ -28,4 +31,17 @@ public interface LastMileDeliveryClient {
     AssignDriverResponse assignDriver(
             @PathVariable("lastMileDeliveryId") String lastMileDeliveryId
     );
+
+    /**
+     * 드라이버 일괄 배정 요청
+     * - 장애 복구 후 지연 큐 재처리 시 호출
+     * - 항목별 결과를 반환하며 일부 실패해도 나머지는 처리
+     *
+     * @param request 배정 대상 lastMileDeliveryId 목록
+     * @return 항목별 배정 결과
+     */
+    @PostMapping("/v1/last-mile-delivery/internal/deliveries/assign-driver/batch")
+    BatchAssignDriverResponse assignDrivers(
+            @RequestBody BatchAssignDriverRequest request
+    );
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery;
 
+import feign.Request;
+import feign.Retryer;
 import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * LastMileDelivery Client 설정
+ * - 이 클라이언트의 Feign 컨텍스트에만 등록 (@Configuration 아님 → 전역 Feign 설정과 충돌하지 않음)
  */
-@Configuration
 public class LastMileDeliveryClientConfig {
 
     /**
@@ -17,4 +21,25 @@ public class LastMileDeliveryClientConfig {
     public ErrorDecoder lastMileDeliveryErrorDecoder() {
         return new LastMileDeliveryErrorDecoder();
     }
-}
\ No newline at end of file
+
+    /**
+     * 재시도 없음 (실패는 서킷 브레이커에 바로 기록, 재처리는 지연 큐가 담당)
+     */
+    @Bean
+    public Retryer lastMileDeliveryRetryer() {
+        return Retryer.NEVER_RETRY;
+    }
+
+    /**
+     * 짧은 타임아웃 (서킷 브레이커 느린 호출 기준보다 짧게)
+     */
+    @Bean
+    public Request.Options lastMileDeliveryRequestOptions(
+            @Value("${driver-assignment.client.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${driver-assignment.client.read-timeout-ms:3000}") long readTimeoutMillis) {
+        return new Request.Options(
+                connectTimeoutMillis, TimeUnit.MILLISECONDS,
+                readTimeoutMillis, TimeUnit.MILLISECONDS,
+                true);
+    }
+}
@@ -0,0 +1,21 @@
+package com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 최종 배송 드라이버 일괄 배정 요청 DTO
+ * Track Service → LastMile Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAssignDriverRequest {
+
+    private List<String> lastMileDeliveryIds;
+}
@@ -0,0 +1,22 @@
+package com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 최종 배송 드라이버 일괄 배정 응답 DTO
+ * LastMile Service → Track Service
+ * - 요청 항목별 결과 (lastMileDeliveryId로 식별)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAssignDriverResponse {
+
+    private List<AssignDriverResponse> results;
+}
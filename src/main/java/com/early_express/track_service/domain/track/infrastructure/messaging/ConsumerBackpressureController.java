@@ -0,0 +1,302 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging;
+
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 컨슈머 동시 처리량 조절 (AIMD 백프레셔)
+ * - 리스너 컨테이너에 할당된 파티션 중 동시에 처리할 수 있는 수(limit)를 주기적으로 조정
+ * - DB 포화(커넥션 대기 스레드, 커넥션 획득 시간) 또는 처리 지연이 임계값을 넘으면 limit 절반으로 감소
+ *   → 초과분 파티션은 pausePartition (할당은 유지, 오프셋 그대로) → Postgres 부하 완화
+ * - 포화가 풀리면 limit 1씩 증가, 컨슈머 랙이 크면 더 빠르게 증가 → 밀린 이벤트를 빨리 소진
+ * - 실행할 파티션 선택: 리스너 컨테이너를 랙 합계 순으로 돌아가며 각자 가장 밀린 파티션을 하나씩 배정
+ *   → limit이 컨테이너 수 이상이면 모든 토픽이 최소 1개 파티션은 처리, 그보다 작으면 랙이 큰 토픽 우선
+ *   (랙이 같으면 오래 멈춰 있던 파티션 우선)
+ * - 재시도 토픽(<토픽>-retry-N) 파티션은 대상에서 제외 (spring-kafka가 재시도 지연 동안 pause/resume)
+ * - 이 컨트롤러가 멈춘 파티션만 재개 (다른 주체가 멈춘 파티션은 건드리지 않음)
+ * - 지연 값은 직전 주기 이후 구간 평균 (누적 평균이 아님)
+ * - 기본 비활성 (track-event.backpressure.enabled=true 일 때만 등록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "track-event.backpressure.enabled", havingValue = "true")
+public class ConsumerBackpressureController {
+
+    static final String HIKARI_PENDING = "hikaricp.connections.pending";
+    static final String HIKARI_ACQUIRE = "hikaricp.connections.acquire";
+    static final String RECORDS_LAG = "kafka.consumer.fetch.manager.records.lag.max";
+    static final String PARTITION_LAG = "kafka.consumer.fetch.manager.records.lag";
+
+    private static final Pattern RETRY_TOPIC = Pattern.compile(".+-retry-\\d+$");
+
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final int maxPendingConnections;
+    private final long maxAcquireNanos;
+    private final long maxHandlerNanos;
+    private final long lagThreshold;
+    private final int minActive;
+
+    private final AtomicInteger limit = new AtomicInteger(-1);
+    private final AtomicInteger total = new AtomicInteger();
+    /**
+     * 이 컨트롤러가 멈춘 파티션 → 멈춘 시각
+     */
+    private final Map<TopicPartition, Long> pausedSince = new HashMap<>();
+    private final Window acquireWindow = new Window();
+    private final Window handlerWindow = new Window();
+
+    public ConsumerBackpressureController(
+            KafkaListenerEndpointRegistry listenerRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${track-event.backpressure.max-pending-connections:5}") int maxPendingConnections,
+            @Value("${track-event.backpressure.max-acquire-time:50ms}") Duration maxAcquireTime,
+            @Value("${track-event.backpressure.max-handler-latency:1s}") Duration maxHandlerLatency,
+            @Value("${track-event.backpressure.lag-threshold:1000}") long lagThreshold,
+            @Value("${track-event.backpressure.min-active:1}") int minActive) {
+        this.listenerRegistry = listenerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.maxPendingConnections = maxPendingConnections;
+        this.maxAcquireNanos = maxAcquireTime.toNanos();
+        this.maxHandlerNanos = maxHandlerLatency.toNanos();
+        this.lagThreshold = lagThreshold;
+        this.minActive = minActive;
+
+        Gauge.builder("track.consumer.active.limit", limit, l -> Math.max(l.get(), 0))
+                .description("동시에 처리 중인(일시 정지되지 않은) 파티션 수 상한")
+                .register(meterRegistry);
+        Gauge.builder("track.consumer.partitions", total, AtomicInteger::get)
+                .description("리스너 컨테이너에 할당된 파티션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 신호 수집 → limit 조정 → 파티션 pause/resume
+     */
+    @Scheduled(fixedDelayString = "${track-event.backpressure.interval:1s}")
+    public synchronized void adjust() {
+        List<Slot> slots = slots();
+        if (slots.isEmpty()) {
+            return;
+        }
+        total.set(slots.size());
+
+        int current = limit.get() < 0 ? slots.size() : Math.min(limit.get(), slots.size());
+        int next = nextLimit(current, slots.size(), sample());
+        limit.set(next);
+        apply(slots, select(slots, next));
+    }
+
+    /**
+     * AIMD: 포화 시 절반(최소 min-active), 여유 시 +1 (랙이 크면 전체의 1/4씩)
+     */
+    int nextLimit(int current, int max, Signals signals) {
+        String reason = saturationReason(signals);
+        if (reason != null) {
+            int next = Math.max(Math.min(minActive, max), current / 2);
+            if (next < current) {
+                count("decrease");
+                log.warn("컨슈머 처리량 감소 - {} → {} / {}, 원인: {}, 신호: {}", current, next, max, reason, signals);
+            }
+            return next;
+        }
+        if (current >= max) {
+            return max;
+        }
+        int step = signals.lag() >= lagThreshold ? Math.max(1, max / 4) : 1;
+        int next = Math.min(max, current + step);
+        count("increase");
+        log.info("컨슈머 처리량 증가 - {} → {} / {}, 신호: {}", current, next, max, signals);
+        return next;
+    }
+
+    private String saturationReason(Signals signals) {
+        if (signals.pendingConnections() > maxPendingConnections) {
+            return "커넥션 대기";
+        }
+        if (signals.acquireNanos() > maxAcquireNanos) {
+            return "커넥션 획득 지연";
+        }
+        if (signals.handlerNanos() > maxHandlerNanos) {
+            return "처리 지연";
+        }
+        return null;
+    }
+
+    Signals sample() {
+        double pending = meterRegistry.find(HIKARI_PENDING).gauges().stream()
+                .mapToDouble(Gauge::value).filter(Double::isFinite).sum();
+        double lag = meterRegistry.find(RECORDS_LAG).gauges().stream()
+                .mapToDouble(Gauge::value).filter(Double::isFinite).max().orElse(0);
+        long acquire = acquireWindow.meanNanos(meterRegistry.find(HIKARI_ACQUIRE).timers());
+        long handler = handlerWindow.meanNanos(meterRegistry.find(TrackMetrics.CONSUME).timers());
+        return new Signals((int) pending, acquire, handler, (long) lag);
+    }
+
+    /**
+     * 실행할 파티션 선택
+     * - 컨테이너별로 (랙 큰 순 → 오래 멈춘 순) 정렬
+     * - 컨테이너를 랙 합계 큰 순으로 돌면서 하나씩 배정
+     */
+    Set<TopicPartition> select(List<Slot> slots, int active) {
+        Map<MessageListenerContainer, Deque<Slot>> byContainer = new LinkedHashMap<>();
+        slots.stream()
+                .sorted(Comparator.comparing(Slot::lag, Comparator.reverseOrder())
+                        .thenComparing(slot -> pausedSince.getOrDefault(slot.partition(), Long.MAX_VALUE)))
+                .forEach(slot -> byContainer.computeIfAbsent(slot.container(), c -> new ArrayDeque<>()).add(slot));
+
+        List<Deque<Slot>> queues = new ArrayList<>(byContainer.values());
+        queues.sort(Comparator.comparing(
+                (Deque<Slot> queue) -> queue.stream().mapToLong(Slot::lag).sum(), Comparator.reverseOrder()));
+
+        Set<TopicPartition> selected = new HashSet<>();
+        boolean remaining = true;
+        while (selected.size() < active && remaining) {
+            remaining = false;
+            for (Deque<Slot> queue : queues) {
+                Slot slot = queue.poll();
+                if (slot != null && selected.size() < active) {
+                    selected.add(slot.partition());
+                    remaining = true;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private void apply(List<Slot> slots, Set<TopicPartition> active) {
+        long now = System.nanoTime();
+        for (Slot slot : slots) {
+            MessageListenerContainer container = slot.container();
+            TopicPartition partition = slot.partition();
+            if (active.contains(partition)) {
+                if (pausedSince.remove(partition) != null) {
+                    container.resumePartition(partition);
+                }
+            } else if (!pausedSince.containsKey(partition) && !container.isPartitionPauseRequested(partition)) {
+                container.pausePartition(partition);
+                pausedSince.put(partition, now);
+            }
+        }
+        // 할당 해제된 파티션 정리
+        Set<TopicPartition> assigned = new HashSet<>();
+        slots.forEach(slot -> assigned.add(slot.partition()));
+        pausedSince.keySet().retainAll(assigned);
+    }
+
+    private List<Slot> slots() {
+        Map<TopicPartition, Long> lags = partitionLags();
+        List<Slot> slots = new ArrayList<>();
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            Collection<TopicPartition> partitions = container.isRunning() ? container.getAssignedPartitions() : null;
+            if (partitions == null) {
+                continue;
+            }
+            for (TopicPartition partition : partitions) {
+                if (!RETRY_TOPIC.matcher(partition.topic()).matches()) {
+                    slots.add(new Slot(container, partition, lags.getOrDefault(partition, 0L)));
+                }
+            }
+        }
+        return slots;
+    }
+
+    private Map<TopicPartition, Long> partitionLags() {
+        Map<TopicPartition, Long> lags = new HashMap<>();
+        for (Gauge gauge : meterRegistry.find(PARTITION_LAG).gauges()) {
+            String topic = gauge.getId().getTag("topic");
+            String partition = gauge.getId().getTag("partition");
+            double lag = gauge.value();
+            if (topic != null && partition != null && Double.isFinite(lag)) {
+                lags.merge(new TopicPartition(topic, Integer.parseInt(partition)), (long) lag, Math::max);
+            }
+        }
+        return lags;
+    }
+
+    private void count(String action) {
+        Counter.builder("track.consumer.backpressure")
+                .description("컨슈머 처리량 조정 횟수")
+                .tag("action", action)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 조정 신호
+     *
+     * @param pendingConnections 커넥션 대기 스레드 수
+     * @param acquireNanos       구간 평균 커넥션 획득 시간
+     * @param handlerNanos       구간 평균 이벤트 처리 시간
+     * @param lag                파티션 최대 랙
+     */
+    record Signals(int pendingConnections, long acquireNanos, long handlerNanos, long lag) {
+
+        @Override
+        public String toString() {
+            return "pending=" + pendingConnections
+                    + ", acquire=" + TimeUnit.NANOSECONDS.toMillis(acquireNanos) + "ms"
+                    + ", handler=" + TimeUnit.NANOSECONDS.toMillis(handlerNanos) + "ms"
+                    + ", lag=" + lag;
+        }
+    }
+
+    /**
+     * 할당된 파티션
+     *
+     * @param container 파티션이 속한 리스너 컨테이너
+     * @param lag       파티션 랙 (지표가 없으면 0)
+     */
+    record Slot(MessageListenerContainer container, TopicPartition partition, long lag) {
+    }
+
+    /**
+     * 타이머 구간 평균 (직전 호출 이후 증가분 기준)
+     */
+    private static final class Window {
+
+        private double lastTotalNanos;
+        private long lastCount;
+
+        long meanNanos(Collection<Timer> timers) {
+            double totalNanos = 0;
+            long count = 0;
+            for (Timer timer : timers) {
+                totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+                count += timer.count();
+            }
+            long deltaCount = count - lastCount;
+            double deltaNanos = totalNanos - lastTotalNanos;
+            lastTotalNanos = totalNanos;
+            lastCount = count;
+            return deltaCount > 0 ? (long) (deltaNanos / deltaCount) : 0;
+        }
+    }
+}
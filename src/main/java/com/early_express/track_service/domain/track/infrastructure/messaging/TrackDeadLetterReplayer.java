@@ -0,0 +1,167 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DLT 일괄 재처리
+ * - 공용 DLT(<application>-dlt)를 전용 컨슈머 그룹으로 읽어 원래 토픽으로 다시 발행
+ * - 컨슈머 그룹 오프셋이 재처리 위치 (이미 재발행한 레코드는 다시 보내지 않음)
+ * - 실행 시점의 끝 오프셋까지만 처리 (재처리 중 다시 실패해 들어온 레코드는 다음 실행 대상)
+ * - 원래 토픽은 첫 번째 kafka_original-topic 헤더 (재시도 토픽을 거쳐도 최초 토픽)
+ * - 원래 위치/예외/재시도 헤더는 제거하여 재시도 단계를 처음부터 다시 밟게 함, 추적/contentType 헤더 등은 유지
+ * - 발행 완료 후 오프셋 커밋 (중간 실패 시 커밋된 지점부터 다시 재처리)
+ */
+@Slf4j
+@Component
+public class TrackDeadLetterReplayer {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final int MAX_EMPTY_POLLS = 3;
+    /**
+     * 재발행 시 제거할 헤더 (원래 위치/예외 정보, 재시도 단계)
+     */
+    private static final List<String> FAILURE_HEADER_PREFIXES =
+            List.of("kafka_original-", "kafka_exception-", "kafka_dlt-", "retry_topic-");
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final KafkaTemplate<String, byte[]> deadLetterKafkaTemplate;
+    private final String deadLetterTopic;
+    private final String replayGroupId;
+
+    public TrackDeadLetterReplayer(
+            ConsumerFactory<String, Object> consumerFactory,
+            KafkaTemplate<String, byte[]> deadLetterKafkaTemplate,
+            @Value("${spring.application.name}") String applicationName) {
+        this.consumerFactory = consumerFactory;
+        this.deadLetterKafkaTemplate = deadLetterKafkaTemplate;
+        this.deadLetterTopic = applicationName + "-dlt";
+        this.replayGroupId = applicationName + "-dlt-replay";
+    }
+
+    /**
+     * DLT 재처리
+     *
+     * @param limit 최대 처리 건수 (남은 레코드는 다음 실행에서 이어서 처리)
+     * @return 재처리 결과
+     */
+    public ReplayResult replay(int limit) {
+        int replayed = 0;
+        int skipped = 0;
+        Map<String, Integer> byTopic = new HashMap<>();
+
+        try (Consumer<String, Object> consumer = consumerFactory.createConsumer(replayGroupId, "dlt-replay")) {
+            List<TopicPartition> partitions = partitionsOf(consumer);
+            if (partitions.isEmpty()) {
+                return new ReplayResult(0, 0, byTopic);
+            }
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            int emptyPolls = 0;
+            while (replayed + skipped < limit && !isCaughtUp(consumer, endOffsets)
+                    && emptyPolls < MAX_EMPTY_POLLS) {
+                ConsumerRecords<String, Object> records = consumer.poll(POLL_TIMEOUT);
+                emptyPolls = records.isEmpty() ? emptyPolls + 1 : 0;
+                List<CompletableFuture<?>> sends = new ArrayList<>();
+                Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+
+                for (ConsumerRecord<String, Object> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= endOffsets.get(partition) || replayed + skipped >= limit) {
+                        continue;
+                    }
+                    commits.put(partition, new OffsetAndMetadata(record.offset() + 1));
+
+                    String target = originalTopicOf(record);
+                    if (target == null) {
+                        log.warn("원래 토픽 헤더가 없어 재처리 불가 - partition: {}, offset: {}",
+                                record.partition(), record.offset());
+                        skipped++;
+                        continue;
+                    }
+                    sends.add(deadLetterKafkaTemplate.send(toReplayRecord(target, record)));
+                    byTopic.merge(target, 1, Integer::sum);
+                    replayed++;
+                }
+
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                if (!commits.isEmpty()) {
+                    consumer.commitSync(commits);
+                }
+                // limit 도달 시 아직 처리하지 않은 레코드는 커밋하지 않음 → 다음 실행에서 이어서 처리
+            }
+        }
+
+        log.info("DLT 재처리 완료 - replayed: {}, skipped: {}, byTopic: {}", replayed, skipped, byTopic);
+        return new ReplayResult(replayed, skipped, byTopic);
+    }
+
+    // ===== 내부 처리 =====
+
+    private List<TopicPartition> partitionsOf(Consumer<String, Object> consumer) {
+        List<PartitionInfo> infos = consumer.partitionsFor(deadLetterTopic);
+        if (infos == null) {
+            return List.of();
+        }
+        return infos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+
+    private boolean isCaughtUp(Consumer<String, Object> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    /**
+     * 최초 원래 토픽 (첫 번째 헤더)
+     */
+    private static String originalTopicOf(ConsumerRecord<String, Object> record) {
+        Iterator<Header> headers = record.headers().headers(KafkaHeaders.ORIGINAL_TOPIC).iterator();
+        return headers.hasNext() ? new String(headers.next().value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static ProducerRecord<String, byte[]> toReplayRecord(String topic, ConsumerRecord<String, Object> record) {
+        Headers headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (FAILURE_HEADER_PREFIXES.stream().noneMatch(header.key()::startsWith)) {
+                headers.add(header);
+            }
+        }
+        return new ProducerRecord<>(topic, null, record.key(), (byte[]) record.value(), headers);
+    }
+
+    /**
+     * 재처리 결과
+     *
+     * @param replayed 재발행 건수
+     * @param skipped  원래 토픽 헤더가 없어 건너뛴 건수 (오프셋은 커밋됨)
+     * @param byTopic  원래 토픽별 재발행 건수
+     */
+    public record ReplayResult(int replayed, int skipped, Map<String, Integer> byTopic) {
+    }
+}
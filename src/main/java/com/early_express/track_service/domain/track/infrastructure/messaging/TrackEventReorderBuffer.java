@@ -0,0 +1,149 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 주문별 이벤트 재정렬
+ * - 토픽/파티션이 달라 선행 이벤트보다 먼저 도착한 이벤트(구간 출발 전 도착, 최종 출발 전 완료 등)는
+ *   파티션에서 재시도하지 않고 바로 첫 재시도 토픽(<토픽>-retry-0)으로 발행한 뒤 레코드 커밋
+ *   → 재시도 토픽의 지연(initial-delay)이 지나 선행 이벤트가 반영된 뒤 다시 적용, 파티션은 막히지 않음
+ * - 메모리에 보류하지 않음 → 발행이 확인된 뒤에만 커밋되므로 비정상 종료 시에도 유실 없음
+ * - 순서 판단: 핸들러의 EVENT_OUT_OF_ORDER, 추적 생성 전 도착(TRACK_NOT_FOUND)
+ * - 주문별 잠금: 같은 주문의 적용만 직렬화 (다른 토픽 리스너 간 경합으로 인한 불필요한 재발행 방지),
+ *   다른 주문은 서로 기다리지 않음
+ * - 재시도 토픽에서 받은 레코드, 재시도 토픽이 없는 통합 추적 토픽은 예외를 그대로 던짐 (기존 재시도 흐름)
+ */
+@Slf4j
+@Component
+public class TrackEventReorderBuffer {
+
+    private static final Pattern RETRY_TOPIC = Pattern.compile(".+-retry-\\d+$");
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final DeadLetterPublishingRecoverer recoverer;
+    private final String multiplexTopic;
+    private final MeterRegistry meterRegistry;
+
+    public TrackEventReorderBuffer(
+            MeterRegistry meterRegistry,
+            @Qualifier("outOfOrderRecoverer") DeadLetterPublishingRecoverer recoverer,
+            @Value("${spring.kafka.topic.tracking-events}") String multiplexTopic) {
+        this.meterRegistry = meterRegistry;
+        this.recoverer = recoverer;
+        this.multiplexTopic = multiplexTopic;
+    }
+
+    /**
+     * 이벤트 적용
+     * - 같은 주문의 적용은 하나씩 진행 (서로 다른 토픽의 리스너 스레드 간 경합 방지)
+     * - 선행 이벤트 대기로 재시도 토픽에 발행한 경우 정상 반환 (호출 측이 커밋),
+     *   발행 실패 시 예외를 던져 커밋하지 않음
+     *
+     * @param record       원본 레코드 (순서가 앞서면 원본 그대로 재시도 토픽으로 발행)
+     * @param orderId      주문 ID
+     * @param eventType    이벤트 타입
+     * @param segmentIndex 허브 구간 순서 (구간 이벤트가 아니면 null)
+     * @param handler      핸들러 호출 (트랜잭션 커밋까지 포함)
+     * @param afterApplied 반영 완료 후 처리 (가시화 지연 기록 등)
+     */
+    public void dispatch(ConsumerRecord<?, ?> record, String orderId, TrackEventType eventType,
+                         Integer segmentIndex, Runnable handler, Runnable afterApplied) {
+        Lane lane = acquire(orderId);
+        try {
+            handler.run();
+        } catch (TrackException e) {
+            if (!isOutOfOrder(e) || !hasRetryTopic(record)) {
+                throw e;
+            }
+            park(record, orderId, eventType, segmentIndex, e);
+            return;
+        } finally {
+            release(orderId, lane);
+        }
+        afterApplied.run();
+    }
+
+    int lanes() {
+        return lanes.size();
+    }
+
+    // ===== 내부 처리 =====
+
+    /**
+     * 재시도 토픽으로 발행 (전송 결과까지 확인, 실패 시 예외 → 레코드 미커밋)
+     */
+    private void park(ConsumerRecord<?, ?> record, String orderId, TrackEventType eventType,
+                      Integer segmentIndex, TrackException cause) {
+        try {
+            recoverer.accept(record, cause);
+        } catch (RuntimeException e) {
+            count(eventType, "failed");
+            log.error("선행 이벤트 대기 레코드 재시도 토픽 발행 실패 - orderId: {}, event: {}, error: {}",
+                    orderId, eventType, e.getMessage(), e);
+            throw e;
+        }
+        count(eventType, "deferred");
+        log.debug("선행 이벤트 대기로 재시도 토픽에 발행 - orderId: {}, event: {}, segment: {}, reason: {}",
+                orderId, eventType, segmentIndex, cause.getMessage());
+    }
+
+    private Lane acquire(String orderId) {
+        Lane lane = lanes.compute(orderId, (id, existing) -> {
+            Lane target = existing != null ? existing : new Lane();
+            target.users++;
+            return target;
+        });
+        lane.lock.lock();
+        return lane;
+    }
+
+    /**
+     * 잠금 해제, 사용자가 없으면 주문 잠금 제거
+     */
+    private void release(String orderId, Lane lane) {
+        lane.lock.unlock();
+        lanes.computeIfPresent(orderId, (id, existing) -> --existing.users == 0 ? null : existing);
+    }
+
+    private static boolean isOutOfOrder(TrackException e) {
+        return e.getErrorCode() == TrackErrorCode.EVENT_OUT_OF_ORDER
+                || e.getErrorCode() == TrackErrorCode.TRACK_NOT_FOUND;
+    }
+
+    private boolean hasRetryTopic(ConsumerRecord<?, ?> record) {
+        return !RETRY_TOPIC.matcher(record.topic()).matches() && !multiplexTopic.equals(record.topic());
+    }
+
+    private void count(TrackEventType eventType, String result) {
+        Counter.builder("track.event.reorder")
+                .description("순서가 앞선 이벤트 처리 건수 (deferred/failed)")
+                .tag("event", eventType.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 주문별 잠금 (users는 lanes.compute 안에서만 변경)
+     */
+    private static final class Lane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+    }
+}
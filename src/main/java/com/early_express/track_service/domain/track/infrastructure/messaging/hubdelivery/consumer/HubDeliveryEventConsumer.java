@@ -1,10 +1,14 @@
 package com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.consumer;
 
 import com.early_express.track_service.domain.track.application.event.TrackEventHandler;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackEventReorderBuffer;
 import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentArrivedEvent;
 import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -22,6 +26,8 @@ import org.springframework.stereotype.Component;
 public class HubDeliveryEventConsumer {
 
     private final TrackEventHandler trackEventHandler;
+    private final TrackMetrics trackMetrics;
+    private final TrackEventReorderBuffer reorderBuffer;
 
     /**
      * 허브 구간 출발 이벤트 수신
@@ -34,18 +40,32 @@ public class HubDeliveryEventConsumer {
     public void handleHubSegmentDeparted(
             @Payload HubSegmentDepartedEvent event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
+            ConsumerRecord<String, byte[]> record,
             Acknowledgment ack) {
 
-        log.info("[HubDelivery] HubSegmentDeparted 수신 - key: {}, partition: {}, offset: {}",
-                key, partition, offset);
+        log.atDebug()
+                .addKeyValue("event", "HubSegmentDeparted")
+                .addKeyValue("key", key)
+                .addKeyValue("partition", partition)
+                .addKeyValue("offset", offset)
+                .log("[HubDelivery] HubSegmentDeparted 수신");
 
         try {
-            trackEventHandler.handleHubSegmentDeparted(event);
+            trackMetrics.consume("HubSegmentDeparted", topic, () -> reorderBuffer.dispatch(
+                    record, event.getOrderId(), TrackEventType.HUB_SEGMENT_DEPARTED, event.getSegmentIndex(),
+                    () -> trackEventHandler.handleHubSegmentDeparted(event),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            event.getFromHubId(), event.getDepartedAt(), event.getTimestamp())));
             ack.acknowledge();
-            log.info("[HubDelivery] HubSegmentDeparted 처리 완료 - orderId: {}, segment: {}",
-                    event.getOrderId(), event.getSegmentIndex());
+            log.atDebug()
+                    .addKeyValue("event", "HubSegmentDeparted")
+                    .addKeyValue("orderId", event.getOrderId())
+                    .addKeyValue("segment", event.getSegmentIndex())
+                    .log("[HubDelivery] HubSegmentDeparted 처리 완료");
         } catch (Exception e) {
             log.error("[HubDelivery] HubSegmentDeparted 처리 실패 - orderId: {}, error: {}",
                     event.getOrderId(), e.getMessage(), e);
@@ -64,18 +84,32 @@ public class HubDeliveryEventConsumer {
     public void handleHubSegmentArrived(
             @Payload HubSegmentArrivedEvent event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
+            ConsumerRecord<String, byte[]> record,
             Acknowledgment ack) {
 
-        log.info("[HubDelivery] HubSegmentArrived 수신 - key: {}, partition: {}, offset: {}",
-                key, partition, offset);
+        log.atDebug()
+                .addKeyValue("event", "HubSegmentArrived")
+                .addKeyValue("key", key)
+                .addKeyValue("partition", partition)
+                .addKeyValue("offset", offset)
+                .log("[HubDelivery] HubSegmentArrived 수신");
 
         try {
-            trackEventHandler.handleHubSegmentArrived(event);
+            trackMetrics.consume("HubSegmentArrived", topic, () -> reorderBuffer.dispatch(
+                    record, event.getOrderId(), TrackEventType.HUB_SEGMENT_ARRIVED, event.getSegmentIndex(),
+                    () -> trackEventHandler.handleHubSegmentArrived(event),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            event.getHubId(), event.getArrivedAt(), event.getTimestamp())));
             ack.acknowledge();
-            log.info("[HubDelivery] HubSegmentArrived 처리 완료 - orderId: {}, segment: {}",
-                    event.getOrderId(), event.getSegmentIndex());
+            log.atDebug()
+                    .addKeyValue("event", "HubSegmentArrived")
+                    .addKeyValue("orderId", event.getOrderId())
+                    .addKeyValue("segment", event.getSegmentIndex())
+                    .log("[HubDelivery] HubSegmentArrived 처리 완료");
         } catch (Exception e) {
             log.error("[HubDelivery] HubSegmentArrived 처리 실패 - orderId: {}, error: {}",
                     event.getOrderId(), e.getMessage(), e);
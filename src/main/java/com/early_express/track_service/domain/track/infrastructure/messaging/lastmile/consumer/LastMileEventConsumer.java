@@ -1,10 +1,14 @@
 package com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.consumer;
 
 import com.early_express.track_service.domain.track.application.event.TrackEventHandler;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackEventReorderBuffer;
 import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileCompletedEvent;
 import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -22,6 +26,8 @@ import org.springframework.stereotype.Component;
 public class LastMileEventConsumer {
 
     private final TrackEventHandler trackEventHandler;
+    private final TrackMetrics trackMetrics;
+    private final TrackEventReorderBuffer reorderBuffer;
 
     /**
      * 최종 배송 출발 이벤트 수신
@@ -34,17 +40,31 @@ public class LastMileEventConsumer {
     public void handleLastMileDeparted(
             @Payload LastMileDepartedEvent event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
+            ConsumerRecord<String, byte[]> record,
             Acknowledgment ack) {
 
-        log.info("[LastMile] LastMileDeparted 수신 - key: {}, partition: {}, offset: {}",
-                key, partition, offset);
+        log.atDebug()
+                .addKeyValue("event", "LastMileDeparted")
+                .addKeyValue("key", key)
+                .addKeyValue("partition", partition)
+                .addKeyValue("offset", offset)
+                .log("[LastMile] LastMileDeparted 수신");
 
         try {
-            trackEventHandler.handleLastMileDeparted(event);
+            trackMetrics.consume("LastMileDeparted", topic, () -> reorderBuffer.dispatch(
+                    record, event.getOrderId(), TrackEventType.LAST_MILE_DEPARTED, null,
+                    () -> trackEventHandler.handleLastMileDeparted(event),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            event.getHubId(), event.getDepartedAt(), event.getTimestamp())));
             ack.acknowledge();
-            log.info("[LastMile] LastMileDeparted 처리 완료 - orderId: {}", event.getOrderId());
+            log.atDebug()
+                    .addKeyValue("event", "LastMileDeparted")
+                    .addKeyValue("orderId", event.getOrderId())
+                    .log("[LastMile] LastMileDeparted 처리 완료");
         } catch (Exception e) {
             log.error("[LastMile] LastMileDeparted 처리 실패 - orderId: {}, error: {}",
                     event.getOrderId(), e.getMessage(), e);
@@ -63,17 +83,31 @@ public class LastMileEventConsumer {
     public void handleLastMileCompleted(
             @Payload LastMileCompletedEvent event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
+            ConsumerRecord<String, byte[]> record,
             Acknowledgment ack) {
 
-        log.info("[LastMile] LastMileCompleted 수신 - key: {}, partition: {}, offset: {}",
-                key, partition, offset);
+        log.atDebug()
+                .addKeyValue("event", "LastMileCompleted")
+                .addKeyValue("key", key)
+                .addKeyValue("partition", partition)
+                .addKeyValue("offset", offset)
+                .log("[LastMile] LastMileCompleted 수신");
 
         try {
-            trackEventHandler.handleLastMileCompleted(event);
+            trackMetrics.consume("LastMileCompleted", topic, () -> reorderBuffer.dispatch(
+                    record, event.getOrderId(), TrackEventType.LAST_MILE_DELIVERED, null,
+                    () -> trackEventHandler.handleLastMileCompleted(event),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            null, event.getCompletedAt(), event.getTimestamp())));
             ack.acknowledge();
-            log.info("[LastMile] LastMileCompleted 처리 완료 - orderId: {}", event.getOrderId());
+            log.atDebug()
+                    .addKeyValue("event", "LastMileCompleted")
+                    .addKeyValue("orderId", event.getOrderId())
+                    .log("[LastMile] LastMileCompleted 처리 완료");
         } catch (Exception e) {
             log.error("[LastMile] LastMileCompleted 처리 실패 - orderId: {}, error: {}",
                     event.getOrderId(), e.getMessage(), e);
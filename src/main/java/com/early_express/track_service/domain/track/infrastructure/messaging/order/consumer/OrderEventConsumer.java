@@ -1,9 +1,13 @@
 package com.early_express.track_service.domain.track.infrastructure.messaging.order.consumer;
 
 import com.early_express.track_service.domain.track.application.event.TrackEventHandler;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackEventReorderBuffer;
 import com.early_express.track_service.domain.track.infrastructure.messaging.order.event.TrackingStartRequestedEvent;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -21,6 +25,8 @@ import org.springframework.stereotype.Component;
 public class OrderEventConsumer {
 
     private final TrackEventHandler trackEventHandler;
+    private final TrackMetrics trackMetrics;
+    private final TrackEventReorderBuffer reorderBuffer;
 
     /**
      * 추적 시작 요청 이벤트 수신
@@ -33,17 +39,31 @@ public class OrderEventConsumer {
     public void handleTrackingStartRequested(
             @Payload TrackingStartRequestedEvent event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
+            ConsumerRecord<String, byte[]> record,
             Acknowledgment ack) {
 
-        log.info("[Order] TrackingStartRequested 수신 - key: {}, partition: {}, offset: {}",
-                key, partition, offset);
+        log.atDebug()
+                .addKeyValue("event", "TrackingStartRequested")
+                .addKeyValue("key", key)
+                .addKeyValue("partition", partition)
+                .addKeyValue("offset", offset)
+                .log("[Order] TrackingStartRequested 수신");
 
         try {
-            trackEventHandler.handleTrackingStartRequested(event);
+            trackMetrics.consume("TrackingStartRequested", topic, () -> reorderBuffer.dispatch(
+                    record, event.getOrderId(), TrackEventType.TRACKING_STARTED, null,
+                    () -> trackEventHandler.handleTrackingStartRequested(event),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            event.getOriginHubId(), event.getRequestedAt(), event.getTimestamp())));
             ack.acknowledge();
-            log.info("[Order] TrackingStartRequested 처리 완료 - orderId: {}", event.getOrderId());
+            log.atDebug()
+                    .addKeyValue("event", "TrackingStartRequested")
+                    .addKeyValue("orderId", event.getOrderId())
+                    .log("[Order] TrackingStartRequested 처리 완료");
         } catch (Exception e) {
             log.error("[Order] TrackingStartRequested 처리 실패 - orderId: {}, error: {}",
                     event.getOrderId(), e.getMessage(), e);
@@ -0,0 +1,58 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging.sla.event;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배송 SLA 위반 이벤트 (발행용)
+ * Track Service → 알림 / 주문 서비스
+ * - 예상 배송 완료 시간이 지났는데 추적이 종료되지 않은 경우
+ * - eventId는 trackId + 예상 완료 시간으로 고정 → 인스턴스/재시작 간 중복 발행을 수신 측에서 제거 가능
+ */
+@Getter
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeliverySlaBreachedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "DELIVERY_SLA_BREACHED";
+
+    private String trackId;
+    private String orderId;
+    private String orderNumber;
+    private String status;
+    private String currentPhase;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime estimatedDeliveryTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime detectedAt;
+
+    public static DeliverySlaBreachedEvent of(Track track, String publisher, LocalDateTime detectedAt) {
+        String key = track.getIdValue() + ":" + track.getEstimatedDeliveryTime();
+        return DeliverySlaBreachedEvent.builder()
+                .eventId(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString())
+                .eventType(EVENT_TYPE)
+                .timestamp(detectedAt)
+                .version("1.0")
+                .publisher(publisher)
+                .trackId(track.getIdValue())
+                .orderId(track.getOrderId())
+                .orderNumber(track.getOrderNumber())
+                .status(track.getStatus().name())
+                .currentPhase(track.getCurrentPhase().name())
+                .estimatedDeliveryTime(track.getEstimatedDeliveryTime())
+                .detectedAt(detectedAt)
+                .build();
+    }
+}
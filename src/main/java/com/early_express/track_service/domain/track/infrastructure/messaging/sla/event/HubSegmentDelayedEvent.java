@@ -0,0 +1,76 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging.sla.event;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.global.infrastructure.event.base.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 허브 구간 지연 이벤트 (발행용)
+ * Track Service → 허브 배송 / 알림 서비스
+ * - 구간 출발 후 학습된 예상 소요 시간 기준을 넘겼는데 도착하지 않은 경우
+ * - eventId는 trackId + 구간 순서로 고정 → 중복 발행을 수신 측에서 제거 가능
+ */
+@Getter
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HubSegmentDelayedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "HUB_SEGMENT_DELAYED";
+
+    private String trackId;
+    private String orderId;
+    private String orderNumber;
+    private Integer segmentIndex;
+    private String fromHubId;
+    private String toHubId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime departedAt;
+
+    /**
+     * 출발 후 경과 시간(분)
+     */
+    private Long elapsedMinutes;
+
+    /**
+     * 지연 판단 기준 시간(분)
+     */
+    private Long limitMinutes;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime detectedAt;
+
+    public static HubSegmentDelayedEvent of(Track track, Duration elapsed, Duration limit,
+                                            String publisher, LocalDateTime detectedAt) {
+        HubSegmentInfo segment = track.getHubSegmentInfo();
+        String key = track.getIdValue() + ":" + EVENT_TYPE + ":" + segment.getCurrentSegmentIndex();
+        return HubSegmentDelayedEvent.builder()
+                .eventId(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString())
+                .eventType(EVENT_TYPE)
+                .timestamp(detectedAt)
+                .version("1.0")
+                .publisher(publisher)
+                .trackId(track.getIdValue())
+                .orderId(track.getOrderId())
+                .orderNumber(track.getOrderNumber())
+                .segmentIndex(segment.getCurrentSegmentIndex())
+                .fromHubId(segment.getCurrentFromHubId())
+                .toHubId(segment.getCurrentToHubId())
+                .departedAt(segment.getCurrentDepartedAt())
+                .elapsedMinutes(elapsed.toMinutes())
+                .limitMinutes(limit.toMinutes())
+                .detectedAt(detectedAt)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging.sla.producer;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.event.DeliverySlaBreachedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.event.HubSegmentDelayedEvent;
+import com.early_express.track_service.global.infrastructure.event.base.BaseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배송 지연 이벤트 Kafka Producer (SLA 위반, 허브 구간 지연)
+ * - orderId 키 → 같은 주문의 이벤트 순서 유지
+ * - 비동기 전송, 실패는 로그만 남김 (같은 마감은 다시 감지되지 않으므로 ERROR)
+ */
+@Slf4j
+@Component
+public class SlaEventProducer {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String deliverySlaBreachedTopic;
+    private final String hubSegmentDelayedTopic;
+
+    public SlaEventProducer(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${spring.kafka.topic.delivery-sla-breached:delivery-sla-breached}") String deliverySlaBreachedTopic,
+            @Value("${spring.kafka.topic.hub-segment-delayed:hub-segment-delayed}") String hubSegmentDelayedTopic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.deliverySlaBreachedTopic = deliverySlaBreachedTopic;
+        this.hubSegmentDelayedTopic = hubSegmentDelayedTopic;
+    }
+
+    public void publishDeliveryBreached(DeliverySlaBreachedEvent event) {
+        send(deliverySlaBreachedTopic, event.getOrderId(), event, event.getTrackId());
+    }
+
+    public void publishHubSegmentDelayed(HubSegmentDelayedEvent event) {
+        send(hubSegmentDelayedTopic, event.getOrderId(), event, event.getTrackId());
+    }
+
+    private void send(String topic, String key, BaseEvent event, String trackId) {
+        kafkaTemplate.send(topic, key, event)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("[SLA] {} 발행 실패 - trackId: {}, orderId: {}, error: {}",
+                                event.getEventType(), trackId, key, e.getMessage(), e);
+                    }
+                });
+    }
+}
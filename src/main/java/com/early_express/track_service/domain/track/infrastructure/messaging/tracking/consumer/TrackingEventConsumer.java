@@ -0,0 +1,128 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging.tracking.consumer;
+
+import com.early_express.track_service.domain.track.application.event.TrackEventHandler;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackEventReorderBuffer;
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentArrivedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileCompletedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.order.event.TrackingStartRequestedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.tracking.event.TrackingEventReader;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import com.early_express.track_service.global.infrastructure.event.base.BaseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 통합 추적 토픽 Kafka Consumer (track-event.multiplex.enabled=true 일 때만 등록)
+ * Order / Hub Delivery / Last Mile Service → Track Service
+ * - 모든 추적 이벤트를 orderId 키 하나의 토픽으로 수신 → 주문 단위 순서 보장
+ * - 토픽 하나만 구독하므로 poll 한 번에 모든 이벤트 타입을 가져오고 컨슈머/리밸런스 수가 줄어듦
+ * - eventType으로 라우팅, 처리 흐름(지표, 재정렬 버퍼, 핸들러)은 개별 토픽 리스너와 동일
+ * - 개별 토픽 리스너는 발행 서비스 전환 기간 동안 그대로 유지
+ * - 처리 실패 시 재시도 토픽으로 넘기지 않고 같은 파티션에서 차단 재시도 후 DLT로 이동 (순서 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "track-event.multiplex.enabled", havingValue = "true")
+public class TrackingEventConsumer {
+
+    /**
+     * 지표/로그용 이벤트 이름 (개별 토픽 리스너와 같은 값)
+     */
+    private static final Map<Class<?>, String> EVENT_NAMES = Map.of(
+            TrackingStartRequestedEvent.class, "TrackingStartRequested",
+            HubSegmentDepartedEvent.class, "HubSegmentDeparted",
+            HubSegmentArrivedEvent.class, "HubSegmentArrived",
+            LastMileDepartedEvent.class, "LastMileDeparted",
+            LastMileCompletedEvent.class, "LastMileCompleted");
+
+    private final TrackingEventReader trackingEventReader;
+    private final TrackEventHandler trackEventHandler;
+    private final TrackMetrics trackMetrics;
+    private final TrackEventReorderBuffer reorderBuffer;
+
+    @KafkaListener(
+            topics = "${spring.kafka.topic.tracking-events}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleTrackingEvent(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        BaseEvent event = trackingEventReader.read(record);
+
+        if (event == null) {
+            log.atDebug()
+                    .addKeyValue("key", record.key())
+                    .addKeyValue("partition", record.partition())
+                    .addKeyValue("offset", record.offset())
+                    .log("[Tracking] 구독 대상이 아닌 이벤트 - 건너뜀");
+            ack.acknowledge();
+            return;
+        }
+
+        String eventName = EVENT_NAMES.getOrDefault(event.getClass(), event.getClass().getSimpleName());
+        log.atDebug()
+                .addKeyValue("event", eventName)
+                .addKeyValue("key", record.key())
+                .addKeyValue("partition", record.partition())
+                .addKeyValue("offset", record.offset())
+                .log("[Tracking] 이벤트 수신");
+
+        try {
+            trackMetrics.consume(eventName, record.topic(), () -> route(event, record));
+            ack.acknowledge();
+            log.atDebug()
+                    .addKeyValue("event", eventName)
+                    .addKeyValue("key", record.key())
+                    .log("[Tracking] 이벤트 처리 완료");
+        } catch (Exception e) {
+            log.error("[Tracking] {} 처리 실패 - key: {}, error: {}",
+                    eventName, record.key(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private void route(BaseEvent event, ConsumerRecord<String, byte[]> record) {
+        String topic = record.topic();
+        int partition = record.partition();
+        long timestamp = record.timestamp();
+
+        switch (event) {
+            case TrackingStartRequestedEvent e -> reorderBuffer.dispatch(
+                    record, e.getOrderId(), TrackEventType.TRACKING_STARTED, null,
+                    () -> trackEventHandler.handleTrackingStartRequested(e),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            e.getOriginHubId(), e.getRequestedAt(), e.getTimestamp()));
+            case HubSegmentDepartedEvent e -> reorderBuffer.dispatch(
+                    record, e.getOrderId(), TrackEventType.HUB_SEGMENT_DEPARTED, e.getSegmentIndex(),
+                    () -> trackEventHandler.handleHubSegmentDeparted(e),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            e.getFromHubId(), e.getDepartedAt(), e.getTimestamp()));
+            case HubSegmentArrivedEvent e -> reorderBuffer.dispatch(
+                    record, e.getOrderId(), TrackEventType.HUB_SEGMENT_ARRIVED, e.getSegmentIndex(),
+                    () -> trackEventHandler.handleHubSegmentArrived(e),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            e.getHubId(), e.getArrivedAt(), e.getTimestamp()));
+            case LastMileDepartedEvent e -> reorderBuffer.dispatch(
+                    record, e.getOrderId(), TrackEventType.LAST_MILE_DEPARTED, null,
+                    () -> trackEventHandler.handleLastMileDeparted(e),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            e.getHubId(), e.getDepartedAt(), e.getTimestamp()));
+            case LastMileCompletedEvent e -> reorderBuffer.dispatch(
+                    record, e.getOrderId(), TrackEventType.LAST_MILE_DELIVERED, null,
+                    () -> trackEventHandler.handleLastMileCompleted(e),
+                    () -> trackMetrics.visibility(topic, partition, timestamp,
+                            null, e.getCompletedAt(), e.getTimestamp()));
+            default -> log.warn("[Tracking] 라우팅 대상이 없는 이벤트 타입 - {}", event.getClass().getName());
+        }
+    }
+}
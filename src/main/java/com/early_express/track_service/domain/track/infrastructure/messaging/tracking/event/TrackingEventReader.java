@@ -0,0 +1,49 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging.tracking.event;
+
+import com.early_express.track_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.track_service.global.infrastructure.event.converter.EventMessageConverter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 통합 추적 토픽 레코드 → 이벤트 변환
+ * - eventType으로 구체 클래스를 골라 바이트에서 바로 역직렬화 (트리 변환 없이 한 번 파싱)
+ * - contentType 헤더에 따라 JSON/Smile 선택 (EventMessageConverter와 같은 규칙)
+ * - 알 수 없는 eventType은 null (이 서비스가 구독하지 않는 이벤트)
+ * - 파싱 실패는 ConversionException (재시도 없이 DLT)
+ */
+@Component
+public class TrackingEventReader {
+
+    private final ObjectReader jsonReader;
+    private final ObjectReader smileReader;
+
+    public TrackingEventReader(ObjectMapper objectMapper) {
+        this.jsonReader = readerOf(objectMapper.copy());
+        this.smileReader = readerOf(objectMapper.copyWith(new SmileFactory()));
+    }
+
+    @Nullable
+    public BaseEvent read(ConsumerRecord<?, byte[]> record) {
+        ObjectReader reader = EventMessageConverter.isSmile(record.headers()) ? smileReader : jsonReader;
+        try {
+            return reader.readValue(record.value());
+        } catch (IOException e) {
+            throw new ConversionException("Failed to convert tracking event", record, e);
+        }
+    }
+
+    private static ObjectReader readerOf(ObjectMapper mapper) {
+        return mapper.addMixIn(BaseEvent.class, TrackingEventTypes.class)
+                .disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)
+                .readerFor(BaseEvent.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging.tracking.event;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentArrivedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileCompletedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.order.event.TrackingStartRequestedEvent;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * 통합 추적 토픽 이벤트 타입 매핑 (BaseEvent 믹스인)
+ * - BaseEvent.eventType 값으로 구체 이벤트 클래스를 선택해 한 번에 역직렬화
+ * - 발행 서비스별 표기 차이를 고려해 상수형/클래스명형 모두 허용
+ * - 개별 토픽 리스너의 역직렬화에는 적용하지 않음 (TrackingEventReader 전용 매퍼)
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY,
+        property = "eventType", visible = true)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = TrackingStartRequestedEvent.class,
+                names = {"TRACKING_START_REQUESTED", "TrackingStartRequested"}),
+        @JsonSubTypes.Type(value = HubSegmentDepartedEvent.class,
+                names = {"HUB_SEGMENT_DEPARTED", "HubSegmentDeparted"}),
+        @JsonSubTypes.Type(value = HubSegmentArrivedEvent.class,
+                names = {"HUB_SEGMENT_ARRIVED", "HubSegmentArrived"}),
+        @JsonSubTypes.Type(value = LastMileDepartedEvent.class,
+                names = {"LAST_MILE_DEPARTED", "LastMileDeparted"}),
+        @JsonSubTypes.Type(value = LastMileCompletedEvent.class,
+                names = {"LAST_MILE_COMPLETED", "LastMileCompleted"})
+})
+abstract class TrackingEventTypes {
+}
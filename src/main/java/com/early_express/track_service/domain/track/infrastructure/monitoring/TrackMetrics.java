@@ -0,0 +1,228 @@
+package com.early_express.track_service.domain.track.infrastructure.monitoring;
+
+import com.early_express.track_service.domain.track.infrastructure.client.driver_assignment.DriverAssignmentResult;
+import com.early_express.track_service.domain.track.infrastructure.client.driver_assignment.DriverAssignmentType;
+import com.early_express.track_service.global.presentation.exception.GlobalException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Track 이벤트 처리 단계별 계측
+ * - Kafka 수신 → 핸들러 → Track 저장 → TrackEvent 기록 → 드라이버 배정 단계별 Timer (히스토그램 포함)
+ * - 공통 태그: event(이벤트 타입), outcome(success/failure), error_code(TrackErrorCode 등)
+ * - 수신 단계에서 지정한 이벤트 타입은 같은 스레드의 하위 단계에도 태그로 전파
+ *   (API 요청 등 이벤트 외 경로는 event=none)
+ * - 이벤트 가시화 지연: 상류 이벤트 발생 시각 → 커밋 완료 (추적 화면이 얼마나 늦게 반영되는지)
+ * - 핸들러/저장소/드라이버 배정 단계는 스팬도 생성 (Kafka 수신 스팬의 하위, Feign 스팬의 상위)
+ */
+@Component
+public class TrackMetrics {
+
+    public static final String CONSUME = "track.event.consume";
+    public static final String HANDLE = "track.event.handle";
+    public static final String REPOSITORY = "track.repository";
+    public static final String DRIVER_ASSIGNMENT = "track.driver-assignment";
+    public static final String VISIBILITY = "track.event.visibility";
+    public static final String PARTITION_DELAY = "track.event.partition.delay";
+
+    private static final String NONE = "none";
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    // 가시화 지연 SLO 구간 (알림 규칙의 le 값과 일치해야 함)
+    private static final Duration[] VISIBILITY_SLO = {
+            Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofSeconds(60)
+    };
+
+    private static final ThreadLocal<String> CURRENT_EVENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+
+    public TrackMetrics(MeterRegistry meterRegistry, Tracer tracer) {
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Kafka 수신 단계 (역직렬화 이후 ~ 트랜잭션 커밋까지)
+     *
+     * @param eventType 이벤트 타입 (하위 단계 태그로 전파)
+     * @param topic     수신 토픽
+     * @param handler   핸들러 호출
+     */
+    public void consume(String eventType, String topic, Runnable handler) {
+        String previous = CURRENT_EVENT.get();
+        CURRENT_EVENT.set(eventType);
+        try {
+            time(CONSUME, "Kafka 이벤트 수신부터 처리 완료까지 소요 시간",
+                    Tags.of("event", eventType, "topic", topic), null, () -> {
+                        handler.run();
+                        return null;
+                    });
+        } finally {
+            if (previous == null) {
+                CURRENT_EVENT.remove();
+            } else {
+                CURRENT_EVENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 이벤트 핸들러 단계
+     */
+    public void handle(Runnable handler) {
+        String event = currentEvent();
+        time(HANDLE, "이벤트 핸들러 처리 시간", Tags.of("event", event), "handle " + event, () -> {
+            handler.run();
+            return null;
+        });
+    }
+
+    /**
+     * 저장소 호출 단계
+     *
+     * @param operation 호출 구분 (예: track.save, track-event.insert)
+     */
+    public <T> T repository(String operation, Supplier<T> call) {
+        return time(REPOSITORY, "Track 저장소 호출 시간",
+                Tags.of("event", currentEvent(), "operation", operation), operation, call);
+    }
+
+    /**
+     * 드라이버 배정 단계
+     * - outcome은 배정 결과 상태 (assigned/rejected/deferred/failed)
+     */
+    public DriverAssignmentResult driverAssignment(DriverAssignmentType type,
+                                                   Supplier<DriverAssignmentResult> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = tracer.nextSpan().name("driver-assignment " + type.getServiceName()).start();
+        String outcome = "failure";
+        String errorCode = NONE;
+        Tracer.SpanInScope scope = tracer.withSpan(span);
+        try {
+            DriverAssignmentResult result = call.get();
+            outcome = result.getStatus().name().toLowerCase();
+            return result;
+        } catch (RuntimeException e) {
+            errorCode = errorCodeOf(e);
+            span.error(e);
+            throw e;
+        } finally {
+            scope.close();
+            span.tag("outcome", outcome).end();
+            sample.stop(timer(DRIVER_ASSIGNMENT, "드라이버 배정 호출 시간 (병합/지연 처리 포함)",
+                    Tags.of("event", currentEvent(), "client", type.getServiceName(),
+                            "outcome", outcome, "error_code", errorCode)));
+        }
+    }
+
+    /**
+     * 이벤트 가시화 지연 기록 (커밋 완료 직후 호출)
+     * - track.event.visibility: 상류 이벤트 시각 → 커밋, 토픽/허브별 히스토그램
+     * - track.event.partition.delay: Kafka 레코드 시각 → 커밋, 파티션별 (느린 컨슈머 탐지용)
+     * - 이벤트 시각(LocalDateTime)은 시스템 기본 시간대로 해석, 시계 오차로 음수면 0으로 기록
+     *
+     * @param recordTimestamp Kafka 레코드 타임스탬프 (epoch ms)
+     * @param hubId           이벤트가 발생한 허브 (없으면 null)
+     * @param eventTimes      이벤트 시각 후보 (null이 아닌 첫 값 사용, 모두 null이면 레코드 시각)
+     */
+    public void visibility(String topic, int partition, long recordTimestamp, String hubId,
+                           LocalDateTime... eventTimes) {
+        long now = System.currentTimeMillis();
+        long occurredAt = recordTimestamp;
+        for (LocalDateTime eventTime : eventTimes) {
+            if (eventTime != null) {
+                occurredAt = eventTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                break;
+            }
+        }
+
+        Timer.builder(VISIBILITY)
+                .description("상류 이벤트 발생부터 추적 정보 커밋까지 지연")
+                .tags("topic", topic, "hub", hubId != null ? hubId : NONE)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(VISIBILITY_SLO)
+                .minimumExpectedValue(Duration.ofMillis(10))
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry)
+                .record(Math.max(0, now - occurredAt), TimeUnit.MILLISECONDS);
+
+        Timer.builder(PARTITION_DELAY)
+                .description("Kafka 레코드 기록부터 커밋까지 지연 (파티션별)")
+                .tags("topic", topic, "partition", String.valueOf(partition))
+                .register(meterRegistry)
+                .record(Math.max(0, now - recordTimestamp), TimeUnit.MILLISECONDS);
+    }
+
+    // ===== 내부 처리 =====
+
+    /**
+     * 단계 계측
+     *
+     * @param spanName 스팬 이름 (null이면 스팬 없이 Timer만 기록)
+     */
+    private <T> T time(String name, String description, Tags tags, String spanName, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = spanName != null ? tracer.nextSpan().name(spanName).start() : null;
+        String outcome = "success";
+        String errorCode = NONE;
+        Tracer.SpanInScope scope = span != null ? tracer.withSpan(span) : null;
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            errorCode = errorCodeOf(e);
+            if (span != null) {
+                span.error(e);
+            }
+            throw e;
+        } finally {
+            if (scope != null) {
+                scope.close();
+            }
+            if (span != null) {
+                span.end();
+            }
+            sample.stop(timer(name, description, tags.and("outcome", outcome, "error_code", errorCode)));
+        }
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private String currentEvent() {
+        String event = CURRENT_EVENT.get();
+        return event != null ? event : NONE;
+    }
+
+    /**
+     * 에러 코드 태그: GlobalException은 ErrorCode 이름, 그 외는 예외 클래스 이름
+     */
+    private String errorCodeOf(RuntimeException e) {
+        if (e instanceof GlobalException globalException && globalException.getErrorCode() != null) {
+            return globalException.getErrorCode() instanceof Enum<?> code
+                    ? code.name()
+                    : globalException.getErrorCode().getCode();
+        }
+        return e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,80 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.entity;
+
+import com.early_express.track_service.domain.track.domain.model.vo.RouteTransitSnapshot;
+import com.early_express.track_service.global.infrastructure.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 구간 고정 윈도우 소요 시간 분포 JPA Entity
+ * - ID: "출발 허브 ID:도착 허브 ID:윈도우 시작 시간"
+ * - histogram: 압축 인코딩된 HdrHistogram (초 단위), 인스턴스별 증분을 더해 누적
+ */
+@Entity
+@Table(name = "p_route_transit_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RouteTransitStatsEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "route_key", length = 120)
+    private String routeKey;
+
+    @Column(name = "from_hub_id", nullable = false, length = 36)
+    private String fromHubId;
+
+    @Column(name = "to_hub_id", nullable = false, length = 36)
+    private String toHubId;
+
+    @Column(name = "window_started_at", nullable = false)
+    private LocalDateTime windowStartedAt;
+
+    @Column(name = "histogram", nullable = false, length = 65536)
+    private byte[] histogram;
+
+    @Column(name = "samples", nullable = false)
+    private long samples;
+
+    @Column(name = "stats_updated_at", nullable = false)
+    private LocalDateTime statsUpdatedAt;
+
+    public static String routeKey(RouteTransitSnapshot snapshot) {
+        return snapshot.fromHubId() + ":" + snapshot.toHubId() + ":" + snapshot.windowStartedAt();
+    }
+
+    public static RouteTransitStatsEntity fromDomain(RouteTransitSnapshot snapshot) {
+        RouteTransitStatsEntity entity = new RouteTransitStatsEntity();
+        entity.routeKey = routeKey(snapshot);
+        entity.fromHubId = snapshot.fromHubId();
+        entity.toHubId = snapshot.toHubId();
+        entity.windowStartedAt = snapshot.windowStartedAt();
+        entity.histogram = snapshot.histogram();
+        entity.samples = snapshot.samples();
+        entity.statsUpdatedAt = snapshot.updatedAt();
+        return entity;
+    }
+
+    /**
+     * 증분을 더한 분포로 갱신
+     *
+     * @param histogram 기존 분포와 증분을 더해 인코딩한 히스토그램
+     */
+    public void accumulate(RouteTransitSnapshot delta, byte[] histogram) {
+        this.histogram = histogram;
+        this.samples += delta.samples();
+        if (delta.updatedAt().isAfter(statsUpdatedAt)) {
+            this.statsUpdatedAt = delta.updatedAt();
+        }
+    }
+
+    public RouteTransitSnapshot toDomain() {
+        return new RouteTransitSnapshot(fromHubId, toHubId, windowStartedAt, histogram, samples, statsUpdatedAt);
+    }
+}
@@ -0,0 +1,69 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.entity;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.global.infrastructure.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 추적 색인 JPA Entity
+ * - 운영 테이블에서 삭제된 추적의 주문 ID → 보관 파일 위치
+ * - 추가만 함 → isNew 항상 true (저장 전 조회 생략, 같은 추적 중복 보관은 PK 충돌로 롤백)
+ */
+@Entity
+@Table(name = "p_track_archive", indexes = {
+        @Index(name = "idx_track_archive_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TrackArchiveEntity extends BaseEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "track_id", length = 36)
+    private String trackId;
+
+    @Column(name = "order_id", nullable = false, length = 36)
+    private String orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private TrackStatus status;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "location", nullable = false, length = 500)
+    private String location;
+
+    public static TrackArchiveEntity of(Track track, String location) {
+        TrackArchiveEntity entity = new TrackArchiveEntity();
+        entity.trackId = track.getIdValue();
+        entity.orderId = track.getOrderId();
+        entity.status = track.getStatus();
+        entity.completedAt = track.getCompletedAt();
+        entity.location = location;
+        return entity;
+    }
+
+    @Override
+    public String getId() {
+        return trackId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 Track JPA Entity (이력 테이블, 완료/실패)
+ * - 행은 운영 테이블에서 INSERT ... SELECT로 옮겨짐 (감사 컬럼 포함 그대로 복사)
+ */
+@Entity
+@Table(name = "p_track_history", indexes = {
+        @Index(name = "idx_track_history_order_id", columnList = "order_id"),
+        @Index(name = "idx_track_history_origin_hub_status", columnList = "origin_hub_id, status"),
+        @Index(name = "idx_track_history_destination_hub_status", columnList = "destination_hub_id, status"),
+        @Index(name = "idx_track_history_status_completed_at", columnList = "status, completed_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TrackHistoryEntity extends AbstractTrackEntity {
+}
@@ -0,0 +1,32 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.jpa;
+
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.RouteTransitStatsEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 허브 구간 소요 시간 분포 JPA Repository
+ */
+public interface RouteTransitStatsJpaRepository extends JpaRepository<RouteTransitStatsEntity, String> {
+
+    List<RouteTransitStatsEntity> findByIsDeletedFalse();
+
+    /**
+     * 증분 누적용 조회 (인스턴스 간 동시 누적 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RouteTransitStatsEntity r WHERE r.routeKey IN :routeKeys")
+    List<RouteTransitStatsEntity> findAllForUpdate(@Param("routeKeys") Collection<String> routeKeys);
+
+    @Modifying
+    @Query("DELETE FROM RouteTransitStatsEntity r WHERE r.windowStartedAt < :windowStartedAt")
+    int deleteAllByWindowStartedAtBefore(@Param("windowStartedAt") LocalDateTime windowStartedAt);
+}
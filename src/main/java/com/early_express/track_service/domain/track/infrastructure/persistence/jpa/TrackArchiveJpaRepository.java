@@ -0,0 +1,16 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.jpa;
+
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 보관된 추적 색인 JPA Repository
+ */
+public interface TrackArchiveJpaRepository extends JpaRepository<TrackArchiveEntity, String> {
+
+    Optional<TrackArchiveEntity> findFirstByOrderIdAndIsDeletedFalseOrderByCompletedAtDesc(String orderId);
+
+    boolean existsByOrderIdAndIsDeletedFalse(String orderId);
+}
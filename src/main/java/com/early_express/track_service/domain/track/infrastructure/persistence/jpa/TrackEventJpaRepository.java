@@ -1,8 +1,13 @@
 package com.early_express.track_service.domain.track.infrastructure.persistence.jpa;
 
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
 import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackEventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,4 +19,22 @@ public interface TrackEventJpaRepository extends JpaRepository<TrackEventEntity,
      * Track ID로 이벤트 목록 조회 (시간순)
      */
     List<TrackEventEntity> findByTrackIdAndIsDeletedFalseOrderByOccurredAtAsc(String trackId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 구간 이벤트 존재 여부
+     */
+    boolean existsByTrackIdAndEventTypeAndSegmentIndexAndIsDeletedFalse(
+            String trackId, TrackEventType eventType, Integer segmentIndex);
+
+    /**
+     * 여러 추적의 이벤트 조회 (보관용, 시간순)
+     */
+    List<TrackEventEntity> findByTrackIdInAndIsDeletedFalseOrderByOccurredAtAsc(Collection<String> trackIds);
+
+    /**
+     * 물리 삭제 (보관 완료 후, 소프트 삭제된 이벤트 포함)
+     */
+    @Modifying
+    @Query("DELETE FROM TrackEventEntity e WHERE e.trackId IN :trackIds")
+    int deleteAllByTrackIdIn(@Param("trackIds") Collection<String> trackIds);
+}
@@ -0,0 +1,103 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.jpa;
+
+import com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackHistoryEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종료된 Track JPA Repository (이력 테이블)
+ */
+public interface TrackHistoryJpaRepository extends JpaRepository<TrackHistoryEntity, String> {
+
+    String COLUMNS = "id, hub_delivery_id, order_id, order_number, origin_hub_id, destination_hub_id, " +
+            "hub_segment_delivery_ids, last_mile_delivery_id, total_hub_segments, current_segment_index, " +
+            "completed_hub_segments, current_from_hub_id, current_to_hub_id, current_departed_at, " +
+            "current_arrived_at, requires_hub_delivery, status, current_phase, estimated_delivery_time, " +
+            "predicted_delivery_time, actual_delivery_time, started_at, completed_at, " +
+            "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by, is_deleted";
+
+    // ===== 이동 =====
+
+    /**
+     * 운영 테이블 행을 그대로 복사 (감사 컬럼 포함)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO p_track_history (" + COLUMNS + ") " +
+            "SELECT " + COLUMNS + " FROM p_track WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromActive(@Param("ids") Collection<String> ids);
+
+    // ===== 조회 =====
+
+    Optional<TrackHistoryEntity> findByOrderIdAndIsDeletedFalse(String orderId);
+
+    boolean existsByOrderIdAndIsDeletedFalse(String orderId);
+
+    /**
+     * 출발 또는 도착 허브 + 상태로 조회
+     */
+    @Query("SELECT t FROM TrackHistoryEntity t " +
+            "WHERE (t.originHubId = :hubId OR t.destinationHubId = :hubId) " +
+            "AND t.status = :status " +
+            "AND t.isDeleted = false")
+    Page<TrackHistoryEntity> findByHubIdAndStatus(
+            @Param("hubId") String hubId,
+            @Param("status") TrackStatus status,
+            Pageable pageable);
+
+    Page<TrackHistoryEntity> findByStatusAndIsDeletedFalse(TrackStatus status, Pageable pageable);
+
+    long countByIsDeletedFalse();
+
+    // ===== 허브 카운터 보정용 =====
+
+    @Query("SELECT new com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount(" +
+            "t.originHubId, t.status, COUNT(t)) " +
+            "FROM TrackHistoryEntity t " +
+            "WHERE t.originHubId IS NOT NULL " +
+            "AND t.isDeleted = false " +
+            "GROUP BY t.originHubId, t.status")
+    List<HubStatusCount> countByOriginHubAndStatus();
+
+    @Query("SELECT new com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount(" +
+            "t.destinationHubId, t.status, COUNT(t)) " +
+            "FROM TrackHistoryEntity t " +
+            "WHERE t.destinationHubId IS NOT NULL " +
+            "AND (t.originHubId IS NULL OR t.destinationHubId <> t.originHubId) " +
+            "AND t.isDeleted = false " +
+            "GROUP BY t.destinationHubId, t.status")
+    List<HubStatusCount> countByDestinationHubAndStatus();
+
+    // ===== 보관용 =====
+
+    /**
+     * completedBefore 이전에 종료된 추적 조회 (종료 시간순)
+     */
+    @Query("SELECT t FROM TrackHistoryEntity t " +
+            "WHERE t.status IN :statuses " +
+            "AND t.completedAt < :completedBefore " +
+            "AND t.isDeleted = false " +
+            "ORDER BY t.completedAt, t.id")
+    List<TrackHistoryEntity> findArchivable(
+            @Param("statuses") Collection<TrackStatus> statuses,
+            @Param("completedBefore") LocalDateTime completedBefore,
+            Pageable pageable);
+
+    /**
+     * 물리 삭제 (보관 완료 후)
+     */
+    @Modifying
+    @Query("DELETE FROM TrackHistoryEntity t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+}
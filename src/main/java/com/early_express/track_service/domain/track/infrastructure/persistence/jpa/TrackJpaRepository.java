@@ -1,5 +1,10 @@
 package com.early_express.track_service.domain.track.infrastructure.persistence.jpa;
 
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentTransit;
+import com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount;
+import com.early_express.track_service.domain.track.domain.model.vo.HubWaitingCount;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackDeadline;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
 import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
 import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackEntity;
 import org.springframework.data.domain.Page;
@@ -8,10 +13,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
- * Track JPA Repository
+ * Track JPA Repository (운영 테이블, 진행 중인 추적)
  */
 public interface TrackJpaRepository extends JpaRepository<TrackEntity, String> {
 
@@ -61,7 +68,87 @@ public interface TrackJpaRepository extends JpaRepository<TrackEntity, String> {
     Page<TrackEntity> findByStatusAndIsDeletedFalse(TrackStatus status, Pageable pageable);
 
     /**
-     * 전체 조회 (삭제 제외)
+     * 전체 건수 (삭제 제외)
      */
-    Page<TrackEntity> findByIsDeletedFalse(Pageable pageable);
-}
\ No newline at end of file
+    long countByIsDeletedFalse();
+
+    // ===== SLA 감시용 =====
+
+    /**
+     * 주어진 상태의 예상 완료 시간 조회 (ID 키셋 페이징, 엔티티 대신 필요한 컬럼만)
+     */
+    @Query("SELECT new com.early_express.track_service.domain.track.domain.model.vo.TrackDeadline(" +
+            "t.id, t.estimatedDeliveryTime) " +
+            "FROM TrackEntity t " +
+            "WHERE t.id > :afterId " +
+            "AND t.status IN :statuses " +
+            "AND t.estimatedDeliveryTime IS NOT NULL " +
+            "AND t.isDeleted = false " +
+            "ORDER BY t.id")
+    List<TrackDeadline> findDeadlines(
+            @Param("afterId") String afterId,
+            @Param("statuses") Collection<TrackStatus> statuses,
+            Pageable pageable);
+
+    /**
+     * 허브 구간 이동 중(출발 후 미도착)인 추적 조회 (ID 키셋 페이징)
+     */
+    @Query("SELECT new com.early_express.track_service.domain.track.domain.model.vo.HubSegmentTransit(" +
+            "t.id, t.currentSegmentIndex, t.currentFromHubId, t.currentToHubId, t.currentDepartedAt, t.currentArrivedAt) " +
+            "FROM TrackEntity t " +
+            "WHERE t.id > :afterId " +
+            "AND t.status = :status " +
+            "AND t.currentDepartedAt IS NOT NULL " +
+            "AND t.currentArrivedAt IS NULL " +
+            "AND t.isDeleted = false " +
+            "ORDER BY t.id")
+    List<HubSegmentTransit> findInTransitSegments(
+            @Param("afterId") String afterId,
+            @Param("status") TrackStatus status,
+            Pageable pageable);
+
+    // ===== 허브 카운터 보정용 =====
+
+    /**
+     * 출발 허브 + 상태별 추적 수
+     */
+    @Query("SELECT new com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount(" +
+            "t.originHubId, t.status, COUNT(t)) " +
+            "FROM TrackEntity t " +
+            "WHERE t.originHubId IS NOT NULL " +
+            "AND t.isDeleted = false " +
+            "GROUP BY t.originHubId, t.status")
+    List<HubStatusCount> countByOriginHubAndStatus();
+
+    /**
+     * 도착 허브 + 상태별 추적 수 (출발 허브와 같은 경우 제외)
+     */
+    @Query("SELECT new com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount(" +
+            "t.destinationHubId, t.status, COUNT(t)) " +
+            "FROM TrackEntity t " +
+            "WHERE t.destinationHubId IS NOT NULL " +
+            "AND (t.originHubId IS NULL OR t.destinationHubId <> t.originHubId) " +
+            "AND t.isDeleted = false " +
+            "GROUP BY t.destinationHubId, t.status")
+    List<HubStatusCount> countByDestinationHubAndStatus();
+
+    /**
+     * 마지막 도착 허브별 출발 대기 추적 수
+     */
+    @Query("SELECT new com.early_express.track_service.domain.track.domain.model.vo.HubWaitingCount(" +
+            "t.currentToHubId, COUNT(t)) " +
+            "FROM TrackEntity t " +
+            "WHERE t.currentPhase IN :phases " +
+            "AND t.currentToHubId IS NOT NULL " +
+            "AND t.isDeleted = false " +
+            "GROUP BY t.currentToHubId")
+    List<HubWaitingCount> countWaitingByHub(@Param("phases") Collection<TrackPhase> phases);
+
+    // ===== 이력 테이블 이관용 =====
+
+    /**
+     * 운영 테이블에 남은 종료 상태 추적 ID 조회 (분리 이전 데이터)
+     */
+    @Query("SELECT t.id FROM TrackEntity t WHERE t.status IN :statuses")
+    List<String> findIdsByStatusIn(@Param("statuses") Collection<TrackStatus> statuses, Pageable pageable);
+}
@@ -0,0 +1,85 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
+
+import com.early_express.track_service.domain.track.domain.model.vo.RouteTransitSnapshot;
+import com.early_express.track_service.domain.track.domain.repository.RouteTransitStatsRepository;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.RouteTransitStatsEntity;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.RouteTransitStatsJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.IntCountsHistogram;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+
+/**
+ * 허브 구간 소요 시간 분포 Repository 구현체
+ * - 같은 구간/윈도우 행은 비관적 락으로 읽어 증분을 더함 → 여러 인스턴스가 저장해도 중복/유실 없음
+ * - 같은 신규 행을 동시에 삽입하면 한쪽은 키 중복으로 실패 → 호출 측이 증분을 보관했다가 다음 주기에 재시도
+ */
+@Repository
+@RequiredArgsConstructor
+public class RouteTransitStatsRepositoryImpl implements RouteTransitStatsRepository {
+
+    private final RouteTransitStatsJpaRepository routeTransitStatsJpaRepository;
+    private final TrackMetrics trackMetrics;
+
+    @Override
+    @Transactional
+    public void accumulate(List<RouteTransitSnapshot> deltas) {
+        trackMetrics.repository("route-stats.accumulate", () -> {
+            List<String> keys = deltas.stream()
+                    .map(RouteTransitStatsEntity::routeKey)
+                    .toList();
+            Map<String, RouteTransitStatsEntity> existing = routeTransitStatsJpaRepository.findAllForUpdate(keys).stream()
+                    .collect(Collectors.toMap(RouteTransitStatsEntity::getRouteKey, Function.identity()));
+
+            List<RouteTransitStatsEntity> entities = deltas.stream()
+                    .map(delta -> {
+                        RouteTransitStatsEntity entity = existing.get(RouteTransitStatsEntity.routeKey(delta));
+                        if (entity == null) {
+                            return RouteTransitStatsEntity.fromDomain(delta);
+                        }
+                        entity.accumulate(delta, add(entity.getHistogram(), delta.histogram()));
+                        return entity;
+                    })
+                    .toList();
+            return routeTransitStatsJpaRepository.saveAll(entities);
+        });
+    }
+
+    @Override
+    public List<RouteTransitSnapshot> findAll() {
+        return trackMetrics.repository("route-stats.findAll", () ->
+                routeTransitStatsJpaRepository.findByIsDeletedFalse().stream()
+                        .map(RouteTransitStatsEntity::toDomain)
+                        .toList());
+    }
+
+    @Override
+    @Transactional
+    public int deleteWindowsBefore(LocalDateTime windowStartedAt) {
+        return trackMetrics.repository("route-stats.deleteWindowsBefore", () ->
+                routeTransitStatsJpaRepository.deleteAllByWindowStartedAtBefore(windowStartedAt));
+    }
+
+    private static byte[] add(byte[] stored, byte[] delta) {
+        try {
+            IntCountsHistogram histogram = IntCountsHistogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(stored), 0);
+            histogram.setAutoResize(true);
+            histogram.add(IntCountsHistogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(delta), 0));
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return Arrays.copyOf(buffer.array(), length);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("구간 분포 디코딩 실패", e);
+        }
+    }
+}
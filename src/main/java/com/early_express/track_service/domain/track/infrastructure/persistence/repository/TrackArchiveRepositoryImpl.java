@@ -0,0 +1,143 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
+
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.ArchivedTrack;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackArchiveRepository;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackArchiveEntity;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackEventEntity;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackHistoryEntity;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackArchiveJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackEventJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackHistoryJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 추적 보관 Repository 구현체
+ * - 단독 실행은 PostgreSQL 세션 advisory lock (실행 동안 커넥션 하나를 점유, 커넥션이 끊기면 자동 해제)
+ */
+@Slf4j
+@Repository
+public class TrackArchiveRepositoryImpl implements TrackArchiveRepository {
+
+    private static final List<TrackStatus> TERMINAL_STATUSES = List.of(TrackStatus.COMPLETED, TrackStatus.FAILED);
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('track-archive'))";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('track-archive'))";
+
+    private final TrackHistoryJpaRepository trackHistoryJpaRepository;
+    private final TrackEventJpaRepository trackEventJpaRepository;
+    private final TrackArchiveJpaRepository trackArchiveJpaRepository;
+    private final TrackMetrics trackMetrics;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrackArchiveRepositoryImpl(
+            TrackHistoryJpaRepository trackHistoryJpaRepository,
+            TrackEventJpaRepository trackEventJpaRepository,
+            TrackArchiveJpaRepository trackArchiveJpaRepository,
+            TrackMetrics trackMetrics,
+            DataSource dataSource) {
+        this.trackHistoryJpaRepository = trackHistoryJpaRepository;
+        this.trackEventJpaRepository = trackEventJpaRepository;
+        this.trackArchiveJpaRepository = trackArchiveJpaRepository;
+        this.trackMetrics = trackMetrics;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchivedTrack> findArchivable(LocalDateTime completedBefore, int limit) {
+        return trackMetrics.repository("archive.findArchivable", () -> {
+            List<TrackHistoryEntity> tracks = trackHistoryJpaRepository.findArchivable(
+                    TERMINAL_STATUSES, completedBefore, PageRequest.of(0, limit));
+            if (tracks.isEmpty()) {
+                return List.of();
+            }
+
+            Map<String, List<TrackEvent>> events = trackEventJpaRepository
+                    .findByTrackIdInAndIsDeletedFalseOrderByOccurredAtAsc(
+                            tracks.stream().map(TrackHistoryEntity::getId).toList())
+                    .stream()
+                    .map(TrackEventEntity::toDomain)
+                    .collect(Collectors.groupingBy(TrackEvent::getTrackId));
+
+            return tracks.stream()
+                    .map(entity -> new ArchivedTrack(entity.toDomain(), events.getOrDefault(entity.getId(), List.of())))
+                    .toList();
+        });
+    }
+
+    @Override
+    @Transactional
+    public void moveToArchive(List<ArchivedTrack> tracks, String location) {
+        trackMetrics.repository("archive.moveToArchive", () -> {
+            List<String> trackIds = tracks.stream()
+                    .map(archived -> archived.track().getIdValue())
+                    .toList();
+            trackArchiveJpaRepository.saveAll(tracks.stream()
+                    .map(archived -> TrackArchiveEntity.of(archived.track(), location))
+                    .toList());
+            trackArchiveJpaRepository.flush();
+            trackEventJpaRepository.deleteAllByTrackIdIn(trackIds);
+            return trackHistoryJpaRepository.deleteAllByIdIn(trackIds);
+        });
+    }
+
+    @Override
+    public Optional<String> findLocationByOrderId(String orderId) {
+        return trackMetrics.repository("archive.findLocationByOrderId", () ->
+                trackArchiveJpaRepository.findFirstByOrderIdAndIsDeletedFalseOrderByCompletedAtDesc(orderId)
+                        .map(TrackArchiveEntity::getLocation));
+    }
+
+    @Override
+    public boolean existsByOrderId(String orderId) {
+        return trackArchiveJpaRepository.existsByOrderIdAndIsDeletedFalse(orderId);
+    }
+
+    @Override
+    public boolean runExclusively(Runnable task) {
+        Boolean ran = jdbcTemplate.execute((Connection connection) -> {
+            // PostgreSQL이 아니면(로컬/테스트 H2) 단일 인스턴스로 보고 잠금 없이 실행
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                task.run();
+                return true;
+            }
+            if (!queryBoolean(connection, TRY_LOCK)) {
+                return false;
+            }
+            try {
+                task.run();
+            } finally {
+                if (!queryBoolean(connection, UNLOCK)) {
+                    log.warn("[Archive] 보관 잠금 해제 실패 - 커넥션 종료 시 해제");
+                }
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
 
 import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
 import com.early_express.track_service.domain.track.domain.repository.TrackEventRepository;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
 import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackEventEntity;
 import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackEventJpaRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,14 +20,17 @@ import java.util.List;
 public class TrackEventRepositoryImpl implements TrackEventRepository {
 
     private final TrackEventJpaRepository trackEventJpaRepository;
+    private final TrackMetrics trackMetrics;
 
     @Override
     @Transactional
     public TrackEvent save(TrackEvent event) {
-        // 이벤트는 항상 신규 생성 (수정 없음)
-        TrackEventEntity entity = TrackEventEntity.fromDomain(event);
-        TrackEventEntity savedEntity = trackEventJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        return trackMetrics.repository("track-event.insert", () -> {
+            // 이벤트는 항상 신규 생성 (수정 없음)
+            TrackEventEntity entity = TrackEventEntity.fromDomain(event);
+            TrackEventEntity savedEntity = trackEventJpaRepository.save(entity);
+            return savedEntity.toDomain();
+        });
     }
 
     @Override
@@ -36,4 +41,11 @@ public class TrackEventRepositoryImpl implements TrackEventRepository {
                 .map(TrackEventEntity::toDomain)
                 .toList();
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean existsByTrackIdAndEventTypeAndSegmentIndex(String trackId, TrackEventType eventType,
+                                                              Integer segmentIndex) {
+        return trackEventJpaRepository.existsByTrackIdAndEventTypeAndSegmentIndexAndIsDeletedFalse(
+                trackId, eventType, segmentIndex);
+    }
+}
@@ -0,0 +1,141 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
+
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackExportRow;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackExportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 추적 내보내기 Repository 구현체 (JDBC 커서)
+ * - 상태 조건에 따라 운영(p_track) / 이력(p_track_history) 테이블 선택
+ * - 읽기 전용 트랜잭션 + fetch size → PostgreSQL 서버 측 커서로 fetch-size 행씩 가져옴
+ * - JPA 엔티티/영속성 컨텍스트를 거치지 않음 → 행 수와 무관하게 메모리 일정
+ */
+@Repository
+public class TrackExportRepositoryImpl implements TrackExportRepository {
+
+    private static final String TRACK_COLUMNS =
+            "id, order_id, order_number, origin_hub_id, destination_hub_id, " +
+            "status, current_phase, requires_hub_delivery, total_hub_segments, completed_hub_segments, " +
+            "estimated_delivery_time, predicted_delivery_time, actual_delivery_time, " +
+            "started_at, completed_at, created_at, is_deleted";
+
+    // 상태 조건이 없으면 운영 + 이력 테이블 모두
+    private static final String ALL_TRACKS =
+            "(SELECT " + TRACK_COLUMNS + " FROM p_track " +
+            "UNION ALL SELECT " + TRACK_COLUMNS + " FROM p_track_history)";
+
+    private static final String SELECT =
+            "SELECT t.id, t.order_id, t.order_number, t.origin_hub_id, t.destination_hub_id, " +
+            "t.status, t.current_phase, t.requires_hub_delivery, t.total_hub_segments, t.completed_hub_segments, " +
+            "t.estimated_delivery_time, t.predicted_delivery_time, t.actual_delivery_time, " +
+            "t.started_at, t.completed_at, t.created_at, " +
+            "e.id AS event_id, e.event_type, e.occurred_at, e.hub_id, e.segment_index, e.description, e.source " +
+            "FROM %s t " +
+            "LEFT JOIN p_track_event e ON e.track_id = t.id AND e.is_deleted = false " +
+            "WHERE t.is_deleted = false";
+
+    private static final String ORDER_BY = " ORDER BY t.id, e.occurred_at, e.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TrackExportRepositoryImpl(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${track-event.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public long streamTracksWithEvents(TrackStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                       Consumer<TrackExportRow> consumer) {
+        String source = status == null ? ALL_TRACKS
+                : status.isTerminal() ? "p_track_history"
+                : "p_track";
+        StringBuilder sql = new StringBuilder(SELECT.formatted(source));
+        List<Object> params = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND t.status = ?");
+            params.add(status.name());
+        }
+        if (createdFrom != null) {
+            sql.append(" AND t.created_at >= ?");
+            params.add(Timestamp.valueOf(createdFrom));
+        }
+        if (createdTo != null) {
+            sql.append(" AND t.created_at < ?");
+            params.add(Timestamp.valueOf(createdTo));
+        }
+        sql.append(ORDER_BY);
+
+        AtomicLong rows = new AtomicLong();
+        // 커서는 트랜잭션 안에서만 유지됨 (autocommit이면 전체 결과를 한 번에 가져옴)
+        transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    for (int i = 0; i < params.size(); i++) {
+                        statement.setObject(i + 1, params.get(i));
+                    }
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(toRow(resultSet));
+                    rows.incrementAndGet();
+                }));
+        return rows.get();
+    }
+
+    private static TrackExportRow toRow(ResultSet rs) throws SQLException {
+        String eventType = rs.getString("event_type");
+        return new TrackExportRow(
+                rs.getString("id"),
+                rs.getString("order_id"),
+                rs.getString("order_number"),
+                rs.getString("origin_hub_id"),
+                rs.getString("destination_hub_id"),
+                TrackStatus.valueOf(rs.getString("status")),
+                TrackPhase.valueOf(rs.getString("current_phase")),
+                rs.getBoolean("requires_hub_delivery"),
+                rs.getInt("total_hub_segments"),
+                rs.getInt("completed_hub_segments"),
+                toLocalDateTime(rs.getTimestamp("estimated_delivery_time")),
+                toLocalDateTime(rs.getTimestamp("predicted_delivery_time")),
+                toLocalDateTime(rs.getTimestamp("actual_delivery_time")),
+                toLocalDateTime(rs.getTimestamp("started_at")),
+                toLocalDateTime(rs.getTimestamp("completed_at")),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                rs.getString("event_id"),
+                eventType != null ? TrackEventType.valueOf(eventType) : null,
+                toLocalDateTime(rs.getTimestamp("occurred_at")),
+                rs.getString("hub_id"),
+                rs.getObject("segment_index", Integer.class),
+                rs.getString("description"),
+                rs.getString("source"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
+
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackHistoryJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 운영 테이블에 남은 종료 상태 추적을 이력 테이블로 이관 (기동 시, 배치 단위)
+ * - 테이블 분리 이전에 종료된 추적 대상, 이관할 행이 없으면 조회 한 번으로 끝남
+ */
+@Slf4j
+@Component
+public class TrackHistoryBackfill {
+
+    private static final List<TrackStatus> TERMINAL_STATUSES = List.of(TrackStatus.COMPLETED, TrackStatus.FAILED);
+
+    private final TrackJpaRepository trackJpaRepository;
+    private final TrackHistoryJpaRepository trackHistoryJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TrackHistoryBackfill(
+            TrackJpaRepository trackJpaRepository,
+            TrackHistoryJpaRepository trackHistoryJpaRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${track-event.history.backfill-batch-size:1000}") int batchSize) {
+        this.trackJpaRepository = trackJpaRepository;
+        this.trackHistoryJpaRepository = trackHistoryJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long startedAt = System.currentTimeMillis();
+        int moved = 0;
+        try {
+            while (true) {
+                Integer count = transactionTemplate.execute(tx -> {
+                    List<String> ids = trackJpaRepository.findIdsByStatusIn(
+                            TERMINAL_STATUSES, PageRequest.of(0, batchSize));
+                    if (ids.isEmpty()) {
+                        return 0;
+                    }
+                    trackHistoryJpaRepository.copyFromActive(ids);
+                    trackJpaRepository.deleteAllByIdInBatch(ids);
+                    return ids.size();
+                });
+                if (count == null || count == 0) {
+                    break;
+                }
+                moved += count;
+            }
+        } catch (Exception e) {
+            log.error("[TrackHistory] 이력 테이블 이관 중단 - 이관 {}건, error: {}", moved, e.getMessage(), e);
+            return;
+        }
+
+        if (moved > 0) {
+            log.info("[TrackHistory] 이력 테이블 이관 완료 - {}건, {}ms", moved, System.currentTimeMillis() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.repository.TrackImportRepository;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackEntity;
+import com.early_express.track_service.global.common.utils.UuidUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추적 대량 가져오기 Repository 구현체 (PostgreSQL COPY)
+ * - 배치마다: 임시 테이블 생성 → COPY FROM STDIN(텍스트 형식)으로 적재 → 중복 제외 INSERT ... SELECT
+ * - 추적 + 추적 시작 이벤트를 SQL 한 문장으로 저장 (행마다 조회/INSERT 없음)
+ * - PostgreSQL 전용 (다른 DB면 IllegalStateException)
+ */
+@Repository
+public class TrackImportRepositoryImpl implements TrackImportRepository {
+
+    private static final int FLUSH_CHARS = 32 * 1024;
+
+    private static final String CREATE_STAGING =
+            "CREATE TEMP TABLE tmp_track_import (" +
+            "line_no INT, id VARCHAR(36), hub_delivery_id VARCHAR(36), order_id VARCHAR(36), " +
+            "order_number VARCHAR(50), origin_hub_id VARCHAR(36), destination_hub_id VARCHAR(36), " +
+            "hub_segment_delivery_ids TEXT, last_mile_delivery_id VARCHAR(36), total_hub_segments INT, " +
+            "current_segment_index INT, completed_hub_segments INT, requires_hub_delivery BOOLEAN, " +
+            "status VARCHAR(30), current_phase VARCHAR(30), estimated_delivery_time TIMESTAMP, " +
+            "created_by VARCHAR(36), event_id VARCHAR(36)) ON COMMIT DROP";
+
+    private static final String COPY_STAGING =
+            "COPY tmp_track_import (line_no, id, hub_delivery_id, order_id, order_number, origin_hub_id, " +
+            "destination_hub_id, hub_segment_delivery_ids, last_mile_delivery_id, total_hub_segments, " +
+            "current_segment_index, completed_hub_segments, requires_hub_delivery, status, current_phase, " +
+            "estimated_delivery_time, created_by, event_id) FROM STDIN";
+
+    // 배치 안 중복은 첫 행, 운영/이력/보관 테이블에 있는 주문은 제외
+    private static final String INSERT_FROM_STAGING =
+            "WITH candidates AS (" +
+            "  SELECT DISTINCT ON (s.order_id) s.* FROM tmp_track_import s " +
+            "  WHERE NOT EXISTS (SELECT 1 FROM p_track t WHERE t.order_id = s.order_id AND t.is_deleted = false) " +
+            "  AND NOT EXISTS (SELECT 1 FROM p_track_history h WHERE h.order_id = s.order_id AND h.is_deleted = false) " +
+            "  AND NOT EXISTS (SELECT 1 FROM p_track_archive a WHERE a.order_id = s.order_id AND a.is_deleted = false) " +
+            "  ORDER BY s.order_id, s.line_no" +
+            "), inserted AS (" +
+            "  INSERT INTO p_track (id, hub_delivery_id, order_id, order_number, origin_hub_id, destination_hub_id, " +
+            "  hub_segment_delivery_ids, last_mile_delivery_id, total_hub_segments, current_segment_index, " +
+            "  completed_hub_segments, requires_hub_delivery, status, current_phase, estimated_delivery_time, " +
+            "  created_at, created_by, is_deleted) " +
+            "  SELECT id, hub_delivery_id, order_id, order_number, origin_hub_id, destination_hub_id, " +
+            "  hub_segment_delivery_ids, last_mile_delivery_id, total_hub_segments, current_segment_index, " +
+            "  completed_hub_segments, requires_hub_delivery, status, current_phase, estimated_delivery_time, " +
+            "  ?, created_by, false FROM candidates " +
+            "  RETURNING id" +
+            ") " +
+            "INSERT INTO p_track_event (id, track_id, event_type, occurred_at, description, source, " +
+            "created_at, created_by, is_deleted) " +
+            "SELECT c.event_id, c.id, ?, ?, ?, ?, ?, c.created_by, false " +
+            "FROM candidates c JOIN inserted i ON i.id = c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TrackMetrics trackMetrics;
+
+    public TrackImportRepositoryImpl(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            TrackMetrics trackMetrics) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.trackMetrics = trackMetrics;
+    }
+
+    @Override
+    public int importBatch(List<Track> tracks) {
+        if (tracks.isEmpty()) {
+            return 0;
+        }
+        return trackMetrics.repository("track.importBatch", () ->
+                transactionTemplate.execute(tx -> jdbcTemplate.execute(
+                        (Connection connection) -> importBatch(connection, tracks))));
+    }
+
+    private int importBatch(Connection connection, List<Track> tracks) throws SQLException {
+        if (!connection.isWrapperFor(PGConnection.class)) {
+            throw new IllegalStateException("추적 대량 가져오기는 PostgreSQL에서만 지원합니다.");
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING);
+        }
+        copy(connection.unwrap(PGConnection.class), tracks);
+
+        // 이벤트 내용은 TrackCommandService.createTrack과 같은 팩토리 기준
+        LocalDateTime now = LocalDateTime.now();
+        TrackEvent started = TrackEvent.trackingStarted(null, null);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_FROM_STAGING)) {
+            statement.setTimestamp(1, Timestamp.valueOf(now));
+            statement.setString(2, started.getEventType().name());
+            statement.setTimestamp(3, Timestamp.valueOf(now));
+            statement.setString(4, started.getDescription());
+            statement.setString(5, started.getSource());
+            statement.setTimestamp(6, Timestamp.valueOf(now));
+            return statement.executeUpdate();
+        }
+    }
+
+    private static void copy(PGConnection connection, List<Track> tracks) throws SQLException {
+        CopyIn copyIn = connection.getCopyAPI().copyIn(COPY_STAGING);
+        try {
+            StringBuilder buffer = new StringBuilder(FLUSH_CHARS * 2);
+            int lineNo = 0;
+            for (Track track : tracks) {
+                appendRow(buffer, ++lineNo, track);
+                if (buffer.length() >= FLUSH_CHARS) {
+                    write(copyIn, buffer);
+                }
+            }
+            write(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * COPY 텍스트 형식 한 행 (탭 구분, null은 \N)
+     */
+    private static void appendRow(StringBuilder buffer, int lineNo, Track track) {
+        TrackEntity entity = TrackEntity.fromDomain(track);
+        buffer.append(lineNo);
+        appendField(buffer, entity.getId());
+        appendField(buffer, entity.getHubDeliveryId());
+        appendField(buffer, entity.getOrderId());
+        appendField(buffer, entity.getOrderNumber());
+        appendField(buffer, entity.getOriginHubId());
+        appendField(buffer, entity.getDestinationHubId());
+        appendField(buffer, entity.getHubSegmentDeliveryIdsJson());
+        appendField(buffer, entity.getLastMileDeliveryId());
+        appendField(buffer, entity.getTotalHubSegments());
+        appendField(buffer, entity.getCurrentSegmentIndex());
+        appendField(buffer, entity.getCompletedHubSegments());
+        appendField(buffer, entity.getRequiresHubDelivery());
+        appendField(buffer, entity.getStatus());
+        appendField(buffer, entity.getCurrentPhase());
+        appendField(buffer, entity.getEstimatedDeliveryTime());
+        appendField(buffer, track.getCreatedBy());
+        appendField(buffer, UuidUtils.generate());
+        buffer.append('\n');
+    }
+
+    private static void appendField(StringBuilder buffer, Object value) {
+        buffer.append('\t');
+        if (value == null) {
+            buffer.append("\\N");
+            return;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
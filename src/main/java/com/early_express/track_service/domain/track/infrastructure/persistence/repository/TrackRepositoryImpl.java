@@ -3,93 +3,252 @@ package com.early_express.track_service.domain.track.infrastructure.persistence.
 import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
 import com.early_express.track_service.domain.track.domain.exception.TrackException;
 import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentTransit;
+import com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount;
+import com.early_express.track_service.domain.track.domain.model.vo.HubWaitingCount;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackDeadline;
 import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
 import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
 import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.AbstractTrackEntity;
 import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackEntity;
+import com.early_express.track_service.domain.track.infrastructure.persistence.entity.TrackHistoryEntity;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackHistoryJpaRepository;
 import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackJpaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
  * Track Repository 구현체
+ * - 진행 중인 추적은 운영 테이블(p_track), 완료/실패한 추적은 이력 테이블(p_track_history)
+ * - 종료 상태로 저장하는 트랜잭션에서 운영 → 이력으로 이동 (호출 측은 분리를 모름)
  */
 @Repository
 @RequiredArgsConstructor
 public class TrackRepositoryImpl implements TrackRepository {
 
+    private static final List<TrackStatus> OPEN_STATUSES = Arrays.stream(TrackStatus.values())
+            .filter(status -> !status.isTerminal())
+            .toList();
+
+    /**
+     * 허브 도착 후 출발 대기 단계 (마지막 구간 도착은 HUB_DELIVERY_COMPLETED)
+     */
+    private static final List<TrackPhase> WAITING_PHASES =
+            List.of(TrackPhase.HUB_ARRIVED, TrackPhase.HUB_DELIVERY_COMPLETED);
+
+    /**
+     * 전체 조회 정렬 속성 → 컬럼
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "orderId", "order_id",
+            "orderNumber", "order_number",
+            "status", "status",
+            "estimatedDeliveryTime", "estimated_delivery_time",
+            "startedAt", "started_at",
+            "completedAt", "completed_at",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
     private final TrackJpaRepository trackJpaRepository;
+    private final TrackHistoryJpaRepository trackHistoryJpaRepository;
+    private final TrackMetrics trackMetrics;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
     public Track save(Track track) {
-        TrackEntity entity;
+        return trackMetrics.repository("track.save", () -> {
+            if (track.getId() == null) {
+                // 신규 Track 생성 (Entity에서 UUID 생성)
+                return trackJpaRepository.save(TrackEntity.fromDomain(track)).toDomain();
+            }
+
+            // 기존 Track 업데이트 (영속 상태 엔티티 변경 감지)
+            Optional<TrackEntity> active = trackJpaRepository.findById(track.getIdValue());
+            if (active.isPresent()) {
+                TrackEntity entity = active.get();
+                entity.updateFromDomain(track);
+                if (track.getStatus().isTerminal()) {
+                    moveToHistory(entity);
+                }
+                return entity.toDomain();
+            }
 
-        if (track.getId() != null) {
-            // 기존 Track 업데이트
-            entity = trackJpaRepository.findById(track.getIdValue())
+            // 이미 이력 테이블로 옮겨진 Track
+            TrackHistoryEntity history = trackHistoryJpaRepository.findById(track.getIdValue())
                     .orElseThrow(() -> new TrackException(
                             TrackErrorCode.TRACK_NOT_FOUND,
                             "추적 정보를 찾을 수 없습니다: " + track.getIdValue()
                     ));
+            history.updateFromDomain(track);
+            return history.toDomain();
+        });
+    }
 
-            // 영속 상태 엔티티 업데이트 (변경 감지)
-            entity.updateFromDomain(track);
-        } else {
-            // 신규 Track 생성 (Entity에서 UUID 생성)
-            entity = TrackEntity.fromDomain(track);
-            entity = trackJpaRepository.save(entity);
-        }
-
-        return entity.toDomain();
+    /**
+     * 운영 → 이력 테이블 이동 (같은 트랜잭션)
+     * - 변경분 flush 후 행 그대로 복사, 운영 테이블에서 삭제
+     */
+    private void moveToHistory(TrackEntity entity) {
+        trackJpaRepository.flush();
+        trackHistoryJpaRepository.copyFromActive(List.of(entity.getId()));
+        trackJpaRepository.delete(entity);
     }
 
     @Override
     public Optional<Track> findById(TrackId trackId) {
         return trackJpaRepository.findById(trackId.getValue())
+                .<AbstractTrackEntity>map(entity -> entity)
+                .or(() -> trackHistoryJpaRepository.findById(trackId.getValue()))
                 .filter(entity -> !entity.isDeleted())
-                .map(TrackEntity::toDomain);
+                .map(AbstractTrackEntity::toDomain);
     }
 
     @Override
     @Transactional
     public void delete(Track track, String deletedBy) {
         trackJpaRepository.findById(track.getIdValue())
-                .ifPresent(entity -> {
-                    entity.delete(deletedBy);
-                    trackJpaRepository.save(entity);
-                });
+                .<AbstractTrackEntity>map(entity -> entity)
+                .or(() -> trackHistoryJpaRepository.findById(track.getIdValue()))
+                .ifPresent(entity -> entity.delete(deletedBy));
     }
 
     @Override
     public Optional<Track> findByOrderId(String orderId) {
-        return trackJpaRepository.findByOrderIdAndIsDeletedFalse(orderId)
-                .map(TrackEntity::toDomain);
+        return trackMetrics.repository("track.findByOrderId", () ->
+                trackJpaRepository.findByOrderIdAndIsDeletedFalse(orderId)
+                        .<AbstractTrackEntity>map(entity -> entity)
+                        .or(() -> trackHistoryJpaRepository.findByOrderIdAndIsDeletedFalse(orderId))
+                        .map(AbstractTrackEntity::toDomain));
     }
 
     @Override
     public Page<Track> findByHubIdAndStatus(String hubId, TrackStatus status, Pageable pageable) {
+        if (status.isTerminal()) {
+            return trackHistoryJpaRepository.findByHubIdAndStatus(hubId, status, pageable)
+                    .map(TrackHistoryEntity::toDomain);
+        }
         return trackJpaRepository.findByHubIdAndStatus(hubId, status, pageable)
                 .map(TrackEntity::toDomain);
     }
 
     @Override
     public Page<Track> searchTracks(TrackStatus status, Pageable pageable) {
-        if (status != null) {
-            return trackJpaRepository.findByStatusAndIsDeletedFalse(status, pageable)
-                    .map(TrackEntity::toDomain);
+        if (status == null) {
+            return searchAll(pageable);
         }
-        return trackJpaRepository.findByIsDeletedFalse(pageable)
+        if (status.isTerminal()) {
+            return trackHistoryJpaRepository.findByStatusAndIsDeletedFalse(status, pageable)
+                    .map(TrackHistoryEntity::toDomain);
+        }
+        return trackJpaRepository.findByStatusAndIsDeletedFalse(status, pageable)
                 .map(TrackEntity::toDomain);
     }
 
+    /**
+     * 두 테이블 전체 조회
+     * - UNION ALL + ORDER BY + LIMIT/OFFSET을 DB에서 처리해 페이지의 ID만 조회 → 해당 ID의 엔티티만 적재
+     * - 정렬 기준은 SORT_COLUMNS에 있는 속성만 허용, 동률은 ID 순
+     */
+    private Page<Track> searchAll(Pageable pageable) {
+        StringBuilder columns = new StringBuilder("id");
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : pageable.getSort()) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new TrackException(TrackErrorCode.INVALID_SORT_PROPERTY,
+                        "정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+            if (!column.equals("id")) {
+                columns.append(", ").append(column);
+            }
+            orderBy.append(column).append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        orderBy.append("id ASC");
+
+        String sql = "SELECT id, source FROM (" +
+                "SELECT " + columns + ", 'A' AS source FROM p_track WHERE is_deleted = false " +
+                "UNION ALL " +
+                "SELECT " + columns + ", 'H' AS source FROM p_track_history WHERE is_deleted = false" +
+                ") u ORDER BY " + orderBy +
+                (pageable.isPaged() ? " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset() : "");
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(sql).getResultList();
+        List<String> activeIds = new ArrayList<>();
+        List<String> historyIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            ("A".equals(String.valueOf(row[1])) ? activeIds : historyIds).add((String) row[0]);
+        }
+
+        Map<String, AbstractTrackEntity> entities = new HashMap<>();
+        trackJpaRepository.findAllById(activeIds).forEach(entity -> entities.put(entity.getId(), entity));
+        trackHistoryJpaRepository.findAllById(historyIds).forEach(entity -> entities.put(entity.getId(), entity));
+
+        // 조회 사이에 이력 테이블로 이동한 행은 건너뜀
+        List<Track> content = rows.stream()
+                .map(row -> entities.get((String) row[0]))
+                .filter(Objects::nonNull)
+                .map(AbstractTrackEntity::toDomain)
+                .toList();
+        long total = trackJpaRepository.countByIsDeletedFalse() + trackHistoryJpaRepository.countByIsDeletedFalse();
+        return new PageImpl<>(content, pageable, total);
+    }
+
     @Override
     public boolean existsByOrderId(String orderId) {
-        return trackJpaRepository.existsByOrderIdAndIsDeletedFalse(orderId);
+        return trackJpaRepository.existsByOrderIdAndIsDeletedFalse(orderId)
+                || trackHistoryJpaRepository.existsByOrderIdAndIsDeletedFalse(orderId);
+    }
+
+    @Override
+    public List<TrackDeadline> findOpenDeadlines(String afterId, int limit) {
+        return trackMetrics.repository("track.findOpenDeadlines", () ->
+                trackJpaRepository.findDeadlines(
+                        afterId != null ? afterId : "", OPEN_STATUSES, PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public List<HubSegmentTransit> findInTransitSegments(String afterId, int limit) {
+        return trackMetrics.repository("track.findInTransitSegments", () ->
+                trackJpaRepository.findInTransitSegments(
+                        afterId != null ? afterId : "", TrackStatus.HUB_IN_PROGRESS, PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public List<HubStatusCount> countByHubAndStatus() {
+        return trackMetrics.repository("track.countByHubAndStatus", () -> {
+            List<HubStatusCount> counts = new ArrayList<>(trackJpaRepository.countByOriginHubAndStatus());
+            counts.addAll(trackJpaRepository.countByDestinationHubAndStatus());
+            counts.addAll(trackHistoryJpaRepository.countByOriginHubAndStatus());
+            counts.addAll(trackHistoryJpaRepository.countByDestinationHubAndStatus());
+            return counts;
+        });
+    }
+
+    @Override
+    public List<HubWaitingCount> countWaitingByHub() {
+        // 종료 추적은 이력 테이블로 이동하므로 운영 테이블만 집계
+        return trackMetrics.repository("track.countWaitingByHub", () ->
+                trackJpaRepository.countWaitingByHub(WAITING_PHASES));
     }
 }
@@ -25,6 +25,7 @@ public class TrackSimpleResponse {
     private Integer totalHubSegments;
     private Integer completedHubSegments;
     private LocalDateTime estimatedDeliveryTime;
+    private LocalDateTime predictedDeliveryTime;
     private LocalDateTime createdAt;
 
     /**
@@ -42,6 +43,7 @@ public class TrackSimpleResponse {
                 .totalHubSegments(track.getTotalHubSegments())
                 .completedHubSegments(track.getCompletedHubSegments())
                 .estimatedDeliveryTime(track.getEstimatedDeliveryTime())
+                .predictedDeliveryTime(track.getPredictedDeliveryTime())
                 .createdAt(track.getCreatedAt())
                 .build();
     }
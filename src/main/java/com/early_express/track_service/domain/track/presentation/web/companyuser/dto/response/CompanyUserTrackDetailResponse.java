@@ -36,6 +36,7 @@ public class CompanyUserTrackDetailResponse {
 
     // 시간 정보
     private LocalDateTime estimatedDeliveryTime;
+    private LocalDateTime predictedDeliveryTime;
     private LocalDateTime actualDeliveryTime;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
@@ -62,6 +63,7 @@ public class CompanyUserTrackDetailResponse {
                 .completedHubSegments(track.getCompletedHubSegments())
                 .progressPercent(progressPercent)
                 .estimatedDeliveryTime(track.getEstimatedDeliveryTime())
+                .predictedDeliveryTime(track.getPredictedDeliveryTime())
                 .actualDeliveryTime(track.getActualDeliveryTime())
                 .startedAt(track.getStartedAt())
                 .completedAt(track.getCompletedAt())
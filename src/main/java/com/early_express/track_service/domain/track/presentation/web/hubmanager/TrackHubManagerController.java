@@ -6,6 +6,7 @@ import com.early_express.track_service.domain.track.application.query.dto.TrackQ
 import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
 import com.early_express.track_service.domain.track.presentation.web.common.dto.response.TrackSimpleResponse;
 import com.early_express.track_service.domain.track.presentation.web.hubmanager.dto.response.HubManagerTrackDetailResponse;
+import com.early_express.track_service.domain.track.presentation.web.hubmanager.dto.response.HubManagerTrackSummaryResponse;
 import com.early_express.track_service.global.common.dto.PageInfo;
 import com.early_express.track_service.global.presentation.dto.ApiResponse;
 import com.early_express.track_service.global.presentation.dto.PageResponse;
@@ -31,6 +32,18 @@ public class TrackHubManagerController {
 
     private final TrackQueryService trackQueryService;
 
+    /**
+     * 허브 상태별 추적 수 요약 (메모리 카운터, COUNT 쿼리 없음)
+     */
+    @GetMapping("/tracks/summary")
+    public ApiResponse<HubManagerTrackSummaryResponse> getTrackSummary(
+            @RequestHeader("X-Hub-Id") String hubId) {
+
+        log.debug("허브 추적 수 요약 조회 - hubId: {}", hubId);
+
+        return ApiResponse.success(HubManagerTrackSummaryResponse.from(trackQueryService.getHubSummary(hubId)));
+    }
+
     /**
      * 허브 출발 대기 중인 추적 목록 조회
      */
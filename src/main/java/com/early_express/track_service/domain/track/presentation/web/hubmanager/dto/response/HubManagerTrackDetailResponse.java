@@ -41,6 +41,7 @@ public class HubManagerTrackDetailResponse {
 
     // 시간 정보
     private LocalDateTime estimatedDeliveryTime;
+    private LocalDateTime predictedDeliveryTime;
     private LocalDateTime actualDeliveryTime;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
@@ -70,6 +71,7 @@ public class HubManagerTrackDetailResponse {
                 .currentSegmentIndex(track.getCurrentSegmentIndex())
                 .requiresHubDelivery(track.getRequiresHubDelivery())
                 .estimatedDeliveryTime(track.getEstimatedDeliveryTime())
+                .predictedDeliveryTime(track.getPredictedDeliveryTime())
                 .actualDeliveryTime(track.getActualDeliveryTime())
                 .startedAt(track.getStartedAt())
                 .completedAt(track.getCompletedAt())
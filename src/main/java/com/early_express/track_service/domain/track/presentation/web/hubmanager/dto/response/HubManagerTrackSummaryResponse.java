@@ -0,0 +1,45 @@
+package com.early_express.track_service.domain.track.presentation.web.hubmanager.dto.response;
+
+import com.early_express.track_service.domain.track.application.query.dto.TrackQueryDto.HubTrackSummaryResponse;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 상태별 추적 수 요약 응답 DTO (Hub Manager)
+ * - 목록 API(출발 대기/허브 이동 중/최종 배송 중/완료)와 같은 기준
+ */
+@Getter
+@Builder
+public class HubManagerTrackSummaryResponse {
+
+    private String hubId;
+    private long waitingDeparture;
+    private long hubInProgress;
+    private long lastMileInProgress;
+    private long completed;
+    private long failed;
+    private long total;
+
+    // 마지막 DB 보정 시간
+    private LocalDateTime reconciledAt;
+
+    public static HubManagerTrackSummaryResponse from(HubTrackSummaryResponse summary) {
+        return HubManagerTrackSummaryResponse.builder()
+                .hubId(summary.getHubId())
+                .waitingDeparture(count(summary, TrackStatus.CREATED))
+                .hubInProgress(count(summary, TrackStatus.HUB_IN_PROGRESS))
+                .lastMileInProgress(count(summary, TrackStatus.LAST_MILE_IN_PROGRESS))
+                .completed(count(summary, TrackStatus.COMPLETED))
+                .failed(count(summary, TrackStatus.FAILED))
+                .total(summary.getTotal())
+                .reconciledAt(summary.getReconciledAt())
+                .build();
+    }
+
+    private static long count(HubTrackSummaryResponse summary, TrackStatus status) {
+        return summary.getCounts().getOrDefault(status, 0L);
+    }
+}
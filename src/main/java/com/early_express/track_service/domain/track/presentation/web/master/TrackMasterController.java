@@ -1,22 +1,38 @@
 package com.early_express.track_service.domain.track.presentation.web.master;
 
+import com.early_express.track_service.domain.track.application.deadletter.TrackDeadLetterService;
+import com.early_express.track_service.domain.track.application.export.TrackExportFormat;
+import com.early_express.track_service.domain.track.application.export.TrackExportService;
+import com.early_express.track_service.domain.track.application.importer.TrackImportService;
 import com.early_express.track_service.domain.track.application.query.TrackQueryService;
+import com.early_express.track_service.domain.track.application.route.RouteTransitStatistics;
 import com.early_express.track_service.domain.track.application.query.dto.TrackQueryDto.TrackDetailResponse;
 import com.early_express.track_service.domain.track.application.query.dto.TrackQueryDto.TrackResponse;
 import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
 import com.early_express.track_service.domain.track.presentation.web.common.dto.response.TrackSimpleResponse;
+import com.early_express.track_service.domain.track.presentation.web.master.dto.response.DeadLetterReplayResponse;
 import com.early_express.track_service.domain.track.presentation.web.master.dto.response.MasterTrackDetailResponse;
+import com.early_express.track_service.domain.track.presentation.web.master.dto.response.TrackImportResponse;
+import com.early_express.track_service.domain.track.presentation.web.master.dto.response.RouteTransitStatsResponse;
 import com.early_express.track_service.global.common.dto.PageInfo;
 import com.early_express.track_service.global.presentation.dto.ApiResponse;
 import com.early_express.track_service.global.presentation.dto.PageResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
@@ -30,6 +46,10 @@ import java.util.List;
 public class TrackMasterController {
 
     private final TrackQueryService trackQueryService;
+    private final TrackDeadLetterService trackDeadLetterService;
+    private final RouteTransitStatistics routeTransitStatistics;
+    private final TrackExportService trackExportService;
+    private final TrackImportService trackImportService;
 
     /**
      * 전체 추적 목록 조회 (상태 필터 + 페이징)
@@ -71,6 +91,58 @@ public class TrackMasterController {
         return ApiResponse.success(PageResponse.of(content, PageInfo.of(queryResult)));
     }
 
+    /**
+     * 추적 + 이벤트 스트리밍 내보내기 (분석용, NDJSON/CSV, gzip 선택)
+     * - 생성 시간 조건: createdFrom 이상 ~ createdTo 미만 (ISO 형식)
+     */
+    @GetMapping("/tracks/export")
+    public void exportTracks(
+            @RequestParam(defaultValue = "NDJSON") TrackExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) TrackStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime createdTo,
+            HttpServletResponse response) throws IOException {
+
+        log.info("추적 내보내기 - format: {}, gzip: {}, status: {}, 기간: {} ~ {}",
+                format, gzip, status, createdFrom, createdTo);
+
+        // 스트리밍 시작 후에는 오류 응답을 보낼 수 없으므로 먼저 검증
+        trackExportService.validate(createdFrom, createdTo);
+
+        String filename = "tracks-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+                + "." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        trackExportService.export(format, gzip, status, createdFrom, createdTo, response.getOutputStream());
+    }
+
+    /**
+     * 과거 추적 CSV 대량 가져오기 (비동기, 작업 ID로 진행 상황 조회)
+     * - 이미 존재하는 주문 ID는 건너뜀
+     */
+    @PostMapping(value = "/tracks/import", consumes = "text/csv")
+    public ApiResponse<TrackImportResponse> importTracks(HttpServletRequest request) throws IOException {
+
+        log.info("추적 가져오기 요청 - {}바이트", request.getContentLengthLong());
+
+        return ApiResponse.success(TrackImportResponse.from(trackImportService.start(request.getInputStream())));
+    }
+
+    /**
+     * 추적 가져오기 진행 상황 조회
+     */
+    @GetMapping("/tracks/import/{jobId}")
+    public ApiResponse<TrackImportResponse> getImportProgress(@PathVariable String jobId) {
+
+        return ApiResponse.success(TrackImportResponse.from(trackImportService.getProgress(jobId)));
+    }
+
     /**
      * 추적 상세 조회
      */
@@ -98,4 +170,34 @@ public class TrackMasterController {
 
         return ApiResponse.success(response);
     }
+
+    /**
+     * 처리 실패 이벤트(DLT) 일괄 재처리
+     * - 원래 토픽으로 다시 발행, 남은 레코드는 다음 호출에서 이어서 처리
+     */
+    @PostMapping("/dead-letters/replay")
+    public ApiResponse<DeadLetterReplayResponse> replayDeadLetters(
+            @RequestParam(defaultValue = "1000") int limit) {
+
+        log.info("DLT 재처리 요청 - limit: {}", limit);
+
+        return ApiResponse.success(DeadLetterReplayResponse.from(trackDeadLetterService.replay(limit)));
+    }
+
+    /**
+     * 허브 구간별 소요 시간 분포 조회 (출발/도착 허브 필터 선택)
+     */
+    @GetMapping("/routes/transit-stats")
+    public ApiResponse<List<RouteTransitStatsResponse>> getRouteTransitStats(
+            @RequestParam(required = false) String fromHubId,
+            @RequestParam(required = false) String toHubId) {
+
+        log.info("구간 소요 시간 분포 조회 - fromHubId: {}, toHubId: {}", fromHubId, toHubId);
+
+        List<RouteTransitStatsResponse> response = routeTransitStatistics.summaries(fromHubId, toHubId).stream()
+                .map(RouteTransitStatsResponse::from)
+                .toList();
+
+        return ApiResponse.success(response);
+    }
 }
@@ -0,0 +1,27 @@
+package com.early_express.track_service.domain.track.presentation.web.master.dto.response;
+
+import com.early_express.track_service.domain.track.application.deadletter.TrackDeadLetterService.DeadLetterReplayResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * DLT 재처리 결과 응답 DTO (Master)
+ */
+@Getter
+@Builder
+public class DeadLetterReplayResponse {
+
+    private int replayed;
+    private int skipped;
+    private Map<String, Integer> replayedByTopic;
+
+    public static DeadLetterReplayResponse from(DeadLetterReplayResult result) {
+        return DeadLetterReplayResponse.builder()
+                .replayed(result.replayed())
+                .skipped(result.skipped())
+                .replayedByTopic(result.byTopic())
+                .build();
+    }
+}
@@ -41,6 +41,7 @@ public class MasterTrackDetailResponse {
 
     // 시간 정보
     private LocalDateTime estimatedDeliveryTime;
+    private LocalDateTime predictedDeliveryTime;
     private LocalDateTime actualDeliveryTime;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
@@ -73,6 +74,7 @@ public class MasterTrackDetailResponse {
                 .completedHubSegments(track.getCompletedHubSegments())
                 .currentSegmentIndex(track.getCurrentSegmentIndex())
                 .estimatedDeliveryTime(track.getEstimatedDeliveryTime())
+                .predictedDeliveryTime(track.getPredictedDeliveryTime())
                 .actualDeliveryTime(track.getActualDeliveryTime())
                 .startedAt(track.getStartedAt())
                 .completedAt(track.getCompletedAt())
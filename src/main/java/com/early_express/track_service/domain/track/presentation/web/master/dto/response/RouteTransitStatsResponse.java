@@ -0,0 +1,42 @@
+package com.early_express.track_service.domain.track.presentation.web.master.dto.response;
+
+import com.early_express.track_service.domain.track.application.route.RouteTransitStatistics.Summary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브 구간 소요 시간 분포 응답 DTO (Master)
+ * - 소요 시간은 초 단위
+ */
+@Getter
+@Builder
+public class RouteTransitStatsResponse {
+
+    private String fromHubId;
+    private String toHubId;
+    private long samples;
+    private long meanSeconds;
+    private long p50Seconds;
+    private long p90Seconds;
+    private long p95Seconds;
+    private long p99Seconds;
+    private long maxSeconds;
+    private LocalDateTime updatedAt;
+
+    public static RouteTransitStatsResponse from(Summary summary) {
+        return RouteTransitStatsResponse.builder()
+                .fromHubId(summary.fromHubId())
+                .toHubId(summary.toHubId())
+                .samples(summary.samples())
+                .meanSeconds(summary.mean().toSeconds())
+                .p50Seconds(summary.p50().toSeconds())
+                .p90Seconds(summary.p90().toSeconds())
+                .p95Seconds(summary.p95().toSeconds())
+                .p99Seconds(summary.p99().toSeconds())
+                .maxSeconds(summary.max().toSeconds())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+}
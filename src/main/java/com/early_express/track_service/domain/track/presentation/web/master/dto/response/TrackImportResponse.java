@@ -0,0 +1,44 @@
+package com.early_express.track_service.domain.track.presentation.web.master.dto.response;
+
+import com.early_express.track_service.domain.track.application.importer.TrackImportJob.Progress;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추적 대량 가져오기 진행 상황 응답 DTO (Master)
+ */
+@Getter
+@Builder
+public class TrackImportResponse {
+
+    private String jobId;
+    private String status;
+    private long read;
+    private long imported;
+    private long duplicates;
+    private long rejected;
+    private long rowsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failureReason;
+    private List<String> errors;
+
+    public static TrackImportResponse from(Progress progress) {
+        return TrackImportResponse.builder()
+                .jobId(progress.jobId())
+                .status(progress.status().name())
+                .read(progress.read())
+                .imported(progress.imported())
+                .duplicates(progress.duplicates())
+                .rejected(progress.rejected())
+                .rowsPerSecond(progress.rowsPerSecond())
+                .startedAt(progress.startedAt())
+                .finishedAt(progress.finishedAt())
+                .failureReason(progress.failureReason())
+                .errors(progress.errors())
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.early_express.track_service.global.common.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DB 집계로 보정하는 메모리 카운터 (키마다 slots개 값)
+ * - 기준값: 보정 시 DB 집계로 교체 (다른 인스턴스 변경분도 이때 반영)
+ * - 변경분: 이 인스턴스의 변경을 LongAdder로 누적 → 조회 = 기준값 + 변경분
+ * - 변경분은 음수도 그대로 누적하고 조회 시에만 0 미만을 잘라냄 (다음 보정에서 DB 값으로 대체)
+ * - 보정 중 발생한 변경은 새 변경분 테이블에 쌓고, 보정 완료 시 이전 변경분 폐기 (실패 시 되돌림)
+ *
+ * @param <K> 키 타입 (허브 ID 등)
+ */
+public class ReconciledCounters<K> {
+
+    private final int slots;
+
+    private volatile Map<K, long[]> baseline = Map.of();
+    private volatile Map<K, LongAdder[]> deltas = new ConcurrentHashMap<>();
+    private volatile Map<K, LongAdder[]> reconciling = Map.of();
+
+    public ReconciledCounters(int slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * 변경분 누적 (키가 null이면 무시)
+     */
+    public void add(K key, int slot, long delta) {
+        if (key != null) {
+            deltas.computeIfAbsent(key, k -> newAdders())[slot].add(delta);
+        }
+    }
+
+    /**
+     * 기준값 + 변경분 (0 미만이면 0)
+     */
+    public long get(K key, int slot) {
+        if (key == null) {
+            return 0;
+        }
+        long[] base = baseline.get(key);
+        LongAdder[] pending = reconciling.get(key);
+        LongAdder[] current = deltas.get(key);
+        long count = (base != null ? base[slot] : 0)
+                + (pending != null ? pending[slot].sum() : 0)
+                + (current != null ? current[slot].sum() : 0);
+        return Math.max(count, 0);
+    }
+
+    /**
+     * DB 집계로 기준값 교체 (집계 실패 시 이전 변경분을 되돌리고 예외를 그대로 던짐)
+     *
+     * @param counter 키별 slots 크기 배열로 DB 집계
+     * @return 집계된 키 수
+     */
+    public synchronized int reconcile(Supplier<Map<K, long[]>> counter) {
+        // 집계 중 변경은 새 테이블로 → 집계 결과에 포함된 이전 변경분만 폐기
+        reconciling = deltas;
+        deltas = new ConcurrentHashMap<>();
+
+        Map<K, long[]> counted;
+        try {
+            counted = counter.get();
+        } catch (RuntimeException e) {
+            reconciling.forEach((key, adders) -> {
+                LongAdder[] target = deltas.computeIfAbsent(key, k -> newAdders());
+                for (int i = 0; i < slots; i++) {
+                    target[i].add(adders[i].sum());
+                }
+            });
+            reconciling = Map.of();
+            throw e;
+        }
+
+        baseline = counted;
+        reconciling = Map.of();
+        return counted.size();
+    }
+
+    private LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[slots];
+        for (int i = 0; i < slots; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
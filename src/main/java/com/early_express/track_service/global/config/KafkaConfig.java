@@ -51,7 +51,10 @@ public class KafkaConfig {
 
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<String, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory());
+        // 관측 활성화 (트레이스 컨텍스트를 레코드 헤더로 전파)
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
     }
 
     // 기본 토픽 생성 예제
@@ -1,17 +1,23 @@
 package com.early_express.track_service.global.config;
 
+import com.early_express.track_service.global.infrastructure.event.converter.EventMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.converter.StringJsonMessageConverter;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,7 +26,10 @@ import java.util.Map;
  * Kafka Consumer 설정
  * - 이벤트 구독 설정
  * - 수동 커밋
- * - 재시도 설정
+ * - 값은 byte[]로 받아 EventMessageConverter가 바로 이벤트 객체로 변환 (JSON 또는 Smile)
+ * - 재시도 설정 (개별 이벤트 토픽은 비차단 재시도 토픽, 통합 추적 토픽은 차단 재시도 → DLT, KafkaRetryTopicConfig)
+ * - spring.threads.virtual.enabled=true 시 리스너를 가상 스레드에서 실행
+ * - Kafka 클라이언트 메트릭(파티션별 records-lag 등)을 Micrometer로 노출
  */
 @Configuration
 public class KafkaConsumerConfig {
@@ -31,13 +40,16 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:track-service-group}")
     private String groupId;
 
+    @Value("${spring.kafka.listener.concurrency:3}")
+    private int concurrency;
+
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public ConsumerFactory<String, Object> consumerFactory(MeterRegistry meterRegistry) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
 
         // 수동 커밋
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -49,27 +61,52 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        DefaultKafkaConsumerFactory<String, Object> factory = new DefaultKafkaConsumerFactory<>(configProps);
+
+        // 파티션별 컨슈머 랙 (kafka.consumer.fetch.manager.records.lag) - 느린 컨슈머 탐지
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        return factory;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(ObjectMapper objectMapper) {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory, ObjectMapper objectMapper, Environment environment,
+            DefaultErrorHandler blockingRetryErrorHandler) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
 
         // 수동 커밋 모드
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
 
-        // 동시성 설정 (파티션 수와 동일하게)
-        factory.setConcurrency(3);
+        // 동시성 설정 (상한, 실제 동시 처리 수는 ConsumerBackpressureController가 pause/resume으로 조절)
+        factory.setConcurrency(concurrency);
 
-        // 에러 핸들러
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        // 에러 핸들러 (재시도 토픽 대상이 아닌 리스너용 차단 재시도 → DLT, 재시도 토픽 대상은 KafkaRetryTopicConfig에서 교체)
+        factory.setCommonErrorHandler(blockingRetryErrorHandler);
 
-        factory.setRecordMessageConverter(new StringJsonMessageConverter(objectMapper));
+        factory.setRecordMessageConverter(new EventMessageConverter(objectMapper));
+
+        // 관측 활성화 (수신 스팬이 발행자 트레이스를 이어받음)
+        factory.getContainerProperties().setObservationEnabled(true);
+
+        // 가상 스레드 실행 (JDBC, Feign 블로킹 구간에서 캐리어 스레드 반환)
+        if (Threading.VIRTUAL.isActive(environment)) {
+            factory.getContainerProperties().setListenerTaskExecutor(virtualThreadListenerExecutor());
+        }
 
         return factory;
     }
+
+    /**
+     * 리스너 컨테이너용 가상 스레드 Executor
+     * - 컨슈머 스레드마다 가상 스레드 하나를 할당
+     */
+    private SimpleAsyncTaskExecutor virtualThreadListenerExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
@@ -0,0 +1,222 @@
+package com.early_express.track_service.global.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.retrytopic.DeadLetterPublishingRecovererFactory;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.DestinationTopicResolver;
+import org.springframework.kafka.retrytopic.RetryTopicComponentFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kafka 비차단 재시도 설정
+ * - 처리 실패 레코드를 원래 파티션에서 재시도하지 않고 단계별 재시도 토픽으로 넘김
+ *   (<토픽>-retry-0, -retry-1, ... 지연은 initial-delay × multiplier^n, max-delay 상한)
+ *   → 같은 파티션의 정상 주문은 막히지 않음
+ * - 재시도 소진/재시도 불가 예외(역직렬화 실패 등)는 공용 DLT(<application>-dlt)로 이동
+ *   (원래 토픽/파티션/오프셋, 예외 클래스/메시지/스택트레이스 헤더 포함)
+ * - 재시도/DLT 발행은 원본 바이트를 그대로 보내는 전용 KafkaTemplate 사용 (JSON/Smile 재직렬화 방지)
+ * - 재시도 토픽은 자동 생성 대신 여기서 선언 (토픽별 DLT 생성 방지)
+ * - 통합 추적 토픽(tracking-events)은 비차단 재시도 대상에서 제외
+ *   (재시도 토픽으로 넘기면 같은 주문의 뒤 이벤트가 먼저 처리되어 주문 단위 순서가 깨짐)
+ *   → 원래 파티션에서 차단 재시도 후 공용 DLT로 이동 (blockingRetryErrorHandler)
+ */
+@Configuration
+public class KafkaRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${track-event.retry.attempts:4}")
+    private int attempts;
+
+    @Value("${track-event.retry.initial-delay:1s}")
+    private Duration initialDelay;
+
+    @Value("${track-event.retry.multiplier:5}")
+    private double multiplier;
+
+    @Value("${track-event.retry.max-delay:1m}")
+    private Duration maxDelay;
+
+    @Value("${track-event.retry.topic-replicas:3}")
+    private short topicReplicas;
+
+    @Value("#{'${spring.kafka.topic.tracking-start-requested},${spring.kafka.topic.hub-segment-departed},"
+            + "${spring.kafka.topic.hub-segment-arrived},${spring.kafka.topic.last-mile-departed},"
+            + "${spring.kafka.topic.last-mile-completed}'.split(',')}")
+    private List<String> eventTopics;
+
+    /**
+     * 재시도/DLT 발행용 KafkaTemplate (원본 바이트 그대로 전달)
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> deadLetterKafkaTemplate() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        ProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(configProps);
+        KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
+    }
+
+    /**
+     * 재정렬 버퍼에서 선행 이벤트보다 먼저 도착한 레코드를 첫 재시도 토픽(<토픽>-retry-0)으로 바로 발행
+     * - 재시도 토픽이 없는 토픽(통합 추적 토픽)은 버퍼가 발행하지 않고 예외를 던짐 (차단 재시도)
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer outOfOrderRecoverer(KafkaTemplate<String, byte[]> deadLetterKafkaTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + "-retry-0", -1));
+        recoverer.setHeaderNamesSupplier(KafkaRetryTopicConfig::retryTopicHeaderNames);
+        return recoverer;
+    }
+
+    /**
+     * 비차단 재시도 대상이 아닌 리스너(통합 추적 토픽)용 에러 핸들러
+     * - 원래 파티션에서 같은 지연 설정으로 재시도 (뒤 레코드는 대기) → 주문 단위 순서 유지
+     * - 재시도 소진/재시도 불가 예외(역직렬화 실패 등)는 공용 DLT로 이동
+     */
+    @Bean
+    public DefaultErrorHandler blockingRetryErrorHandler(KafkaTemplate<String, byte[]> deadLetterKafkaTemplate) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(attempts - 1);
+        backOff.setInitialInterval(initialDelay.toMillis());
+        backOff.setMultiplier(multiplier);
+        backOff.setMaxInterval(maxDelay.toMillis());
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate,
+                (record, exception) -> new TopicPartition(deadLetterTopic(), -1));
+        recoverer.setHeaderNamesSupplier(KafkaRetryTopicConfig::retryTopicHeaderNames);
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
+    @Bean
+    public RetryTopicConfiguration trackEventRetryTopics(KafkaTemplate<String, byte[]> deadLetterKafkaTemplate) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopics(retryableTopics())
+                .maxAttempts(attempts)
+                .exponentialBackoff(initialDelay.toMillis(), multiplier, maxDelay.toMillis())
+                .suffixTopicsWithIndexValues()
+                .doNotAutoCreateRetryTopics()
+                // 토픽별 DLT 리스너는 띄우지 않음 (공용 DLT로 발행, 재처리는 TrackDeadLetterReplayer)
+                .autoStartDltHandler(false)
+                .listenerFactory("kafkaListenerContainerFactory")
+                .create(deadLetterKafkaTemplate);
+    }
+
+    /**
+     * 재시도 토픽 선언 (이벤트 토픽 × 재시도 단계)
+     */
+    @Bean
+    public KafkaAdmin.NewTopics trackEventRetryTopicDeclarations() {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String topic : retryableTopics()) {
+            for (int i = 0; i < attempts - 1; i++) {
+                topics.add(TopicBuilder.name(topic + "-retry-" + i)
+                        .partitions(3)
+                        .replicas(topicReplicas)
+                        .build());
+            }
+        }
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+    }
+
+    /**
+     * DLT 목적지를 공용 DLT로 변경 (파티션은 키 해시로 결정)
+     */
+    @Override
+    protected RetryTopicComponentFactory createComponentFactory() {
+        // 설정 주입 전에 호출되므로 토픽 이름은 발행 시점에 계산
+        return new RetryTopicComponentFactory() {
+            @Override
+            public DeadLetterPublishingRecovererFactory deadLetterPublishingRecovererFactory(
+                    DestinationTopicResolver destinationTopicResolver) {
+                DeadLetterPublishingRecovererFactory factory =
+                        new DeadLetterPublishingRecovererFactory(destinationTopicResolver) {
+                            @Override
+                            protected TopicPartition resolveTopicPartition(ConsumerRecord<?, ?> cr,
+                                                                           DestinationTopic nextDestination) {
+                                if (nextDestination.isDltTopic()) {
+                                    return new TopicPartition(deadLetterTopic(), -1);
+                                }
+                                return super.resolveTopicPartition(cr, nextDestination);
+                            }
+                        };
+                // 공용 DLT는 재시도 토픽 목록에 없으므로 템플릿을 직접 지정
+                factory.setDeadLetterPublisherCreator((templateResolver, destinationResolver) ->
+                        new DeadLetterPublishingRecoverer(
+                                record -> deadLetterTopic().equals(record.topic())
+                                        ? deadLetterKafkaTemplate()
+                                        : templateResolver.apply(record),
+                                destinationResolver));
+                return factory;
+            }
+        };
+    }
+
+    /**
+     * 비차단 재시도 대상 토픽 (개별 이벤트 토픽만, 통합 추적 토픽 제외)
+     */
+    private List<String> retryableTopics() {
+        return eventTopics;
+    }
+
+    /**
+     * 재시도 토픽 경로와 같은 원래 위치/예외 헤더 이름 (kafka_original-*, kafka_exception-*)
+     * - 기본값(kafka_dlt-*)을 쓰면 TrackDeadLetterReplayer가 원래 토픽을 찾지 못함
+     */
+    private static DeadLetterPublishingRecoverer.HeaderNames retryTopicHeaderNames() {
+        return DeadLetterPublishingRecoverer.HeaderNames.Builder.original()
+                .offsetHeader(KafkaHeaders.ORIGINAL_OFFSET)
+                .timestampHeader(KafkaHeaders.ORIGINAL_TIMESTAMP)
+                .timestampTypeHeader(KafkaHeaders.ORIGINAL_TIMESTAMP_TYPE)
+                .topicHeader(KafkaHeaders.ORIGINAL_TOPIC)
+                .partitionHeader(KafkaHeaders.ORIGINAL_PARTITION)
+                .consumerGroupHeader(KafkaHeaders.ORIGINAL_CONSUMER_GROUP)
+                .exception()
+                .keyExceptionFqcn(KafkaHeaders.KEY_EXCEPTION_FQCN)
+                .exceptionFqcn(KafkaHeaders.EXCEPTION_FQCN)
+                .exceptionCauseFqcn(KafkaHeaders.EXCEPTION_CAUSE_FQCN)
+                .keyExceptionMessage(KafkaHeaders.KEY_EXCEPTION_MESSAGE)
+                .exceptionMessage(KafkaHeaders.EXCEPTION_MESSAGE)
+                .keyExceptionStacktrace(KafkaHeaders.KEY_EXCEPTION_STACKTRACE)
+                .exceptionStacktrace(KafkaHeaders.EXCEPTION_STACKTRACE)
+                .build();
+    }
+
+    private String deadLetterTopic() {
+        return applicationName + "-dlt";
+    }
+}
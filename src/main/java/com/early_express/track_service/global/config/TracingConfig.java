@@ -0,0 +1,59 @@
+package com.early_express.track_service.global.config;
+
+import com.early_express.track_service.global.infrastructure.monitoring.TailSamplingSpanHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import zipkin2.reporter.brave.AsyncZipkinSpanHandler;
+
+import java.time.Duration;
+
+/**
+ * 분산 추적 설정
+ * - Kafka 리스너/KafkaTemplate 관측은 KafkaConsumerConfig, KafkaConfig에서 활성화
+ * - Feign 관측은 feign-micrometer (MicrometerObservationCapability 자동 등록)
+ * - Zipkin 전송 SpanHandler를 테일 샘플링 핸들러로 감싸 느린/오류 트레이스 위주로 전송
+ *   (tracing.tail-sampling.enabled=false 시 헤드 샘플링 결과를 그대로 전송)
+ */
+@Slf4j
+@Configuration
+public class TracingConfig {
+
+    private static final String PREFIX = "tracing.tail-sampling.";
+
+    @Bean
+    static BeanPostProcessor tailSamplingSpanHandlerPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof AsyncZipkinSpanHandler zipkinSpanHandler)) {
+                    return bean;
+                }
+
+                Binder binder = Binder.get(environment);
+                if (!binder.bind(PREFIX + "enabled", Boolean.class).orElse(true)) {
+                    return bean;
+                }
+
+                Duration slowThreshold = binder.bind(PREFIX + "slow-threshold", Duration.class)
+                        .orElse(Duration.ofMillis(500));
+                double baselineRatio = binder.bind(PREFIX + "baseline-ratio", Double.class).orElse(0.01);
+                int maxBufferedTraces = binder.bind(PREFIX + "max-buffered-traces", Integer.class).orElse(10_000);
+                Duration bufferTtl = binder.bind(PREFIX + "buffer-ttl", Duration.class)
+                        .orElse(Duration.ofSeconds(60));
+
+                log.info("테일 샘플링 적용 - slowThreshold: {}ms, baselineRatio: {}, maxBufferedTraces: {}",
+                        slowThreshold.toMillis(), baselineRatio, maxBufferedTraces);
+
+                return new TailSamplingSpanHandler(zipkinSpanHandler, meterRegistry.getObject(),
+                        slowThreshold, baselineRatio, maxBufferedTraces, bufferTtl);
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.early_express.track_service.global.infrastructure.event.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.kafka.support.converter.JsonMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageHeaders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 수신 이벤트 변환기 (byte[] 값 기준)
+ * - 기본: JSON 바이트를 Jackson이 바로 파싱 (String 디코딩 단계 없음)
+ * - contentType 헤더가 application/x-jackson-smile 이면 Smile(바이너리 JSON)로 파싱
+ *   → 필드명 back-reference, 숫자/날짜 바이너리 인코딩으로 페이로드와 파싱 비용 감소
+ * - 두 형식 모두 같은 ObjectMapper 설정(모듈, @JsonFormat 등)과 이벤트 클래스를 사용
+ *   → JSON 발행자는 그대로 두고 발행자별로 Smile 전환 가능
+ */
+public class EventMessageConverter extends JsonMessageConverter {
+
+    public static final String SMILE_CONTENT_TYPE = "application/x-jackson-smile";
+
+    private static final byte[] SMILE_CONTENT_TYPE_BYTES = SMILE_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper smileMapper;
+
+    public EventMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    /**
+     * 발행 측(테스트, 벤치마크 등)에서 같은 설정으로 Smile 인코딩할 때 사용
+     */
+    public ObjectMapper getSmileMapper() {
+        return smileMapper;
+    }
+
+    @Override
+    protected Object extractAndConvertValue(ConsumerRecord<?, ?> record, @Nullable Type type) {
+        if (type == null || !(record.value() instanceof byte[] value) || !isSmile(record.headers())) {
+            return super.extractAndConvertValue(record, type);
+        }
+        try {
+            return smileMapper.readValue(value, smileMapper.constructType(type));
+        } catch (IOException e) {
+            throw new ConversionException("Failed to convert from Smile", record, e);
+        }
+    }
+
+    /**
+     * Smile 페이로드 여부 (헤더 바이트를 그대로 비교, 레코드마다 문자열 생성 없음)
+     */
+    public static boolean isSmile(Headers headers) {
+        Header header = headers.lastHeader(MessageHeaders.CONTENT_TYPE);
+        return header != null && Arrays.equals(header.value(), SMILE_CONTENT_TYPE_BYTES);
+    }
+}
@@ -0,0 +1,67 @@
+package com.early_express.track_service.global.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버림 건수를 집계하는 비동기 Appender
+ * - logback AsyncAppender와 동일하게 동작 (큐 여유가 discardingThreshold 미만이면 INFO 이하 버림)
+ * - neverBlock=true 에서 큐가 가득 차 버려지는 WARN/ERROR 도 집계
+ * - 집계값은 Appender 이름별로 정적 보관 (logback은 Spring 컨텍스트보다 먼저, 설정 재적용 시 다시 생성되므로)
+ *   → LogDropMetrics 가 logging.events.dropped 로 노출
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    public static final String DISCARDED = "discarded";
+    public static final String QUEUE_FULL = "queue_full";
+
+    private static final Map<String, Drops> DROPS = new ConcurrentHashMap<>();
+
+    private Drops drops;
+
+    @Override
+    public void start() {
+        drops = DROPS.computeIfAbsent(getName(), name -> new Drops());
+        super.start();
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            drops.discarded.increment();
+        }
+        return discardable;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 큐가 가득 찼고 임계치 버림 대상이 아니면 offer 실패로 조용히 버려짐 (동시 append 사이에서는 근사값)
+        if (isNeverBlock() && getRemainingCapacity() == 0
+                && !(getDiscardingThreshold() > 0 && super.isDiscardable(event))) {
+            drops.queueFull.increment();
+        }
+        super.append(event);
+    }
+
+    /**
+     * Appender 이름별 버림 건수 (Appender → 사유 → 건수)
+     */
+    static Map<String, Drops> drops() {
+        return DROPS;
+    }
+
+    static final class Drops {
+
+        private final LongAdder discarded = new LongAdder();
+        private final LongAdder queueFull = new LongAdder();
+
+        long count(String reason) {
+            return DISCARDED.equals(reason) ? discarded.sum() : queueFull.sum();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.early_express.track_service.global.infrastructure.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 비동기 로그 Appender 버림 건수 메트릭
+ * - logging.events.dropped{appender, reason=discarded|queue_full}
+ * - Loki 전송 큐에서 버려진 건수는 loki4j.drop.events (logback.xml metricsEnabled)
+ */
+@Component
+public class LogDropMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        DropCountingAsyncAppender.drops().forEach((appender, drops) -> {
+            for (String reason : List.of(DropCountingAsyncAppender.DISCARDED, DropCountingAsyncAppender.QUEUE_FULL)) {
+                FunctionCounter.builder("logging.events.dropped", drops, d -> d.count(reason))
+                        .description("비동기 Appender 큐에서 버려진 로그 이벤트 수")
+                        .tags("appender", appender, "reason", reason)
+                        .register(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,230 @@
+package com.early_express.track_service.global.infrastructure.monitoring;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테일 기반 샘플링 SpanHandler
+ * - 전송 대상 SpanHandler(Zipkin)를 감싸고, 로컬 루트 스팬이 끝날 때까지 같은 트레이스의 스팬을 버퍼링
+ * - 로컬 루트 종료 시 보관 여부 결정: 느린 트레이스 / 오류 포함 트레이스 / 기본 비율 샘플
+ * - 헤드 샘플링은 100%로 두고(management.tracing.sampling.probability=1.0) 전송량은 여기서 제한
+ * - 버퍼 상한 초과 시 신규 트레이스는 버림, 로컬 루트가 끝나지 않은 버퍼는 TTL 경과 후 정리
+ * - 결정 결과는 TTL 동안 기억하여 로컬 루트 이후에 끝난 스팬도 같은 결정을 따름
+ */
+public class TailSamplingSpanHandler extends SpanHandler implements Closeable {
+
+    private final SpanHandler delegate;
+    private final long slowThresholdMicros;
+    private final double baselineRatio;
+    private final int maxBufferedTraces;
+    private final long bufferTtlMicros;
+
+    private final Map<Long, Buffer> buffers = new ConcurrentHashMap<>();
+    private final Map<Long, Decision> decided = new ConcurrentHashMap<>();
+    private final AtomicInteger bufferedTraces = new AtomicInteger();
+    private final AtomicLong lastEvictedAt = new AtomicLong();
+
+    private final Map<String, Counter> decisionCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public TailSamplingSpanHandler(SpanHandler delegate, MeterRegistry meterRegistry, Duration slowThreshold,
+                                   double baselineRatio, int maxBufferedTraces, Duration bufferTtl) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMicros = slowThreshold.toNanos() / 1_000;
+        this.baselineRatio = baselineRatio;
+        this.maxBufferedTraces = maxBufferedTraces;
+        this.bufferTtlMicros = bufferTtl.toNanos() / 1_000;
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.ABANDONED) {
+            return true;
+        }
+
+        evictIfDue(span.finishTimestamp());
+        long localRootId = context.localRootId();
+
+        // 이미 결정된 트레이스에 늦게 끝난 스팬 (비동기 콜백 등)
+        Decision decision = decided.get(localRootId);
+        if (decision != null) {
+            if (decision.keep()) {
+                delegate.end(context, span, cause);
+            }
+            return true;
+        }
+
+        if (!context.isLocalRoot()) {
+            buffer(localRootId, context, span, cause);
+            return true;
+        }
+
+        Buffer buffer = buffers.remove(localRootId);
+        if (buffer != null) {
+            bufferedTraces.decrementAndGet();
+        }
+
+        String reason = keepReason(span, buffer);
+        boolean keep = reason != null;
+        decided.put(localRootId, new Decision(keep, span.finishTimestamp()));
+        count(keep ? reason : "dropped");
+
+        if (keep) {
+            if (buffer != null) {
+                buffer.forEach(delegate);
+            }
+            delegate.end(context, span, cause);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean handlesAbandoned() {
+        return delegate.handlesAbandoned();
+    }
+
+    /**
+     * 오래된 버퍼/결정 기록 정리
+     * - 로컬 루트가 끝나지 않은 트레이스(스팬 누락 등)의 버퍼는 버림
+     *
+     * @param nowMicros 현재 시각 (epoch μs)
+     */
+    void evictExpired(long nowMicros) {
+        buffers.entrySet().removeIf(entry -> {
+            boolean expired = nowMicros - entry.getValue().createdAt() > bufferTtlMicros;
+            if (expired) {
+                bufferedTraces.decrementAndGet();
+                count("expired");
+            }
+            return expired;
+        });
+        decided.values().removeIf(decision -> nowMicros - decision.decidedAt() > bufferTtlMicros);
+    }
+
+    /**
+     * 스팬 종료 시점에 TTL의 절반 간격으로 정리 (별도 스케줄러 없이)
+     */
+    private void evictIfDue(long nowMicros) {
+        long last = lastEvictedAt.get();
+        if (nowMicros - last > bufferTtlMicros / 2 && lastEvictedAt.compareAndSet(last, nowMicros)) {
+            evictExpired(nowMicros);
+        }
+    }
+
+    int bufferedTraceCount() {
+        return bufferedTraces.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TailSamplingSpanHandler{" + delegate + "}";
+    }
+
+    // ===== 내부 처리 =====
+
+    private void buffer(long localRootId, TraceContext context, MutableSpan span, Cause cause) {
+        Buffer buffer = buffers.get(localRootId);
+        if (buffer == null) {
+            if (bufferedTraces.get() >= maxBufferedTraces) {
+                count("overflow");
+                return;
+            }
+            Buffer created = new Buffer(span.startTimestamp());
+            buffer = buffers.putIfAbsent(localRootId, created);
+            if (buffer == null) {
+                bufferedTraces.incrementAndGet();
+                buffer = created;
+            }
+        }
+        buffer.add(context, span, cause);
+    }
+
+    /**
+     * 보관 사유 (null이면 버림)
+     */
+    private String keepReason(MutableSpan root, Buffer buffer) {
+        if (isError(root) || (buffer != null && buffer.hasError())) {
+            return "error";
+        }
+        if (root.finishTimestamp() - root.startTimestamp() >= slowThresholdMicros) {
+            return "slow";
+        }
+        if (ThreadLocalRandom.current().nextDouble() < baselineRatio) {
+            return "baseline";
+        }
+        return null;
+    }
+
+    private static boolean isError(MutableSpan span) {
+        return span.error() != null || span.tag("error") != null;
+    }
+
+    private void count(String decision) {
+        decisionCounters.computeIfAbsent(decision, key -> Counter.builder("tracing.tail-sampling.traces")
+                        .description("테일 샘플링 결정별 트레이스 수")
+                        .tag("decision", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private record Decision(boolean keep, long decidedAt) {
+    }
+
+    private record BufferedSpan(TraceContext context, MutableSpan span, Cause cause) {
+    }
+
+    /**
+     * 로컬 루트 종료 전까지 쌓아 두는 스팬 목록
+     */
+    private static final class Buffer {
+
+        private final long createdAt;
+        private final List<BufferedSpan> spans = new ArrayList<>();
+        private boolean error;
+
+        Buffer(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        long createdAt() {
+            return createdAt;
+        }
+
+        synchronized void add(TraceContext context, MutableSpan span, Cause cause) {
+            spans.add(new BufferedSpan(context, span, cause));
+            error |= isError(span);
+        }
+
+        synchronized boolean hasError() {
+            return error;
+        }
+
+        synchronized void forEach(SpanHandler handler) {
+            for (BufferedSpan buffered : spans) {
+                handler.end(buffered.context(), buffered.span(), buffered.cause());
+            }
+        }
+    }
+}
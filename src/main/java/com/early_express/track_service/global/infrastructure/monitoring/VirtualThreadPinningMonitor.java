@@ -0,0 +1,134 @@
+package com.early_express.track_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 Pinning 모니터
+ * - JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독
+ * - synchronized 블록(JDBC 드라이버 등) 안에서 블로킹되어 캐리어 스레드가 고정된 지점을 보고
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final int maxReportedFrames;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.virtual-thread.pinned-threshold:20ms}") Duration threshold,
+            @Value("${monitoring.virtual-thread.max-reported-frames:8}") int maxReportedFrames) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.maxReportedFrames = maxReportedFrames;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(threshold)
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+
+        log.info("가상 스레드 Pinning 모니터 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    /**
+     * Pinning 이벤트 보고
+     * - 첫 번째 애플리케이션 외부 프레임(고정 원인)을 태그로 집계
+     */
+    private void report(RecordedEvent event) {
+        String site = pinnedSite(event.getStackTrace());
+
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("캐리어 스레드에 고정된 가상 스레드 블로킹 횟수")
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+
+        Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("가상 스레드 Pinning 지속 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        log.warn("가상 스레드 Pinning 감지 - duration: {}ms, site: {}, stack: {}",
+                event.getDuration().toMillis(), site, formatFrames(event.getStackTrace()));
+    }
+
+    private String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (!className.startsWith("java.") && !className.startsWith("jdk.")
+                    && !className.startsWith("sun.")) {
+                return className + "." + frame.getMethod().getName();
+            }
+        }
+
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    private String formatFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "[]";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder builder = new StringBuilder("[");
+        int limit = Math.min(frames.size(), maxReportedFrames);
+
+        for (int i = 0; i < limit; i++) {
+            RecordedFrame frame = frames.get(i);
+            if (i > 0) {
+                builder.append(" <- ");
+            }
+            builder.append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+
+        return builder.append(']').toString();
+    }
+}
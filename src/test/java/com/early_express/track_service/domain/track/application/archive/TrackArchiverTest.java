@@ -0,0 +1,164 @@
+package com.early_express.track_service.domain.track.application.archive;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.ArchivedTrack;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackArchiveRepository;
+import com.early_express.track_service.domain.track.domain.repository.TrackArchiveStorage;
+import com.early_express.track_service.domain.track.domain.repository.TrackEventRepository;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.archive.LocalTrackArchiveStorage;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackArchiveJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackEventJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackHistoryJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("TrackArchiver 테스트")
+class TrackArchiverTest {
+
+    @Autowired
+    private TrackArchiveRepository trackArchiveRepository;
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Autowired
+    private TrackEventRepository trackEventRepository;
+
+    @Autowired
+    private TrackJpaRepository trackJpaRepository;
+
+    @Autowired
+    private TrackEventJpaRepository trackEventJpaRepository;
+
+    @Autowired
+    private TrackHistoryJpaRepository trackHistoryJpaRepository;
+
+    @Autowired
+    private TrackArchiveJpaRepository trackArchiveJpaRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    private Path baseDir;
+
+    private TrackArchiver trackArchiver;
+
+    @BeforeEach
+    void setUp() {
+        trackEventJpaRepository.deleteAll();
+        trackJpaRepository.deleteAll();
+        trackHistoryJpaRepository.deleteAll();
+        trackArchiveJpaRepository.deleteAll();
+        trackArchiver = new TrackArchiver(trackArchiveRepository,
+                new LocalTrackArchiveStorage(objectMapper, baseDir.toString()), true, null, 1, 10);
+    }
+
+    @Test
+    @DisplayName("종료된 추적을 일자별 파일로 옮기고 운영 테이블에서 삭제하며, 주문 ID로 다시 조회할 수 있다")
+    void archivesTerminalTracksAndReadsThemBack() throws Exception {
+        // given - 실패 2건(배치 크기 1), 진행 중 1건
+        Track failed = saveFailed("order-1");
+        saveFailed("order-2");
+        Track active = trackRepository.save(track("order-3"));
+        trackEventRepository.save(TrackEvent.trackingStarted(failed.getIdValue(), "system"));
+        trackEventRepository.save(TrackEvent.trackingFailed(failed.getIdValue(), "파손", "system"));
+
+        // when
+        int archived = trackArchiver.archive(LocalDateTime.now().plusMinutes(1));
+
+        // then - 운영 테이블에는 진행 중 추적만 남음
+        assertThat(archived).isEqualTo(2);
+        assertThat(trackJpaRepository.findAll()).singleElement()
+                .satisfies(entity -> assertThat(entity.getId()).isEqualTo(active.getIdValue()));
+        assertThat(trackHistoryJpaRepository.findAll()).isEmpty();
+        assertThat(trackEventJpaRepository.findAll()).isEmpty();
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            assertThat(files.filter(Files::isRegularFile).map(Path::toString).toList())
+                    .hasSize(2)
+                    .allMatch(file -> file.contains("completed_date=" + LocalDateTime.now().toLocalDate())
+                            && file.endsWith(".ndjson.gz"));
+        }
+
+        // then - 보관 파일에서 복원
+        ArchivedTrack restored = trackArchiver.findByOrderId("order-1").orElseThrow();
+        assertThat(restored.track().getIdValue()).isEqualTo(failed.getIdValue());
+        assertThat(restored.track().getStatus()).isEqualTo(TrackStatus.FAILED);
+        assertThat(restored.track().getDeliveryIds().getHubSegmentDeliveryIds()).containsExactly("segment-1");
+        assertThat(restored.events()).extracting(TrackEvent::getEventType)
+                .containsExactly(TrackEventType.TRACKING_STARTED, TrackEventType.TRACKING_FAILED);
+        assertThat(trackArchiver.isArchived("order-2")).isTrue();
+        assertThat(trackArchiver.findByOrderId("order-3")).isEmpty();
+
+        // when - 색인은 남았지만 보관 파일이 없으면 조회 결과 없음 (서버 오류 아님)
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.delete(file);
+            }
+        }
+
+        // then
+        assertThat(trackArchiver.findByOrderId("order-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보관 중이면 정기 실행을 건너뛰고, 잠금을 얻으면 실행한다")
+    void runsScheduledArchiveOnlyWithLock() {
+        // given
+        TrackArchiveRepository lockedRepository = mock(TrackArchiveRepository.class);
+        given(lockedRepository.runExclusively(any())).willReturn(false);
+        TrackArchiver locked = new TrackArchiver(lockedRepository, mock(TrackArchiveStorage.class),
+                true, Duration.ofDays(90), 1, 10);
+
+        // when
+        locked.scheduledArchive();
+
+        // then
+        then(lockedRepository).should(never()).findArchivable(any(), anyInt());
+
+        // when & then - H2에서는 잠금 없이 실행
+        AtomicInteger runs = new AtomicInteger();
+        assertThat(trackArchiveRepository.runExclusively(runs::incrementAndGet)).isTrue();
+        assertThat(runs).hasValue(1);
+    }
+
+    private Track saveFailed(String orderId) {
+        Track track = trackRepository.save(track(orderId));
+        track.fail();
+        return trackRepository.save(track);
+    }
+
+    private static Track track(String orderId) {
+        return Track.createWithHubDelivery(orderId, "ORD-" + orderId, "hub-a", "hub-b", "hub-delivery-1",
+                List.of("segment-1"), "last-mile-1", LocalDateTime.now().plusDays(1), "system");
+    }
+}
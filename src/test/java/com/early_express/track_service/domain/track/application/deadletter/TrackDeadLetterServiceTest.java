@@ -0,0 +1,52 @@
+package com.early_express.track_service.domain.track.application.deadletter;
+
+import com.early_express.track_service.domain.track.application.deadletter.TrackDeadLetterService.DeadLetterReplayResult;
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackDeadLetterReplayer;
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackDeadLetterReplayer.ReplayResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class TrackDeadLetterServiceTest {
+
+    private final TrackDeadLetterReplayer replayer = mock(TrackDeadLetterReplayer.class);
+    private final TrackDeadLetterService service = new TrackDeadLetterService(replayer, 100);
+
+    @Test
+    @DisplayName("요청 건수만큼 DLT 재처리를 위임하고 결과를 그대로 반환한다")
+    void replaysWithinLimit() {
+        // given
+        given(replayer.replay(50)).willReturn(new ReplayResult(3, 1, Map.of("hub-segment-arrived", 3)));
+
+        // when
+        DeadLetterReplayResult result = service.replay(50);
+
+        // then
+        assertThat(result.replayed()).isEqualTo(3);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.byTopic()).containsEntry("hub-segment-arrived", 3);
+    }
+
+    @Test
+    @DisplayName("재처리 건수가 범위를 벗어나면 예외를 던지고 DLT를 읽지 않는다")
+    void rejectsInvalidLimit() {
+        // when & then
+        assertThatThrownBy(() -> service.replay(0))
+                .isInstanceOf(TrackException.class)
+                .extracting("errorCode").isEqualTo(TrackErrorCode.INVALID_REPLAY_LIMIT);
+        assertThatThrownBy(() -> service.replay(101))
+                .isInstanceOf(TrackException.class);
+        then(replayer).should(never()).replay(anyInt());
+    }
+}
@@ -0,0 +1,104 @@
+package com.early_express.track_service.domain.track.application.export;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackExportRow;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackExportRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TrackExportServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final TrackExportRepository repository = mock(TrackExportRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TrackExportService service = new TrackExportService(repository, objectMapper, 1024);
+
+    @Test
+    @DisplayName("NDJSON은 같은 추적의 이벤트를 events 배열로 묶어 한 줄로 기록한다")
+    void writesOneNdjsonLinePerTrack() throws Exception {
+        // given
+        stream(row("track-1", "event-1", TrackEventType.TRACKING_STARTED, null),
+                row("track-1", "event-2", TrackEventType.HUB_SEGMENT_DEPARTED, "출발, \"허브\""),
+                row("track-2", null, null, null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long rows = service.export(TrackExportFormat.NDJSON, false, TrackStatus.HUB_IN_PROGRESS, null, null, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(3);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("trackId").asText()).isEqualTo("track-1");
+        assertThat(first.get("events")).hasSize(2);
+        assertThat(first.get("events").get(1).get("description").asText()).isEqualTo("출발, \"허브\"");
+        assertThat(objectMapper.readTree(lines.get(1)).get("events")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CSV는 이벤트마다 한 행을 기록하고 gzip을 지원하며, 잘못된 기간은 거부한다")
+    void writesGzippedCsvAndRejectsInvalidPeriod() throws Exception {
+        // given
+        stream(row("track-1", "event-1", TrackEventType.HUB_SEGMENT_DEPARTED, "출발, \"허브\""));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        service.export(TrackExportFormat.CSV, true, TrackStatus.HUB_IN_PROGRESS, null, null, out);
+
+        // then
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        List<String> lines = csv.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("trackId,orderId,");
+        assertThat(lines.get(1)).startsWith("track-1,order-track-1,")
+                .contains(",HUB_SEGMENT_DEPARTED,")
+                .contains(",\"출발, \"\"허브\"\"\",");
+
+        assertThatThrownBy(() -> service.export(TrackExportFormat.CSV, false, null, NOW, NOW, out))
+                .isInstanceOf(TrackException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stream(TrackExportRow... rows) {
+        given(repository.streamTracksWithEvents(eq(TrackStatus.HUB_IN_PROGRESS), isNull(), isNull(), any()))
+                .willAnswer(invocation -> {
+                    Consumer<TrackExportRow> consumer = invocation.getArgument(3);
+                    for (TrackExportRow row : rows) {
+                        consumer.accept(row);
+                    }
+                    return (long) rows.length;
+                });
+    }
+
+    private static TrackExportRow row(String trackId, String eventId, TrackEventType eventType, String description) {
+        return new TrackExportRow(trackId, "order-" + trackId, "ORD-" + trackId, "hub-a", "hub-b",
+                TrackStatus.HUB_IN_PROGRESS, TrackPhase.HUB_IN_TRANSIT, true, 2, 0,
+                NOW.plusDays(1), null, null, NOW, null, NOW,
+                eventId, eventType, eventId != null ? NOW : null, eventId != null ? "hub-a" : null,
+                eventId != null ? 0 : null, description, eventId != null ? "TRACK_SERVICE" : null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.early_express.track_service.domain.track.application.importer;
+
+import com.early_express.track_service.domain.track.application.query.HubTrackCounters;
+import com.early_express.track_service.domain.track.application.sla.DeliverySlaMonitor;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.repository.TrackImportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TrackImportServiceTest {
+
+    private final TrackImportRepository trackImportRepository = mock(TrackImportRepository.class);
+    private final DeliverySlaMonitor deliverySlaMonitor = mock(DeliverySlaMonitor.class);
+    private final HubTrackCounters hubTrackCounters = mock(HubTrackCounters.class);
+    private final TrackImportService service =
+            new TrackImportService(trackImportRepository, deliverySlaMonitor, hubTrackCounters, 2);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("검증을 통과한 행만 배치로 적재하고, 거부/중복 수와 함께 진행 상황을 남긴다")
+    void importsValidRowsInBatches() throws IOException {
+        // given
+        List<List<String>> batches = new ArrayList<>();
+        given(trackImportRepository.importBatch(anyList())).willAnswer(invocation -> {
+            List<Track> batch = invocation.getArgument(0);
+            batches.add(batch.stream().map(Track::getOrderId).toList());
+            return batches.size() == 1 ? 1 : batch.size();
+        });
+        Path file = csv("""
+                orderNumber,orderId,originHubId,destinationHubId,hubDeliveryId,hubSegmentDeliveryIds,lastMileDeliveryId,estimatedDeliveryTime
+                ORD-1,order-1,hub-a,hub-b,hd-1,seg-1|seg-2,lm-1,2026-01-01T10:00:00
+                ORD-2,order-2,hub-a,,,,lm-2,
+                ORD-3,,hub-a,,,,lm-3,
+
+                "ORD-4, \"\"A\"\"",order-4,hub-a,,,,lm-4,2026-13-01T00:00:00
+                "ORD-5, \"\"B\"\"",order-5,hub-b,,,,lm-5,
+                """);
+        TrackImportJob job = new TrackImportJob();
+
+        // when
+        service.run(job, file);
+
+        // then - 2건씩 적재, 첫 배치는 1건이 이미 존재
+        assertThat(batches).containsExactly(List.of("order-1", "order-2"), List.of("order-5"));
+        TrackImportJob.Progress progress = job.progress();
+        assertThat(progress.status()).isEqualTo(TrackImportJob.Status.COMPLETED);
+        assertThat(progress.read()).isEqualTo(5);
+        assertThat(progress.imported()).isEqualTo(2);
+        assertThat(progress.duplicates()).isEqualTo(1);
+        assertThat(progress.rejected()).isEqualTo(2);
+        assertThat(progress.errors()).hasSize(2)
+                .first().asString().startsWith("4행");
+        assertThat(TrackImportService.parseLine("\"ORD-4, \"\"A\"\"\",x,"))
+                .containsExactly("ORD-4, \"A\"", "x", null);
+        verify(deliverySlaMonitor).rebuild();
+        verify(hubTrackCounters).reconcile();
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없으면 작업이 실패하고, 모르는 작업 ID 조회는 예외가 발생한다")
+    void failsOnMissingColumns() throws IOException {
+        // given
+        Path file = csv("orderId,orderNumber\norder-1,ORD-1\n");
+        TrackImportJob job = new TrackImportJob();
+
+        // when
+        service.run(job, file);
+
+        // then
+        assertThat(job.progress().status()).isEqualTo(TrackImportJob.Status.FAILED);
+        assertThat(job.progress().failureReason()).contains("originHubId", "lastMileDeliveryId");
+        verify(trackImportRepository, never()).importBatch(anyList());
+        verify(deliverySlaMonitor, never()).rebuild();
+        assertThatThrownBy(() -> service.getProgress("unknown")).isInstanceOf(TrackException.class);
+    }
+
+    private Path csv(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("tracks.csv"), content);
+    }
+}
@@ -0,0 +1,67 @@
+package com.early_express.track_service.domain.track.application.query;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+class HubTrackCountersTest {
+
+    private final TrackRepository trackRepository = mock(TrackRepository.class);
+    private final HubTrackCounters counters = new HubTrackCounters(trackRepository);
+
+    @Test
+    @DisplayName("DB 집계를 기준값으로 상태 변경분을 더하고, 다음 보정 때 변경분을 DB 값으로 대체한다")
+    void appliesTransitionsOnTopOfReconciledBaseline() {
+        // given
+        given(trackRepository.countByHubAndStatus()).willReturn(List.of(
+                new HubStatusCount("hub-a", TrackStatus.CREATED, 3),
+                new HubStatusCount("hub-a", TrackStatus.CREATED, 2),
+                new HubStatusCount("hub-b", TrackStatus.CREATED, 5)));
+        counters.reconcile();
+
+        // when - hub-a → hub-b 추적 출발, 신규 생성
+        counters.onStatusChanged(track("hub-a", "hub-b", TrackStatus.HUB_IN_PROGRESS), TrackStatus.CREATED);
+        counters.onStatusChanged(track("hub-a", "hub-a", TrackStatus.CREATED), null);
+
+        // then
+        HubTrackCounters.Snapshot hubA = counters.snapshot("hub-a");
+        assertThat(hubA.count(TrackStatus.CREATED)).isEqualTo(5);
+        assertThat(hubA.count(TrackStatus.HUB_IN_PROGRESS)).isEqualTo(1);
+        assertThat(hubA.total()).isEqualTo(6);
+        assertThat(counters.snapshot("hub-b").count(TrackStatus.CREATED)).isEqualTo(4);
+        assertThat(hubA.reconciledAt()).isNotNull();
+
+        // when - 보정 실패 시 변경분 유지, 성공 시 DB 값으로 대체
+        willThrow(new IllegalStateException("db down")).given(trackRepository).countByHubAndStatus();
+        counters.reconcile();
+        assertThat(counters.snapshot("hub-a").count(TrackStatus.HUB_IN_PROGRESS)).isEqualTo(1);
+
+        willReturn(List.of(new HubStatusCount("hub-a", TrackStatus.HUB_IN_PROGRESS, 7)))
+                .given(trackRepository).countByHubAndStatus();
+        counters.reconcile();
+
+        // then
+        assertThat(counters.snapshot("hub-a").count(TrackStatus.HUB_IN_PROGRESS)).isEqualTo(7);
+        assertThat(counters.snapshot("hub-a").count(TrackStatus.CREATED)).isZero();
+        assertThat(counters.snapshot("unknown").total()).isZero();
+    }
+
+    private static Track track(String originHubId, String destinationHubId, TrackStatus status) {
+        Track track = mock(Track.class);
+        given(track.getOriginHubId()).willReturn(originHubId);
+        given(track.getDestinationHubId()).willReturn(destinationHubId);
+        given(track.getStatus()).willReturn(status);
+        return track;
+    }
+}
@@ -0,0 +1,76 @@
+package com.early_express.track_service.domain.track.application.route;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.repository.RouteTransitStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class DeliveryEtaEstimatorTest {
+
+    private final RouteTransitStatistics statistics = new RouteTransitStatistics(
+            mock(RouteTransitStatsRepository.class), new SimpleMeterRegistry(), Duration.ofDays(7), 100);
+    private final HubBacklog hubBacklog = mock(HubBacklog.class);
+    private final DeliveryEtaEstimator estimator = new DeliveryEtaEstimator(statistics, hubBacklog, 5,
+            Duration.ofHours(4), Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofHours(24),
+            Duration.ofMinutes(30), Duration.ofHours(3));
+
+    @Test
+    @DisplayName("이동 중 구간은 분포의 조건부 중앙값으로, 도착 허브 체류는 대기 물량으로 계산한다")
+    void predictsFromRouteDistributionAndBacklog() {
+        // given - hub-a → hub-b 1~3시간 균등, hub-b 대기 30건
+        for (int minutes = 60; minutes <= 180; minutes++) {
+            statistics.record("hub-a", "hub-b", Duration.ofMinutes(minutes));
+        }
+        given(hubBacklog.waiting("hub-b")).willReturn(30);
+        LocalDateTime now = LocalDateTime.now();
+        Track track = track(TrackPhase.HUB_IN_TRANSIT, 2, 0, now.minusMinutes(150));
+
+        // when
+        Duration remaining = estimator.remaining(track, now);
+
+        // then - 남은 이동 ≈ 15분(150~180분 중앙값 165분 - 150분), 체류 1시간 30분,
+        //        남은 구간 1개 × (통합 중앙값 2시간 + 체류 1시간), 최종 배송 3시간 30분
+        Duration expected = Duration.ofMinutes(15 + 90 + 180 + 210);
+        assertThat(remaining).isBetween(expected.minusMinutes(5), expected.plusMinutes(5));
+        assertThat(estimator.predict(track, now)).isEqualTo(now.plus(remaining));
+    }
+
+    @Test
+    @DisplayName("분포 표본이 부족하면 기본 구간 시간을 쓰고, 최종 배송 단계는 남은 최종 배송 시간만 더한다")
+    void fallsBackToDefaultsAndLastMile() {
+        // given
+        statistics.record("hub-a", "hub-b", Duration.ofMinutes(10));
+        LocalDateTime now = LocalDateTime.now();
+
+        // when & then
+        assertThat(estimator.remaining(track(TrackPhase.HUB_IN_TRANSIT, 1, 0, now.minusHours(1)), now))
+                .isEqualTo(Duration.ofHours(3).plusHours(1).plusMinutes(30).plusHours(3));
+        assertThat(estimator.remaining(track(TrackPhase.LAST_MILE_IN_TRANSIT, 1, 1, null), now))
+                .isEqualTo(Duration.ofHours(3));
+        assertThat(estimator.predict(track(TrackPhase.DELIVERED, 1, 1, null), now)).isNull();
+    }
+
+    private static Track track(TrackPhase phase, int totalSegments, int completedSegments, LocalDateTime departedAt) {
+        HubSegmentInfo segment = mock(HubSegmentInfo.class);
+        given(segment.getTotalSegments()).willReturn(totalSegments);
+        given(segment.getCompletedSegments()).willReturn(completedSegments);
+        given(segment.getCurrentFromHubId()).willReturn("hub-a");
+        given(segment.getCurrentToHubId()).willReturn("hub-b");
+        given(segment.getCurrentDepartedAt()).willReturn(departedAt);
+
+        Track track = mock(Track.class);
+        given(track.getCurrentPhase()).willReturn(phase);
+        given(track.getHubSegmentInfo()).willReturn(segment);
+        return track;
+    }
+}
@@ -0,0 +1,93 @@
+package com.early_express.track_service.domain.track.application.route;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.HubWaitingCount;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+class HubBacklogTest {
+
+    private final TrackRepository trackRepository = mock(TrackRepository.class);
+    private final HubBacklog backlog = new HubBacklog(trackRepository);
+
+    @Test
+    @DisplayName("DB 집계를 기준값으로 도착/출발 변경분을 더하고, 다음 보정 때 변경분을 DB 값으로 대체한다")
+    void appliesArrivalsAndDeparturesOnTopOfReconciledBaseline() {
+        // given - 재기동 직후에도 DB 기준 대기 물량
+        given(trackRepository.countWaitingByHub()).willReturn(List.of(
+                new HubWaitingCount("hub-b", 10),
+                new HubWaitingCount("hub-c", 2)));
+        backlog.reconcile();
+        assertThat(backlog.waiting("hub-b")).isEqualTo(10);
+
+        // when - hub-b 도착 1건, hub-b → hub-c 출발 1건, hub-c 최종 배송 픽업 3건 (기준값보다 많은 감소)
+        backlog.onHubSegmentArrived(track(1, "hub-a", "hub-b"));
+        backlog.onHubSegmentDeparted(track(1, "hub-b", "hub-c"));
+        for (int i = 0; i < 3; i++) {
+            backlog.onLastMilePickedUp(track(1, "hub-b", "hub-c"));
+        }
+
+        // then - 조회 시에만 0으로 자름
+        assertThat(backlog.waiting("hub-b")).isEqualTo(10);
+        assertThat(backlog.waiting("hub-c")).isZero();
+
+        // when - 보정 실패 시 변경분 유지
+        willThrow(new IllegalStateException("db down")).given(trackRepository).countWaitingByHub();
+        backlog.reconcile();
+        backlog.onHubSegmentArrived(track(1, "hub-b", "hub-c"));
+        backlog.onHubSegmentArrived(track(1, "hub-b", "hub-c"));
+
+        // then - 누적 변경분은 잘리지 않음 (2 - 3 + 2 = 1)
+        assertThat(backlog.waiting("hub-c")).isEqualTo(1);
+
+        // when - 보정 성공 시 DB 값으로 대체 (이전 드리프트 제거)
+        willReturn(List.of(new HubWaitingCount("hub-c", 4))).given(trackRepository).countWaitingByHub();
+        backlog.reconcile();
+
+        // then
+        assertThat(backlog.waiting("hub-c")).isEqualTo(4);
+        assertThat(backlog.waiting("hub-b")).isZero();
+        assertThat(backlog.waiting(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 구간 출발과 허브 배송이 없는 최종 배송 픽업은 대기 물량에 반영하지 않는다")
+    void ignoresDeparturesFromOriginAndDirectLastMile() {
+        // given
+        given(trackRepository.countWaitingByHub()).willReturn(List.of(new HubWaitingCount("hub-a", 1)));
+        backlog.reconcile();
+
+        Track direct = track(0, "hub-a", "hub-b");
+        given(direct.getHubSegmentInfo().hasHubDelivery()).willReturn(false);
+
+        // when
+        backlog.onHubSegmentDeparted(track(0, "hub-a", "hub-b"));
+        backlog.onLastMilePickedUp(direct);
+
+        // then
+        assertThat(backlog.waiting("hub-a")).isEqualTo(1);
+        assertThat(backlog.waiting("hub-b")).isZero();
+    }
+
+    private static Track track(int segmentIndex, String fromHubId, String toHubId) {
+        HubSegmentInfo segment = mock(HubSegmentInfo.class);
+        given(segment.getCurrentSegmentIndex()).willReturn(segmentIndex);
+        given(segment.getCurrentFromHubId()).willReturn(fromHubId);
+        given(segment.getCurrentToHubId()).willReturn(toHubId);
+        given(segment.hasHubDelivery()).willReturn(true);
+
+        Track track = mock(Track.class);
+        given(track.getHubSegmentInfo()).willReturn(segment);
+        return track;
+    }
+}
@@ -0,0 +1,133 @@
+package com.early_express.track_service.domain.track.application.route;
+
+import com.early_express.track_service.domain.track.domain.model.vo.RouteTransitSnapshot;
+import com.early_express.track_service.domain.track.domain.repository.RouteTransitStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RouteTransitStatisticsTest {
+
+    private final RouteTransitStatsRepository repository = mock(RouteTransitStatsRepository.class);
+
+    @Test
+    @DisplayName("구간별 소요 시간 백분위를 집계하고 상한을 넘으면 가장 오래된 구간을 제거한다")
+    void summarizesPercentilesWithBoundedRoutes() throws InterruptedException {
+        // given
+        RouteTransitStatistics statistics = statistics(2);
+        statistics.record("hub-b", "hub-c", Duration.ofHours(3));
+        Thread.sleep(2);
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            statistics.record("hub-a", "hub-b", Duration.ofMinutes(minutes));
+        }
+        Thread.sleep(2);
+
+        // when
+        statistics.record("hub-c", "hub-d", Duration.ofHours(1));
+        statistics.record("hub-a", "hub-b", Duration.ZERO);
+
+        // then
+        RouteTransitStatistics.Summary summary = statistics.summary("hub-a", "hub-b").orElseThrow();
+        assertThat(summary.samples()).isEqualTo(100);
+        assertThat(summary.p50().toMinutes()).isBetween(49L, 51L);
+        assertThat(summary.p99().toMinutes()).isBetween(98L, 100L);
+        assertThat(summary.max().toMinutes()).isBetween(99L, 101L);
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.summary("hub-b", "hub-c")).isEmpty();
+        assertThat(statistics.summaries("hub-c", null)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("마지막 저장 이후 증분만 저장하고, 저장된 분포는 기동 시 복원된다")
+    @SuppressWarnings("unchecked")
+    void persistsDirtyRoutesAndRestores() {
+        // given
+        RouteTransitStatistics statistics = statistics(10);
+        statistics.record("hub-a", "hub-b", Duration.ofMinutes(30));
+        statistics.record("hub-a", "hub-b", Duration.ofMinutes(90));
+
+        // when
+        statistics.persist();
+        statistics.persist();
+
+        // then
+        ArgumentCaptor<List<RouteTransitSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).accumulate(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(snapshot -> assertThat(snapshot.samples()).isEqualTo(2));
+
+        // when - 새 인스턴스에서 복원
+        RouteTransitStatistics restored = statistics(10);
+        given(repository.findAll()).willReturn(captor.getValue());
+        restored.load();
+        restored.record("hub-a", "hub-b", Duration.ofMinutes(60));
+
+        // then
+        RouteTransitStatistics.Summary summary = restored.summary("hub-a", "hub-b").orElseThrow();
+        assertThat(summary.samples()).isEqualTo(3);
+        assertThat(summary.p50().toMinutes()).isBetween(59L, 61L);
+    }
+
+    @Test
+    @DisplayName("재시작 후 저장된 윈도우는 같은 윈도우로 복원되고, 복원분은 다시 저장하지 않으며 윈도우 교체 시 함께 밀려난다")
+    @SuppressWarnings("unchecked")
+    void restoresWindowsAcrossRestartAndRotation() {
+        // given - 고정 윈도우 W 시작 1시간 후
+        long week = Duration.ofDays(7).toMillis();
+        long windowStart = week * 3000;
+        AtomicLong clock = new AtomicLong(windowStart + Duration.ofHours(1).toMillis());
+        RouteTransitStatistics statistics = statistics(clock);
+        statistics.record("hub-a", "hub-b", Duration.ofMinutes(30));
+        statistics.record("hub-a", "hub-b", Duration.ofMinutes(30));
+        statistics.persist();
+
+        // 다음 윈도우(W+1)로 넘어가 한 건 더 기록
+        clock.addAndGet(week);
+        statistics.record("hub-a", "hub-b", Duration.ofMinutes(90));
+        statistics.persist();
+
+        ArgumentCaptor<List<RouteTransitSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).accumulate(captor.capture());
+        List<RouteTransitSnapshot> stored = captor.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(stored).extracting(RouteTransitSnapshot::samples).containsExactly(2L, 1L);
+
+        // when - W+1 윈도우 중 재시작
+        clock.addAndGet(Duration.ofHours(1).toMillis());
+        RouteTransitStatistics restarted = statistics(clock);
+        given(repository.findAll()).willReturn(stored);
+        restarted.load();
+        restarted.persist();
+
+        // then - 이전(W)/현재(W+1) 윈도우 모두 복원, 복원분은 다시 저장하지 않음
+        assertThat(restarted.summary("hub-a", "hub-b").orElseThrow().samples()).isEqualTo(3);
+        verify(repository, times(2)).accumulate(anyList());
+
+        // when - W+2 윈도우로 교체
+        clock.addAndGet(week);
+
+        // then - W 윈도우는 밀려나고 W+1 윈도우만 남음
+        RouteTransitStatistics.Summary summary = restarted.summary("hub-a", "hub-b").orElseThrow();
+        assertThat(summary.samples()).isEqualTo(1);
+        assertThat(summary.p50().toMinutes()).isBetween(89L, 91L);
+    }
+
+    private RouteTransitStatistics statistics(AtomicLong clock) {
+        return new RouteTransitStatistics(repository, new SimpleMeterRegistry(), Duration.ofDays(7), 10, clock::get);
+    }
+
+    private RouteTransitStatistics statistics(int maxRoutes) {
+        return new RouteTransitStatistics(repository, new SimpleMeterRegistry(), Duration.ofDays(7), maxRoutes);
+    }
+}
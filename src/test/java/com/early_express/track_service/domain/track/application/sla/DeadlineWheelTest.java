@@ -0,0 +1,83 @@
+package com.early_express.track_service.domain.track.application.sla;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("마감 시각이 지난 틱에 정확히 한 번 만료된다 (상위 레벨 cascade 포함)")
+    void expiresAtDeadlineAcrossLevels() {
+        // given - 레벨 0~3에 걸친 마감
+        DeadlineWheel wheel = new DeadlineWheel(TICK, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long delay = (long) (random.nextDouble() * Duration.ofDays(3).toMillis());
+            long deadline = START + delay;
+            deadlines.add(deadline);
+            wheel.schedule(new UUID(0, i), deadline);
+        }
+
+        // when - 1분 단위로 진행하며 만료 시점 확인
+        List<DeadlineWheel.Expired> expired = new ArrayList<>();
+        for (long now = START; now <= START + Duration.ofDays(3).toMillis() + TICK; now += 60_000L) {
+            for (DeadlineWheel.Expired e : wheel.advance(now)) {
+                assertThat(e.deadlineMillis()).isLessThanOrEqualTo(now);
+                assertThat(now - e.deadlineMillis()).isLessThan(60_000L + TICK);
+                expired.add(e);
+            }
+        }
+
+        // then
+        assertThat(expired).hasSize(deadlines.size());
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("갱신하면 이전 마감은 무시되고, 취소하면 만료되지 않는다")
+    void rescheduleAndCancel() {
+        // given
+        DeadlineWheel wheel = new DeadlineWheel(TICK, START);
+        UUID moved = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        wheel.schedule(moved, START + 5_000);
+        wheel.schedule(cancelled, START + 5_000);
+
+        // when
+        wheel.schedule(moved, START + Duration.ofHours(2).toMillis());
+        boolean removed = wheel.cancel(cancelled);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(wheel.advance(START + 10_000)).isEmpty();
+        assertThat(wheel.advance(START + Duration.ofHours(2).toMillis()))
+                .extracting(DeadlineWheel.Expired::id)
+                .containsExactly(moved);
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 틱에 만료된다")
+    void pastDeadlineExpiresOnNextTick() {
+        // given
+        DeadlineWheel wheel = new DeadlineWheel(TICK, START);
+        UUID overdue = UUID.randomUUID();
+        wheel.schedule(overdue, START - Duration.ofDays(1).toMillis());
+
+        // when & then
+        assertThat(wheel.advance(START + TICK))
+                .extracting(DeadlineWheel.Expired::id)
+                .containsExactly(overdue);
+    }
+}
@@ -0,0 +1,112 @@
+package com.early_express.track_service.domain.track.application.sla;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackDeadline;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.event.DeliverySlaBreachedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.producer.SlaEventProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DeliverySlaMonitorTest {
+
+    private final TrackRepository trackRepository = mock(TrackRepository.class);
+    private final SlaEventProducer slaEventProducer = mock(SlaEventProducer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeliverySlaMonitor monitor = new DeliverySlaMonitor(trackRepository, slaEventProducer,
+            meterRegistry, "track-service", Duration.ofMillis(1), 2, Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("기동 시 키셋 페이징으로 재구성하고 grace보다 오래된 마감은 제외한다")
+    void rebuildsFromRepositorySkippingStaleDeadlines() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        String stale = UUID.randomUUID().toString();
+        given(trackRepository.findOpenDeadlines(null, 2)).willReturn(List.of(
+                new TrackDeadline(first, now.plusHours(1)),
+                new TrackDeadline(second, now.minusMinutes(1))));
+        given(trackRepository.findOpenDeadlines(second, 2)).willReturn(List.of(
+                new TrackDeadline(stale, now.minusDays(1))));
+
+        // when
+        monitor.rebuild();
+
+        // then
+        assertThat(monitor.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("track.sla.deadlines").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("마감 도달 시 DB에서 다시 확인해 진행 중인 추적만 위반 이벤트를 한 번 발행한다")
+    void publishesBreachOnlyForOpenTracks() throws InterruptedException {
+        // given
+        LocalDateTime overdue = LocalDateTime.now().minusSeconds(1);
+        Track breached = track(TrackStatus.LAST_MILE_IN_PROGRESS, overdue);
+        Track completed = track(TrackStatus.COMPLETED, overdue);
+        Track extended = track(TrackStatus.HUB_IN_PROGRESS, overdue);
+        monitor.onTrackChanged(breached);
+        monitor.onTrackChanged(extended);
+        monitor.onTrackChanged(track(completed.getIdValue(), TrackStatus.HUB_IN_PROGRESS, overdue));
+
+        given(trackRepository.findById(any(TrackId.class))).willAnswer(invocation -> {
+            String id = invocation.<TrackId>getArgument(0).getValue();
+            if (id.equals(breached.getIdValue())) {
+                return Optional.of(breached);
+            }
+            if (id.equals(completed.getIdValue())) {
+                return Optional.of(completed);
+            }
+            // 다른 인스턴스에서 ETA가 늦춰짐
+            return Optional.of(track(extended.getIdValue(), TrackStatus.HUB_IN_PROGRESS,
+                    LocalDateTime.now().plusHours(3)));
+        });
+
+        // when
+        Thread.sleep(5);
+        monitor.tick();
+        Thread.sleep(5);
+        monitor.tick();
+
+        // then
+        ArgumentCaptor<DeliverySlaBreachedEvent> captor = ArgumentCaptor.forClass(DeliverySlaBreachedEvent.class);
+        verify(slaEventProducer, times(1)).publishDeliveryBreached(captor.capture());
+        assertThat(captor.getValue().getTrackId()).isEqualTo(breached.getIdValue());
+        assertThat(captor.getValue().getEventType()).isEqualTo(DeliverySlaBreachedEvent.EVENT_TYPE);
+        assertThat(monitor.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("track.sla.breach").counter().count()).isEqualTo(1.0);
+    }
+
+    private static Track track(TrackStatus status, LocalDateTime eta) {
+        return track(UUID.randomUUID().toString(), status, eta);
+    }
+
+    private static Track track(String id, TrackStatus status, LocalDateTime eta) {
+        Track track = mock(Track.class);
+        given(track.getIdValue()).willReturn(id);
+        given(track.getOrderId()).willReturn("order-" + id);
+        given(track.getStatus()).willReturn(status);
+        given(track.getCurrentPhase()).willReturn(TrackPhase.values()[0]);
+        given(track.getEstimatedDeliveryTime()).willReturn(eta);
+        return track;
+    }
+}
@@ -0,0 +1,118 @@
+package com.early_express.track_service.domain.track.application.sla;
+
+import com.early_express.track_service.domain.track.application.route.RouteTransitStatistics;
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentTransit;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.repository.RouteTransitStatsRepository;
+import com.early_express.track_service.domain.track.domain.repository.TrackEventRepository;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.event.HubSegmentDelayedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.sla.producer.SlaEventProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class HubSegmentDelayDetectorTest {
+
+    private final TrackRepository trackRepository = mock(TrackRepository.class);
+    private final TrackEventRepository trackEventRepository = mock(TrackEventRepository.class);
+    private final SlaEventProducer slaEventProducer = mock(SlaEventProducer.class);
+    private final RouteTransitStatistics statistics = new RouteTransitStatistics(
+            mock(RouteTransitStatsRepository.class), new SimpleMeterRegistry(), Duration.ofDays(7), 100);
+    private final HubSegmentDelayDetector detector = new HubSegmentDelayDetector(
+            trackRepository, trackEventRepository, statistics, slaEventProducer, new SimpleMeterRegistry(),
+            "track-service", Duration.ofMillis(1), Duration.ofHours(12), Duration.ofMinutes(30), 99, 10, 100);
+
+    @Test
+    @DisplayName("구간 소요 시간 분포의 p99를 지연 기준으로 쓰고, 기동 시 이동 중 구간만 감시한다")
+    void limitsByRoutePercentileAndRebuildsInTransitSegments() {
+        // given - hub-a → hub-b 구간 110분/130분 반반, hub-c → hub-d 구간은 표본 부족
+        for (int i = 0; i < 20; i++) {
+            statistics.record("hub-a", "hub-b", Duration.ofMinutes(i % 2 == 0 ? 110 : 130));
+        }
+        statistics.record("hub-c", "hub-d", Duration.ofMinutes(10));
+        given(trackRepository.findInTransitSegments(isNull(), anyInt())).willReturn(List.of(
+                new HubSegmentTransit(UUID.randomUUID().toString(), 1, "hub-b", "hub-c",
+                        LocalDateTime.now(), null)));
+
+        // when
+        detector.rebuild();
+
+        // then - 표본이 충분한 구간은 p99, 부족하거나 없는 구간은 기본값
+        assertThat(detector.limit("hub-a", "hub-b")).isBetween(Duration.ofMinutes(129), Duration.ofMinutes(131));
+        assertThat(detector.limit("hub-c", "hub-d")).isEqualTo(Duration.ofHours(12));
+        assertThat(detector.limit("hub-b", "hub-c")).isEqualTo(Duration.ofHours(12));
+        assertThat(detector.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기준 시간을 넘긴 이동 중 구간은 HUB_SEGMENT_DELAYED를 기록/발행하고, 이미 기록된 구간은 건너뛴다")
+    void recordsDelayOncePerSegment() throws InterruptedException {
+        // given - 분포가 없는 구간(기준 12시간), 13시간 전에 출발
+        Track delayed = inTransit(LocalDateTime.now().minusHours(13));
+        Track reported = inTransit(LocalDateTime.now().minusHours(13));
+        given(trackRepository.findById(any(TrackId.class))).willAnswer(invocation -> {
+            String id = invocation.<TrackId>getArgument(0).getValue();
+            return Optional.of(id.equals(delayed.getIdValue()) ? delayed : reported);
+        });
+        given(trackEventRepository.existsByTrackIdAndEventTypeAndSegmentIndex(
+                reported.getIdValue(), TrackEventType.HUB_SEGMENT_DELAYED, 0)).willReturn(true);
+        detector.onHubSegmentDeparted(delayed);
+        detector.onHubSegmentDeparted(reported);
+
+        // when
+        Thread.sleep(5);
+        detector.tick();
+
+        // then
+        ArgumentCaptor<TrackEvent> event = ArgumentCaptor.forClass(TrackEvent.class);
+        verify(trackEventRepository).save(event.capture());
+        assertThat(event.getValue().getTrackId()).isEqualTo(delayed.getIdValue());
+        assertThat(event.getValue().getEventType()).isEqualTo(TrackEventType.HUB_SEGMENT_DELAYED);
+        assertThat(event.getValue().getHubId()).isEqualTo("hub-a");
+
+        ArgumentCaptor<HubSegmentDelayedEvent> published = ArgumentCaptor.forClass(HubSegmentDelayedEvent.class);
+        verify(slaEventProducer).publishHubSegmentDelayed(published.capture());
+        assertThat(published.getValue().getTrackId()).isEqualTo(delayed.getIdValue());
+        assertThat(published.getValue().getToHubId()).isEqualTo("hub-b");
+        assertThat(published.getValue().getLimitMinutes()).isEqualTo(Duration.ofHours(12).toMinutes());
+        verify(slaEventProducer, never()).publishDeliveryBreached(any());
+        assertThat(detector.size()).isZero();
+    }
+
+    private static Track inTransit(LocalDateTime departedAt) {
+        HubSegmentInfo segment = mock(HubSegmentInfo.class);
+        given(segment.getCurrentSegmentIndex()).willReturn(0);
+        given(segment.getCurrentFromHubId()).willReturn("hub-a");
+        given(segment.getCurrentToHubId()).willReturn("hub-b");
+        given(segment.getCurrentDepartedAt()).willReturn(departedAt);
+
+        Track track = mock(Track.class);
+        String id = UUID.randomUUID().toString();
+        given(track.getIdValue()).willReturn(id);
+        given(track.getOrderId()).willReturn("order-" + id);
+        given(track.isHubInProgress()).willReturn(true);
+        given(track.getHubSegmentInfo()).willReturn(segment);
+        return track;
+    }
+}
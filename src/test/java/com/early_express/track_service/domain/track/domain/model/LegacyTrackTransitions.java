@@ -0,0 +1,142 @@
+package com.early_express.track_service.domain.track.domain.model;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+
+/**
+ * 전이 테이블 도입 이전 Track 상태 전이 구현 (테스트 오라클)
+ * - 메서드별 검증 코드, 즉시 생성하는 예외 메시지, 불변 HubSegmentInfo 재생성 방식을 그대로 유지
+ */
+final class LegacyTrackTransitions {
+
+    TrackStatus status;
+    TrackPhase currentPhase;
+    boolean requiresHubDelivery;
+    HubSegmentInfo hubSegmentInfo;
+
+    LegacyTrackTransitions(TrackStatus status, TrackPhase currentPhase,
+                           boolean requiresHubDelivery, HubSegmentInfo hubSegmentInfo) {
+        this.status = status;
+        this.currentPhase = currentPhase;
+        this.requiresHubDelivery = requiresHubDelivery;
+        this.hubSegmentInfo = hubSegmentInfo;
+    }
+
+    void startHubDelivery() {
+        validateNotTerminal();
+
+        if (!this.requiresHubDelivery) {
+            throw new TrackException(TrackErrorCode.HUB_DELIVERY_NOT_REQUIRED);
+        }
+
+        if (!this.status.canStartHubDelivery()) {
+            throw new TrackException(
+                    TrackErrorCode.INVALID_STATUS_TRANSITION,
+                    String.format("허브 배송 시작은 CREATED 상태에서만 가능합니다. 현재 상태: %s",
+                            this.status.getDescription())
+            );
+        }
+
+        this.status = TrackStatus.HUB_IN_PROGRESS;
+        this.currentPhase = TrackPhase.WAITING_HUB_DEPARTURE;
+    }
+
+    void departHubSegment(int segmentIndex, String fromHubId, String toHubId) {
+        validateNotTerminal();
+        validateHubDeliveryRequired();
+        validateSegmentIndex(segmentIndex);
+
+        this.status = TrackStatus.HUB_IN_PROGRESS;
+        this.currentPhase = TrackPhase.HUB_IN_TRANSIT;
+        this.hubSegmentInfo = this.hubSegmentInfo.depart(segmentIndex, fromHubId, toHubId);
+    }
+
+    void arriveHubSegment(int segmentIndex) {
+        validateNotTerminal();
+        validateHubDeliveryRequired();
+        validateSegmentIndex(segmentIndex);
+
+        this.hubSegmentInfo = this.hubSegmentInfo.arrive(segmentIndex);
+        this.currentPhase = TrackPhase.HUB_ARRIVED;
+
+        if (this.hubSegmentInfo.isAllSegmentsCompleted()) {
+            this.currentPhase = TrackPhase.HUB_DELIVERY_COMPLETED;
+        }
+    }
+
+    void pickUpLastMile() {
+        validateNotTerminal();
+        validateCanStartLastMile();
+
+        this.status = TrackStatus.LAST_MILE_IN_PROGRESS;
+        this.currentPhase = TrackPhase.LAST_MILE_PICKED_UP;
+    }
+
+    void departLastMile() {
+        validateNotTerminal();
+
+        if (this.status != TrackStatus.LAST_MILE_IN_PROGRESS) {
+            throw new TrackException(
+                    TrackErrorCode.INVALID_STATUS_TRANSITION,
+                    String.format("최종 배송 출발은 LAST_MILE_IN_PROGRESS 상태에서만 가능합니다. 현재 상태: %s",
+                            this.status.getDescription())
+            );
+        }
+
+        this.currentPhase = TrackPhase.LAST_MILE_IN_TRANSIT;
+    }
+
+    void complete() {
+        validateNotTerminal();
+
+        this.status = TrackStatus.COMPLETED;
+        this.currentPhase = TrackPhase.DELIVERED;
+    }
+
+    void fail() {
+        this.status = TrackStatus.FAILED;
+        this.currentPhase = TrackPhase.FAILED;
+    }
+
+    private void validateNotTerminal() {
+        if (this.status.isTerminal()) {
+            if (this.status == TrackStatus.COMPLETED) {
+                throw new TrackException(TrackErrorCode.TRACK_ALREADY_COMPLETED);
+            } else {
+                throw new TrackException(TrackErrorCode.TRACK_ALREADY_FAILED);
+            }
+        }
+    }
+
+    private void validateHubDeliveryRequired() {
+        if (!this.requiresHubDelivery) {
+            throw new TrackException(TrackErrorCode.HUB_DELIVERY_NOT_REQUIRED);
+        }
+    }
+
+    private void validateSegmentIndex(int segmentIndex) {
+        int totalSegments = this.hubSegmentInfo.getTotalSegments();
+
+        if (segmentIndex < 0 || segmentIndex >= totalSegments) {
+            throw new TrackException(
+                    TrackErrorCode.INVALID_SEGMENT_INDEX,
+                    String.format("유효하지 않은 구간 순서입니다. index: %d, total: %d",
+                            segmentIndex, totalSegments)
+            );
+        }
+    }
+
+    private void validateCanStartLastMile() {
+        if (this.requiresHubDelivery && !this.hubSegmentInfo.isAllSegmentsCompleted()) {
+            throw new TrackException(
+                    TrackErrorCode.LAST_MILE_NOT_READY,
+                    String.format("허브 구간이 모두 완료되어야 최종 배송을 시작할 수 있습니다. completed: %d, total: %d",
+                            this.hubSegmentInfo.getCompletedSegments(),
+                            this.hubSegmentInfo.getTotalSegments())
+            );
+        }
+    }
+}
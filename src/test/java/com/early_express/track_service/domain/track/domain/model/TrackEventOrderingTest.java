@@ -0,0 +1,77 @@
+package com.early_express.track_service.domain.track.domain.model;
+
+import com.early_express.track_service.domain.track.domain.model.vo.DeliveryIds;
+import com.early_express.track_service.domain.track.domain.model.vo.HubSegmentInfo;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackId;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackPhase;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Track 이벤트 순서 판단 테스트")
+class TrackEventOrderingTest {
+
+    @Test
+    @DisplayName("출발 전 도착, 이전 구간 도착 전 출발은 선행 이벤트 대기로 판단한다")
+    void shouldDetectEarlyHubSegmentEvents() {
+        // given
+        Track track = track(TrackStatus.CREATED, TrackPhase.WAITING_HUB_DEPARTURE, 2, 0);
+
+        // then
+        assertThat(track.isAwaitingHubSegmentDeparture(0)).isTrue();
+        assertThat(track.isAwaitingPreviousHubSegment(1)).isTrue();
+        assertThat(track.isAwaitingPreviousHubSegment(0)).isFalse();
+
+        // when
+        track.departHubSegment(0, "hub-a", "hub-b");
+
+        // then
+        assertThat(track.isAwaitingHubSegmentDeparture(0)).isFalse();
+        assertThat(track.isAwaitingHubSegmentsCompletion()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최종 배송 출발 전 완료는 대기, 이미 지난 구간과 종료 상태는 대기하지 않는다")
+    void shouldDetectEarlyLastMileCompletion() {
+        // given
+        Track inTransit = track(TrackStatus.LAST_MILE_IN_PROGRESS, TrackPhase.LAST_MILE_PICKED_UP, 2, 2);
+        Track completed = track(TrackStatus.COMPLETED, TrackPhase.DELIVERED, 2, 2);
+
+        // then
+        assertThat(inTransit.isAwaitingLastMileDeparture()).isTrue();
+        assertThat(inTransit.isAwaitingHubSegmentDeparture(1)).isFalse();
+        assertThat(completed.isAwaitingLastMileDeparture()).isFalse();
+        assertThat(completed.isAwaitingPreviousHubSegment(5)).isFalse();
+
+        // when
+        inTransit.departLastMile();
+
+        // then
+        assertThat(inTransit.isAwaitingLastMileDeparture()).isFalse();
+    }
+
+    // ===== 헬퍼 =====
+
+    private static Track track(TrackStatus status, TrackPhase phase, int total, int completed) {
+        HubSegmentInfo info = HubSegmentInfo.builder()
+                .totalSegments(total)
+                .currentSegmentIndex(0)
+                .completedSegments(completed)
+                .build();
+        List<String> segmentIds = IntStream.range(0, total).mapToObj(i -> "seg-" + i).toList();
+
+        return Track.reconstitute(
+                TrackId.of("track-001"), "hub-delivery-001", "order-001", "ORD-001",
+                "hub-origin", "hub-destination",
+                DeliveryIds.of(segmentIds, "last-mile-001"),
+                info, true, status, phase,
+                null, null, null, null, null,
+                LocalDateTime.now(), "system", null, null, null, null, false);
+    }
+}
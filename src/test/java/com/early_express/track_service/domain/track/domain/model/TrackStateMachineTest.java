@@ -0,0 +1,252 @@
+package com.early_express.track_service.domain.track.domain.model;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Track 상태 전이 테이블 테스트")
+class TrackStateMachineTest {
+
+    private static final int MAX_SEGMENTS = 3;
+
+    @Nested
+    @DisplayName("전이 테이블")
+    class TransitionTable {
+
+        @Test
+        @DisplayName("모든 상태 × 단계 × 전이 조합에 결과가 정의되어 있다")
+        void shouldDefineEveryCombination() {
+            for (TrackStatus status : TrackStatus.values()) {
+                for (TrackPhase phase : TrackPhase.values()) {
+                    for (TrackTransition transition : TrackTransition.values()) {
+                        assertThat(TrackStateMachine.outcome(status, phase, transition))
+                                .as("%s / %s / %s", status, phase, transition)
+                                .isNotNull();
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("허용된 전이는 호출마다 같은 결과 객체를 반환한다")
+        void shouldReuseOutcomeInstances() {
+            // when
+            TrackStateMachine.Outcome first = TrackStateMachine.outcome(
+                    TrackStatus.HUB_IN_PROGRESS, TrackPhase.HUB_IN_TRANSIT, TrackTransition.ARRIVE_HUB_SEGMENT);
+            TrackStateMachine.Outcome second = TrackStateMachine.outcome(
+                    TrackStatus.HUB_IN_PROGRESS, TrackPhase.HUB_IN_TRANSIT, TrackTransition.ARRIVE_HUB_SEGMENT);
+
+            // then
+            assertThat(first).isSameAs(second);
+            assertThat(first.isRejected()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("기존 구현과의 동등성")
+    class EquivalenceWithLegacy {
+
+        @Test
+        @DisplayName("모든 상태 × 단계 × 전이 × 구간 진행 조합에서 기존 구현과 같은 결과를 낸다")
+        void shouldMatchLegacyForEveryState() {
+            int checked = 0;
+
+            for (TrackStatus status : TrackStatus.values()) {
+                for (TrackPhase phase : TrackPhase.values()) {
+                    for (boolean requiresHub : new boolean[]{true, false}) {
+                        for (int total = 0; total <= MAX_SEGMENTS; total++) {
+                            for (int completed = 0; completed <= total; completed++) {
+                                for (TrackTransition transition : TrackTransition.values()) {
+                                    for (int segmentIndex = -1; segmentIndex <= total; segmentIndex++) {
+                                        State state = new State(status, phase, requiresHub, total, completed);
+                                        assertSameOutcome(state, new Step(transition, segmentIndex));
+                                        checked++;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            assertThat(checked).isGreaterThan(10_000);
+        }
+
+        @Test
+        @DisplayName("임의의 전이 시퀀스에서도 매 단계 기존 구현과 같은 상태를 유지한다")
+        void shouldMatchLegacyForRandomSequences() {
+            Random random = new Random(20241019L);
+
+            for (int run = 0; run < 2_000; run++) {
+                boolean requiresHub = random.nextBoolean();
+                int total = requiresHub ? 1 + random.nextInt(MAX_SEGMENTS) : 0;
+
+                Track track = track(new State(TrackStatus.CREATED,
+                        requiresHub ? TrackPhase.WAITING_HUB_DEPARTURE : TrackPhase.WAITING_LAST_MILE,
+                        requiresHub, total, 0));
+                LegacyTrackTransitions legacy = legacy(new State(TrackStatus.CREATED,
+                        track.getCurrentPhase(), requiresHub, total, 0));
+
+                List<Step> history = new ArrayList<>();
+                int length = 1 + random.nextInt(24);
+                for (int i = 0; i < length; i++) {
+                    Step step = new Step(
+                            TrackTransition.values()[random.nextInt(TrackTransition.values().length)],
+                            random.nextInt(total + 2) - 1);
+                    history.add(step);
+
+                    Result expected = apply(legacy, step);
+                    Result actual = apply(track, step);
+
+                    assertThat(actual)
+                            .as("run %d, steps %s", run, history)
+                            .isEqualTo(expected);
+                    assertThat(snapshot(track))
+                            .as("run %d, steps %s", run, history)
+                            .isEqualTo(snapshot(legacy));
+                }
+            }
+        }
+
+        private void assertSameOutcome(State state, Step step) {
+            Track track = track(state);
+            LegacyTrackTransitions legacy = legacy(state);
+
+            Result expected = apply(legacy, step);
+            Result actual = apply(track, step);
+
+            assertThat(actual).as("%s, %s", state, step).isEqualTo(expected);
+            assertThat(snapshot(track)).as("%s, %s", state, step).isEqualTo(snapshot(legacy));
+        }
+    }
+
+    @Nested
+    @DisplayName("허브 구간 스냅샷")
+    class HubSegmentSnapshot {
+
+        @Test
+        @DisplayName("구간이 진행되지 않으면 같은 스냅샷을 재사용하고, 진행되면 새 스냅샷을 만든다")
+        void shouldCacheSnapshotUntilProgress() {
+            // given
+            Track track = track(new State(TrackStatus.CREATED, TrackPhase.WAITING_HUB_DEPARTURE, true, 2, 0));
+            HubSegmentInfo before = track.getHubSegmentInfo();
+
+            // when
+            track.departHubSegment(0, "hub-a", "hub-b");
+            HubSegmentInfo after = track.getHubSegmentInfo();
+
+            // then
+            assertThat(track.getHubSegmentInfo()).isSameAs(after);
+            assertThat(after).isNotSameAs(before);
+            assertThat(before.getCurrentFromHubId()).isNull();
+            assertThat(after.getCurrentFromHubId()).isEqualTo("hub-a");
+            assertThat(after.getCurrentDepartedAt()).isNotNull();
+        }
+    }
+
+    // ===== 헬퍼 =====
+
+    private record State(TrackStatus status, TrackPhase phase, boolean requiresHub, int total, int completed) {
+    }
+
+    private record Step(TrackTransition transition, int segmentIndex) {
+    }
+
+    /**
+     * 전이 결과: 성공 시 상태/단계, 실패 시 에러 코드/메시지
+     */
+    private record Result(TrackStatus status, TrackPhase phase, String errorCode, String message) {
+    }
+
+    /**
+     * 구간 진행 정보 비교용 (시간은 존재 여부만 비교)
+     */
+    private record Segments(int total, int current, int completed, String from, String to,
+                            boolean departed, boolean arrived) {
+    }
+
+    private static Track track(State state) {
+        HubSegmentInfo info = segmentInfo(state);
+        List<String> segmentIds = IntStream.range(0, state.total()).mapToObj(i -> "seg-" + i).toList();
+
+        return Track.reconstitute(
+                TrackId.of("track-001"), "hub-delivery-001", "order-001", "ORD-001",
+                "hub-origin", "hub-destination",
+                segmentIds.isEmpty()
+                        ? DeliveryIds.ofLastMileOnly("last-mile-001")
+                        : DeliveryIds.of(segmentIds, "last-mile-001"),
+                info, state.requiresHub(), state.status(), state.phase(),
+                null, null, null, null, null,
+                LocalDateTime.now(), "system", null, null, null, null, false);
+    }
+
+    private static LegacyTrackTransitions legacy(State state) {
+        return new LegacyTrackTransitions(state.status(), state.phase(), state.requiresHub(), segmentInfo(state));
+    }
+
+    private static HubSegmentInfo segmentInfo(State state) {
+        return HubSegmentInfo.builder()
+                .totalSegments(state.total())
+                .currentSegmentIndex(0)
+                .completedSegments(state.completed())
+                .build();
+    }
+
+    private static Result apply(Track track, Step step) {
+        try {
+            switch (step.transition()) {
+                case START_HUB_DELIVERY -> track.startHubDelivery();
+                case DEPART_HUB_SEGMENT -> track.departHubSegment(step.segmentIndex(), "from", "to");
+                case ARRIVE_HUB_SEGMENT -> track.arriveHubSegment(step.segmentIndex());
+                case PICK_UP_LAST_MILE -> track.pickUpLastMile();
+                case DEPART_LAST_MILE -> track.departLastMile();
+                case COMPLETE -> track.complete();
+                case FAIL -> track.fail();
+            }
+            return new Result(track.getStatus(), track.getCurrentPhase(), null, null);
+        } catch (TrackException e) {
+            return new Result(null, null, e.getErrorCode().toString(), e.getMessage());
+        }
+    }
+
+    private static Result apply(LegacyTrackTransitions legacy, Step step) {
+        try {
+            switch (step.transition()) {
+                case START_HUB_DELIVERY -> legacy.startHubDelivery();
+                case DEPART_HUB_SEGMENT -> legacy.departHubSegment(step.segmentIndex(), "from", "to");
+                case ARRIVE_HUB_SEGMENT -> legacy.arriveHubSegment(step.segmentIndex());
+                case PICK_UP_LAST_MILE -> legacy.pickUpLastMile();
+                case DEPART_LAST_MILE -> legacy.departLastMile();
+                case COMPLETE -> legacy.complete();
+                case FAIL -> legacy.fail();
+            }
+            return new Result(legacy.status, legacy.currentPhase, null, null);
+        } catch (TrackException e) {
+            return new Result(null, null, e.getErrorCode().toString(), e.getMessage());
+        }
+    }
+
+    private static Segments snapshot(Track track) {
+        return segments(track.getHubSegmentInfo());
+    }
+
+    private static Segments snapshot(LegacyTrackTransitions legacy) {
+        return segments(legacy.hubSegmentInfo);
+    }
+
+    private static Segments segments(HubSegmentInfo info) {
+        return new Segments(info.getTotalSegments(), info.getCurrentSegmentIndex(), info.getCompletedSegments(),
+                info.getCurrentFromHubId(), info.getCurrentToHubId(),
+                info.getCurrentDepartedAt() != null, info.getCurrentArrivedAt() != null);
+    }
+}
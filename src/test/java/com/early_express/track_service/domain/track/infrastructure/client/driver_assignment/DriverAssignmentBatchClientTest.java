@@ -0,0 +1,134 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.HubDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.HubDeliveryErrorDecoder;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.LastMileDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.LastMileDeliveryErrorDecoder;
+import feign.Feign;
+import feign.codec.ErrorDecoder;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DriverAssignmentBatchClient 테스트")
+class DriverAssignmentBatchClientTest {
+
+    private static final int CHUNK_SIZE = 50;
+    private static final int PARALLELISM = 3;
+
+    private DriverAssignmentStubServer stubServer;
+    private DriverAssignmentBatchClient batchClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new DriverAssignmentStubServer();
+        batchClient = new DriverAssignmentBatchClient(
+                feignClient(HubDeliveryClient.class, new HubDeliveryErrorDecoder()),
+                feignClient(LastMileDeliveryClient.class, new LastMileDeliveryErrorDecoder()),
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .recordException(new DriverAssignmentFailurePredicate())
+                        .build()),
+                CHUNK_SIZE,
+                PARALLELISM
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchClient.destroy();
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("서비스별로 묶어 청크 단위로 호출하고 항목별 결과를 요청에 매핑한다")
+    void shouldChunkByServiceAndMapResultsBack() {
+        // given
+        stubServer.delay(30);
+        List<DriverAssignmentRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 230; i++) {
+            requests.add(DriverAssignmentRequest.hubSegment("track-" + i, "hub-delivery-" + i, i % 3));
+        }
+        for (int i = 0; i < 120; i++) {
+            requests.add(DriverAssignmentRequest.lastMile("track-lm-" + i, "last-mile-" + i));
+        }
+
+        // when
+        Map<DriverAssignmentRequest, DriverAssignmentResult> results = batchClient.assignAll(requests);
+
+        // then
+        assertThat(stubServer.hubBatchCalls()).isEqualTo(5);
+        assertThat(stubServer.lastMileBatchCalls()).isEqualTo(3);
+        assertThat(stubServer.singleCalls()).isZero();
+        assertThat(stubServer.maxConcurrent()).isLessThanOrEqualTo(PARALLELISM);
+
+        assertThat(results).hasSize(requests.size());
+        assertThat(results.keySet()).containsExactlyElementsOf(requests);
+        assertThat(results.get(requests.get(7)).getDriverId()).isEqualTo("driver-hub-delivery-7-1");
+        assertThat(results.get(requests.get(230)).getDriverId()).isEqualTo("driver-last-mile-0");
+        assertThat(results.values()).allMatch(DriverAssignmentResult::isAssigned);
+    }
+
+    @Test
+    @DisplayName("거절된 항목은 REJECTED, 응답에서 누락된 항목은 DEFERRED로 매핑한다")
+    void shouldMapRejectedAndMissingItems() {
+        // given
+        stubServer.reject("hub-delivery-1");
+        stubServer.omit("last-mile-2");
+        DriverAssignmentRequest assigned = DriverAssignmentRequest.hubSegment("track-0", "hub-delivery-0", 0);
+        DriverAssignmentRequest rejected = DriverAssignmentRequest.hubSegment("track-1", "hub-delivery-1", 0);
+        DriverAssignmentRequest missing = DriverAssignmentRequest.lastMile("track-2", "last-mile-2");
+
+        // when
+        Map<DriverAssignmentRequest, DriverAssignmentResult> results =
+                batchClient.assignAll(List.of(assigned, rejected, missing));
+
+        // then
+        assertThat(results.get(assigned).isAssigned()).isTrue();
+        assertThat(results.get(rejected).getStatus()).isEqualTo(DriverAssignmentResult.Status.REJECTED);
+        assertThat(results.get(missing).isDeferred()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서비스 장애(503)는 청크 전체를 DEFERRED로, 대상 없음(404)은 FAILED로 매핑한다")
+    void shouldMapChunkFailures() {
+        // given
+        DriverAssignmentRequest request = DriverAssignmentRequest.lastMile("track-0", "last-mile-0");
+
+        // when
+        stubServer.failWith(503);
+        DriverAssignmentResult unavailable = batchClient.assignAll(List.of(request)).get(request);
+        stubServer.failWith(404);
+        DriverAssignmentResult notFound = batchClient.assignAll(List.of(request)).get(request);
+
+        // then
+        assertThat(unavailable.isDeferred()).isTrue();
+        assertThat(notFound.getStatus()).isEqualTo(DriverAssignmentResult.Status.FAILED);
+    }
+
+    private <T> T feignClient(Class<T> type, ErrorDecoder errorDecoder) {
+        ObjectFactory<HttpMessageConverters> converters =
+                () -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(converters))
+                .decoder(new SpringDecoder(converters))
+                .errorDecoder(errorDecoder)
+                .target(type, stubServer.url());
+    }
+}
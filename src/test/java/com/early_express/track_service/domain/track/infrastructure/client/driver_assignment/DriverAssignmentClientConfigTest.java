@@ -0,0 +1,36 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import feign.Request;
+import feign.Retryer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.FeignClientFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("드라이버 배정 Feign 클라이언트 설정 테스트")
+class DriverAssignmentClientConfigTest {
+
+    @Autowired
+    private FeignClientFactory feignClientFactory;
+
+    @Test
+    @DisplayName("배정 클라이언트는 재시도하지 않고 서킷 브레이커 느린 호출 기준보다 짧은 타임아웃을 쓴다")
+    void usesNoRetryAndShortTimeouts() {
+        for (DriverAssignmentType type : DriverAssignmentType.values()) {
+            // when
+            Retryer retryer = feignClientFactory.getInstance(type.getServiceName(), Retryer.class);
+            Request.Options options = feignClientFactory.getInstance(type.getServiceName(), Request.Options.class);
+
+            // then
+            assertThat(retryer).isSameAs(Retryer.NEVER_RETRY);
+            assertThat(options.readTimeoutMillis()).isEqualTo(3000);
+            assertThat(options.connectTimeoutMillis()).isEqualTo(1000);
+        }
+    }
+}
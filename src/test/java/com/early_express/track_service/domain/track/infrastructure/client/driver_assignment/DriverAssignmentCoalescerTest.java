@@ -0,0 +1,150 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DriverAssignmentCoalescer 테스트")
+class DriverAssignmentCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DriverAssignmentCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new DriverAssignmentCoalescer(meterRegistry, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 동일 구간 배정 요청은 한 번만 호출하고 결과를 공유한다")
+    void shouldShareSingleInFlightCall() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<DriverAssignmentResult>> results = new ArrayList<>();
+
+        // when
+        try {
+            results.add(executor.submit(() -> coalescer.execute(
+                    DriverAssignmentRequest.hubSegment("track-001", "hub-delivery-001", 1), () -> {
+                        invocations.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return DriverAssignmentResult.assigned("driver-1");
+                    })));
+            started.await(5, TimeUnit.SECONDS);
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> coalescer.execute(
+                        DriverAssignmentRequest.hubSegment("track-001", "hub-delivery-001", 1), () -> {
+                            invocations.incrementAndGet();
+                            return DriverAssignmentResult.assigned("driver-other");
+                        })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<DriverAssignmentResult> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getDriverId()).isEqualTo("driver-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("배정 성공 결과는 TTL 동안 기억하여 반복 호출을 생략한다")
+    void shouldMemoizeAssignedResult() {
+        // given
+        AtomicInteger invocations = new AtomicInteger();
+        DriverAssignmentRequest request = DriverAssignmentRequest.hubSegment("track-001", "hub-delivery-001", 0);
+
+        // when
+        coalescer.execute(request, () -> {
+            invocations.incrementAndGet();
+            return DriverAssignmentResult.assigned("driver-1");
+        });
+        DriverAssignmentResult repeated = coalescer.execute(request, () -> {
+            invocations.incrementAndGet();
+            return DriverAssignmentResult.assigned("driver-2");
+        });
+
+        // then
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(repeated.getDriverId()).isEqualTo("driver-1");
+        assertThat(meterRegistry.get("track.driver-assignment.coalesced").tag("source", "memo")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("지연/거절 결과는 기억하지 않고 다음 호출에서 다시 시도한다")
+    void shouldNotMemoizeNonAssignedResult() {
+        // given
+        AtomicInteger invocations = new AtomicInteger();
+        DriverAssignmentRequest request = DriverAssignmentRequest.lastMile("track-001", "last-mile-001");
+
+        // when
+        coalescer.execute(request, () -> {
+            invocations.incrementAndGet();
+            return DriverAssignmentResult.deferred("서킷 오픈");
+        });
+        DriverAssignmentResult retried = coalescer.execute(request, () -> {
+            invocations.incrementAndGet();
+            return DriverAssignmentResult.assigned("driver-1");
+        });
+
+        // then
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(retried.isAssigned()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간 인덱스가 다르면 별도로 호출한다")
+    void shouldNotCoalesceDifferentSegments() {
+        // given
+        AtomicInteger invocations = new AtomicInteger();
+
+        // when
+        coalescer.execute(DriverAssignmentRequest.hubSegment("track-001", "hub-delivery-001", 0), () -> {
+            invocations.incrementAndGet();
+            return DriverAssignmentResult.assigned("driver-1");
+        });
+        coalescer.execute(DriverAssignmentRequest.hubSegment("track-001", "hub-delivery-001", 1), () -> {
+            invocations.incrementAndGet();
+            return DriverAssignmentResult.assigned("driver-2");
+        });
+
+        // then
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
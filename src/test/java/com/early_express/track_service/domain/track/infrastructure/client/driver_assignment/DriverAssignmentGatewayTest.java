@@ -0,0 +1,224 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.HubDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.AssignDriverForSegmentResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.hub_delivery.dto.BatchAssignDriverForSegmentResponse;
+import com.early_express.track_service.domain.track.infrastructure.client.last_mile_delivery.LastMileDeliveryClient;
+import com.early_express.track_service.domain.track.infrastructure.monitoring.TrackMetrics;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DriverAssignmentGateway 테스트")
+class DriverAssignmentGatewayTest {
+
+    private static final String TRACK_ID = "track-001";
+    private static final String HUB_DELIVERY_ID = "hub-delivery-001";
+
+    private HubDeliveryClient hubDeliveryClient;
+    private LastMileDeliveryClient lastMileDeliveryClient;
+    private DeferredDriverAssignmentQueue deferredQueue;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private DriverAssignmentGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        hubDeliveryClient = mock(HubDeliveryClient.class);
+        lastMileDeliveryClient = mock(LastMileDeliveryClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        deferredQueue = new DeferredDriverAssignmentQueue(meterRegistry, 100);
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(new DriverAssignmentFailurePredicate())
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(10)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        gateway = new DriverAssignmentGateway(hubDeliveryClient, lastMileDeliveryClient, deferredQueue,
+                new DriverAssignmentCoalescer(meterRegistry, Duration.ofSeconds(30)),
+                new DriverAssignmentBatchClient(hubDeliveryClient, lastMileDeliveryClient, circuitBreakerRegistry, 50, 2),
+                new TrackMetrics(meterRegistry, Tracer.NOOP),
+                circuitBreakerRegistry, bulkheadRegistry, meterRegistry, 3, 100);
+    }
+
+    @Nested
+    @DisplayName("assignHubSegmentDriver 메서드")
+    class AssignHubSegmentDriverMethod {
+
+        @Test
+        @DisplayName("배정 성공 시 ASSIGNED를 반환한다")
+        void shouldReturnAssigned() {
+            // given
+            given(hubDeliveryClient.assignDriverForSegment(HUB_DELIVERY_ID, 0))
+                    .willReturn(AssignDriverForSegmentResponse.builder().success(true).driverId("driver-1").build());
+
+            // when
+            DriverAssignmentResult result = gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 0);
+
+            // then
+            assertThat(result.isAssigned()).isTrue();
+            assertThat(result.getDriverId()).isEqualTo("driver-1");
+        }
+
+        @Test
+        @DisplayName("외부 서비스 장애 시 지연 큐에 적재한다")
+        void shouldDeferOnExternalFailure() {
+            // given
+            given(hubDeliveryClient.assignDriverForSegment(anyString(), anyInt()))
+                    .willThrow(new TrackException(TrackErrorCode.EXTERNAL_SERVICE_UNAVAILABLE));
+
+            // when
+            DriverAssignmentResult result = gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 0);
+
+            // then
+            assertThat(result.isDeferred()).isTrue();
+            assertThat(deferredQueue.size(DriverAssignmentType.HUB_SEGMENT)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("잘못된 요청(4xx)은 지연 없이 실패 처리하고 서킷에 반영하지 않는다")
+        void shouldFailWithoutDeferOnBusinessError() {
+            // given
+            given(hubDeliveryClient.assignDriverForSegment(anyString(), anyInt()))
+                    .willThrow(new TrackException(TrackErrorCode.HUB_DELIVERY_NOT_FOUND));
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 0);
+            }
+
+            // then
+            assertThat(deferredQueue.size(DriverAssignmentType.HUB_SEGMENT)).isZero();
+            assertThat(circuitBreakerRegistry.circuitBreaker("hub-delivery-service").getState())
+                    .isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("서킷이 열리면 외부 호출 없이 지연 큐로 전환하고 상태 전이를 메트릭으로 기록한다")
+        void shouldDeferWithoutCallingWhenCircuitOpen() {
+            // given
+            given(hubDeliveryClient.assignDriverForSegment(anyString(), anyInt()))
+                    .willThrow(new TrackException(TrackErrorCode.EXTERNAL_SERVICE_ERROR));
+            for (int i = 0; i < 4; i++) {
+                gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, i);
+            }
+            clearInvocations(hubDeliveryClient);
+
+            // when
+            DriverAssignmentResult result = gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 9);
+
+            // then
+            assertThat(result.isDeferred()).isTrue();
+            verify(hubDeliveryClient, never()).assignDriverForSegment(anyString(), anyInt());
+            assertThat(meterRegistry.get("track.driver-assignment.circuit.transitions")
+                    .tag("client", "hub-delivery-service")
+                    .tag("to", "OPEN")
+                    .counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("drainDeferred 메서드")
+    class DrainDeferredMethod {
+
+        @Test
+        @DisplayName("서킷이 닫혀 있으면 지연된 요청을 일괄 배정으로 재처리한다")
+        void shouldRetryDeferredRequestsInBatch() {
+            // given
+            given(hubDeliveryClient.assignDriverForSegment(anyString(), anyInt()))
+                    .willThrow(new TrackException(TrackErrorCode.EXTERNAL_SERVICE_ERROR));
+            given(hubDeliveryClient.assignDriversForSegments(any()))
+                    .willReturn(BatchAssignDriverForSegmentResponse.builder()
+                            .results(List.of(
+                                    assigned(HUB_DELIVERY_ID, 0, "driver-1"),
+                                    assigned(HUB_DELIVERY_ID, 1, "driver-2")))
+                            .build());
+            gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 0);
+            gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 1);
+
+            // when
+            gateway.drainDeferred();
+
+            // then
+            assertThat(deferredQueue.size(DriverAssignmentType.HUB_SEGMENT)).isZero();
+            verify(hubDeliveryClient, times(1)).assignDriversForSegments(any());
+        }
+
+        @Test
+        @DisplayName("일괄 배정으로 성공한 구간은 이후 단건 호출 시 다시 호출하지 않는다")
+        void shouldRememberBatchAssignedSegments() {
+            // given
+            given(hubDeliveryClient.assignDriverForSegment(anyString(), anyInt()))
+                    .willThrow(new TrackException(TrackErrorCode.EXTERNAL_SERVICE_ERROR));
+            given(hubDeliveryClient.assignDriversForSegments(any()))
+                    .willReturn(BatchAssignDriverForSegmentResponse.builder()
+                            .results(List.of(assigned(HUB_DELIVERY_ID, 0, "driver-1")))
+                            .build());
+            gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 0);
+            gateway.drainDeferred();
+
+            // when
+            DriverAssignmentResult result = gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 0);
+
+            // then
+            assertThat(result.getDriverId()).isEqualTo("driver-1");
+            verify(hubDeliveryClient, times(1)).assignDriverForSegment(HUB_DELIVERY_ID, 0);
+        }
+
+        @Test
+        @DisplayName("재시도 한도를 초과하면 더 이상 적재하지 않는다")
+        void shouldStopAfterMaxAttempts() {
+            // given
+            given(hubDeliveryClient.assignDriverForSegment(anyString(), anyInt()))
+                    .willThrow(new RuntimeException("connection refused"));
+            given(hubDeliveryClient.assignDriversForSegments(any()))
+                    .willThrow(new RuntimeException("connection refused"));
+            gateway.assignHubSegmentDriver(TRACK_ID, HUB_DELIVERY_ID, 0);
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                gateway.drainDeferred();
+            }
+
+            // then
+            assertThat(deferredQueue.size(DriverAssignmentType.HUB_SEGMENT)).isZero();
+            verify(hubDeliveryClient, times(3)).assignDriversForSegments(any());
+        }
+
+        private AssignDriverForSegmentResponse assigned(String hubDeliveryId, int segmentIndex, String driverId) {
+            return AssignDriverForSegmentResponse.builder()
+                    .hubDeliveryId(hubDeliveryId)
+                    .segmentIndex(segmentIndex)
+                    .driverId(driverId)
+                    .success(true)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.early_express.track_service.domain.track.infrastructure.client.driver_assignment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 드라이버 배정 스텁 서버 (테스트용)
+ * - hub-delivery-service, delivery-service의 단건/일괄 배정 API를 로컬에서 흉내냄
+ * - 거절/응답 누락/HTTP 오류 상태를 주입하고 호출 수와 최대 동시 호출 수를 기록
+ */
+class DriverAssignmentStubServer implements AutoCloseable {
+
+    static final String HUB_BATCH_PATH = "/v1/hub-delivery/internal/deliveries/segments/assign-driver/batch";
+    static final String LAST_MILE_BATCH_PATH = "/v1/last-mile-delivery/internal/deliveries/assign-driver/batch";
+
+    private static final Pattern HUB_SINGLE_PATH =
+            Pattern.compile("/v1/hub-delivery/internal/deliveries/([^/]+)/segments/(\\d+)/assign-driver");
+    private static final Pattern LAST_MILE_SINGLE_PATH =
+            Pattern.compile("/v1/last-mile-delivery/internal/deliveries/([^/]+)/assign-driver");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+
+    private final Set<String> rejectedIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> omittedIds = ConcurrentHashMap.newKeySet();
+    private volatile int errorStatus;
+    private volatile long delayMillis;
+
+    private final AtomicInteger hubBatchCalls = new AtomicInteger();
+    private final AtomicInteger lastMileBatchCalls = new AtomicInteger();
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    DriverAssignmentStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 해당 배송 ID는 success=false로 응답
+     */
+    void reject(String deliveryId) {
+        rejectedIds.add(deliveryId);
+    }
+
+    /**
+     * 해당 배송 ID는 일괄 응답에서 누락
+     */
+    void omit(String deliveryId) {
+        omittedIds.add(deliveryId);
+    }
+
+    /**
+     * 모든 요청에 지정한 HTTP 상태로 응답 (0이면 정상)
+     */
+    void failWith(int status) {
+        this.errorStatus = status;
+    }
+
+    void delay(long millis) {
+        this.delayMillis = millis;
+    }
+
+    int hubBatchCalls() {
+        return hubBatchCalls.get();
+    }
+
+    int lastMileBatchCalls() {
+        return lastMileBatchCalls.get();
+    }
+
+    int singleCalls() {
+        return singleCalls.get();
+    }
+
+    int maxConcurrent() {
+        return maxConcurrent.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        try {
+            sleep();
+            if (errorStatus != 0) {
+                respond(exchange, errorStatus, objectMapper.createObjectNode());
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            JsonNode body = path.endsWith("/batch")
+                    ? objectMapper.readTree(exchange.getRequestBody())
+                    : null;
+
+            if (HUB_BATCH_PATH.equals(path)) {
+                hubBatchCalls.incrementAndGet();
+                ArrayNode results = objectMapper.createArrayNode();
+                for (JsonNode item : body.path("items")) {
+                    String id = item.path("hubDeliveryId").asText();
+                    if (!omittedIds.contains(id)) {
+                        results.add(hubResult(id, item.path("segmentIndex").asInt()));
+                    }
+                }
+                respond(exchange, 200, objectMapper.createObjectNode().set("results", results));
+                return;
+            }
+
+            if (LAST_MILE_BATCH_PATH.equals(path)) {
+                lastMileBatchCalls.incrementAndGet();
+                ArrayNode results = objectMapper.createArrayNode();
+                for (JsonNode id : body.path("lastMileDeliveryIds")) {
+                    if (!omittedIds.contains(id.asText())) {
+                        results.add(lastMileResult(id.asText()));
+                    }
+                }
+                respond(exchange, 200, objectMapper.createObjectNode().set("results", results));
+                return;
+            }
+
+            Matcher hub = HUB_SINGLE_PATH.matcher(path);
+            if (hub.matches()) {
+                singleCalls.incrementAndGet();
+                respond(exchange, 200, hubResult(hub.group(1), Integer.parseInt(hub.group(2))));
+                return;
+            }
+
+            Matcher lastMile = LAST_MILE_SINGLE_PATH.matcher(path);
+            if (lastMile.matches()) {
+                singleCalls.incrementAndGet();
+                respond(exchange, 200, lastMileResult(lastMile.group(1)));
+                return;
+            }
+
+            respond(exchange, 404, objectMapper.createObjectNode());
+        } finally {
+            concurrent.decrementAndGet();
+        }
+    }
+
+    private ObjectNode hubResult(String hubDeliveryId, int segmentIndex) {
+        ObjectNode result = objectMapper.createObjectNode()
+                .put("hubDeliveryId", hubDeliveryId)
+                .put("segmentIndex", segmentIndex);
+        return fill(result, hubDeliveryId, "driver-" + hubDeliveryId + "-" + segmentIndex);
+    }
+
+    private ObjectNode lastMileResult(String lastMileDeliveryId) {
+        ObjectNode result = objectMapper.createObjectNode()
+                .put("lastMileDeliveryId", lastMileDeliveryId);
+        return fill(result, lastMileDeliveryId, "driver-" + lastMileDeliveryId);
+    }
+
+    private ObjectNode fill(ObjectNode result, String deliveryId, String driverId) {
+        if (rejectedIds.contains(deliveryId)) {
+            return result.put("success", false).put("message", "배정 가능한 드라이버 없음");
+        }
+        return result.put("success", true).put("driverId", driverId);
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep() {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.ConsumerBackpressureController.Signals;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ConsumerBackpressureControllerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KafkaListenerEndpointRegistry listenerRegistry = mock(KafkaListenerEndpointRegistry.class);
+    private final ConsumerBackpressureController controller = new ConsumerBackpressureController(
+            listenerRegistry, meterRegistry, 5, Duration.ofMillis(50), Duration.ofSeconds(1), 1000, 1);
+
+    @Test
+    @DisplayName("포화 시 절반으로 줄이고 여유가 생기면 하나씩 늘린다 (랙이 크면 더 빠르게)")
+    void decreasesMultiplicativelyAndIncreasesAdditively() {
+        // given
+        Signals saturated = new Signals(10, 0, 0, 0);
+        Signals slowAcquire = new Signals(0, Duration.ofMillis(80).toNanos(), 0, 0);
+        Signals healthy = new Signals(0, 0, 0, 0);
+        Signals lagging = new Signals(0, 0, 0, 5000);
+
+        // when & then
+        assertThat(controller.nextLimit(12, 12, saturated)).isEqualTo(6);
+        assertThat(controller.nextLimit(6, 12, slowAcquire)).isEqualTo(3);
+        assertThat(controller.nextLimit(1, 12, saturated)).isEqualTo(1);
+        assertThat(controller.nextLimit(3, 12, healthy)).isEqualTo(4);
+        assertThat(controller.nextLimit(4, 12, lagging)).isEqualTo(7);
+        assertThat(controller.nextLimit(12, 12, lagging)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Hikari 대기 스레드와 구간 평균 처리 시간으로 포화를 판단한다")
+    void samplesWindowedSignals() {
+        // given
+        AtomicInteger pending = new AtomicInteger(3);
+        Gauge.builder(ConsumerBackpressureController.HIKARI_PENDING, pending, AtomicInteger::get)
+                .tag("pool", "track").register(meterRegistry);
+        Timer handle = Timer.builder("track.event.consume").tag("event", "HubSegmentArrived").register(meterRegistry);
+        handle.record(Duration.ofSeconds(5));
+        controller.sample();
+
+        // when
+        handle.record(Duration.ofMillis(100));
+        handle.record(Duration.ofMillis(300));
+        Signals signals = controller.sample();
+
+        // then - 누적 평균이 아니라 직전 샘플 이후 평균
+        assertThat(signals.pendingConnections()).isEqualTo(3);
+        assertThat(signals.handlerNanos()).isEqualTo(Duration.ofMillis(200).toNanos());
+    }
+
+    @Test
+    @DisplayName("줄어든 한도만큼 파티션을 멈추되 토픽마다 가장 밀린 파티션을 먼저 살리고, 재시도 토픽은 건드리지 않는다")
+    void pausesPartitionsAcrossContainersByLag() {
+        // given - 원래 토픽 2개(파티션 2개씩) + 재시도 토픽 1개
+        ConcurrentMessageListenerContainer<?, ?> arrived = container(
+                partition("hub-segment-arrived", 0), partition("hub-segment-arrived", 1));
+        ConcurrentMessageListenerContainer<?, ?> departed = container(
+                partition("hub-segment-departed", 0), partition("hub-segment-departed", 1));
+        ConcurrentMessageListenerContainer<?, ?> retry = container(partition("hub-segment-arrived-retry-0", 0));
+        given(listenerRegistry.getListenerContainers()).willReturn(List.of(retry, arrived, departed));
+        AtomicLong arrivedLag = lag("hub-segment-arrived", 1, 500);
+        lag("hub-segment-arrived", 0, 10);
+        AtomicLong departedLag = lag("hub-segment-departed", 0, 100);
+        lag("hub-segment-arrived-retry-0", 0, 5000);
+        AtomicInteger pending = new AtomicInteger(10);
+        Gauge.builder(ConsumerBackpressureController.HIKARI_PENDING, pending, AtomicInteger::get)
+                .register(meterRegistry);
+
+        // when - 재시도 토픽 제외 4개 → 2개
+        controller.adjust();
+
+        // then - 토픽마다 랙이 가장 큰 파티션 하나씩 실행
+        assertThat(meterRegistry.get("track.consumer.active.limit").gauge().value()).isEqualTo(2);
+        verify(arrived, never()).pausePartition(partition("hub-segment-arrived", 1));
+        verify(arrived).pausePartition(partition("hub-segment-arrived", 0));
+        verify(departed, never()).pausePartition(partition("hub-segment-departed", 0));
+        verify(departed).pausePartition(partition("hub-segment-departed", 1));
+        verify(retry, never()).pausePartition(partition("hub-segment-arrived-retry-0", 0));
+        verify(arrived, never()).pause();
+
+        // when - 2개 → 1개, 랙이 더 큰 토픽으로 이동
+        given(departed.isPartitionPauseRequested(partition("hub-segment-departed", 1))).willReturn(true);
+        given(arrived.isPartitionPauseRequested(partition("hub-segment-arrived", 0))).willReturn(true);
+        arrivedLag.set(0);
+        departedLag.set(1000);
+        controller.adjust();
+
+        // then
+        assertThat(meterRegistry.get("track.consumer.active.limit").gauge().value()).isEqualTo(1);
+        verify(arrived).pausePartition(partition("hub-segment-arrived", 1));
+        verify(departed, never()).pausePartition(partition("hub-segment-departed", 0));
+    }
+
+    @Test
+    @DisplayName("다른 주체가 멈춘 파티션은 재개하지 않는다")
+    void leavesForeignPausedPartitions() {
+        // given - 0번 파티션은 이미 다른 주체(재시도 지연 등)가 멈춘 상태
+        ConcurrentMessageListenerContainer<?, ?> arrived = container(
+                partition("hub-segment-arrived", 0), partition("hub-segment-arrived", 1));
+        given(listenerRegistry.getListenerContainers()).willReturn(List.of(arrived));
+        given(arrived.isPartitionPauseRequested(partition("hub-segment-arrived", 0))).willReturn(true);
+        lag("hub-segment-arrived", 1, 500);
+        AtomicInteger pending = new AtomicInteger(10);
+        Gauge.builder(ConsumerBackpressureController.HIKARI_PENDING, pending, AtomicInteger::get)
+                .register(meterRegistry);
+        controller.adjust();
+
+        // when - 여유가 생겨 두 파티션 모두 실행 대상
+        pending.set(0);
+        controller.adjust();
+
+        // then
+        assertThat(meterRegistry.get("track.consumer.active.limit").gauge().value()).isEqualTo(2);
+        verify(arrived, never()).pausePartition(partition("hub-segment-arrived", 0));
+        verify(arrived, never()).resumePartition(partition("hub-segment-arrived", 0));
+    }
+
+    private AtomicLong lag(String topic, int partition, long value) {
+        AtomicLong lag = new AtomicLong(value);
+        Gauge.builder(ConsumerBackpressureController.PARTITION_LAG, lag, AtomicLong::get)
+                .tags("topic", topic, "partition", String.valueOf(partition))
+                .register(meterRegistry);
+        return lag;
+    }
+
+    private static TopicPartition partition(String topic, int partition) {
+        return new TopicPartition(topic, partition);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMessageListenerContainer<?, ?> container(TopicPartition... partitions) {
+        ConcurrentMessageListenerContainer<String, byte[]> container = mock(ConcurrentMessageListenerContainer.class);
+        given(container.isRunning()).willReturn(true);
+        given(container.getAssignedPartitions()).willReturn(List.of(partitions));
+        return container;
+    }
+}
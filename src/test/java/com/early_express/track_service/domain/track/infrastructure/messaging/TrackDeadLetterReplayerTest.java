@@ -0,0 +1,144 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.TrackDeadLetterReplayer.ReplayResult;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재시도 토픽/DLT 라우팅 및 DLT 재처리 테스트
+ * - 변환 불가 레코드는 재시도 없이 공용 DLT로 이동하고 원래 파티션은 계속 진행
+ * - 재처리 시 원래 토픽으로 다시 발행
+ * - 통합 추적 토픽은 재시도 토픽 없이 DLT로 이동
+ */
+@SpringBootTest(properties = {
+        "spring.application.name=" + TrackDeadLetterReplayerTest.APPLICATION,
+        "spring.kafka.consumer.group-id=track-dlt-test",
+        "track-event.retry.initial-delay=100ms",
+        "track-event.retry.topic-replicas=1",
+        "track-event.multiplex.enabled=true",
+        "track-event.backpressure.enabled=false"
+})
+@EmbeddedKafka(partitions = 3, topics = {
+        "tracking-start-requested", "hub-segment-departed", "hub-segment-arrived",
+        "last-mile-departed", "last-mile-completed", "tracking-events", TrackDeadLetterReplayerTest.DEAD_LETTER_TOPIC
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TrackDeadLetterReplayerTest {
+
+    static final String APPLICATION = "track-service";
+    static final String DEAD_LETTER_TOPIC = APPLICATION + "-dlt";
+    private static final String HUB_SEGMENT_ARRIVED = "hub-segment-arrived";
+    private static final String TRACKING_EVENTS = "tracking-events";
+
+    @Autowired
+    private KafkaTemplate<String, byte[]> deadLetterKafkaTemplate;
+
+    @Autowired
+    private TrackDeadLetterReplayer replayer;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    @Order(1)
+    @DisplayName("변환 불가 레코드는 예외 정보와 함께 DLT로 이동하고, 재처리하면 원래 토픽으로 다시 발행된다")
+    void routesPoisonRecordToDeadLetterTopicAndReplays() {
+        try (Consumer<String, String> dltConsumer = deadLetterConsumer("dlt-assert")) {
+            // given
+            deadLetterKafkaTemplate.send(HUB_SEGMENT_ARRIVED, "order-poison", "not-json".getBytes(StandardCharsets.UTF_8)).join();
+
+            // when
+            ConsumerRecord<String, String> deadLetter =
+                    KafkaTestUtils.getSingleRecord(dltConsumer, DEAD_LETTER_TOPIC, Duration.ofSeconds(30));
+
+            // then
+            assertThat(deadLetter.key()).isEqualTo("order-poison");
+            assertThat(deadLetter.value()).isEqualTo("not-json");
+            assertThat(header(deadLetter, KafkaHeaders.ORIGINAL_TOPIC)).isEqualTo(HUB_SEGMENT_ARRIVED);
+            assertThat(header(deadLetter, KafkaHeaders.EXCEPTION_FQCN)).isNotBlank();
+
+            // when - 재처리 (다시 실패하여 DLT로 돌아옴)
+            ReplayResult result = replayer.replay(100);
+
+            // then
+            assertThat(result.replayed()).isEqualTo(1);
+            assertThat(result.byTopic()).isEqualTo(Map.of(HUB_SEGMENT_ARRIVED, 1));
+
+            ConsumerRecord<String, String> returned =
+                    KafkaTestUtils.getSingleRecord(dltConsumer, DEAD_LETTER_TOPIC, Duration.ofSeconds(30));
+            assertThat(returned.value()).isEqualTo("not-json");
+            assertThat(headers(returned, KafkaHeaders.ORIGINAL_TOPIC)).containsExactly(HUB_SEGMENT_ARRIVED);
+
+            // 이미 재처리한 레코드는 다시 보내지 않음 (새로 들어온 1건만 대상)
+            assertThat(replayer.replay(100).replayed()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("통합 추적 토픽의 실패 레코드는 재시도 토픽을 거치지 않고 DLT로 이동한다")
+    void routesMultiplexedFailureStraightToDeadLetterTopic() throws Exception {
+        try (Consumer<String, String> dltConsumer = deadLetterConsumer("dlt-assert-multiplexed")) {
+            // given - 앞 테스트의 DLT 레코드는 건너뜀
+            KafkaTestUtils.getRecords(dltConsumer, Duration.ofSeconds(2));
+            deadLetterKafkaTemplate.send(TRACKING_EVENTS, "order-multiplexed", "not-json".getBytes(StandardCharsets.UTF_8)).join();
+
+            // when
+            ConsumerRecord<String, String> deadLetter =
+                    KafkaTestUtils.getSingleRecord(dltConsumer, DEAD_LETTER_TOPIC, Duration.ofSeconds(30));
+
+            // then
+            assertThat(deadLetter.key()).isEqualTo("order-multiplexed");
+            assertThat(header(deadLetter, KafkaHeaders.ORIGINAL_TOPIC)).isEqualTo(TRACKING_EVENTS);
+            try (AdminClient admin = AdminClient.create(
+                    Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString()))) {
+                assertThat(admin.listTopics().names().get())
+                        .contains(HUB_SEGMENT_ARRIVED + "-retry-0")
+                        .doesNotContain(TRACKING_EVENTS + "-retry-0");
+            }
+        }
+    }
+
+    private Consumer<String, String> deadLetterConsumer(String group) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps(group, "false", embeddedKafka);
+        props.put("auto.offset.reset", "earliest");
+        Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new StringDeserializer()).createConsumer();
+        embeddedKafka.consumeFromAnEmbeddedTopic(consumer, DEAD_LETTER_TOPIC);
+        return consumer;
+    }
+
+    private static String header(ConsumerRecord<?, ?> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+    private static List<String> headers(ConsumerRecord<?, ?> record, String key) {
+        List<String> values = new ArrayList<>();
+        record.headers().headers(key).forEach(h -> values.add(new String(h.value(), StandardCharsets.UTF_8)));
+        return values;
+    }
+}
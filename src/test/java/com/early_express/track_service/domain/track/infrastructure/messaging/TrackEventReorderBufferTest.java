@@ -0,0 +1,152 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TrackEventReorderBufferTest {
+
+    private static final String ORDER_ID = "order-1";
+    private static final ConsumerRecord<String, byte[]> RECORD =
+            new ConsumerRecord<>("hub-segment-arrived", 0, 10L, ORDER_ID, new byte[0]);
+
+    private final DeadLetterPublishingRecoverer recoverer = mock(DeadLetterPublishingRecoverer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TrackEventReorderBuffer buffer =
+            new TrackEventReorderBuffer(meterRegistry, recoverer, "tracking-events");
+
+    // 간이 Track: 허브 구간 진행 상태만 흉내 냄
+    private boolean departed;
+    private final List<String> applied = new ArrayList<>();
+
+    @Test
+    @DisplayName("출발보다 먼저 도착한 도착 이벤트는 메모리에 보류하지 않고 바로 재시도 토픽으로 발행한다")
+    void defersEarlyEventToRetryTopic() {
+        // when - 도착이 먼저 수신됨
+        buffer.dispatch(RECORD, ORDER_ID, TrackEventType.HUB_SEGMENT_ARRIVED, 0, this::arrive, () -> applied.add("arrived-visible"));
+
+        // then - 예외 없이 반환 (호출 측이 커밋), 원본 레코드는 재시도 토픽으로
+        assertThat(applied).isEmpty();
+        verify(recoverer).accept(eq(RECORD), any(TrackException.class));
+        assertThat(meterRegistry.get("track.event.reorder").tag("result", "deferred").counter().count())
+                .isEqualTo(1.0);
+
+        // when - 출발 수신
+        buffer.dispatch(RECORD, ORDER_ID, TrackEventType.HUB_SEGMENT_DEPARTED, 0, this::depart, () -> applied.add("departed-visible"));
+
+        // then
+        assertThat(applied).containsExactly("depart", "departed-visible");
+        assertThat(buffer.lanes()).isZero();
+    }
+
+    @Test
+    @DisplayName("순서 역전이 아닌 예외, 재시도 토픽이 없는 토픽과 재시도 토픽에서 받은 레코드는 그대로 던진다")
+    void rethrowsOtherErrorsAndRetryRecords() {
+        // given
+        Runnable rejected = () -> {
+            throw new TrackException(TrackErrorCode.TRACK_ALREADY_COMPLETED);
+        };
+        ConsumerRecord<String, byte[]> retried =
+                new ConsumerRecord<>("hub-segment-arrived-retry-0", 0, 1L, ORDER_ID, new byte[0]);
+        ConsumerRecord<String, byte[]> multiplexed =
+                new ConsumerRecord<>("tracking-events", 0, 1L, ORDER_ID, new byte[0]);
+
+        // when & then
+        assertThatThrownBy(() -> buffer.dispatch(RECORD, ORDER_ID, TrackEventType.LAST_MILE_DEPARTED, null, rejected, () -> {
+        })).isInstanceOf(TrackException.class);
+        assertThatThrownBy(() -> buffer.dispatch(retried, ORDER_ID, TrackEventType.HUB_SEGMENT_ARRIVED, 0, this::arrive, () -> {
+        })).isInstanceOf(TrackException.class);
+        assertThatThrownBy(() -> buffer.dispatch(multiplexed, ORDER_ID, TrackEventType.HUB_SEGMENT_ARRIVED, 0, this::arrive, () -> {
+        })).isInstanceOf(TrackException.class);
+        verify(recoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 발행에 실패하면 예외를 던져 레코드를 커밋하지 않는다")
+    void rethrowsWhenPublishFails() {
+        // given
+        willThrow(new IllegalStateException("kafka down")).given(recoverer).accept(eq(RECORD), any(TrackException.class));
+
+        // when & then
+        assertThatThrownBy(() -> buffer.dispatch(RECORD, ORDER_ID, TrackEventType.LAST_MILE_DELIVERED, null, () -> {
+            throw new TrackException(TrackErrorCode.TRACK_NOT_FOUND);
+        }, () -> applied.add("visible"))).isInstanceOf(IllegalStateException.class);
+        assertThat(applied).isEmpty();
+        assertThat(meterRegistry.get("track.event.reorder").tag("result", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 주문은 하나씩 적용하고 다른 주문은 서로 기다리지 않는다")
+    void isolatesOrders() throws Exception {
+        // given - order-1 핸들러가 진행 중
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread slow = Thread.ofPlatform().start(() -> buffer.dispatch(RECORD, ORDER_ID,
+                TrackEventType.HUB_SEGMENT_DEPARTED, 0, () -> {
+                    started.countDown();
+                    await(finish);
+                    depart();
+                }, () -> {
+                }));
+        started.await();
+
+        // when & then - order-2는 바로 처리됨
+        CompletableFuture.runAsync(() -> buffer.dispatch(RECORD, "order-2",
+                TrackEventType.HUB_SEGMENT_DEPARTED, 0, () -> applied.add("order-2"), () -> {
+                })).get(1, TimeUnit.SECONDS);
+        assertThat(applied).containsExactly("order-2");
+
+        // when - order-1 도착은 출발 반영을 기다렸다가 적용됨
+        CompletableFuture<Void> arrival = CompletableFuture.runAsync(() -> buffer.dispatch(RECORD, ORDER_ID,
+                TrackEventType.HUB_SEGMENT_ARRIVED, 0, this::arrive, () -> {
+                }));
+        finish.countDown();
+        slow.join();
+        arrival.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(applied).containsExactly("order-2", "depart", "arrive");
+        verify(recoverer, never()).accept(any(), any());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void depart() {
+        departed = true;
+        applied.add("depart");
+    }
+
+    private void arrive() {
+        if (!departed) {
+            throw new TrackException(TrackErrorCode.EVENT_OUT_OF_ORDER, "허브 구간 출발 전 도착 이벤트");
+        }
+        applied.add("arrive");
+    }
+}
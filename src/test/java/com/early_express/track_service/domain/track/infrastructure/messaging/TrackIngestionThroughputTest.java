@@ -0,0 +1,547 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentArrivedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileCompletedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileDepartedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.order.event.TrackingStartRequestedEvent;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 이벤트 수집 처리량 벤치마크 (Embedded Kafka + H2)
+ * - N개의 가상 주문에 대해 TrackingStartRequested → HubSegmentDeparted/Arrived → LastMile 이벤트를 흘려 보냄
+ * - 추적 시작 요청은 한 번에 발행하고, 이후 단계는 직전 이벤트 처리 완료 시점에 발행 (실제 서비스 간 인과 순서 재현)
+ * - 드라이버 배정 Feign 호출은 로컬 스텁 서버로 응답
+ * - 리스너 설정별로 events/sec, 컨슈머 랙 추이, 핸들러/종단 지연 p50/p99/p999 보고
+ * - 실행: gradle performanceTest [-Dingestion.orders=2000 -Dingestion.stub-delay-ms=5]
+ */
+@Slf4j
+@Tag("performance")
+@DisplayName("이벤트 수집 처리량 벤치마크")
+@SpringBootTest(properties = {
+        "spring.kafka.consumer.group-id=track-ingestion-benchmark",
+        "spring.kafka.topic.tracking-start-requested=" + TrackIngestionThroughputTest.TRACKING_START_REQUESTED,
+        "spring.kafka.topic.hub-segment-departed=" + TrackIngestionThroughputTest.HUB_SEGMENT_DEPARTED,
+        "spring.kafka.topic.hub-segment-arrived=" + TrackIngestionThroughputTest.HUB_SEGMENT_ARRIVED,
+        "spring.kafka.topic.last-mile-departed=" + TrackIngestionThroughputTest.LAST_MILE_DEPARTED,
+        "spring.kafka.topic.last-mile-completed=" + TrackIngestionThroughputTest.LAST_MILE_COMPLETED,
+        // 단일 브로커에서 재시도 토픽 생성
+        "track-event.retry.topic-replicas=1",
+        // 콘솔 출력이 처리량을 지배하지 않도록 이벤트 단위 로그/SQL 출력 억제
+        "logging.level.com.early_express=WARN",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@EmbeddedKafka(
+        partitions = TrackIngestionThroughputTest.PARTITIONS,
+        topics = {
+                TrackIngestionThroughputTest.TRACKING_START_REQUESTED,
+                TrackIngestionThroughputTest.HUB_SEGMENT_DEPARTED,
+                TrackIngestionThroughputTest.HUB_SEGMENT_ARRIVED,
+                TrackIngestionThroughputTest.LAST_MILE_DEPARTED,
+                TrackIngestionThroughputTest.LAST_MILE_COMPLETED
+        })
+class TrackIngestionThroughputTest {
+
+    static final String TRACKING_START_REQUESTED = "tracking-start-requested";
+    static final String HUB_SEGMENT_DEPARTED = "hub-segment-departed";
+    static final String HUB_SEGMENT_ARRIVED = "hub-segment-arrived";
+    static final String LAST_MILE_DEPARTED = "last-mile-departed";
+    static final String LAST_MILE_COMPLETED = "last-mile-completed";
+    static final int PARTITIONS = 3;
+
+    private static final List<String> TOPICS = List.of(TRACKING_START_REQUESTED, HUB_SEGMENT_DEPARTED,
+            HUB_SEGMENT_ARRIVED, LAST_MILE_DEPARTED, LAST_MILE_COMPLETED);
+    private static final String GROUP_ID = "track-ingestion-benchmark";
+
+    private static final int ORDERS = Integer.getInteger("ingestion.orders", 500);
+    private static final long STUB_DELAY_MS = Long.getLong("ingestion.stub-delay-ms", 5);
+    private static final long RUN_TIMEOUT_SECONDS = Long.getLong("ingestion.timeout-seconds", 300);
+    private static final long LAG_SAMPLE_INTERVAL_MS = 100;
+
+    private static final HttpServer driverAssignmentStub = startDriverAssignmentStub();
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    /**
+     * 드라이버 배정 Feign 클라이언트를 스텁 서버로 연결 (SimpleDiscoveryClient)
+     */
+    @DynamicPropertySource
+    static void driverAssignmentStub(DynamicPropertyRegistry registry) {
+        String uri = "http://127.0.0.1:" + driverAssignmentStub.getAddress().getPort();
+        registry.add("spring.cloud.discovery.client.simple.instances.hub-delivery-service[0].uri", () -> uri);
+        registry.add("spring.cloud.discovery.client.simple.instances.delivery-service[0].uri", () -> uri);
+    }
+
+    @AfterAll
+    static void stopDriverAssignmentStub() {
+        driverAssignmentStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("리스너 설정별 처리량과 지연 분포를 보고한다")
+    void reportThroughputAcrossListenerConfigurations() throws Exception {
+        // given
+        List<ListenerConfig> configs = List.of(
+                new ListenerConfig("platform-c1", 1, false),
+                new ListenerConfig("platform-c3", 3, false),
+                new ListenerConfig("virtual-c3", 3, true)
+        );
+
+        // when
+        List<RunResult> results = new ArrayList<>();
+        for (ListenerConfig config : configs) {
+            results.add(run(config));
+        }
+
+        // then
+        results.forEach(result -> log.info("{}", result));
+        for (RunResult result : results) {
+            assertThat(result.failures()).as(result.config().name()).isZero();
+            assertThat(result.completedOrders()).as(result.config().name()).isEqualTo(ORDERS);
+            assertThat(result.finalLag()).as(result.config().name()).isZero();
+        }
+    }
+
+    // ===== 실행 =====
+
+    private RunResult run(ListenerConfig config) throws Exception {
+        Map<String, OrderScript> scripts = new ConcurrentHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < ORDERS; i++) {
+            String orderId = config.name() + "-order-" + i;
+            scripts.put(orderId, OrderScript.random(orderId, random));
+        }
+
+        Probe probe = new Probe(scripts);
+        restartListeners(config, probe);
+
+        LagSampler lagSampler = new LagSampler();
+        Thread sampler = Thread.ofPlatform().daemon().start(lagSampler);
+
+        long started = System.nanoTime();
+        scripts.values().forEach(script -> script.sendNext(kafkaTemplate));
+        kafkaTemplate.flush();
+
+        boolean completed = probe.awaitCompletion(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - started;
+
+        lagSampler.stop();
+        sampler.join();
+
+        assertThat(completed).as("%s 실행 시간 초과", config.name()).isTrue();
+        return new RunResult(config, probe.processed.get(), probe.completedOrders.get(), probe.failures.get(),
+                elapsed, probe.handlerLatency, probe.endToEndLatency, lagSampler.samples, awaitCommittedLag());
+    }
+
+    /**
+     * 마지막 수동 커밋이 반영될 때까지 대기 후 랙 반환
+     */
+    private long awaitCommittedLag() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        long lag = currentLag();
+        while (lag > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(LAG_SAMPLE_INTERVAL_MS);
+            lag = currentLag();
+        }
+        return lag;
+    }
+
+    /**
+     * 리스너 컨테이너를 정지한 뒤 동시성/실행기/계측 인터셉터를 바꿔 재시작
+     */
+    private void restartListeners(ListenerConfig config, Probe probe) {
+        listenerRegistry.stop();
+
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            ConcurrentMessageListenerContainer<?, ?> concurrent = (ConcurrentMessageListenerContainer<?, ?>) container;
+            concurrent.setConcurrency(config.concurrency());
+            concurrent.getContainerProperties().setListenerTaskExecutor(executor(config));
+            setInterceptor(concurrent, probe);
+        }
+
+        listenerRegistry.start();
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setInterceptor(ConcurrentMessageListenerContainer<?, ?> container, Probe probe) {
+        ((ConcurrentMessageListenerContainer<String, Object>) container).setRecordInterceptor(probe);
+    }
+
+    private SimpleAsyncTaskExecutor executor(ListenerConfig config) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-" + config.name() + "-");
+        executor.setVirtualThreads(config.virtualThreads());
+        return executor;
+    }
+
+    private long currentLag() {
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString()))) {
+            Map<TopicPartition, OffsetAndMetadata> committed =
+                    admin.listConsumerGroupOffsets(GROUP_ID).partitionsToOffsetAndMetadata().get();
+
+            Map<TopicPartition, OffsetSpec> latest = TOPICS.stream()
+                    .flatMap(topic -> IntStream.range(0, PARTITIONS)
+                            .mapToObj(partition -> new TopicPartition(topic, partition)))
+                    .collect(Collectors.toMap(tp -> tp, tp -> OffsetSpec.latest()));
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> ends = admin.listOffsets(latest).all().get();
+
+            long lag = 0;
+            for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> end : ends.entrySet()) {
+                OffsetAndMetadata offset = committed.get(end.getKey());
+                lag += end.getValue().offset() - (offset != null ? offset.offset() : 0);
+            }
+            return lag;
+        } catch (Exception e) {
+            throw new IllegalStateException("컨슈머 랙 조회 실패", e);
+        }
+    }
+
+    // ===== 드라이버 배정 스텁 =====
+
+    private static HttpServer startDriverAssignmentStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/", exchange -> {
+                try {
+                    Thread.sleep(STUB_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = "{\"success\":true,\"driverId\":\"driver-stub\"}".getBytes();
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("드라이버 배정 스텁 서버 시작 실패", e);
+        }
+    }
+
+    // ===== 시나리오 =====
+
+    /**
+     * 주문 1건의 이벤트 시나리오
+     * - 허브 배송 주문(80%): 허브 2~4개 → 구간별 출발/도착 후 최종 배송
+     * - 동일 허브 주문(20%): 바로 최종 배송
+     */
+    private static final class OrderScript {
+
+        private final String orderId;
+        private final List<Object> events;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        private OrderScript(String orderId, List<Object> events) {
+            this.orderId = orderId;
+            this.events = events;
+        }
+
+        static OrderScript random(String orderId, Random random) {
+            boolean requiresHubDelivery = random.nextInt(10) < 8;
+            int hubs = requiresHubDelivery ? 2 + random.nextInt(3) : 1;
+            String hubDeliveryId = requiresHubDelivery ? "hub-delivery-" + orderId : null;
+            String lastMileDeliveryId = "last-mile-" + orderId;
+            String lastHubId = "hub-" + (hubs - 1);
+
+            List<Object> events = new ArrayList<>();
+            events.add(TrackingStartRequestedEvent.builder()
+                    .orderId(orderId)
+                    .orderNumber("ORD-" + orderId)
+                    .hubDeliveryId(hubDeliveryId)
+                    .lastMileDeliveryId(lastMileDeliveryId)
+                    .originHubId("hub-0")
+                    .destinationHubId(lastHubId)
+                    .routingHub(routingHub(hubs))
+                    .requiresHubDelivery(requiresHubDelivery)
+                    .estimatedDeliveryTime(LocalDateTime.now().plusDays(1))
+                    .requestedAt(LocalDateTime.now())
+                    .build());
+
+            for (int segment = 0; requiresHubDelivery && segment < hubs - 1; segment++) {
+                events.add(HubSegmentDepartedEvent.builder()
+                        .orderId(orderId)
+                        .hubDeliveryId(hubDeliveryId)
+                        .segmentIndex(segment)
+                        .fromHubId("hub-" + segment)
+                        .toHubId("hub-" + (segment + 1))
+                        .departedAt(LocalDateTime.now())
+                        .build());
+                events.add(HubSegmentArrivedEvent.builder()
+                        .orderId(orderId)
+                        .hubDeliveryId(hubDeliveryId)
+                        .segmentIndex(segment)
+                        .hubId("hub-" + (segment + 1))
+                        .arrivedAt(LocalDateTime.now())
+                        .build());
+            }
+
+            events.add(LastMileDepartedEvent.builder()
+                    .orderId(orderId)
+                    .lastMileDeliveryId(lastMileDeliveryId)
+                    .hubId(lastHubId)
+                    .departedAt(LocalDateTime.now())
+                    .build());
+            events.add(LastMileCompletedEvent.builder()
+                    .orderId(orderId)
+                    .lastMileDeliveryId(lastMileDeliveryId)
+                    .completedAt(LocalDateTime.now())
+                    .receiverName("receiver")
+                    .build());
+
+            return new OrderScript(orderId, events);
+        }
+
+        private static String routingHub(int hubs) {
+            return IntStream.range(0, hubs)
+                    .mapToObj(i -> "{\"hubId\":\"hub-" + i + "\"}")
+                    .collect(Collectors.joining(",", "{\"hubs\":[", "]}"));
+        }
+
+        /**
+         * 다음 이벤트 발행
+         *
+         * @return 발행할 이벤트가 남아 있었는지 여부
+         */
+        boolean sendNext(KafkaTemplate<String, Object> kafkaTemplate) {
+            int index = cursor.getAndIncrement();
+            if (index >= events.size()) {
+                return false;
+            }
+            Object event = events.get(index);
+            kafkaTemplate.send(topicOf(event), orderId, event);
+            return true;
+        }
+
+        private static String topicOf(Object event) {
+            return switch (event) {
+                case TrackingStartRequestedEvent e -> TRACKING_START_REQUESTED;
+                case HubSegmentDepartedEvent e -> HUB_SEGMENT_DEPARTED;
+                case HubSegmentArrivedEvent e -> HUB_SEGMENT_ARRIVED;
+                case LastMileDepartedEvent e -> LAST_MILE_DEPARTED;
+                case LastMileCompletedEvent e -> LAST_MILE_COMPLETED;
+                default -> throw new IllegalArgumentException("알 수 없는 이벤트: " + event);
+            };
+        }
+    }
+
+    // ===== 계측 =====
+
+    /**
+     * 레코드 인터셉터 기반 계측
+     * - 핸들러 지연: 리스너 호출 직전 ~ 성공 반환
+     * - 종단 지연: 레코드 생성 시각 ~ 성공 반환 (브로커/폴링 대기 포함)
+     * - 성공한 레코드의 주문은 다음 단계 이벤트를 발행
+     */
+    private final class Probe implements RecordInterceptor<String, Object> {
+
+        private final Map<String, OrderScript> scripts;
+        private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+        private final Latencies handlerLatency = new Latencies();
+        private final Latencies endToEndLatency = new Latencies();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicInteger completedOrders = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        Probe(Map<String, OrderScript> scripts) {
+            this.scripts = scripts;
+        }
+
+        @Override
+        public ConsumerRecord<String, Object> intercept(ConsumerRecord<String, Object> record,
+                                                        Consumer<String, Object> consumer) {
+            startedAt.set(System.nanoTime());
+            return record;
+        }
+
+        @Override
+        public void success(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+            handlerLatency.record(System.nanoTime() - startedAt.get());
+            endToEndLatency.record(TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - record.timestamp())));
+            processed.incrementAndGet();
+
+            OrderScript script = scripts.get(record.key());
+            if (script != null && !script.sendNext(kafkaTemplate)) {
+                completedOrders.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void failure(ConsumerRecord<String, Object> record, Exception exception,
+                            Consumer<String, Object> consumer) {
+            failures.incrementAndGet();
+        }
+
+        boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (completedOrders.get() < scripts.size()) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                Thread.sleep(20);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 컨슈머 그룹 랙 주기 샘플링 (전체 토픽/파티션 합)
+     */
+    private final class LagSampler implements Runnable {
+
+        private final List<long[]> samples = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean running = new AtomicBoolean(true);
+
+        @Override
+        public void run() {
+            long started = System.nanoTime();
+            while (running.get()) {
+                samples.add(new long[]{TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), currentLag()});
+                try {
+                    Thread.sleep(LAG_SAMPLE_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        void stop() {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 지연 시간 기록 (ns) - 실행 종료 후 정렬하여 백분위 계산
+     */
+    private static final class Latencies {
+
+        private final List<Long> values = Collections.synchronizedList(new ArrayList<>());
+
+        void record(long nanos) {
+            values.add(nanos);
+        }
+
+        double percentileMillis(double percentile) {
+            long[] sorted;
+            synchronized (values) {
+                sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile / 100) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    private record ListenerConfig(String name, int concurrency, boolean virtualThreads) {
+    }
+
+    private record RunResult(ListenerConfig config, long events, int completedOrders, int failures,
+                             long elapsedNanos, Latencies handlerLatency, Latencies endToEndLatency,
+                             List<long[]> lagSamples, long finalLag) {
+
+        double eventsPerSecond() {
+            return events / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long maxLag() {
+            return lagSamples.stream().mapToLong(sample -> sample[1]).max().orElse(0);
+        }
+
+        /**
+         * 랙 추이: 최대 10개 지점으로 축약
+         */
+        String lagTimeline() {
+            int step = Math.max(1, lagSamples.size() / 10);
+            List<String> points = new ArrayList<>();
+            for (int i = 0; i < lagSamples.size(); i += step) {
+                long[] sample = lagSamples.get(i);
+                points.add(sample[0] + "ms=" + sample[1]);
+            }
+            return String.join(", ", points);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "[%s] orders=%d, events=%d, elapsed=%dms, throughput=%.0f events/s, failures=%d%n"
+                            + "  handler  p50=%.2fms, p99=%.2fms, p999=%.2fms, max=%.2fms%n"
+                            + "  e2e      p50=%.2fms, p99=%.2fms, p999=%.2fms, max=%.2fms%n"
+                            + "  lag      max=%d, final=%d, timeline=[%s]",
+                    config.name(), completedOrders, events, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    eventsPerSecond(), failures,
+                    millis(handlerLatency, 50), millis(handlerLatency, 99), millis(handlerLatency, 99.9),
+                    millis(handlerLatency, 100),
+                    millis(endToEndLatency, 50), millis(endToEndLatency, 99), millis(endToEndLatency, 99.9),
+                    millis(endToEndLatency, 100),
+                    maxLag(), finalLag, lagTimeline());
+        }
+
+        private static double millis(Latencies latencies, double percentile) {
+            return latencies.percentileMillis(percentile);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.early_express.track_service.domain.track.infrastructure.messaging.tracking.event;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentArrivedEvent;
+import com.early_express.track_service.domain.track.infrastructure.messaging.lastmile.event.LastMileCompletedEvent;
+import com.early_express.track_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.track_service.global.infrastructure.event.converter.EventMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.messaging.MessageHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrackingEventReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final TrackingEventReader reader = new TrackingEventReader(objectMapper);
+
+    @Test
+    @DisplayName("eventType으로 구체 이벤트 클래스를 선택한다 (상수형/클래스명형 모두 허용)")
+    void readsConcreteEventByType() {
+        // when
+        BaseEvent arrived = reader.read(record(json("HUB_SEGMENT_ARRIVED",
+                "\"segmentIndex\":1,\"hubId\":\"hub-b\",\"arrivedAt\":\"2025-11-03T09:15:00\"")));
+        BaseEvent completed = reader.read(record(json("LastMileCompleted",
+                "\"completedAt\":\"2025-11-03T18:00:00\"")));
+
+        // then
+        assertThat(arrived).isInstanceOfSatisfying(HubSegmentArrivedEvent.class, event -> {
+            assertThat(event.getOrderId()).isEqualTo("order-1");
+            assertThat(event.getSegmentIndex()).isEqualTo(1);
+            assertThat(event.getArrivedAt()).isEqualTo(LocalDateTime.of(2025, 11, 3, 9, 15));
+            assertThat(event.getEventType()).isEqualTo("HUB_SEGMENT_ARRIVED");
+        });
+        assertThat(completed).isInstanceOf(LastMileCompletedEvent.class);
+    }
+
+    @Test
+    @DisplayName("Smile contentType 헤더가 있으면 바이너리 페이로드로 읽는다")
+    void readsSmilePayload() throws Exception {
+        // given
+        HubSegmentArrivedEvent original = HubSegmentArrivedEvent.builder()
+                .eventType("HubSegmentArrived")
+                .orderId("order-1")
+                .segmentIndex(0)
+                .hubId("hub-a")
+                .build();
+        byte[] smile = new EventMessageConverter(objectMapper).getSmileMapper().writeValueAsBytes(original);
+        ConsumerRecord<String, byte[]> record = record(smile);
+        record.headers().add(new RecordHeader(MessageHeaders.CONTENT_TYPE,
+                EventMessageConverter.SMILE_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        BaseEvent event = reader.read(record);
+
+        // then
+        assertThat(event).isInstanceOfSatisfying(HubSegmentArrivedEvent.class,
+                arrived -> assertThat(arrived.getHubId()).isEqualTo("hub-a"));
+    }
+
+    @Test
+    @DisplayName("구독하지 않는 eventType은 null, 형식 오류는 변환 예외로 처리한다")
+    void skipsUnknownTypeAndRejectsMalformed() {
+        // when & then
+        assertThat(reader.read(record(json("ORDER_CANCELLED", "\"reason\":\"customer\"")))).isNull();
+        assertThatThrownBy(() -> reader.read(record("not-json".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(ConversionException.class);
+    }
+
+    private static byte[] json(String eventType, String fields) {
+        return ("{\"eventType\":\"" + eventType + "\",\"orderId\":\"order-1\"," + fields + "}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(byte[] value) {
+        return new ConsumerRecord<>("tracking-events", 0, 0L, "order-1", value);
+    }
+}
@@ -0,0 +1,99 @@
+package com.early_express.track_service.domain.track.infrastructure.monitoring;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackErrorCode;
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.infrastructure.client.driver_assignment.DriverAssignmentResult;
+import com.early_express.track_service.domain.track.infrastructure.client.driver_assignment.DriverAssignmentType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TrackMetrics 테스트")
+class TrackMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrackMetrics trackMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        trackMetrics = new TrackMetrics(meterRegistry, Tracer.NOOP);
+    }
+
+    @Test
+    @DisplayName("수신 단계의 이벤트 타입이 하위 단계 태그로 전파된다")
+    void shouldPropagateEventTypeToNestedStages() {
+        // when
+        trackMetrics.consume("HubSegmentArrived", "hub-segment-arrived", () ->
+                trackMetrics.handle(() ->
+                        trackMetrics.repository("track.save", () -> "saved")));
+        trackMetrics.repository("track.findByOrderId", Optional::empty);
+
+        // then
+        assertThat(meterRegistry.get(TrackMetrics.CONSUME)
+                .tags("event", "HubSegmentArrived", "topic", "hub-segment-arrived", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(TrackMetrics.HANDLE)
+                .tags("event", "HubSegmentArrived").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(TrackMetrics.REPOSITORY)
+                .tags("event", "HubSegmentArrived", "operation", "track.save").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(TrackMetrics.REPOSITORY)
+                .tags("event", "none", "operation", "track.findByOrderId").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 시 TrackErrorCode를 태그로 기록하고 예외를 그대로 던진다")
+    void shouldRecordErrorCodeOnFailure() {
+        // when & then
+        assertThatThrownBy(() -> trackMetrics.consume("HubSegmentDeparted", "hub-segment-departed", () -> {
+            throw new TrackException(TrackErrorCode.INVALID_STATUS_TRANSITION);
+        })).isInstanceOf(TrackException.class);
+
+        Timer timer = meterRegistry.get(TrackMetrics.CONSUME)
+                .tags("outcome", "failure", "error_code", "INVALID_STATUS_TRANSITION")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("드라이버 배정은 결과 상태를 outcome으로 기록한다")
+    void shouldRecordDriverAssignmentOutcome() {
+        // when
+        trackMetrics.driverAssignment(DriverAssignmentType.LAST_MILE,
+                () -> DriverAssignmentResult.deferred("서킷 오픈"));
+
+        // then
+        assertThat(meterRegistry.get(TrackMetrics.DRIVER_ASSIGNMENT)
+                .tags("client", "delivery-service", "outcome", "deferred")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가시화 지연은 이벤트 시각 기준, 파티션 지연은 레코드 시각 기준으로 기록한다")
+    void shouldRecordVisibilityFromEventTime() {
+        // given
+        long recordTimestamp = System.currentTimeMillis() - 1_000;
+        LocalDateTime arrivedAt = LocalDateTime.now().minusSeconds(10);
+
+        // when
+        trackMetrics.visibility("hub-segment-arrived", 2, recordTimestamp, "hub-seoul", null, arrivedAt);
+
+        // then
+        Timer visibility = meterRegistry.get(TrackMetrics.VISIBILITY)
+                .tags("topic", "hub-segment-arrived", "hub", "hub-seoul").timer();
+        Timer partitionDelay = meterRegistry.get(TrackMetrics.PARTITION_DELAY)
+                .tags("topic", "hub-segment-arrived", "partition", "2").timer();
+
+        assertThat(visibility.totalTime(TimeUnit.SECONDS)).isBetween(9.0, 15.0);
+        assertThat(partitionDelay.totalTime(TimeUnit.SECONDS)).isBetween(0.9, 5.0);
+    }
+}
@@ -0,0 +1,89 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
+
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.TrackEvent;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackEventType;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackExportRow;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackEventRepository;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackEventJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackHistoryJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("TrackExportRepository 테스트")
+class TrackExportRepositoryImplTest {
+
+    @Autowired
+    private TrackExportRepositoryImpl trackExportRepository;
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Autowired
+    private TrackEventRepository trackEventRepository;
+
+    @Autowired
+    private TrackJpaRepository trackJpaRepository;
+
+    @Autowired
+    private TrackEventJpaRepository trackEventJpaRepository;
+
+    @Autowired
+    private TrackHistoryJpaRepository trackHistoryJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        trackEventJpaRepository.deleteAll();
+        trackJpaRepository.deleteAll();
+        trackHistoryJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("추적별로 이벤트를 발생 순서대로 조인해 전달하고, 이벤트 없는 추적도 한 행으로 전달한다")
+    void streamsTracksJoinedWithEvents() {
+        // given
+        Track withEvents = trackRepository.save(track("order-1"));
+        Track withoutEvents = trackRepository.save(track("order-2"));
+        trackEventRepository.save(TrackEvent.trackingStarted(withEvents.getIdValue(), "system"));
+        trackEventRepository.save(TrackEvent.hubSegmentDeparted(withEvents.getIdValue(), "hub-a", 0, "system"));
+        List<TrackExportRow> rows = new ArrayList<>();
+
+        // when
+        long count = trackExportRepository.streamTracksWithEvents(
+                TrackStatus.CREATED, null, LocalDateTime.now().plusMinutes(1), rows::add);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(rows).filteredOn(row -> row.trackId().equals(withEvents.getIdValue()))
+                .extracting(TrackExportRow::eventType)
+                .containsExactly(TrackEventType.TRACKING_STARTED, TrackEventType.HUB_SEGMENT_DEPARTED);
+        assertThat(rows).filteredOn(row -> row.trackId().equals(withoutEvents.getIdValue()))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.hasEvent()).isFalse();
+                    assertThat(row.orderId()).isEqualTo("order-2");
+                });
+        assertThat(trackExportRepository.streamTracksWithEvents(
+                TrackStatus.COMPLETED, null, null, rows::add)).isZero();
+    }
+
+    private static Track track(String orderId) {
+        return Track.createWithHubDelivery(orderId, "ORD-" + orderId, "hub-a", "hub-b", "hub-delivery-1",
+                List.of("segment-1"), "last-mile-1", LocalDateTime.now().plusDays(1), "system");
+    }
+}
@@ -0,0 +1,121 @@
+package com.early_express.track_service.domain.track.infrastructure.persistence.repository;
+
+import com.early_express.track_service.domain.track.domain.exception.TrackException;
+import com.early_express.track_service.domain.track.domain.model.Track;
+import com.early_express.track_service.domain.track.domain.model.vo.HubStatusCount;
+import com.early_express.track_service.domain.track.domain.model.vo.HubWaitingCount;
+import com.early_express.track_service.domain.track.domain.model.vo.TrackStatus;
+import com.early_express.track_service.domain.track.domain.repository.TrackRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackHistoryJpaRepository;
+import com.early_express.track_service.domain.track.infrastructure.persistence.jpa.TrackJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("운영/이력 테이블 분리 테스트")
+class TrackHistorySplitTest {
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Autowired
+    private TrackJpaRepository trackJpaRepository;
+
+    @Autowired
+    private TrackHistoryJpaRepository trackHistoryJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        trackJpaRepository.deleteAll();
+        trackHistoryJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("종료 상태로 저장하면 이력 테이블로 옮겨지고, 조회는 두 테이블을 구분 없이 처리한다")
+    void movesTerminalTracksToHistoryTransparently() {
+        // given
+        Track first = trackRepository.save(track("order-1"));
+        Track second = trackRepository.save(track("order-2"));
+        LocalDateTime createdAt = trackJpaRepository.findById(first.getIdValue()).orElseThrow().getCreatedAt();
+
+        // when
+        first.fail();
+        trackRepository.save(first);
+
+        // then - 행 이동 (감사 컬럼 유지)
+        assertThat(trackJpaRepository.findAll()).singleElement()
+                .satisfies(entity -> assertThat(entity.getId()).isEqualTo(second.getIdValue()));
+        assertThat(trackHistoryJpaRepository.findById(first.getIdValue())).hasValueSatisfying(entity -> {
+            assertThat(entity.getStatus()).isEqualTo(TrackStatus.FAILED);
+            assertThat(entity.getCreatedAt()).isEqualTo(createdAt);
+        });
+
+        // then - 조회
+        assertThat(trackRepository.findByOrderId("order-1"))
+                .hasValueSatisfying(track -> assertThat(track.getStatus()).isEqualTo(TrackStatus.FAILED));
+        assertThat(trackRepository.findById(first.getId())).isPresent();
+        assertThat(trackRepository.existsByOrderId("order-1")).isTrue();
+        assertThat(trackRepository.findByHubIdAndStatus("hub-a", TrackStatus.FAILED, PageRequest.of(0, 10)))
+                .extracting(Track::getOrderId).containsExactly("order-1");
+        assertThat(trackRepository.findByHubIdAndStatus("hub-a", TrackStatus.CREATED, PageRequest.of(0, 10)))
+                .extracting(Track::getOrderId).containsExactly("order-2");
+
+        Page<Track> page = trackRepository.searchTracks(null,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt")));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Track::getOrderId).containsExactly("order-2");
+        assertThat(trackRepository.searchTracks(null,
+                PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent())
+                .extracting(Track::getOrderId).containsExactly("order-1");
+        assertThat(trackRepository.searchTracks(null, PageRequest.of(0, 10, Sort.by("orderId"))).getContent())
+                .extracting(Track::getOrderId).containsExactly("order-1", "order-2");
+        assertThatThrownBy(() -> trackRepository.searchTracks(null,
+                PageRequest.of(0, 10, Sort.by("hubSegmentDeliveryIdsJson"))))
+                .isInstanceOf(TrackException.class);
+
+        assertThat(trackRepository.countByHubAndStatus())
+                .contains(new HubStatusCount("hub-a", TrackStatus.FAILED, 1),
+                        new HubStatusCount("hub-a", TrackStatus.CREATED, 1));
+    }
+
+    @Test
+    @DisplayName("허브 도착 후 출발 전인 추적만 마지막 도착 허브별 대기 물량으로 집계한다")
+    void countsTracksWaitingAtLastArrivedHub() {
+        // given
+        Track waiting = track("order-1");
+        waiting.startHubDelivery();
+        waiting.departHubSegment(0, "hub-a", "hub-b");
+        waiting.arriveHubSegment(0);
+        trackRepository.save(waiting);
+
+        Track inTransit = track("order-2");
+        inTransit.startHubDelivery();
+        inTransit.departHubSegment(0, "hub-a", "hub-b");
+        trackRepository.save(inTransit);
+
+        trackRepository.save(track("order-3"));
+
+        // when & then
+        assertThat(trackRepository.countWaitingByHub())
+                .containsExactly(new HubWaitingCount("hub-b", 1));
+    }
+
+    private static Track track(String orderId) {
+        return Track.createWithHubDelivery(orderId, "ORD-" + orderId, "hub-a", "hub-b", "hub-delivery-1",
+                List.of("segment-1"), "last-mile-1", LocalDateTime.now().plusDays(1), "system");
+    }
+}
@@ -0,0 +1,167 @@
+package com.early_express.track_service.global.config;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가상 스레드 부하 테스트
+ * - Feign 기본 클라이언트와 동일한 HttpURLConnection 블로킹 호출을 동시에 수행
+ * - Tomcat 기본 플랫폼 스레드 풀(200) 대비 스레드 수와 p99 지연 시간 비교
+ * - 실행: ./gradlew performanceTest
+ */
+@Slf4j
+@Tag("performance")
+@DisplayName("가상 스레드 부하 테스트")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_CALLS = 2_000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long DOWNSTREAM_DELAY_MS = 50;
+
+    private static HttpServer downstream;
+    private static URI endpoint;
+
+    @BeforeAll
+    static void startDownstream() throws Exception {
+        downstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        downstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        downstream.createContext("/assign-driver", exchange -> {
+            try {
+                Thread.sleep(DOWNSTREAM_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"success\":true}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        downstream.start();
+        endpoint = URI.create("http://127.0.0.1:" + downstream.getAddress().getPort() + "/assign-driver");
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop(0);
+    }
+
+    @Test
+    @DisplayName("가상 스레드는 적은 OS 스레드로 블로킹 호출의 p99 지연을 줄인다")
+    void virtualThreadsReduceThreadCountAndTailLatency() throws Exception {
+        // given
+        LoadResult platform = run("platform", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE));
+        LoadResult virtual = run("virtual", Executors.newVirtualThreadPerTaskExecutor());
+
+        // then
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+        assertThat(virtual.peakPlatformThreads()).isLessThan(platform.peakPlatformThreads());
+    }
+
+    private LoadResult run(String mode, ExecutorService executor) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int baseline = threads.getThreadCount();
+        AtomicInteger peak = new AtomicInteger(baseline);
+        AtomicInteger failures = new AtomicInteger();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (sampling.get()) {
+                peak.accumulateAndGet(threads.getThreadCount(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long started = System.nanoTime();
+        List<Future<Long>> futures = new ArrayList<>(CONCURRENT_CALLS);
+        try (executor) {
+            for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                // 요청 도착 시각부터 응답 완료까지 측정 (큐 대기 시간 포함)
+                long submittedAt = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    if (!call()) {
+                        failures.incrementAndGet();
+                    }
+                    return System.nanoTime() - submittedAt;
+                }));
+            }
+
+            long[] latencies = new long[CONCURRENT_CALLS];
+            for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                latencies[i] = futures.get(i).get(60, TimeUnit.SECONDS);
+            }
+            long elapsed = System.nanoTime() - started;
+
+            sampling.set(false);
+            sampler.join();
+
+            Arrays.sort(latencies);
+            return new LoadResult(
+                    mode,
+                    peak.get() - baseline,
+                    TimeUnit.NANOSECONDS.toMillis(latencies[(int) (latencies.length * 0.50)]),
+                    TimeUnit.NANOSECONDS.toMillis(latencies[(int) (latencies.length * 0.99)]),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    failures.get()
+            );
+        }
+    }
+
+    private boolean call() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) endpoint.toURL().openConnection();
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(10_000);
+            connection.setReadTimeout(30_000);
+            try (InputStream in = connection.getInputStream()) {
+                in.readAllBytes();
+            }
+            return connection.getResponseCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private record LoadResult(String mode, int peakPlatformThreads, long p50Millis,
+                              long p99Millis, long totalMillis, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] calls=%d, peakThreads=+%d, p50=%dms, p99=%dms, total=%dms, failures=%d",
+                    mode, CONCURRENT_CALLS, peakPlatformThreads, p50Millis, p99Millis, totalMillis, failures);
+        }
+    }
+}
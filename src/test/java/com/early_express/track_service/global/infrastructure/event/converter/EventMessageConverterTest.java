@@ -0,0 +1,89 @@
+package com.early_express.track_service.global.infrastructure.event.converter;
+
+import com.early_express.track_service.domain.track.infrastructure.messaging.hubdelivery.event.HubSegmentArrivedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.messaging.MessageHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventMessageConverterTest {
+
+    private static final String TOPIC = "hub-segment-arrived";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final EventMessageConverter converter = new EventMessageConverter(objectMapper);
+
+    @Test
+    @DisplayName("contentType 헤더가 없으면 byte[] 값을 JSON으로 변환한다")
+    void convertsJsonBytes() {
+        // given
+        byte[] json = ("{\"orderId\":\"order-1\",\"segmentIndex\":2,\"hubId\":\"hub-b\","
+                + "\"arrivedAt\":\"2025-11-03T09:15:00\",\"unknown\":true}").getBytes(StandardCharsets.UTF_8);
+
+        // when
+        HubSegmentArrivedEvent event = convert(new ConsumerRecord<>(TOPIC, 0, 0L, "order-1", json));
+
+        // then
+        assertThat(event.getOrderId()).isEqualTo("order-1");
+        assertThat(event.getSegmentIndex()).isEqualTo(2);
+        assertThat(event.getArrivedAt()).isEqualTo(LocalDateTime.of(2025, 11, 3, 9, 15));
+    }
+
+    @Test
+    @DisplayName("Smile contentType 헤더가 있으면 바이너리 페이로드를 같은 이벤트 클래스로 변환한다")
+    void convertsSmileWhenNegotiated() throws Exception {
+        // given
+        HubSegmentArrivedEvent original = HubSegmentArrivedEvent.builder()
+                .eventId("event-1")
+                .timestamp(LocalDateTime.of(2025, 11, 3, 9, 16))
+                .orderId("order-1")
+                .hubDeliveryId("hub-delivery-1")
+                .segmentIndex(0)
+                .hubId("hub-a")
+                .arrivedAt(LocalDateTime.of(2025, 11, 3, 9, 15))
+                .build();
+        byte[] smile = converter.getSmileMapper().writeValueAsBytes(original);
+        ConsumerRecord<String, byte[]> record = smileRecord(smile);
+
+        // when
+        HubSegmentArrivedEvent event = convert(record);
+
+        // then
+        assertThat(smile.length).isLessThan(objectMapper.writeValueAsBytes(original).length);
+        assertThat(event.getEventId()).isEqualTo("event-1");
+        assertThat(event.getTimestamp()).isEqualTo(LocalDateTime.of(2025, 11, 3, 9, 16));
+        assertThat(event.getHubId()).isEqualTo("hub-a");
+        assertThat(event.getArrivedAt()).isEqualTo(LocalDateTime.of(2025, 11, 3, 9, 15));
+    }
+
+    @Test
+    @DisplayName("Smile로 표시된 JSON 페이로드는 변환 예외로 처리한다")
+    void rejectsMislabeledPayload() {
+        // given
+        ConsumerRecord<String, byte[]> record = smileRecord("{\"orderId\":\"order-1\"}".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> convert(record)).isInstanceOf(ConversionException.class);
+    }
+
+    private static ConsumerRecord<String, byte[]> smileRecord(byte[] value) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(TOPIC, 0, 0L, "order-1", value);
+        record.headers().add(new RecordHeader(MessageHeaders.CONTENT_TYPE,
+                EventMessageConverter.SMILE_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8)));
+        return record;
+    }
+
+    private HubSegmentArrivedEvent convert(ConsumerRecord<String, byte[]> record) {
+        return (HubSegmentArrivedEvent) converter.toMessage(record, null, null, HubSegmentArrivedEvent.class)
+                .getPayload();
+    }
+}
@@ -0,0 +1,117 @@
+package com.early_express.track_service.global.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DropCountingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private DropCountingAsyncAppender appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        // 첫 이벤트에서 멈추는 하위 Appender (느린 전송 대상 역할)
+        AppenderBase<ILoggingEvent> blocking = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blocking.setContext(context);
+        blocking.start();
+
+        appender = new DropCountingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("TEST_" + System.nanoTime());
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.setNeverBlock(true);
+        appender.addAppender(blocking);
+        appender.start();
+
+        logger = context.getLogger("test");
+        logger.setLevel(Level.DEBUG);
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("큐가 임계치 아래면 INFO 이하는 버려지고 discarded로 집계된다")
+    void countsDiscardedBelowThreshold() throws InterruptedException {
+        // given - 하위 Appender가 첫 이벤트에서 멈춤
+        logger.warn("first");
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 큐 4칸 중 3칸 사용 (여유 1 < 임계치 2)
+        logger.warn("w1");
+        logger.warn("w2");
+        logger.warn("w3");
+        logger.info("dropped");
+        logger.debug("dropped");
+
+        // then
+        assertThat(drops().count(DropCountingAsyncAppender.DISCARDED)).isEqualTo(2);
+        assertThat(drops().count(DropCountingAsyncAppender.QUEUE_FULL)).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 WARN도 블록 없이 버려지고 queue_full로 집계되어 메트릭에 노출된다")
+    void countsQueueFullAndExposesMetric() throws InterruptedException {
+        // given
+        logger.warn("first");
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            logger.warn("fill-" + i);
+        }
+
+        // when
+        logger.error("dropped");
+
+        // then
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new LogDropMetrics().bindTo(registry);
+
+        assertThat(appender.getRemainingCapacity()).isZero();
+        assertThat(registry.get("logging.events.dropped")
+                .tags("appender", appender.getName(), "reason", DropCountingAsyncAppender.QUEUE_FULL)
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("logging.events.dropped")
+                .tags("appender", appender.getName(), "reason", DropCountingAsyncAppender.DISCARDED)
+                .functionCounter().count()).isZero();
+    }
+
+    private DropCountingAsyncAppender.Drops drops() {
+        return DropCountingAsyncAppender.drops().get(appender.getName());
+    }
+}
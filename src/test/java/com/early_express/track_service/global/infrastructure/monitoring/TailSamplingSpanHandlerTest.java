@@ -0,0 +1,101 @@
+package com.early_express.track_service.global.infrastructure.monitoring;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TailSamplingSpanHandler 테스트")
+class TailSamplingSpanHandlerTest {
+
+    private static final long START = 1_700_000_000_000_000L;
+
+    private final List<String> exported = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TailSamplingSpanHandler handler;
+    private Tracing tracing;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        SpanHandler exporter = new SpanHandler() {
+            @Override
+            public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+                exported.add(span.name());
+                return true;
+            }
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new TailSamplingSpanHandler(exporter, meterRegistry, Duration.ofMillis(500),
+                0.0, 100, Duration.ofSeconds(60));
+        tracing = Tracing.newBuilder().addSpanHandler(handler).build();
+        tracer = tracing.tracer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracing.close();
+    }
+
+    @Test
+    @DisplayName("느린 트레이스는 하위 스팬까지 모두 전송하고 빠른 트레이스는 버린다")
+    void shouldKeepSlowTraceAndDropFastTrace() {
+        // when
+        runTrace("slow", 800, false);
+        runTrace("fast", 20, false);
+
+        // then
+        assertThat(exported).containsExactlyInAnyOrder("slow-child", "slow-root");
+        assertThat(handler.bufferedTraceCount()).isZero();
+        assertThat(meterRegistry.get("tracing.tail-sampling.traces").tag("decision", "dropped")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하위 스팬에 오류가 있으면 빠른 트레이스도 전송한다")
+    void shouldKeepTraceWithErrorSpan() {
+        // when
+        runTrace("error", 20, true);
+
+        // then
+        assertThat(exported).containsExactlyInAnyOrder("error-child", "error-root");
+    }
+
+    @Test
+    @DisplayName("로컬 루트 이후에 끝난 스팬은 이미 내려진 결정을 따른다")
+    void shouldApplyDecisionToLateSpans() {
+        // given
+        Span root = tracer.newTrace().name("late-root").start(START);
+        Span late = tracer.newChild(root.context()).name("late-child").start(START + 10);
+
+        // when
+        root.finish(START + 900_000);
+        late.finish(START + 950_000);
+
+        // then
+        assertThat(exported).containsExactly("late-root", "late-child");
+    }
+
+    private void runTrace(String name, long durationMillis, boolean childError) {
+        Span root = tracer.newTrace().name(name + "-root").start(START);
+        Span child = tracer.newChild(root.context()).name(name + "-child").start(START + 10);
+        if (childError) {
+            child.error(new IllegalStateException("boom"));
+        }
+        child.finish(START + 20);
+        root.finish(START + durationMillis * 1_000);
+    }
+}